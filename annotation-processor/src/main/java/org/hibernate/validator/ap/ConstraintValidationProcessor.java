@@ -19,7 +19,9 @@
 import javax.lang.model.element.ElementKind;
 import javax.lang.model.element.ElementVisitor;
 import javax.lang.model.element.TypeElement;
+import javax.lang.model.util.ElementFilter;
 
+import org.hibernate.validator.ap.generator.BeanValidatorGenerator;
 import org.hibernate.validator.ap.util.AnnotationApiHelper;
 import org.hibernate.validator.ap.util.Configuration;
 import org.hibernate.validator.ap.util.MessagerAdapter;
@@ -42,6 +44,12 @@
  * set to <code>false</code> in order to allow only getter based property
  * constraints but not method level constraints as supported by Hibernate
  * Validator. Default is <code>true</code>.</li>
+ * <li><code>generateValidators</code>: Whether a straight-line validator
+ * shall be generated for each constrained bean whose constraints are
+ * supported by generated validators. Hibernate Validator uses these validators
+ * as a fast path when validating the default group of a bean. Must be given as
+ * String parsable by {@link Boolean#parseBoolean}. Default is
+ * <code>false</code>.</li>
  * </ul>
  *
  * @author Hardy Ferentschik
@@ -51,7 +59,8 @@
 @SupportedOptions({
 		Configuration.DIAGNOSTIC_KIND_PROCESSOR_OPTION,
 		Configuration.VERBOSE_PROCESSOR_OPTION,
-		Configuration.METHOD_CONSTRAINTS_SUPPORTED_PROCESSOR_OPTION
+		Configuration.METHOD_CONSTRAINTS_SUPPORTED_PROCESSOR_OPTION,
+		Configuration.GENERATE_VALIDATORS_PROCESSOR_OPTION
 })
 public class ConstraintValidationProcessor extends AbstractProcessor {
 
@@ -70,6 +79,11 @@ public class ConstraintValidationProcessor extends AbstractProcessor {
 	 */
 	private Configuration configuration;
 
+	/**
+	 * Generates validators for constrained beans; {@code null} if not enabled.
+	 */
+	private BeanValidatorGenerator beanValidatorGenerator;
+
 	@Override
 	public synchronized void init(ProcessingEnvironment processingEnv) {
 
@@ -77,6 +91,10 @@ public synchronized void init(ProcessingEnvironment processingEnv) {
 
 		configuration = new Configuration( processingEnv.getOptions(), processingEnv.getMessager() );
 		messager = new MessagerAdapter( processingEnv.getMessager(), configuration.getDiagnosticKind() );
+
+		if ( configuration.generateValidators() ) {
+			beanValidatorGenerator = new BeanValidatorGenerator( processingEnv, messager, configuration );
+		}
 	}
 
 	@Override
@@ -117,6 +135,12 @@ public boolean process(
 			}
 		}
 
+		if ( beanValidatorGenerator != null ) {
+			for ( TypeElement oneType : ElementFilter.typesIn( roundEnvironment.getRootElements() ) ) {
+				beanValidatorGenerator.generate( oneType );
+			}
+		}
+
 		return ANNOTATIONS_CLAIMED_EXCLUSIVELY;
 	}
 
@@ -0,0 +1,650 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.ap.generator;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.text.MessageFormat;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic.Kind;
+import javax.tools.JavaFileObject;
+
+import org.hibernate.validator.ap.util.AnnotationApiHelper;
+import org.hibernate.validator.ap.util.CollectionHelper;
+import org.hibernate.validator.ap.util.Configuration;
+import org.hibernate.validator.ap.util.ConstraintHelper;
+import org.hibernate.validator.ap.util.ConstraintHelper.AnnotationType;
+import org.hibernate.validator.ap.util.MessagerAdapter;
+import org.hibernate.validator.ap.util.TypeNames.BeanValidationTypes;
+import org.hibernate.validator.ap.util.TypeNames.HibernateValidatorTypes;
+
+/**
+ * Generates a straight-line validator for constrained beans, implementing
+ * {@code org.hibernate.validator.spi.generated.GeneratedBeanValidator}. The generated validator reads the fields of
+ * the bean directly and evaluates the constraints inline, without any meta data look-ups.
+ * <p>
+ * Validators are only generated for beans which can be validated completely by the generated code, that is:
+ * <ul>
+ * <li>non-abstract, non-generic and non-private classes extending {@code Object};</li>
+ * <li>without class-level constraints, getter constraints or default group sequence redefinition;</li>
+ * <li>whose fields only declare the constraints {@code @NotNull}, {@code @Size}, {@code @Min}, {@code @Max} and
+ * {@code @Pattern} of the default group on the types supported by the built-in validators, as well as {@code @Valid}
+ * without group conversions on non-container types.</li>
+ * </ul>
+ * Other beans are skipped silently; the validation engine is used for them at runtime.
+ * <p>
+ * Non-private fields are read directly, private fields are read via reflection, just as done by the validation engine.
+ * A cascaded value which turns out to be a container at runtime (e.g. a list assigned to a field of type
+ * {@code Object}) can't be validated by the generated code, so the validation engine is used for the bean in this case.
+ *
+ * @author agent
+ */
+public class BeanValidatorGenerator {
+
+	/**
+	 * Appended to the binary name of a bean type to obtain the name of its generated validator.
+	 */
+	public static final String CLASS_NAME_SUFFIX = "$$HvValidator";
+
+	private static final String GENERATED_BEAN_VALIDATOR = "org.hibernate.validator.spi.generated.GeneratedBeanValidator";
+
+	private static final String CASCADED_BEAN_VALIDATOR = "org.hibernate.validator.spi.generated.CascadedBeanValidator";
+
+	private static final Set<String> SUPPORTED_CONSTRAINTS = CollectionHelper.asSet(
+			BeanValidationTypes.NOT_NULL,
+			BeanValidationTypes.SIZE,
+			BeanValidationTypes.MIN,
+			BeanValidationTypes.MAX,
+			BeanValidationTypes.PATTERN
+	);
+
+	/**
+	 * Annotations changing the validation of a field in ways the generated validators don't support.
+	 */
+	private static final Set<String> UNSUPPORTED_ANNOTATIONS = CollectionHelper.asSet(
+			BeanValidationTypes.CONVERT_GROUP,
+			BeanValidationTypes.CONVERT_GROUP_LIST,
+			HibernateValidatorTypes.UNWRAP_VALIDATED_VALUE
+	);
+
+	private static final Set<String> INTEGRAL_WRAPPER_TYPES = CollectionHelper.asSet(
+			Byte.class.getName(),
+			Short.class.getName(),
+			Integer.class.getName(),
+			Long.class.getName()
+	);
+
+	private static final Set<TypeKind> INTEGRAL_PRIMITIVE_KINDS = CollectionHelper.asSet(
+			TypeKind.BYTE,
+			TypeKind.SHORT,
+			TypeKind.INT,
+			TypeKind.LONG
+	);
+
+	private final Elements elementUtils;
+
+	private final Types typeUtils;
+
+	private final Filer filer;
+
+	private final MessagerAdapter messager;
+
+	private final boolean verbose;
+
+	private final AnnotationApiHelper annotationApiHelper;
+
+	private final ConstraintHelper constraintHelper;
+
+	/**
+	 * The names of the validators generated so far, as a bean may be seen in several processing rounds.
+	 */
+	private final Set<String> generatedValidators = CollectionHelper.newHashSet();
+
+	public BeanValidatorGenerator(ProcessingEnvironment processingEnvironment, MessagerAdapter messager,
+			Configuration configuration) {
+		this.elementUtils = processingEnvironment.getElementUtils();
+		this.typeUtils = processingEnvironment.getTypeUtils();
+		this.filer = processingEnvironment.getFiler();
+		this.messager = messager;
+		this.verbose = configuration.isVerbose();
+
+		this.annotationApiHelper = new AnnotationApiHelper( elementUtils, typeUtils );
+		this.constraintHelper = new ConstraintHelper( typeUtils, annotationApiHelper );
+	}
+
+	/**
+	 * Generates a validator for the given type and its member types, as far as they can be validated completely by a
+	 * generated validator.
+	 *
+	 * @param type the type of interest
+	 */
+	public void generate(TypeElement type) {
+		for ( TypeElement memberType : ElementFilter.typesIn( type.getEnclosedElements() ) ) {
+			generate( memberType );
+		}
+
+		if ( !isSupportedBeanType( type ) ) {
+			return;
+		}
+
+		BeanValidatorSource source = new BeanValidatorSource( type );
+		for ( VariableElement field : ElementFilter.fieldsIn( type.getEnclosedElements() ) ) {
+			if ( !addField( source, field ) ) {
+				return;
+			}
+		}
+
+		if ( source.isEmpty() ) {
+			return;
+		}
+
+		write( type, source );
+	}
+
+	private boolean isSupportedBeanType(TypeElement type) {
+		if ( type.getKind() != ElementKind.CLASS || type.getModifiers().contains( Modifier.ABSTRACT )
+				|| !type.getTypeParameters().isEmpty() || !isAccessibleFromPackage( type ) ) {
+			return false;
+		}
+
+		if ( !typeUtils.isSameType( type.getSuperclass(), annotationApiHelper.getMirrorForType( Object.class ) ) ) {
+			return false;
+		}
+
+		for ( AnnotationMirror annotation : type.getAnnotationMirrors() ) {
+			if ( constraintHelper.getAnnotationType( annotation ) != AnnotationType.NO_CONSTRAINT_ANNOTATION
+					|| BeanValidationTypes.GROUP_SEQUENCE.equals( getName( annotation ) ) ) {
+				return false;
+			}
+		}
+
+		// getter constraints are not supported
+		for ( ExecutableElement method : ElementFilter.methodsIn( type.getEnclosedElements() ) ) {
+			if ( method.getParameters().isEmpty() && hasValidationAnnotation( method ) ) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	/**
+	 * Whether the given type can be referenced from other types of its package.
+	 */
+	private boolean isAccessibleFromPackage(TypeElement type) {
+		Element element = type;
+
+		while ( element.getKind().isClass() || element.getKind().isInterface() ) {
+			TypeElement typeElement = (TypeElement) element;
+
+			if ( typeElement.getModifiers().contains( Modifier.PRIVATE ) ) {
+				return false;
+			}
+			if ( typeElement.getNestingKind() == NestingKind.MEMBER ) {
+				if ( !typeElement.getModifiers().contains( Modifier.STATIC ) ) {
+					return false;
+				}
+			}
+			else if ( typeElement.getNestingKind() != NestingKind.TOP_LEVEL ) {
+				return false;
+			}
+
+			element = element.getEnclosingElement();
+		}
+
+		return true;
+	}
+
+	/**
+	 * Adds the checks for the given field to the given source.
+	 *
+	 * @return {@code false} if the field declares unsupported constraints, {@code true} otherwise
+	 */
+	private boolean addField(BeanValidatorSource source, VariableElement field) {
+		if ( !hasValidationAnnotation( field ) ) {
+			return true;
+		}
+
+		if ( field.getModifiers().contains( Modifier.STATIC ) ) {
+			return false;
+		}
+
+		TypeMirror type = field.asType();
+		boolean primitive = type.getKind().isPrimitive();
+
+		List<String> checks = CollectionHelper.newArrayList();
+		int constraintCount = 0;
+		boolean cascaded = false;
+
+		for ( AnnotationMirror annotation : field.getAnnotationMirrors() ) {
+			String name = getName( annotation );
+
+			if ( SUPPORTED_CONSTRAINTS.contains( name ) ) {
+				if ( !annotationApiHelper.getAnnotationArrayValue( annotation, "groups" ).isEmpty() ) {
+					return false;
+				}
+
+				String check = getCheck( source, name, annotation, type );
+				if ( check == null ) {
+					return false;
+				}
+
+				checks.add( check );
+				constraintCount++;
+			}
+			else if ( BeanValidationTypes.VALID.equals( name ) ) {
+				if ( !isCascadableType( type ) ) {
+					return false;
+				}
+
+				checks.add( "\t\t\tif ( !cascadedBeanValidator.isValid( value ) ) {\n\t\t\t\treturn false;\n\t\t\t}\n" );
+				cascaded = true;
+			}
+			else if ( UNSUPPORTED_ANNOTATIONS.contains( name )
+					|| constraintHelper.getAnnotationType( annotation ) != AnnotationType.NO_CONSTRAINT_ANNOTATION ) {
+				return false;
+			}
+		}
+
+		source.addField( field, primitive, checks, constraintCount, cascaded );
+
+		return true;
+	}
+
+	/**
+	 * Returns the statements checking the given constraint against the local variable {@code value}, or {@code null}
+	 * if the constraint is not supported for the given type.
+	 */
+	private String getCheck(BeanValidatorSource source, String constraint, AnnotationMirror annotation, TypeMirror type) {
+		Map<String, Object> attributes = getAttributes( annotation );
+
+		if ( BeanValidationTypes.NOT_NULL.equals( constraint ) ) {
+			return type.getKind().isPrimitive() ? "" : "\t\t\tif ( value == null ) {\n\t\t\t\treturn false;\n\t\t\t}\n";
+		}
+		else if ( BeanValidationTypes.SIZE.equals( constraint ) ) {
+			return getSizeCheck(
+					type,
+					( (Number) attributes.get( "min" ) ).intValue(),
+					( (Number) attributes.get( "max" ) ).intValue()
+			);
+		}
+		else if ( BeanValidationTypes.MIN.equals( constraint ) ) {
+			return getBoundCheck( type, "<", ( (Number) attributes.get( "value" ) ).longValue() );
+		}
+		else if ( BeanValidationTypes.MAX.equals( constraint ) ) {
+			return getBoundCheck( type, ">", ( (Number) attributes.get( "value" ) ).longValue() );
+		}
+		else {
+			return getPatternCheck(
+					source,
+					type,
+					(String) attributes.get( "regexp" ),
+					annotationApiHelper.getAnnotationArrayValue( annotation, "flags" )
+			);
+		}
+	}
+
+	private String getSizeCheck(TypeMirror type, int min, int max) {
+		// the built-in validator rejects these parameters
+		if ( min < 0 || max < 0 || max < min ) {
+			return null;
+		}
+
+		String size;
+		if ( type.getKind() == TypeKind.ARRAY ) {
+			TypeMirror componentType = ( (ArrayType) type ).getComponentType();
+			String arrayType = componentType.getKind().isPrimitive() ? componentType.toString() + "[]" : "java.lang.Object[]";
+			size = "( (" + arrayType + ") value ).length";
+		}
+		else if ( isAssignable( type, CharSequence.class ) ) {
+			size = "( (java.lang.CharSequence) value ).length()";
+		}
+		else if ( isAssignable( type, Collection.class ) ) {
+			size = "( (java.util.Collection<?>) value ).size()";
+		}
+		else if ( isAssignable( type, Map.class ) ) {
+			size = "( (java.util.Map<?, ?>) value ).size()";
+		}
+		else {
+			return null;
+		}
+
+		return "\t\t\tif ( value != null ) {\n"
+				+ "\t\t\t\tint size = " + size + ";\n"
+				+ "\t\t\t\tif ( size < " + min + " || size > " + max + " ) {\n"
+				+ "\t\t\t\t\treturn false;\n"
+				+ "\t\t\t\t}\n"
+				+ "\t\t\t}\n";
+	}
+
+	private String getBoundCheck(TypeMirror type, String violatingOperator, long bound) {
+		String condition;
+		if ( INTEGRAL_PRIMITIVE_KINDS.contains( type.getKind() ) ) {
+			condition = "value " + violatingOperator + " " + bound + "L";
+		}
+		else if ( type.getKind() == TypeKind.DECLARED && INTEGRAL_WRAPPER_TYPES.contains( getName( type ) ) ) {
+			condition = "value != null && ( (java.lang.Number) value ).longValue() " + violatingOperator + " " + bound + "L";
+		}
+		else {
+			return null;
+		}
+
+		return "\t\t\tif ( " + condition + " ) {\n\t\t\t\treturn false;\n\t\t\t}\n";
+	}
+
+	private String getPatternCheck(BeanValidatorSource source, TypeMirror type, String regexp,
+			List<? extends AnnotationValue> flags) {
+		if ( type.getKind().isPrimitive() || !isAssignable( type, CharSequence.class ) ) {
+			return null;
+		}
+
+		int flagsValue = 0;
+		StringBuilder flagsExpression = new StringBuilder();
+
+		for ( AnnotationValue flag : flags ) {
+			// the constants of Pattern.Flag are named after the corresponding constants of java.util.regex.Pattern
+			String flagName = ( (VariableElement) flag.getValue() ).getSimpleName().toString();
+
+			try {
+				flagsValue |= Pattern.class.getField( flagName ).getInt( null );
+			}
+			catch (Exception e) {
+				return null;
+			}
+
+			if ( flagsExpression.length() > 0 ) {
+				flagsExpression.append( " | " );
+			}
+			flagsExpression.append( "java.util.regex.Pattern." ).append( flagName );
+		}
+
+		// invalid expressions are reported by the validation engine
+		try {
+			Pattern.compile( regexp, flagsValue );
+		}
+		catch (PatternSyntaxException e) {
+			return null;
+		}
+
+		String pattern = source.addPattern(
+				elementUtils.getConstantExpression( regexp ),
+				flagsExpression.length() > 0 ? flagsExpression.toString() : "0"
+		);
+
+		return "\t\t\tif ( value != null && !" + pattern + ".matcher( (java.lang.CharSequence) value ).matches() ) {\n"
+				+ "\t\t\t\treturn false;\n"
+				+ "\t\t\t}\n";
+	}
+
+	/**
+	 * Whether the given type may be the type of a field marked with {@code @Valid}; only non-container types are
+	 * supported. Values of other types which are containers at runtime are rejected by the cascaded bean validator.
+	 */
+	private boolean isCascadableType(TypeMirror type) {
+		return type.getKind() == TypeKind.DECLARED
+				&& !isAssignable( type, Iterable.class )
+				&& !isAssignable( type, Map.class );
+	}
+
+	private boolean isAssignable(TypeMirror type, Class<?> clazz) {
+		return typeUtils.isAssignable(
+				typeUtils.erasure( type ),
+				typeUtils.erasure( annotationApiHelper.getMirrorForType( clazz ) )
+		);
+	}
+
+	private boolean hasValidationAnnotation(Element element) {
+		for ( AnnotationMirror annotation : element.getAnnotationMirrors() ) {
+			if ( constraintHelper.getAnnotationType( annotation ) != AnnotationType.NO_CONSTRAINT_ANNOTATION ) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	/**
+	 * Returns the attribute values of the given annotation, including default values.
+	 */
+	private Map<String, Object> getAttributes(AnnotationMirror annotation) {
+		Map<String, Object> attributes = CollectionHelper.newHashMap();
+
+		for ( Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> attribute : elementUtils.getElementValuesWithDefaults(
+				annotation
+		).entrySet() ) {
+			attributes.put( attribute.getKey().getSimpleName().toString(), attribute.getValue().getValue() );
+		}
+
+		return attributes;
+	}
+
+	private String getName(AnnotationMirror annotation) {
+		return getName( annotation.getAnnotationType() );
+	}
+
+	private String getName(TypeMirror type) {
+		return ( (TypeElement) typeUtils.asElement( type ) ).getQualifiedName().toString();
+	}
+
+	private void write(TypeElement type, BeanValidatorSource source) {
+		PackageElement packageElement = elementUtils.getPackageOf( type );
+		String packageName = packageElement.isUnnamed() ? "" : packageElement.getQualifiedName().toString();
+		String binaryName = elementUtils.getBinaryName( type ).toString();
+		String simpleName = ( packageName.isEmpty() ? binaryName : binaryName.substring( packageName.length() + 1 ) )
+				+ CLASS_NAME_SUFFIX;
+		String qualifiedName = packageName.isEmpty() ? simpleName : packageName + "." + simpleName;
+
+		if ( !generatedValidators.add( qualifiedName ) ) {
+			return;
+		}
+
+		try {
+			JavaFileObject sourceFile = filer.createSourceFile( qualifiedName, type );
+			Writer writer = sourceFile.openWriter();
+			try {
+				writer.write( source.toSource( packageName, simpleName ) );
+			}
+			finally {
+				writer.close();
+			}
+		}
+		catch (IOException e) {
+			messager.getDelegate().printMessage(
+					Kind.WARNING,
+					MessageFormat.format( "Couldn''t generate validator {0}: {1}", qualifiedName, e.getMessage() ),
+					type
+			);
+			return;
+		}
+
+		if ( verbose ) {
+			messager.getDelegate().printMessage(
+					Kind.NOTE,
+					MessageFormat.format( "Generated validator {0}.", qualifiedName ),
+					type
+			);
+		}
+	}
+
+	/**
+	 * The source of the validator generated for one bean type.
+	 */
+	private static class BeanValidatorSource {
+
+		private final String beanTypeName;
+
+		private final StringBuilder constants = new StringBuilder();
+
+		private final StringBuilder checks = new StringBuilder();
+
+		private int constraintCount;
+
+		private int cascadeCount;
+
+		private int fieldCount;
+
+		private int patternCount;
+
+		private BeanValidatorSource(TypeElement beanType) {
+			this.beanTypeName = beanType.getQualifiedName().toString();
+		}
+
+		private void addField(VariableElement field, boolean primitive, List<String> fieldChecks,
+				int fieldConstraintCount, boolean cascaded) {
+			constraintCount += fieldConstraintCount;
+			if ( cascaded ) {
+				cascadeCount++;
+			}
+
+			StringBuilder fieldSource = new StringBuilder();
+			for ( String check : fieldChecks ) {
+				fieldSource.append( check );
+			}
+
+			// e.g. @NotNull on a primitive field
+			if ( fieldSource.length() == 0 ) {
+				return;
+			}
+
+			String name = field.getSimpleName().toString();
+			String value;
+
+			if ( field.getModifiers().contains( Modifier.PRIVATE ) ) {
+				String fieldConstant = "FIELD_" + fieldCount++;
+				constants.append( "\tprivate static final java.lang.reflect.Field " )
+						.append( fieldConstant )
+						.append( " = getField( \"" )
+						.append( name )
+						.append( "\" );\n\n" );
+				value = ( primitive ? "getLong( " : "get( " ) + fieldConstant + ", bean )";
+			}
+			else {
+				value = "bean." + name;
+			}
+
+			checks.append( "\t\t// " ).append( name ).append( "\n" )
+					.append( "\t\t{\n" )
+					.append( "\t\t\t" ).append( primitive ? "long" : "java.lang.Object" )
+					.append( " value = " ).append( value ).append( ";\n" )
+					.append( fieldSource )
+					.append( "\t\t}\n\n" );
+		}
+
+		private String addPattern(String regexpExpression, String flagsExpression) {
+			String patternConstant = "PATTERN_" + patternCount++;
+
+			constants.append( "\tprivate static final java.util.regex.Pattern " )
+					.append( patternConstant )
+					.append( " = java.util.regex.Pattern.compile( " )
+					.append( regexpExpression )
+					.append( ", " )
+					.append( flagsExpression )
+					.append( " );\n\n" );
+
+			return patternConstant;
+		}
+
+		private boolean isEmpty() {
+			return constraintCount == 0 && cascadeCount == 0;
+		}
+
+		private String toSource(String packageName, String simpleName) {
+			StringBuilder source = new StringBuilder();
+
+			if ( !packageName.isEmpty() ) {
+				source.append( "package " ).append( packageName ).append( ";\n\n" );
+			}
+
+			source.append( "/**\n" )
+					.append( " * Validator for {@link " ).append( beanTypeName ).append( "}, generated by the Hibernate Validator annotation processor.\n" )
+					.append( " */\n" )
+					.append( "public final class " ).append( simpleName )
+					.append( " implements " ).append( GENERATED_BEAN_VALIDATOR ).append( "<" ).append( beanTypeName ).append( "> {\n\n" )
+					.append( constants )
+					.append( "\t@Override\n" )
+					.append( "\tpublic int getConstraintCount() {\n" )
+					.append( "\t\treturn " ).append( constraintCount ).append( ";\n" )
+					.append( "\t}\n\n" )
+					.append( "\t@Override\n" )
+					.append( "\tpublic int getCascadeCount() {\n" )
+					.append( "\t\treturn " ).append( cascadeCount ).append( ";\n" )
+					.append( "\t}\n\n" )
+					.append( "\t@Override\n" )
+					.append( "\tpublic boolean isValid(" ).append( beanTypeName ).append( " bean, " )
+					.append( CASCADED_BEAN_VALIDATOR ).append( " cascadedBeanValidator) {\n" )
+					.append( checks )
+					.append( "\t\treturn true;\n" )
+					.append( "\t}\n" );
+
+			if ( fieldCount > 0 ) {
+				appendFieldAccessors( source );
+			}
+
+			return source.append( "}\n" ).toString();
+		}
+
+		private void appendFieldAccessors(StringBuilder source) {
+			source.append( "\n" )
+					.append( "\tprivate static java.lang.reflect.Field getField(final java.lang.String name) {\n" )
+					.append( "\t\treturn java.security.AccessController.doPrivileged(\n" )
+					.append( "\t\t\t\tnew java.security.PrivilegedAction<java.lang.reflect.Field>() {\n" )
+					.append( "\t\t\t\t\t@Override\n" )
+					.append( "\t\t\t\t\tpublic java.lang.reflect.Field run() {\n" )
+					.append( "\t\t\t\t\t\ttry {\n" )
+					.append( "\t\t\t\t\t\t\tjava.lang.reflect.Field field = " ).append( beanTypeName ).append( ".class.getDeclaredField( name );\n" )
+					.append( "\t\t\t\t\t\t\tfield.setAccessible( true );\n" )
+					.append( "\t\t\t\t\t\t\treturn field;\n" )
+					.append( "\t\t\t\t\t\t}\n" )
+					.append( "\t\t\t\t\t\tcatch (java.lang.NoSuchFieldException e) {\n" )
+					.append( "\t\t\t\t\t\t\tthrow new java.lang.IllegalStateException( e );\n" )
+					.append( "\t\t\t\t\t\t}\n" )
+					.append( "\t\t\t\t\t}\n" )
+					.append( "\t\t\t\t}\n" )
+					.append( "\t\t);\n" )
+					.append( "\t}\n\n" )
+					.append( "\tprivate static java.lang.Object get(java.lang.reflect.Field field, java.lang.Object bean) {\n" )
+					.append( "\t\ttry {\n" )
+					.append( "\t\t\treturn field.get( bean );\n" )
+					.append( "\t\t}\n" )
+					.append( "\t\tcatch (java.lang.IllegalAccessException e) {\n" )
+					.append( "\t\t\tthrow new java.lang.IllegalStateException( e );\n" )
+					.append( "\t\t}\n" )
+					.append( "\t}\n\n" )
+					.append( "\tprivate static long getLong(java.lang.reflect.Field field, java.lang.Object bean) {\n" )
+					.append( "\t\ttry {\n" )
+					.append( "\t\t\treturn field.getLong( bean );\n" )
+					.append( "\t\t}\n" )
+					.append( "\t\tcatch (java.lang.IllegalAccessException e) {\n" )
+					.append( "\t\t\tthrow new java.lang.IllegalStateException( e );\n" )
+					.append( "\t\t}\n" )
+					.append( "\t}\n" );
+		}
+	}
+}
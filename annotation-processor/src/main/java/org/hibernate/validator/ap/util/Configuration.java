@@ -36,6 +36,11 @@ public class Configuration {
 	 */
 	public static final String METHOD_CONSTRAINTS_SUPPORTED_PROCESSOR_OPTION = "methodConstraintsSupported";
 
+	/**
+	 * The name of the processor option for generating validators for constrained beans.
+	 */
+	public static final String GENERATE_VALIDATORS_PROCESSOR_OPTION = "generateValidators";
+
 	/**
 	 * The diagnostic kind to be used if no or an invalid kind is given as processor option.
 	 */
@@ -47,11 +52,14 @@ public class Configuration {
 
 	private final boolean methodConstraintsSupported;
 
+	private final boolean generateValidators;
+
 	public Configuration(Map<String, String> options, Messager messager) {
 
 		this.diagnosticKind = getDiagnosticKindOption( options, messager );
 		this.verbose = getVerboseOption( options, messager );
 		this.methodConstraintsSupported = getMethodConstraintsSupportedOption( options );
+		this.generateValidators = Boolean.parseBoolean( options.get( GENERATE_VALIDATORS_PROCESSOR_OPTION ) );
 	}
 
 	/**
@@ -82,6 +90,15 @@ public boolean methodConstraintsSupported() {
 		return methodConstraintsSupported;
 	}
 
+	/**
+	 * Whether validators shall be generated for constrained beans (<code>true</code>) or not (<code>false</code>).
+	 *
+	 * @return {@code true} if validators shall be generated for constrained beans, {@code false} otherwise
+	 */
+	public boolean generateValidators() {
+		return generateValidators;
+	}
+
 	/**
 	 * Retrieves the diagnostic kind to be used for error messages. If given in
 	 * processor options, it will be taken from there, otherwise the default
@@ -25,6 +25,8 @@ public static class BeanValidationTypes {
 		public static final String GROUP_SEQUENCE = JAVAX_VALIDATION + ".GroupSequence";
 		public static final String PAYLOAD = JAVAX_VALIDATION + ".Payload";
 		public static final String VALID = JAVAX_VALIDATION + ".Valid";
+		public static final String CONVERT_GROUP = JAVAX_VALIDATION + ".groups.ConvertGroup";
+		public static final String CONVERT_GROUP_LIST = CONVERT_GROUP + ".List";
 
 		public static final String JAVAX_VALIDATION_CONSTRAINTS = "javax.validation.constraints";
 
@@ -55,6 +57,9 @@ public static class HibernateValidatorTypes {
 		private static final String ORG_HIBERNATE_VALIDATOR_SPI_GROUP = "org.hibernate.validator.spi.group";
 		public static final String DEFAULT_GROUP_SEQUENCE_PROVIDER = ORG_HIBERNATE_VALIDATOR_SPI_GROUP + ".DefaultGroupSequenceProvider";
 
+		private static final String ORG_HIBERNATE_VALIDATOR_VALUEHANDLING = "org.hibernate.validator.valuehandling";
+		public static final String UNWRAP_VALIDATED_VALUE = ORG_HIBERNATE_VALIDATOR_VALUEHANDLING + ".UnwrapValidatedValue";
+
 		private static final String ORG_HIBERNATE_VALIDATOR_CONSTRAINTS = "org.hibernate.validator.constraints";
 
 		public static final String EMAIL = ORG_HIBERNATE_VALIDATOR_CONSTRAINTS + ".Email";
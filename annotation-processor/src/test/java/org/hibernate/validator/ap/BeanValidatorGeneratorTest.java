@@ -0,0 +1,316 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.ap;
+
+import java.io.File;
+import java.lang.annotation.ElementType;
+import java.lang.reflect.Field;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import javax.validation.Path;
+import javax.validation.TraversableResolver;
+import javax.validation.Validation;
+import javax.validation.Validator;
+
+import org.hibernate.validator.ap.generator.BeanValidatorGenerator;
+import org.hibernate.validator.ap.testmodel.generatedvalidator.ModelWithSupportedConstraints;
+import org.hibernate.validator.ap.testmodel.generatedvalidator.ModelWithUnsupportedConstraint;
+import org.hibernate.validator.ap.testmodel.generatedvalidator.Order;
+import org.hibernate.validator.ap.testutil.CompilerTestHelper;
+import org.hibernate.validator.ap.testutil.CompilerTestHelper.Library;
+import org.hibernate.validator.messageinterpolation.ParameterMessageInterpolator;
+import org.hibernate.validator.spi.generated.CascadedBeanValidator;
+import org.hibernate.validator.spi.generated.GeneratedBeanValidator;
+
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Tests for the generation of bean validators by {@link BeanValidatorGenerator}.
+ *
+ * @author agent
+ */
+public class BeanValidatorGeneratorTest extends ConstraintValidationProcessorTestBase {
+
+	private static final String MODEL_PACKAGE = Order.class.getPackage().getName();
+
+	@BeforeMethod
+	public void deleteGeneratedValidators() {
+		File[] files = getGeneratedValidatorDir().listFiles();
+		if ( files == null ) {
+			return;
+		}
+
+		for ( File file : files ) {
+			if ( file.getName().contains( BeanValidatorGenerator.CLASS_NAME_SUFFIX ) ) {
+				assertTrue( file.delete() );
+			}
+		}
+	}
+
+	@Test
+	public void validatorsAreGeneratedForBeansWithSupportedConstraints() {
+		boolean compilationResult = compilerHelper.compile(
+				new ConstraintValidationProcessor(),
+				diagnostics,
+				null,
+				null,
+				null,
+				true,
+				EnumSet.allOf( Library.class ),
+				compilerHelper.getSourceFile( Order.class ),
+				compilerHelper.getSourceFile( ModelWithUnsupportedConstraint.class )
+		);
+
+		assertTrue( compilationResult );
+		assertTrue( getGeneratedValidator( Order.class ).exists() );
+		assertTrue( getGeneratedValidator( Order.Customer.class ).exists() );
+		assertFalse( getGeneratedValidator( ModelWithUnsupportedConstraint.class ).exists() );
+	}
+
+	@Test
+	public void validatorsAreNotGeneratedByDefault() {
+		boolean compilationResult = compilerHelper.compile(
+				new ConstraintValidationProcessor(),
+				diagnostics,
+				compilerHelper.getSourceFile( Order.class )
+		);
+
+		assertTrue( compilationResult );
+		assertFalse( getGeneratedValidator( Order.class ).exists() );
+	}
+
+	@Test
+	public void generatedValidatorsYieldTheSameVerdictsAsTheValidationEngine() throws Exception {
+		boolean compilationResult = compilerHelper.compile(
+				new ConstraintValidationProcessor(),
+				diagnostics,
+				null,
+				null,
+				null,
+				true,
+				EnumSet.allOf( Library.class ),
+				compilerHelper.getSourceFile( ModelWithSupportedConstraints.class )
+		);
+
+		assertTrue( compilationResult );
+
+		ClassLoader classLoader = new ProcessorOutputClassLoader();
+		Class<?> beanType = classLoader.loadClass( ModelWithSupportedConstraints.class.getName() );
+		Class<?> itemType = classLoader.loadClass( ModelWithSupportedConstraints.Item.class.getName() );
+
+		Map<String, Object[]> values = new LinkedHashMap<String, Object[]>();
+		// the first value of each field is used when checking the other fields
+		values.put( "numbers", new Object[] { new int[] { 1 }, null, new int[0], new int[] { 1, 2, 3 }, new int[] { 1, 2, 3, 4 } } );
+		values.put( "names", new Object[] { null, new String[0], new String[] { "a", "b" }, new String[] { "a", "b", "c" } } );
+		values.put( "tags", new Object[] { Arrays.asList( "a" ), null, Collections.emptyList() } );
+		values.put( "ids", new Object[] { null, Collections.emptySet(), Collections.singleton( 1L ), new HashSet<Long>( Arrays.asList( 1L, 2L ) ) } );
+		values.put( "attributes", new Object[] { null, Collections.emptyMap(), Collections.singletonMap( "a", "b" ), newMap( "a", "b", "c", "d" ) } );
+		values.put( "code", new Object[] { "ab", null, "a", "abcd", "abcde" } );
+		values.put( "intValue", new Object[] { 0, -6, -5, 5, 6, Integer.MIN_VALUE } );
+		values.put( "longValue", new Object[] { 1L, 0L, Long.MIN_VALUE, Long.MAX_VALUE } );
+		values.put( "byteValue", new Object[] { (byte) 0, (byte) 10, (byte) 11, Byte.MIN_VALUE } );
+		values.put( "shortValue", new Object[] { (short) 0, (short) -100, (short) -101, Short.MIN_VALUE } );
+		values.put( "integerValue", new Object[] { null, -1, 0, 100, 101, Integer.MIN_VALUE } );
+		values.put( "wrappedLongValue", new Object[] { null, -2L, -1L, Long.MAX_VALUE, Long.MIN_VALUE } );
+		values.put( "plainPattern", new Object[] { null, "abxc", "ABxc", "ab\nc", "abc", "" } );
+		values.put( "flaggedPattern", new Object[] { null, "ABxC", "ab\nc", "abc" } );
+		values.put( "multilinePattern", new Object[] { null, "x", "x\ny", "xy", "xx", "" } );
+		values.put( "commentedPattern", new Object[] { null, "ab", "a b", "" } );
+		values.put( "required", new Object[] { new Object(), null } );
+		values.put(
+				"item", new Object[] {
+						null,
+						newBean( itemType, "name", "n", "quantity", 10 ),
+						newBean( itemType, "name", null, "quantity", 10 ),
+						newBean( itemType, "name", "n", "quantity", 11 )
+				}
+		);
+
+		@SuppressWarnings("unchecked")
+		GeneratedBeanValidator<Object> generatedValidator = (GeneratedBeanValidator<Object>) classLoader.loadClass(
+				beanType.getName() + BeanValidatorGenerator.CLASS_NAME_SUFFIX
+		).newInstance();
+		Validator validator = getValidatorWithoutGeneratedValidators();
+
+		int validCount = 0;
+		int invalidCount = 0;
+
+		for ( Map.Entry<String, Object[]> field : values.entrySet() ) {
+			for ( Object value : field.getValue() ) {
+				Object bean = beanType.newInstance();
+				for ( Map.Entry<String, Object[]> otherField : values.entrySet() ) {
+					setField( bean, otherField.getKey(), otherField.getValue()[0] );
+				}
+				setField( bean, field.getKey(), value );
+
+				boolean valid = validator.validate( bean ).isEmpty();
+				assertEquals(
+						generatedValidator.isValid( bean, new GeneratedCascadedBeanValidator() ),
+						valid,
+						"Unexpected verdict for " + field.getKey() + " = " + toString( value )
+				);
+
+				if ( valid ) {
+					validCount++;
+				}
+				else {
+					invalidCount++;
+				}
+			}
+		}
+
+		assertTrue( validCount > 0 );
+		assertTrue( invalidCount > 0 );
+	}
+
+	private File getGeneratedValidatorDir() {
+		return new File(
+				CompilerTestHelper.getProcessorOutputDir(),
+				Order.class.getPackage().getName().replace( '.', File.separatorChar )
+		);
+	}
+
+	/**
+	 * Returns the class file of the validator generated for the given bean, which only exists if the generated
+	 * source has been compiled successfully.
+	 */
+	private File getGeneratedValidator(Class<?> beanType) {
+		return new File(
+				getGeneratedValidatorDir(),
+				beanType.getName().substring( beanType.getPackage().getName().length() + 1 )
+						+ BeanValidatorGenerator.CLASS_NAME_SUFFIX + ".class"
+		);
+	}
+
+	/**
+	 * Returns a validator which doesn't use generated validators, as its traversable resolver isn't known to always
+	 * report elements as reachable and cascadable.
+	 */
+	private Validator getValidatorWithoutGeneratedValidators() {
+		return Validation.byDefaultProvider()
+				.configure()
+				.messageInterpolator( new ParameterMessageInterpolator() )
+				.traversableResolver(
+						new TraversableResolver() {
+							@Override
+							public boolean isReachable(Object traversableObject, Path.Node traversableProperty,
+									Class<?> rootBeanType, Path pathToTraversableObject, ElementType elementType) {
+								return true;
+							}
+
+							@Override
+							public boolean isCascadable(Object traversableObject, Path.Node traversableProperty,
+									Class<?> rootBeanType, Path pathToTraversableObject, ElementType elementType) {
+								return true;
+							}
+						}
+				)
+				.buildValidatorFactory()
+				.getValidator();
+	}
+
+	private static Object newBean(Class<?> beanType, Object... fieldValues) throws Exception {
+		Object bean = beanType.newInstance();
+		for ( int i = 0; i < fieldValues.length; i += 2 ) {
+			setField( bean, (String) fieldValues[i], fieldValues[i + 1] );
+		}
+		return bean;
+	}
+
+	private static void setField(Object bean, String name, Object value) throws Exception {
+		Field field = bean.getClass().getDeclaredField( name );
+		field.setAccessible( true );
+		field.set( bean, value );
+	}
+
+	private static Map<String, String> newMap(String... keysAndValues) {
+		Map<String, String> map = new LinkedHashMap<String, String>();
+		for ( int i = 0; i < keysAndValues.length; i += 2 ) {
+			map.put( keysAndValues[i], keysAndValues[i + 1] );
+		}
+		return map;
+	}
+
+	private static String toString(Object value) {
+		if ( value instanceof int[] ) {
+			return Arrays.toString( (int[]) value );
+		}
+		else if ( value instanceof Object[] ) {
+			return Arrays.toString( (Object[]) value );
+		}
+		else {
+			return String.valueOf( value );
+		}
+	}
+
+	/**
+	 * Validates cascaded beans using their generated validators, as done by the validation engine.
+	 */
+	private static class GeneratedCascadedBeanValidator implements CascadedBeanValidator {
+
+		@Override
+		public boolean isValid(Object bean) {
+			if ( bean == null ) {
+				return true;
+			}
+
+			try {
+				@SuppressWarnings("unchecked")
+				GeneratedBeanValidator<Object> generatedValidator = (GeneratedBeanValidator<Object>) bean.getClass()
+						.getClassLoader()
+						.loadClass( bean.getClass().getName() + BeanValidatorGenerator.CLASS_NAME_SUFFIX )
+						.newInstance();
+				return generatedValidator.isValid( bean, this );
+			}
+			catch (Exception e) {
+				throw new RuntimeException( e );
+			}
+		}
+	}
+
+	/**
+	 * Loads the types of the test model and their generated validators from the output directory of the compilation,
+	 * so generated validators can access the package-private members of the beans.
+	 */
+	private static class ProcessorOutputClassLoader extends URLClassLoader {
+
+		private ProcessorOutputClassLoader() throws MalformedURLException {
+			super(
+					new URL[] { CompilerTestHelper.getProcessorOutputDir().toURI().toURL() },
+					BeanValidatorGeneratorTest.class.getClassLoader()
+			);
+		}
+
+		@Override
+		protected synchronized Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+			if ( !name.startsWith( MODEL_PACKAGE + "." ) ) {
+				return super.loadClass( name, resolve );
+			}
+
+			Class<?> clazz = findLoadedClass( name );
+			if ( clazz == null ) {
+				clazz = findClass( name );
+			}
+			if ( resolve ) {
+				resolveClass( clazz );
+			}
+			return clazz;
+		}
+	}
+}
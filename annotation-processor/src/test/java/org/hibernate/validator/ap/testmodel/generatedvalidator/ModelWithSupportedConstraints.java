@@ -0,0 +1,100 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.ap.testmodel.generatedvalidator;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import javax.validation.Valid;
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Pattern;
+import javax.validation.constraints.Size;
+
+/**
+ * Declares the constraints supported by generated validators on all kinds of supported types, using all kinds of
+ * field access.
+ *
+ * @author agent
+ */
+public class ModelWithSupportedConstraints {
+
+	@Size(min = 1, max = 3)
+	private int[] numbers;
+
+	@Size(max = 2)
+	String[] names;
+
+	@NotNull
+	@Size(min = 1)
+	protected List<String> tags;
+
+	@Size(max = 1)
+	public Set<Long> ids;
+
+	@Size(max = 1)
+	private Map<String, String> attributes;
+
+	@NotNull
+	@Size(min = 2, max = 4)
+	private String code;
+
+	@Min(-5)
+	@Max(5)
+	int intValue;
+
+	@Min(1)
+	private long longValue;
+
+	@Max(10)
+	private byte byteValue;
+
+	@Min(-100)
+	short shortValue;
+
+	@Min(0)
+	@Max(100)
+	private Integer integerValue;
+
+	@Min(-1)
+	Long wrappedLongValue;
+
+	@Pattern(regexp = "ab.c")
+	private String plainPattern;
+
+	@Pattern(regexp = "ab.c", flags = { Pattern.Flag.CASE_INSENSITIVE, Pattern.Flag.DOTALL })
+	String flaggedPattern;
+
+	@Pattern(regexp = "^x+$.*", flags = { Pattern.Flag.MULTILINE, Pattern.Flag.DOTALL })
+	String multilinePattern;
+
+	@Pattern(regexp = "a b # comment", flags = Pattern.Flag.COMMENTS)
+	private String commentedPattern;
+
+	@NotNull
+	private Object required;
+
+	@Valid
+	private Item item;
+
+	/**
+	 * Normalizes the value of its field; the generated validator must read the field itself nonetheless.
+	 */
+	public String getCode() {
+		return code != null && code.length() > 2 ? code.substring( 0, 2 ) : code;
+	}
+
+	public static class Item {
+
+		@NotNull
+		private String name;
+
+		@Max(10)
+		private int quantity;
+	}
+}
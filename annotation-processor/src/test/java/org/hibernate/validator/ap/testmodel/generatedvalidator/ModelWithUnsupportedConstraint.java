@@ -0,0 +1,23 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.ap.testmodel.generatedvalidator;
+
+import java.util.Date;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Past;
+
+public class ModelWithUnsupportedConstraint {
+
+	@NotNull
+	public String name;
+
+	/**
+	 * Not supported by generated validators.
+	 */
+	@Past
+	public Date date;
+}
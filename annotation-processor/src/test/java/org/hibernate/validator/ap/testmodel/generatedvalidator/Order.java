@@ -0,0 +1,48 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.ap.testmodel.generatedvalidator;
+
+import java.util.List;
+import javax.validation.Valid;
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Pattern;
+import javax.validation.constraints.Size;
+
+public class Order {
+
+	@NotNull
+	@Size(min = 1, max = 10)
+	private String number;
+
+	@Min(1)
+	@Max(100)
+	int quantity;
+
+	@Max(5)
+	private Integer priority;
+
+	@Size(max = 2)
+	protected List<String> tags;
+
+	@Pattern(regexp = "[A-Z]{2}\"\\d+", flags = Pattern.Flag.CASE_INSENSITIVE)
+	public String code;
+
+	@Valid
+	@NotNull
+	private Customer customer;
+
+	public static class Customer {
+
+		@NotNull
+		private String name;
+
+		@Min(1)
+		private long id;
+	}
+}
@@ -150,6 +150,28 @@ public boolean compile(Processor annotationProcessor,
 	}
 
 
+	/**
+	 * @see CompilerTestHelper#compile(Processor, DiagnosticCollector, Kind, Boolean, Boolean, Boolean, EnumSet, File...)
+	 */
+	public boolean compile(Processor annotationProcessor,
+						   DiagnosticCollector<JavaFileObject> diagnostics,
+						   Kind diagnosticKind,
+						   Boolean verbose,
+						   Boolean allowMethodConstraints,
+						   EnumSet<Library> dependencies,
+						   File... sourceFiles) {
+		return compile(
+				annotationProcessor,
+				diagnostics,
+				diagnosticKind,
+				verbose,
+				allowMethodConstraints,
+				null,
+				dependencies,
+				sourceFiles
+		);
+	}
+
 	/**
 	 * Creates and executes a {@link CompilationTask} using the given input.
 	 *
@@ -158,6 +180,7 @@ public boolean compile(Processor annotationProcessor,
 	 * @param diagnosticKind A value for the "diagnosticKind" option.
 	 * @param verbose A value for the "verbose" option.
 	 * @param allowMethodConstraints A value for the "methodConstraintsSupported" option.
+	 * @param generateValidators A value for the "generateValidators" option.
 	 * @param dependencies A set with libraries which shall be added to the class path of
 	 * the compilation task.
 	 * @param sourceFiles The source files to be compiled.
@@ -171,6 +194,7 @@ public boolean compile(Processor annotationProcessor,
 						   Kind diagnosticKind,
 						   Boolean verbose,
 						   Boolean allowMethodConstraints,
+						   Boolean generateValidators,
 						   EnumSet<Library> dependencies,
 						   File... sourceFiles) {
 		StandardJavaFileManager fileManager = compiler.getStandardFileManager( null, null, null );
@@ -195,6 +219,10 @@ public boolean compile(Processor annotationProcessor,
 			);
 		}
 
+		if ( generateValidators != null ) {
+			options.add( String.format( "-A%s=%b", Configuration.GENERATE_VALIDATORS_PROCESSOR_OPTION, generateValidators ) );
+		}
+
 		try {
 			fileManager.setLocation( StandardLocation.CLASS_PATH, getDependenciesAsFiles( dependencies ) );
 			fileManager.setLocation( StandardLocation.CLASS_OUTPUT, Arrays.asList( PROCESSOR_OUT_DIR ) );
@@ -247,6 +275,15 @@ private Set<File> getDependenciesAsFiles(EnumSet<Library> dependencies) {
 		return files;
 	}
 
+	/**
+	 * Returns the directory the compiled classes and generated sources are written to.
+	 *
+	 * @return the directory the compiled classes and generated sources are written to
+	 */
+	public static File getProcessorOutputDir() {
+		return PROCESSOR_OUT_DIR;
+	}
+
 	/**
 	 * Returns the target directory of the build.
 	 *
@@ -0,0 +1,160 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.internal.cdi;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.security.AccessController;
+import java.security.PrivilegedAction;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import javax.validation.Constraint;
+import javax.validation.Valid;
+
+import org.hibernate.validator.internal.util.classhierarchy.ClassHierarchyHelper;
+import org.hibernate.validator.internal.util.privilegedactions.GetDeclaredConstructors;
+import org.hibernate.validator.internal.util.privilegedactions.GetDeclaredMethod;
+import org.hibernate.validator.internal.util.privilegedactions.GetDeclaredMethods;
+
+/**
+ * Tells whether a type may have constrained constructors or methods by examining the annotations of its executables
+ * and those of its super-types, without building the meta data of the type. Only applicable if constraints are
+ * solely declared by annotations.
+ * <p>
+ * The result is an over-approximation: a type for which {@code false} is returned has no constrained executables,
+ * whereas a type for which {@code true} is returned needs to be examined using its bean descriptor. In particular,
+ * executables with parameterized parameter or return types are deemed constrained, as type argument constraints are
+ * not examined. The result for each type of a hierarchy is cached, as super-types and interfaces are typically shared
+ * by many beans.
+ *
+ * @author agent
+ */
+class ExecutableConstraintAnnotationScanner {
+
+	private final ConcurrentMap<Class<?>, Boolean> declaresExecutableConstraintsByType =
+			new ConcurrentHashMap<Class<?>, Boolean>();
+
+	/**
+	 * Whether the given type or any of its super-types declares a constrained or cascaded parameter or return value or
+	 * a cross-parameter constraint.
+	 *
+	 * @param clazz the type of interest
+	 *
+	 * @return {@code false} if the given type has no constrained executables, {@code true} if it may have some
+	 */
+	boolean mayHaveConstrainedExecutables(Class<?> clazz) {
+		for ( Class<?> hierarchyClass : ClassHierarchyHelper.getHierarchy( clazz ) ) {
+			if ( declaresExecutableConstraints( hierarchyClass ) ) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	private boolean declaresExecutableConstraints(Class<?> clazz) {
+		Boolean declaresExecutableConstraints = declaresExecutableConstraintsByType.get( clazz );
+
+		if ( declaresExecutableConstraints == null ) {
+			declaresExecutableConstraints = determineWhetherDeclaresExecutableConstraints( clazz );
+			declaresExecutableConstraintsByType.put( clazz, declaresExecutableConstraints );
+		}
+
+		return declaresExecutableConstraints;
+	}
+
+	private boolean determineWhetherDeclaresExecutableConstraints(Class<?> clazz) {
+		for ( Constructor<?> constructor : run( GetDeclaredConstructors.action( clazz ) ) ) {
+			if ( isConstrained( constructor.getDeclaredAnnotations(), constructor.getParameterAnnotations() )
+					|| isAnyParameterized( constructor.getGenericParameterTypes() ) ) {
+				return true;
+			}
+		}
+
+		for ( Method method : run( GetDeclaredMethods.action( clazz ) ) ) {
+			if ( Modifier.isStatic( method.getModifiers() ) ) {
+				continue;
+			}
+			if ( isConstrained( method.getDeclaredAnnotations(), method.getParameterAnnotations() )
+					|| isAnyParameterized( method.getGenericParameterTypes() )
+					|| method.getGenericReturnType() instanceof ParameterizedType ) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	private boolean isConstrained(Annotation[] executableAnnotations, Annotation[][] parameterAnnotations) {
+		if ( containsConstraintOrValid( executableAnnotations ) ) {
+			return true;
+		}
+
+		for ( Annotation[] annotations : parameterAnnotations ) {
+			if ( containsConstraintOrValid( annotations ) ) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	/**
+	 * Whether any of the given types is parameterized. Type argument constraints such as in
+	 * {@code Optional<@NotBlank String>} are not represented by the annotations of the executable or its parameters,
+	 * so executables with parameterized parameter or return types are considered to be constrained.
+	 */
+	private boolean isAnyParameterized(Type[] types) {
+		for ( Type type : types ) {
+			if ( type instanceof ParameterizedType ) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	private boolean containsConstraintOrValid(Annotation[] annotations) {
+		for ( Annotation annotation : annotations ) {
+			Class<? extends Annotation> annotationType = annotation.annotationType();
+
+			if ( annotationType == Valid.class || annotationType.isAnnotationPresent( Constraint.class )
+					|| isMultiValueConstraint( annotationType ) ) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	/**
+	 * Whether the given annotation type is a container of constraints such as {@code @Size.List}.
+	 */
+	private boolean isMultiValueConstraint(Class<? extends Annotation> annotationType) {
+		Method valueMethod = run( GetDeclaredMethod.action( annotationType, "value" ) );
+		if ( valueMethod == null ) {
+			return false;
+		}
+
+		Class<?> returnType = valueMethod.getReturnType();
+		return returnType.isArray() && returnType.getComponentType().isAnnotationPresent( Constraint.class );
+	}
+
+	/**
+	 * Runs the given privileged action, using a privileged block if required.
+	 * <p>
+	 * <b>NOTE:</b> This must never be changed into a publicly available method to avoid execution of arbitrary
+	 * privileged actions within HV's protection domain.
+	 */
+	private static <T> T run(PrivilegedAction<T> action) {
+		return System.getSecurityManager() != null ? AccessController.doPrivileged( action ) : action.run();
+	}
+}
@@ -9,6 +9,7 @@
 import java.lang.annotation.Annotation;
 import java.lang.annotation.ElementType;
 import java.lang.reflect.Constructor;
+import java.lang.reflect.Member;
 import java.lang.reflect.Method;
 import java.util.Collections;
 import java.util.EnumSet;
@@ -16,6 +17,8 @@
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import javax.enterprise.event.Observes;
 import javax.enterprise.inject.Default;
@@ -42,9 +45,14 @@
 import javax.validation.executable.ExecutableType;
 import javax.validation.executable.ValidateOnExecution;
 import javax.validation.metadata.BeanDescriptor;
+import javax.validation.metadata.ConstructorDescriptor;
+import javax.validation.metadata.MethodDescriptor;
+import javax.validation.metadata.MethodType;
 import javax.validation.metadata.PropertyDescriptor;
 
+import org.hibernate.validator.HibernateValidatorConfiguration;
 import org.hibernate.validator.cdi.HibernateValidator;
+import org.hibernate.validator.internal.cdi.interceptor.ExecutableValidationDescriptor;
 import org.hibernate.validator.internal.cdi.interceptor.ValidationEnabledAnnotatedType;
 import org.hibernate.validator.internal.cdi.interceptor.ValidationInterceptor;
 import org.hibernate.validator.internal.util.Contracts;
@@ -99,6 +107,25 @@ public class ValidationExtension implements Extension {
 	private final Set<ExecutableType> globalExecutableTypes;
 	private final boolean isExecutableValidationEnabled;
 
+	/**
+	 * Used for identifying types without constrained executables without building their meta data; {@code null} if
+	 * constraints may be declared by other means than annotations.
+	 */
+	private final ExecutableConstraintAnnotationScanner executableConstraintAnnotationScanner;
+
+	/**
+	 * Describes for each intercepted executable whether its parameters and/or its return value need to be validated.
+	 */
+	private final ConcurrentMap<Member, ExecutableValidationDescriptor> executableValidationDescriptors =
+			new ConcurrentHashMap<Member, ExecutableValidationDescriptor>();
+
+	/**
+	 * The executable types defined via {@code @ValidateOnExecution} on given types. Super-types and interfaces are
+	 * typically shared by many beans, so their annotation is only evaluated once.
+	 */
+	private final ConcurrentMap<Class<?>, EnumSet<ExecutableType>> executableTypesByType =
+			new ConcurrentHashMap<Class<?>, EnumSet<ExecutableType>>();
+
 	private Bean<?> defaultValidatorFactoryBean;
 	private Bean<?> hibernateValidatorFactoryBean;
 
@@ -110,6 +137,9 @@ public ValidationExtension() {
 		BootstrapConfiguration bootstrap = config.getBootstrapConfiguration();
 		globalExecutableTypes = bootstrap.getDefaultValidatedExecutableTypes();
 		isExecutableValidationEnabled = bootstrap.isExecutableValidationEnabled();
+		executableConstraintAnnotationScanner = isAnnotationBasedConfigurationOnly( bootstrap ) ?
+				new ExecutableConstraintAnnotationScanner() :
+				null;
 		validatorFactory = config.buildValidatorFactory();
 		validator = validatorFactory.getValidator();
 
@@ -236,16 +266,74 @@ public <T> void processAnnotatedType(@Observes @WithAnnotations({
 		}
 	}
 
+	/**
+	 * Returns the descriptor determined at bootstrap for the given intercepted method or constructor.
+	 *
+	 * @param executable the intercepted method or constructor
+	 *
+	 * @return the descriptor for the given executable; a descriptor demanding the validation of parameters and return
+	 *         value in case the given executable hasn't been processed by this extension
+	 */
+	public ExecutableValidationDescriptor getExecutableValidationDescriptor(Member executable) {
+		ExecutableValidationDescriptor descriptor = executableValidationDescriptors.get( executable );
+		return descriptor != null ? descriptor : ExecutableValidationDescriptor.VALIDATE_ALL;
+	}
+
+	/**
+	 * Registers the given descriptor. An inherited executable may be processed for several types, in which case the
+	 * descriptors are merged, so the interceptor never skips a validation required for any of these types.
+	 */
+	private void addExecutableValidationDescriptor(Member executable, ExecutableValidationDescriptor descriptor) {
+		ExecutableValidationDescriptor existing = executableValidationDescriptors.putIfAbsent( executable, descriptor );
+
+		while ( existing != null ) {
+			ExecutableValidationDescriptor merged = existing.merge( descriptor );
+			if ( merged == existing || executableValidationDescriptors.replace( executable, existing, merged ) ) {
+				return;
+			}
+			existing = executableValidationDescriptors.get( executable );
+		}
+	}
+
+	/**
+	 * Whether constraints are solely declared by annotations, i.e. there are neither XML constraint mappings nor
+	 * constraint mapping contributors.
+	 */
+	@SuppressWarnings("deprecation")
+	private static boolean isAnnotationBasedConfigurationOnly(BootstrapConfiguration bootstrap) {
+		return bootstrap.getConstraintMappingResourcePaths().isEmpty()
+				&& !bootstrap.getProperties().containsKey( HibernateValidatorConfiguration.CONSTRAINT_MAPPING_CONTRIBUTOR )
+				&& !bootstrap.getProperties().containsKey( HibernateValidatorConfiguration.CONSTRAINT_MAPPING_CONTRIBUTORS );
+	}
+
 	private <T> Set<AnnotatedCallable<? super T>> determineConstrainedCallables(AnnotatedType<T> type) {
 		Set<AnnotatedCallable<? super T>> callables = newHashSet();
+
+		// most beans only have property constraints; recognize them from their annotations, so their meta data is only
+		// built upon their first validation
+		if ( executableConstraintAnnotationScanner != null
+				&& !executableConstraintAnnotationScanner.mayHaveConstrainedExecutables( type.getJavaClass() ) ) {
+			return callables;
+		}
+
 		BeanDescriptor beanDescriptor = validator.getConstraintsForClass( type.getJavaClass() );
 
+		// most beans don't have any method constraints; skip the reflective examination of their members in that case
+		if ( !hasConstrainedExecutables( beanDescriptor ) ) {
+			return callables;
+		}
+
 		determineConstrainedConstructors( type, beanDescriptor, callables );
 		determineConstrainedMethods( type, beanDescriptor, callables );
 
 		return callables;
 	}
 
+	private boolean hasConstrainedExecutables(BeanDescriptor beanDescriptor) {
+		return !beanDescriptor.getConstrainedConstructors().isEmpty()
+				|| !beanDescriptor.getConstrainedMethods( MethodType.NON_GETTER, MethodType.GETTER ).isEmpty();
+	}
+
 	private <T> void determineConstrainedMethods(AnnotatedType<T> type, BeanDescriptor beanDescriptor, Set<AnnotatedCallable<? super T>> callables) {
 		List<Method> overriddenAndImplementedMethods = InheritedMethodsHelper.getAllMethods( type.getJavaClass() );
 
@@ -278,6 +366,12 @@ private <T> void determineConstrainedMethods(AnnotatedType<T> type, BeanDescript
 
 			if ( needsValidation ) {
 				callables.add( annotatedMethod );
+
+				MethodDescriptor methodDescriptor = beanDescriptor.getConstraintsForMethod(
+						method.getName(),
+						method.getParameterTypes()
+				);
+				addExecutableValidationDescriptor( method, ExecutableValidationDescriptor.forExecutable( methodDescriptor ) );
 			}
 		}
 	}
@@ -294,8 +388,10 @@ private <T> void determineConstrainedConstructors(AnnotatedType<T> type, BeanDes
 				continue;
 			}
 
-			if ( beanDescriptor.getConstraintsForConstructor( constructor.getParameterTypes() ) != null ) {
+			ConstructorDescriptor constructorDescriptor = beanDescriptor.getConstraintsForConstructor( constructor.getParameterTypes() );
+			if ( constructorDescriptor != null ) {
 				callables.add( annotatedConstructor );
+				addExecutableValidationDescriptor( constructor, ExecutableValidationDescriptor.forExecutable( constructorDescriptor ) );
 			}
 		}
 	}
@@ -329,6 +425,17 @@ private boolean veto(EnumSet<ExecutableType> classLevelExecutableTypes,
 	}
 
 	private EnumSet<ExecutableType> executableTypesDefinedOnType(Class<?> clazz) {
+		EnumSet<ExecutableType> executableTypes = executableTypesByType.get( clazz );
+
+		if ( executableTypes == null ) {
+			executableTypes = determineExecutableTypesDefinedOnType( clazz );
+			executableTypesByType.put( clazz, executableTypes );
+		}
+
+		return executableTypes;
+	}
+
+	private EnumSet<ExecutableType> determineExecutableTypesDefinedOnType(Class<?> clazz) {
 		ValidateOnExecution validateOnExecutionAnnotation = clazz.getAnnotation( ValidateOnExecution.class );
 		EnumSet<ExecutableType> executableTypes = commonExecutableTypeChecks( validateOnExecutionAnnotation );
 
@@ -0,0 +1,90 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.internal.cdi.interceptor;
+
+import javax.validation.metadata.ExecutableDescriptor;
+
+/**
+ * Describes which parts of an intercepted method or constructor need to be validated. Determined once per executable
+ * during bootstrap, allowing {@link ValidationInterceptor} to skip the validation of parameters or return values which
+ * are not constrained.
+ *
+ * @author agent
+ */
+public class ExecutableValidationDescriptor {
+
+	/**
+	 * Used for executables not known at bootstrap time; parameters and return value will be validated.
+	 */
+	public static final ExecutableValidationDescriptor VALIDATE_ALL = new ExecutableValidationDescriptor( true, true );
+
+	private final boolean validateParameters;
+	private final boolean validateReturnValue;
+
+	private ExecutableValidationDescriptor(boolean validateParameters, boolean validateReturnValue) {
+		this.validateParameters = validateParameters;
+		this.validateReturnValue = validateReturnValue;
+	}
+
+	/**
+	 * Creates a descriptor for the executable represented by the given meta data descriptor.
+	 *
+	 * @param executableDescriptor the meta data descriptor of the executable; may be {@code null}, in which case
+	 * parameters and return value will be validated
+	 *
+	 * @return a descriptor for the given executable
+	 */
+	public static ExecutableValidationDescriptor forExecutable(ExecutableDescriptor executableDescriptor) {
+		if ( executableDescriptor == null ) {
+			return VALIDATE_ALL;
+		}
+
+		return new ExecutableValidationDescriptor(
+				executableDescriptor.hasConstrainedParameters(),
+				executableDescriptor.hasConstrainedReturnValue()
+		);
+	}
+
+	/**
+	 * Merges this descriptor with the given one.
+	 *
+	 * @param other the descriptor to merge with
+	 *
+	 * @return a descriptor demanding the validation of everything demanded by this or the given descriptor
+	 */
+	public ExecutableValidationDescriptor merge(ExecutableValidationDescriptor other) {
+		boolean mergedValidateParameters = validateParameters || other.validateParameters;
+		boolean mergedValidateReturnValue = validateReturnValue || other.validateReturnValue;
+
+		if ( mergedValidateParameters == validateParameters && mergedValidateReturnValue == validateReturnValue ) {
+			return this;
+		}
+
+		return new ExecutableValidationDescriptor( mergedValidateParameters, mergedValidateReturnValue );
+	}
+
+	/**
+	 * @return {@code true} if the executable has at least one constrained or cascaded parameter or a cross-parameter
+	 *         constraint, {@code false} otherwise
+	 */
+	public boolean validateParameters() {
+		return validateParameters;
+	}
+
+	/**
+	 * @return {@code true} if the return value of the executable is constrained or cascaded, {@code false} otherwise
+	 */
+	public boolean validateReturnValue() {
+		return validateReturnValue;
+	}
+
+	@Override
+	public String toString() {
+		return "ExecutableValidationDescriptor [validateParameters=" + validateParameters + ", validateReturnValue="
+				+ validateReturnValue + "]";
+	}
+}
@@ -13,6 +13,7 @@
 import java.util.Set;
 
 import javax.annotation.Priority;
+import javax.enterprise.inject.spi.BeanManager;
 import javax.inject.Inject;
 import javax.interceptor.AroundConstruct;
 import javax.interceptor.AroundInvoke;
@@ -25,6 +26,8 @@
 import javax.validation.Validator;
 import javax.validation.executable.ExecutableValidator;
 
+import org.hibernate.validator.internal.cdi.ValidationExtension;
+
 /**
  * An interceptor which performs a validation of the Bean Validation constraints specified at the parameters and/or return
  * values of intercepted methods using the method validation functionality provided by Hibernate Validator.
@@ -50,6 +53,15 @@ public class ValidationInterceptor implements Serializable {
 	@Inject
 	private Validator validator;
 
+	/**
+	 * Used to obtain the {@link ValidationExtension}, which knows for each intercepted executable whether its
+	 * parameters and/or return value actually need to be validated.
+	 */
+	@Inject
+	private BeanManager beanManager;
+
+	private transient ValidationExtension validationExtension;
+
 	/**
 	 * Validates the Bean Validation constraints specified at the parameters and/or return value of the intercepted method.
 	 *
@@ -62,33 +74,39 @@ public class ValidationInterceptor implements Serializable {
 	 */
 	@AroundInvoke
 	public Object validateMethodInvocation(InvocationContext ctx) throws Exception {
+		ExecutableValidationDescriptor descriptor = getExecutableValidationDescriptor( ctx.getMethod() );
 		ExecutableValidator executableValidator = validator.forExecutables();
-		Set<ConstraintViolation<Object>> violations = executableValidator.validateParameters(
-				ctx.getTarget(),
-				ctx.getMethod(),
-				ctx.getParameters()
-		);
-
-		if ( !violations.isEmpty() ) {
-			throw new ConstraintViolationException(
-					getMessage( ctx.getMethod(), ctx.getParameters(), violations ),
-					violations
+
+		if ( descriptor.validateParameters() ) {
+			Set<ConstraintViolation<Object>> violations = executableValidator.validateParameters(
+					ctx.getTarget(),
+					ctx.getMethod(),
+					ctx.getParameters()
 			);
+
+			if ( !violations.isEmpty() ) {
+				throw new ConstraintViolationException(
+						getMessage( ctx.getMethod(), ctx.getParameters(), violations ),
+						violations
+				);
+			}
 		}
 
 		Object result = ctx.proceed();
 
-		violations = executableValidator.validateReturnValue(
-				ctx.getTarget(),
-				ctx.getMethod(),
-				result
-		);
-
-		if ( !violations.isEmpty() ) {
-			throw new ConstraintViolationException(
-					getMessage( ctx.getMethod(), ctx.getParameters(), violations ),
-					violations
+		if ( descriptor.validateReturnValue() ) {
+			Set<ConstraintViolation<Object>> violations = executableValidator.validateReturnValue(
+					ctx.getTarget(),
+					ctx.getMethod(),
+					result
 			);
+
+			if ( !violations.isEmpty() ) {
+				throw new ConstraintViolationException(
+						getMessage( ctx.getMethod(), ctx.getParameters(), violations ),
+						violations
+				);
+			}
 		}
 
 		return result;
@@ -104,35 +122,53 @@ public Object validateMethodInvocation(InvocationContext ctx) throws Exception {
 	 */
 	@AroundConstruct
 	public void validateConstructorInvocation(InvocationContext ctx) throws Exception {
+		ExecutableValidationDescriptor descriptor = getExecutableValidationDescriptor( ctx.getConstructor() );
 		ExecutableValidator executableValidator = validator.forExecutables();
-		Set<? extends ConstraintViolation<?>> violations = executableValidator.validateConstructorParameters(
-				ctx.getConstructor(),
-				ctx.getParameters()
-		);
-
-		if ( !violations.isEmpty() ) {
-			throw new ConstraintViolationException(
-					getMessage( ctx.getConstructor(), ctx.getParameters(), violations ),
-					violations
+
+		if ( descriptor.validateParameters() ) {
+			Set<? extends ConstraintViolation<?>> violations = executableValidator.validateConstructorParameters(
+					ctx.getConstructor(),
+					ctx.getParameters()
 			);
+
+			if ( !violations.isEmpty() ) {
+				throw new ConstraintViolationException(
+						getMessage( ctx.getConstructor(), ctx.getParameters(), violations ),
+						violations
+				);
+			}
 		}
 
 		ctx.proceed();
-		Object createdObject = ctx.getTarget();
 
-		violations = validator.forExecutables().validateConstructorReturnValue(
-				ctx.getConstructor(),
-				createdObject
-		);
+		if ( descriptor.validateReturnValue() ) {
+			Object createdObject = ctx.getTarget();
 
-		if ( !violations.isEmpty() ) {
-			throw new ConstraintViolationException(
-					getMessage( ctx.getConstructor(), ctx.getParameters(), violations ),
-					violations
+			Set<? extends ConstraintViolation<?>> violations = executableValidator.validateConstructorReturnValue(
+					ctx.getConstructor(),
+					createdObject
 			);
+
+			if ( !violations.isEmpty() ) {
+				throw new ConstraintViolationException(
+						getMessage( ctx.getConstructor(), ctx.getParameters(), violations ),
+						violations
+				);
+			}
 		}
 	}
 
+	private ExecutableValidationDescriptor getExecutableValidationDescriptor(Member executable) {
+		ValidationExtension extension = validationExtension;
+
+		if ( extension == null ) {
+			extension = beanManager.getExtension( ValidationExtension.class );
+			validationExtension = extension;
+		}
+
+		return extension.getExecutableValidationDescriptor( executable );
+	}
+
 	private String getMessage(Member member, Object[] args, Set<? extends ConstraintViolation<?>> violations) {
 
 		StringBuilder message = new StringBuilder();
@@ -0,0 +1,94 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.internal.cdi;
+
+import java.util.List;
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotNull;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for {@link ExecutableConstraintAnnotationScanner}.
+ *
+ * @author agent
+ */
+public class ExecutableConstraintAnnotationScannerTest {
+
+	private ExecutableConstraintAnnotationScanner scanner;
+
+	@Before
+	public void setUp() {
+		scanner = new ExecutableConstraintAnnotationScanner();
+	}
+
+	@Test
+	public void testTypeWithPropertyConstraintsOnlyHasNoConstrainedExecutables() {
+		assertFalse( scanner.mayHaveConstrainedExecutables( Customer.class ) );
+	}
+
+	@Test
+	public void testTypeWithConstrainedParameterMayHaveConstrainedExecutables() {
+		assertTrue( scanner.mayHaveConstrainedExecutables( OrderService.class ) );
+	}
+
+	@Test
+	public void testTypeInheritingConstrainedMethodMayHaveConstrainedExecutables() {
+		assertTrue( scanner.mayHaveConstrainedExecutables( ExtendedOrderService.class ) );
+	}
+
+	@Test
+	public void testTypeWithParameterizedParameterMayHaveConstrainedExecutables() {
+		// the type argument may be annotated with a TYPE_USE constraint, e.g. List<@NotBlank String>
+		assertTrue( scanner.mayHaveConstrainedExecutables( TagService.class ) );
+	}
+
+	@Test
+	public void testTypeWithParameterizedReturnTypeMayHaveConstrainedExecutables() {
+		assertTrue( scanner.mayHaveConstrainedExecutables( TagRepository.class ) );
+	}
+
+	public static class Customer {
+
+		@NotNull
+		private String name;
+
+		public String getName() {
+			return name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+	}
+
+	public static class OrderService {
+
+		public void placeOrder(@Min(1) int quantity) {
+		}
+	}
+
+	public static class ExtendedOrderService extends OrderService {
+	}
+
+	public static class TagService {
+
+		public void tag(long id, List<String> tags) {
+		}
+	}
+
+	public static class TagRepository {
+
+		public List<String> findTags(long id) {
+			return null;
+		}
+	}
+}
@@ -0,0 +1,149 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.test.internal.cdi;
+
+import java.util.Collections;
+import javax.enterprise.inject.spi.AnnotatedType;
+import javax.enterprise.inject.spi.ProcessAnnotatedType;
+import javax.validation.GroupDefinitionException;
+import javax.validation.GroupSequence;
+import javax.validation.Valid;
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Size;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import org.hibernate.validator.internal.cdi.ValidationExtension;
+
+import static org.easymock.EasyMock.createMock;
+import static org.easymock.EasyMock.expect;
+import static org.easymock.EasyMock.replay;
+import static org.easymock.EasyMock.verify;
+
+/**
+ * Tests that the meta data of types without constrained executables is not built when discovering the executables to
+ * be intercepted. The beans used here redefine their default group sequence illegally, so building their meta data
+ * fails; discovery only succeeds if their meta data is not built.
+ *
+ * @author agent
+ */
+public class ConstrainedExecutableDiscoveryTest {
+
+	private ValidationExtension extension;
+
+	@Before
+	public void setUp() {
+		extension = new ValidationExtension();
+	}
+
+	@Test
+	public void testMetaDataOfTypeWithPropertyConstraintsOnlyIsNotBuilt() {
+		processAnnotatedType( PropertyConstraintsOnly.class );
+	}
+
+	@Test
+	public void testMetaDataOfTypeWithCascadedPropertyOnlyIsNotBuilt() {
+		processAnnotatedType( CascadedPropertyOnly.class );
+	}
+
+	@Test(expected = GroupDefinitionException.class)
+	public void testMetaDataOfTypeWithConstrainedMethodIsBuilt() {
+		processAnnotatedType( ConstrainedMethod.class );
+	}
+
+	@Test(expected = GroupDefinitionException.class)
+	public void testMetaDataOfTypeWithConstrainedConstructorIsBuilt() {
+		processAnnotatedType( ConstrainedConstructor.class );
+	}
+
+	@Test(expected = GroupDefinitionException.class)
+	public void testMetaDataOfTypeWithInheritedMethodConstraintIsBuilt() {
+		processAnnotatedType( InheritedMethodConstraint.class );
+	}
+
+	@Test(expected = GroupDefinitionException.class)
+	public void testMetaDataOfTypeWithMultiValuedReturnValueConstraintIsBuilt() {
+		processAnnotatedType( MultiValuedReturnValueConstraint.class );
+	}
+
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private void processAnnotatedType(Class<?> beanClass) {
+		ProcessAnnotatedType processAnnotatedTypeMock = createMock( ProcessAnnotatedType.class );
+		AnnotatedType annotatedTypeMock = createMock( AnnotatedType.class );
+
+		expect( processAnnotatedTypeMock.getAnnotatedType() ).andReturn( annotatedTypeMock );
+		expect( annotatedTypeMock.getJavaClass() ).andReturn( beanClass ).anyTimes();
+		expect( annotatedTypeMock.getConstructors() ).andReturn( Collections.emptySet() ).anyTimes();
+		expect( annotatedTypeMock.getMethods() ).andReturn( Collections.emptySet() ).anyTimes();
+
+		replay( processAnnotatedTypeMock, annotatedTypeMock );
+
+		extension.processAnnotatedType( processAnnotatedTypeMock );
+
+		verify( processAnnotatedTypeMock, annotatedTypeMock );
+	}
+
+	@GroupSequence(Marker.class)
+	public static class PropertyConstraintsOnly {
+
+		@NotNull
+		@Size(max = 10)
+		private String name;
+
+		public void setName(String name) {
+			this.name = name;
+		}
+	}
+
+	@GroupSequence(Marker.class)
+	public static class CascadedPropertyOnly {
+
+		@Valid
+		private PropertyConstraintsOnly item;
+	}
+
+	@GroupSequence(Marker.class)
+	public static class ConstrainedMethod {
+
+		public void order(@Min(1) int quantity) {
+		}
+	}
+
+	@GroupSequence(Marker.class)
+	public static class ConstrainedConstructor {
+
+		public ConstrainedConstructor(@NotNull String name) {
+		}
+	}
+
+	public interface Service {
+
+		void order(@Min(1) int quantity);
+	}
+
+	@GroupSequence(Marker.class)
+	public static class InheritedMethodConstraint implements Service {
+
+		@Override
+		public void order(int quantity) {
+		}
+	}
+
+	@GroupSequence(Marker.class)
+	public static class MultiValuedReturnValueConstraint {
+
+		@Size.List({ @Size(min = 1), @Size(max = 10) })
+		public String order(int quantity) {
+			return null;
+		}
+	}
+
+	public interface Marker {
+	}
+}
@@ -0,0 +1,211 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.test.internal.cdi;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.util.HashSet;
+import java.util.Set;
+import javax.enterprise.inject.spi.AnnotatedConstructor;
+import javax.enterprise.inject.spi.AnnotatedMethod;
+import javax.enterprise.inject.spi.AnnotatedType;
+import javax.enterprise.inject.spi.ProcessAnnotatedType;
+import javax.validation.Valid;
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotNull;
+import javax.validation.metadata.ExecutableDescriptor;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import org.hibernate.validator.internal.cdi.ValidationExtension;
+import org.hibernate.validator.internal.cdi.interceptor.ExecutableValidationDescriptor;
+import org.hibernate.validator.internal.cdi.interceptor.ValidationEnabledAnnotatedType;
+
+import static org.easymock.EasyMock.createMock;
+import static org.easymock.EasyMock.createNiceMock;
+import static org.easymock.EasyMock.expect;
+import static org.easymock.EasyMock.expectLastCall;
+import static org.easymock.EasyMock.isA;
+import static org.easymock.EasyMock.replay;
+import static org.easymock.EasyMock.verify;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for {@link ExecutableValidationDescriptor} and their registration by {@link ValidationExtension}.
+ *
+ * @author agent
+ */
+public class ExecutableValidationDescriptorTest {
+
+	private ValidationExtension extension;
+
+	@Before
+	public void setUp() {
+		extension = new ValidationExtension();
+	}
+
+	@Test
+	public void testDescriptorForExecutableWithConstrainedParametersOnly() throws Exception {
+		processAnnotatedType( OrderService.class );
+
+		ExecutableValidationDescriptor descriptor = extension.getExecutableValidationDescriptor(
+				OrderService.class.getMethod( "placeOrder", int.class )
+		);
+		assertTrue( descriptor.validateParameters() );
+		assertFalse( descriptor.validateReturnValue() );
+	}
+
+	@Test
+	public void testDescriptorForExecutableWithConstrainedReturnValueOnly() throws Exception {
+		processAnnotatedType( OrderService.class );
+
+		ExecutableValidationDescriptor descriptor = extension.getExecutableValidationDescriptor(
+				OrderService.class.getMethod( "findOrder", long.class )
+		);
+		assertFalse( descriptor.validateParameters() );
+		assertTrue( descriptor.validateReturnValue() );
+	}
+
+	@Test
+	public void testDescriptorForExecutableWithConstrainedParametersAndReturnValue() throws Exception {
+		processAnnotatedType( OrderService.class );
+
+		ExecutableValidationDescriptor descriptor = extension.getExecutableValidationDescriptor(
+				OrderService.class.getMethod( "confirm", int.class )
+		);
+		assertTrue( descriptor.validateParameters() );
+		assertTrue( descriptor.validateReturnValue() );
+	}
+
+	@Test
+	public void testDescriptorForConstructorWithConstrainedParametersOnly() throws Exception {
+		processAnnotatedType( OrderService.class );
+
+		ExecutableValidationDescriptor descriptor = extension.getExecutableValidationDescriptor(
+				OrderService.class.getConstructor( String.class )
+		);
+		assertTrue( descriptor.validateParameters() );
+		assertFalse( descriptor.validateReturnValue() );
+	}
+
+	@Test
+	public void testDescriptorForCascadedReturnValue() throws Exception {
+		processAnnotatedType( OrderService.class );
+
+		ExecutableValidationDescriptor descriptor = extension.getExecutableValidationDescriptor(
+				OrderService.class.getMethod( "createOrder", long.class )
+		);
+		assertFalse( descriptor.validateParameters() );
+		assertTrue( descriptor.validateReturnValue() );
+	}
+
+	@Test
+	public void testUnknownExecutableIsValidatedEntirely() throws Exception {
+		ExecutableValidationDescriptor descriptor = extension.getExecutableValidationDescriptor(
+				OrderService.class.getMethod( "placeOrder", int.class )
+		);
+		assertSame( ExecutableValidationDescriptor.VALIDATE_ALL, descriptor );
+	}
+
+	@Test
+	public void testDescriptorsOfInheritedExecutableAreMerged() throws Exception {
+		ExecutableValidationDescriptor parametersOnly = ExecutableValidationDescriptor.forExecutable(
+				getExecutableDescriptor( true, false )
+		);
+		ExecutableValidationDescriptor returnValueOnly = ExecutableValidationDescriptor.forExecutable(
+				getExecutableDescriptor( false, true )
+		);
+
+		ExecutableValidationDescriptor merged = parametersOnly.merge( returnValueOnly );
+		assertTrue( merged.validateParameters() );
+		assertTrue( merged.validateReturnValue() );
+
+		assertSame( merged, merged.merge( parametersOnly ) );
+	}
+
+	@Test
+	public void testDescriptorWithoutExecutableDescriptorValidatesEntirely() {
+		assertSame( ExecutableValidationDescriptor.VALIDATE_ALL, ExecutableValidationDescriptor.forExecutable( null ) );
+	}
+
+	private ExecutableDescriptor getExecutableDescriptor(boolean constrainedParameters, boolean constrainedReturnValue) {
+		ExecutableDescriptor executableDescriptorMock = createMock( ExecutableDescriptor.class );
+		expect( executableDescriptorMock.hasConstrainedParameters() ).andReturn( constrainedParameters );
+		expect( executableDescriptorMock.hasConstrainedReturnValue() ).andReturn( constrainedReturnValue );
+		replay( executableDescriptorMock );
+
+		return executableDescriptorMock;
+	}
+
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private void processAnnotatedType(Class<?> beanClass) {
+		ProcessAnnotatedType processAnnotatedTypeMock = createMock( ProcessAnnotatedType.class );
+		AnnotatedType annotatedTypeMock = createMock( AnnotatedType.class );
+
+		Set<AnnotatedConstructor> constructors = new HashSet<AnnotatedConstructor>();
+		for ( Constructor<?> constructor : beanClass.getConstructors() ) {
+			AnnotatedConstructor annotatedConstructorMock = createNiceMock( AnnotatedConstructor.class );
+			expect( annotatedConstructorMock.getJavaMember() ).andReturn( constructor ).anyTimes();
+			replay( annotatedConstructorMock );
+			constructors.add( annotatedConstructorMock );
+		}
+
+		Set<AnnotatedMethod> methods = new HashSet<AnnotatedMethod>();
+		for ( Method method : beanClass.getDeclaredMethods() ) {
+			AnnotatedMethod annotatedMethodMock = createNiceMock( AnnotatedMethod.class );
+			expect( annotatedMethodMock.getJavaMember() ).andReturn( method ).anyTimes();
+			replay( annotatedMethodMock );
+			methods.add( annotatedMethodMock );
+		}
+
+		expect( processAnnotatedTypeMock.getAnnotatedType() ).andReturn( annotatedTypeMock );
+		processAnnotatedTypeMock.setAnnotatedType( isA( ValidationEnabledAnnotatedType.class ) );
+		expectLastCall();
+		expect( annotatedTypeMock.getJavaClass() ).andReturn( beanClass ).anyTimes();
+		expect( annotatedTypeMock.getConstructors() ).andReturn( constructors ).anyTimes();
+		expect( annotatedTypeMock.getMethods() ).andReturn( methods ).anyTimes();
+
+		replay( processAnnotatedTypeMock, annotatedTypeMock );
+
+		extension.processAnnotatedType( processAnnotatedTypeMock );
+
+		verify( processAnnotatedTypeMock, annotatedTypeMock );
+	}
+
+	public static class OrderService {
+
+		public OrderService(@NotNull String name) {
+		}
+
+		public void placeOrder(@Min(1) int quantity) {
+		}
+
+		@NotNull
+		public String findOrder(long id) {
+			return null;
+		}
+
+		@NotNull
+		public String confirm(@Min(1) int quantity) {
+			return null;
+		}
+
+		@Valid
+		public Order createOrder(long id) {
+			return null;
+		}
+	}
+
+	public static class Order {
+
+		@NotNull
+		private String number;
+	}
+}
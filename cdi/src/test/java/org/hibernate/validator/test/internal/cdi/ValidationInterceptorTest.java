@@ -0,0 +1,133 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.test.internal.cdi;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.Set;
+import javax.enterprise.inject.spi.BeanManager;
+import javax.interceptor.InvocationContext;
+import javax.validation.ConstraintViolation;
+import javax.validation.Validator;
+import javax.validation.executable.ExecutableValidator;
+import javax.validation.metadata.ExecutableDescriptor;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import org.hibernate.validator.internal.cdi.ValidationExtension;
+import org.hibernate.validator.internal.cdi.interceptor.ExecutableValidationDescriptor;
+import org.hibernate.validator.internal.cdi.interceptor.ValidationInterceptor;
+
+import static org.easymock.EasyMock.aryEq;
+import static org.easymock.EasyMock.createMock;
+import static org.easymock.EasyMock.eq;
+import static org.easymock.EasyMock.expect;
+import static org.easymock.EasyMock.replay;
+import static org.easymock.EasyMock.same;
+import static org.easymock.EasyMock.verify;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests that {@link ValidationInterceptor} only validates the parts of an executable demanded by its
+ * {@link ExecutableValidationDescriptor}. The mocked executable validator fails upon unexpected invocations.
+ *
+ * @author agent
+ */
+public class ValidationInterceptorTest {
+
+	private static final Set<ConstraintViolation<Object>> NO_VIOLATIONS = Collections.emptySet();
+
+	private ValidationExtension extensionMock;
+	private BeanManager beanManagerMock;
+	private Validator validatorMock;
+	private ExecutableValidator executableValidatorMock;
+	private InvocationContext invocationContextMock;
+	private ValidationInterceptor interceptor;
+
+	private final Object target = new Object();
+	private final Object[] parameters = new Object[] { 42 };
+	private Method method;
+
+	@Before
+	public void setUp() throws Exception {
+		extensionMock = createMock( ValidationExtension.class );
+		beanManagerMock = createMock( BeanManager.class );
+		validatorMock = createMock( Validator.class );
+		executableValidatorMock = createMock( ExecutableValidator.class );
+		invocationContextMock = createMock( InvocationContext.class );
+
+		interceptor = new ValidationInterceptor();
+		setField( interceptor, "validator", validatorMock );
+		setField( interceptor, "beanManager", beanManagerMock );
+
+		method = String.class.getMethod( "charAt", int.class );
+
+		expect( beanManagerMock.getExtension( ValidationExtension.class ) ).andReturn( extensionMock );
+		expect( validatorMock.forExecutables() ).andReturn( executableValidatorMock ).anyTimes();
+		expect( invocationContextMock.getMethod() ).andReturn( method ).anyTimes();
+		expect( invocationContextMock.getTarget() ).andReturn( target ).anyTimes();
+		expect( invocationContextMock.getParameters() ).andReturn( parameters ).anyTimes();
+		expect( invocationContextMock.proceed() ).andReturn( "result" );
+	}
+
+	@Test
+	public void testReturnValueIsNotValidatedIfNotConstrained() throws Exception {
+		expect( extensionMock.getExecutableValidationDescriptor( method ) ).andReturn( descriptor( true, false ) );
+		expect( executableValidatorMock.validateParameters( same( target ), eq( method ), aryEq( parameters ) ) )
+				.andReturn( NO_VIOLATIONS );
+
+		assertEquals( "result", intercept() );
+	}
+
+	@Test
+	public void testParametersAreNotValidatedIfNotConstrained() throws Exception {
+		expect( extensionMock.getExecutableValidationDescriptor( method ) ).andReturn( descriptor( false, true ) );
+		expect( executableValidatorMock.validateReturnValue( same( target ), eq( method ), eq( "result" ) ) )
+				.andReturn( NO_VIOLATIONS );
+
+		assertEquals( "result", intercept() );
+	}
+
+	@Test
+	public void testParametersAndReturnValueAreValidatedForUnknownExecutable() throws Exception {
+		expect( extensionMock.getExecutableValidationDescriptor( method ) )
+				.andReturn( ExecutableValidationDescriptor.VALIDATE_ALL );
+		expect( executableValidatorMock.validateParameters( same( target ), eq( method ), aryEq( parameters ) ) )
+				.andReturn( NO_VIOLATIONS );
+		expect( executableValidatorMock.validateReturnValue( same( target ), eq( method ), eq( "result" ) ) )
+				.andReturn( NO_VIOLATIONS );
+
+		assertEquals( "result", intercept() );
+	}
+
+	private Object intercept() throws Exception {
+		replay( extensionMock, beanManagerMock, validatorMock, executableValidatorMock, invocationContextMock );
+
+		Object result = interceptor.validateMethodInvocation( invocationContextMock );
+
+		verify( extensionMock, beanManagerMock, validatorMock, executableValidatorMock, invocationContextMock );
+
+		return result;
+	}
+
+	private ExecutableValidationDescriptor descriptor(boolean validateParameters, boolean validateReturnValue) {
+		ExecutableDescriptor executableDescriptorMock = createMock( ExecutableDescriptor.class );
+		expect( executableDescriptorMock.hasConstrainedParameters() ).andReturn( validateParameters );
+		expect( executableDescriptorMock.hasConstrainedReturnValue() ).andReturn( validateReturnValue );
+		replay( executableDescriptorMock );
+
+		return ExecutableValidationDescriptor.forExecutable( executableDescriptorMock );
+	}
+
+	private void setField(Object object, String name, Object value) throws Exception {
+		Field field = object.getClass().getDeclaredField( name );
+		field.setAccessible( true );
+		field.set( object, value );
+	}
+}
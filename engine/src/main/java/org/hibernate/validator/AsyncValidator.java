@@ -0,0 +1,54 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator;
+
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import javax.validation.ConstraintViolation;
+
+/**
+ * Validates beans without blocking the calling thread, evaluating the constraints with an
+ * {@link org.hibernate.validator.constraintvalidation.AsyncConstraintValidator} concurrently. Obtained by unwrapping a
+ * {@link javax.validation.Validator} created by Hibernate Validator:
+ *
+ * <pre>
+ * AsyncValidator validator = validatorFactory.getValidator().unwrap( AsyncValidator.class );
+ * Future&lt;Set&lt;ConstraintViolation&lt;Order&gt;&gt;&gt; violations = validator.validateAsync( order, executor, 16 );
+ * </pre>
+ *
+ * @author agent
+ * @hv.experimental This API is considered experimental and may change in future revisions
+ * @since 5.4
+ */
+public interface AsyncValidator {
+
+	/**
+	 * Validates all constraints on {@code object}, like {@link javax.validation.Validator#validate(Object, Class[])}.
+	 * The bean graph is traversed by a task run via the given executor. The results of asynchronous validators are
+	 * gathered before evaluating the next group of a group sequence, so sequences are processed in the same order as
+	 * for synchronous validation. In fail fast mode, each result is awaited right away.
+	 * <p>
+	 * The traversal task waits for the results of asynchronous validators, so if these validators use the given
+	 * executor, too, it must provide more than one thread.
+	 *
+	 * @param object the bean to validate
+	 * @param executor the executor running the validation
+	 * @param maxPendingChecks the maximum number of results of asynchronous validators which may be pending at the same
+	 * time; when reached, the pending results are awaited before starting further evaluations
+	 * @param groups the group or list of groups targeted for validation (defaults to
+	 * {@link javax.validation.groups.Default})
+	 * @param <T> the type of the validated bean
+	 *
+	 * @return a future providing the constraint violations or an empty set if none; it fails with a
+	 * {@link javax.validation.ValidationException} if a non recoverable error happens during the validation process
+	 *
+	 * @throws IllegalArgumentException if {@code object} or {@code executor} is {@code null}, if
+	 * {@code maxPendingChecks} is not greater than 0 or if {@code null} is passed to the varargs groups
+	 */
+	<T> Future<Set<ConstraintViolation<T>>> validateAsync(T object, Executor executor, int maxPendingChecks, Class<?>... groups);
+}
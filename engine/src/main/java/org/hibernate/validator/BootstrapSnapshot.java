@@ -0,0 +1,45 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator;
+
+/**
+ * An immutable snapshot of a bootstrapped Hibernate Validator configuration, allowing to build several validator
+ * factories with the same configuration without repeating the bootstrap work, such as parsing XML configuration files
+ * and constraint mappings.
+ * <p>
+ * The factories built from a snapshot share the configured components, such as the message interpolator, the
+ * traversable resolver or the constraint validator factory; hence these must be safe for concurrent use by several
+ * factories. Each factory manages its own constraint validator instances, so closing a factory doesn't affect other
+ * factories built from the same snapshot.
+ * <p>
+ * Instances are obtained via {@link HibernateValidatorConfiguration#buildBootstrapSnapshot()} and are safe for access
+ * from several threads at the same time.
+ *
+ * @author agent
+ * @hv.experimental This API is considered experimental and may change in future revisions
+ * @since 5.4
+ */
+public interface BootstrapSnapshot {
+
+	/**
+	 * Builds a new validator factory with the configuration represented by this snapshot. The factory maintains its
+	 * own bean meta data.
+	 *
+	 * @return a new validator factory
+	 */
+	HibernateValidatorFactory buildValidatorFactory();
+
+	/**
+	 * Builds a new validator factory with the configuration represented by this snapshot, sharing the bean meta data
+	 * with all other factories built by this method of this snapshot. This avoids the repeated retrieval of the meta
+	 * data of the same beans by several factories. Closing a factory sharing the bean meta data doesn't discard that
+	 * meta data.
+	 *
+	 * @return a new validator factory
+	 */
+	HibernateValidatorFactory buildValidatorFactoryWithSharedMetaData();
+}
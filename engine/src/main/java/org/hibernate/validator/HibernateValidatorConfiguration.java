@@ -85,6 +85,16 @@ public interface HibernateValidatorConfiguration extends Configuration<Hibernate
 	 */
 	String TIME_PROVIDER = "hibernate.validator.time_provider";
 
+	/**
+	 * Property for disabling the validation of XML constraint mapping files against the XML schema of their version.
+	 * Accepts {@code true} or {@code false}. Defaults to {@code true}. Disabling the schema validation speeds up the
+	 * processing of large mapping files; it should only be done for mapping files known to be valid.
+	 * <i>META-INF/validation.xml</i> is always validated.
+	 *
+	 * @since 5.4
+	 */
+	String XML_MAPPING_SCHEMA_VALIDATION = "hibernate.validator.xml_mapping_schema_validation";
+
 
 	/**
 	 * <p>
@@ -251,4 +261,19 @@ public interface HibernateValidatorConfiguration extends Configuration<Hibernate
 	 * @since 5.3
 	 */
 	HibernateValidatorConfiguration allowParallelMethodsDefineParameterConstraints(boolean allow);
+
+	/**
+	 * Creates an immutable snapshot of this configuration, from which any number of validator factories can be built
+	 * cheaply. XML configuration and constraint mappings are processed only once when creating the snapshot, not when
+	 * building factories from it.
+	 * <p>
+	 * Input streams of XML constraint mappings added to this configuration are consumed by this call. Any
+	 * changes to this configuration after calling this method are not reflected by the returned snapshot.
+	 *
+	 * @return a snapshot of this configuration
+	 *
+	 * @hv.experimental This API is considered experimental and may change in future revisions
+	 * @since 5.4
+	 */
+	BootstrapSnapshot buildBootstrapSnapshot();
 }
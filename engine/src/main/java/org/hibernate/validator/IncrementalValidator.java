@@ -0,0 +1,56 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator;
+
+import java.util.Set;
+import javax.validation.ConstraintViolation;
+
+/**
+ * Re-validates a bean of which some properties are known to have changed, e.g. when updating an entity or handling a
+ * partial update request. Obtained by unwrapping a {@link javax.validation.Validator} created by Hibernate Validator:
+ *
+ * <pre>
+ * IncrementalValidator validator = validatorFactory.getValidator().unwrap( IncrementalValidator.class );
+ * Set&lt;ConstraintViolation&lt;Order&gt;&gt; violations = validator.validateChangedProperties(
+ *         order,
+ *         Collections.singleton( "shippingAddress.city" )
+ * );
+ * </pre>
+ *
+ * @author agent
+ * @hv.experimental This API is considered experimental and may change in future revisions
+ * @since 5.4
+ */
+public interface IncrementalValidator {
+
+	/**
+	 * Validates the constraints of the given bean affected by the given changed properties in one pass. That is:
+	 * <ul>
+	 * <li>the constraints of each changed property, or of a property one of whose nested properties changed,</li>
+	 * <li>the class-level constraints of the bean, unless all their validators declare the properties they read via
+	 * {@link org.hibernate.validator.constraintvalidation.ReadsProperties} and none of these properties changed,</li>
+	 * <li>the cascades of changed properties; a cascaded bean is validated entirely if the cascading property itself
+	 * is given as changed and only for its nested changed properties otherwise.</li>
+	 * </ul>
+	 * Changed properties are given as property paths such as {@code "address.city"}; indexes and keys of iterable
+	 * properties (e.g. {@code "items[0].name"}) are ignored, i.e. a change applies to all elements of such a property.
+	 * If no properties are given, no constraints are validated.
+	 *
+	 * @param object the bean to validate
+	 * @param changedPropertyPaths the paths of the properties which changed
+	 * @param groups the group or list of groups targeted for validation (defaults to
+	 * {@link javax.validation.groups.Default})
+	 * @param <T> the type of the validated bean
+	 *
+	 * @return the constraint violations or an empty set if none
+	 *
+	 * @throws IllegalArgumentException if {@code object} is {@code null}, if {@code changedPropertyPaths} is
+	 * {@code null} or contains an invalid path or if {@code null} is passed to the varargs groups
+	 * @throws javax.validation.ValidationException if a non recoverable error happens during the validation process
+	 */
+	<T> Set<ConstraintViolation<T>> validateChangedProperties(T object, Set<String> changedPropertyPaths, Class<?>... groups);
+}
@@ -0,0 +1,49 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.cascade;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+/**
+ * Marks a bean type as immutable, allowing the result of validating its instances in cascades to be memoized.
+ * <p>
+ * Instances of annotated types are validated only once per group by a validator factory when reached through a
+ * cascade; when the same instance is reached again, e.g. when validating another root bean referencing it, the
+ * previous result is reused, with the property paths of its constraint violations re-rooted onto the current path:
+ *
+ * <pre>
+ * &#064;ImmutableValue
+ * public final class Currency {
+ *
+ *     &#064;Pattern(regexp = "[A-Z]{3}")
+ *     private final String code;
+ *
+ *     ...
+ * }
+ * </pre>
+ *
+ * Results are memoized only for validators obtained via {@link javax.validation.ValidatorFactory#getValidator()},
+ * using a traversable resolver which considers all properties reachable and cascadable, and only if the validated
+ * group has not been converted. Annotated types must be deeply immutable, their constraints must not depend on
+ * anything but the state of the validated instance (e.g. they must not be time-relative such as {@code @Past}), and
+ * their cascades must not lead back into the enclosing object graph. The annotation is not inherited, i.e. subtypes
+ * must be annotated themselves.
+ *
+ * @author agent
+ * @hv.experimental This API is considered experimental and may change in future revisions
+ * @since 5.4
+ */
+@Documented
+@Target({ TYPE })
+@Retention(RUNTIME)
+public @interface ImmutableValue {
+}
@@ -0,0 +1,12 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+
+/**
+ * Contains annotations controlling the cascaded validation of object graphs.
+ * <p>This package is part of the public Hibernate Validator API.
+ */
+package org.hibernate.validator.cascade;
@@ -0,0 +1,45 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.constraintvalidation;
+
+import java.lang.annotation.Annotation;
+import java.util.concurrent.Future;
+import javax.validation.ConstraintValidator;
+import javax.validation.ConstraintValidatorContext;
+
+/**
+ * A {@link ConstraintValidator} whose evaluation is I/O-bound, e.g. as it looks up a value in a data store or a remote
+ * cache. Hibernate Validator invokes {@link #isValidAsync(Object, ConstraintValidatorContext)} instead of
+ * {@link #isValid(Object, ConstraintValidatorContext)} for such validators.
+ * <p>
+ * When validating via {@link org.hibernate.validator.AsyncValidator}, the results of several asynchronous validators
+ * are awaited together, so their evaluations can run concurrently. Otherwise, the result is awaited right away.
+ * <p>
+ * The constraint violations are only created once the returned future completes with {@code false}. Until then, the
+ * given {@code ConstraintValidatorContext} may be used to customize them, also by the task completing the future; it
+ * must not be accessed after the future has completed.
+ *
+ * @param <A> the annotation type handled by an implementation
+ * @param <T> the target type supported by an implementation
+ *
+ * @author agent
+ * @hv.experimental This API is considered experimental and may change in future revisions
+ * @since 5.4
+ */
+public interface AsyncConstraintValidator<A extends Annotation, T> extends ConstraintValidator<A, T> {
+
+	/**
+	 * Starts the evaluation of the validation logic for the given value. The state of {@code value} must not be
+	 * altered.
+	 *
+	 * @param value object to validate
+	 * @param context context in which the constraint is evaluated
+	 *
+	 * @return a future providing {@code false} if {@code value} does not pass the constraint, {@code true} otherwise
+	 */
+	Future<Boolean> isValidAsync(T value, ConstraintValidatorContext context);
+}
@@ -0,0 +1,48 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.constraintvalidation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+/**
+ * Marks a {@link javax.validation.ConstraintValidator} implementation as pure, i.e. its {@code isValid()} result only
+ * depends on the constraint annotation it has been initialized with and the validated value. For such validators the
+ * results for immutable values ({@code String}s, boxed primitive numbers, {@code BigInteger}s and
+ * {@code BigDecimal}s) are cached per constraint, so validating a value seen before doesn't invoke the validator
+ * again:
+ *
+ * <pre>
+ * &#064;CacheableValidationResult(maxSize = 500)
+ * public class CountryCodeValidator implements ConstraintValidator&lt;CountryCode, String&gt; {
+ *     ...
+ * }
+ * </pre>
+ *
+ * Validators must not be marked as cacheable if their result depends on other state, e.g. the current time or the
+ * contents of a database. Results of invalid values are only cached if the validator didn't customize the created
+ * constraint violation via the {@link javax.validation.ConstraintValidatorContext}.
+ *
+ * @author agent
+ * @hv.experimental This API is considered experimental and may change in future revisions
+ * @since 5.4
+ */
+@Documented
+@Target({ TYPE })
+@Retention(RUNTIME)
+public @interface CacheableValidationResult {
+
+	/**
+	 * @return the maximum number of results cached per constraint; once exceeded, the cached results of that
+	 * constraint are discarded; results are not cached at all if it isn't positive
+	 */
+	int maxSize() default 1000;
+}
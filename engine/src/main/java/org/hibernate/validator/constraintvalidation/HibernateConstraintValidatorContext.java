@@ -60,6 +60,9 @@ public interface HibernateConstraintValidatorContext extends ConstraintValidator
 	/**
 	 * Returns the provider for obtaining the current time, e.g. when validating the {@code Future} and {@code Past}
 	 * constraints.
+	 * <p>
+	 * The returned provider obtains the current time from the configured provider once per validation call and
+	 * returns that snapshot from then on, i.e. all the constraints validated by one call see the same current time.
 	 *
 	 * @return the provider for obtaining the current time, never {@code null}. If no specific provider has been
 	 * configured during bootstrap, a default implementation using the current system time and the current
@@ -0,0 +1,44 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.constraintvalidation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+/**
+ * Declares the properties of the validated bean a {@link javax.validation.ConstraintValidator} for a class-level
+ * constraint reads. When validating the changed properties of a bean via
+ * {@link org.hibernate.validator.IncrementalValidator}, class-level constraints are only validated if one of the
+ * properties read by their validators has changed:
+ *
+ * <pre>
+ * &#064;ReadsProperties({ "startDate", "endDate" })
+ * public class ValidPeriodValidator implements ConstraintValidator&lt;ValidPeriod, Booking&gt; {
+ *     ...
+ * }
+ * </pre>
+ *
+ * Class-level constraints with a validator not carrying this annotation are always validated.
+ *
+ * @author agent
+ * @hv.experimental This API is considered experimental and may change in future revisions
+ * @since 5.4
+ */
+@Documented
+@Target({ TYPE })
+@Retention(RUNTIME)
+public @interface ReadsProperties {
+
+	/**
+	 * @return the names of the properties of the validated bean read by the validator
+	 */
+	String[] value();
+}
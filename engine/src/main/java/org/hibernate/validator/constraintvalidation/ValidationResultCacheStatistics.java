@@ -0,0 +1,45 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.constraintvalidation;
+
+/**
+ * Statistics of the results cached for the validators marked with {@link CacheableValidationResult}, aggregated over
+ * all constraints of one validator factory. Obtained by unwrapping the factory:
+ *
+ * <pre>
+ * ValidationResultCacheStatistics statistics = validatorFactory.unwrap( ValidationResultCacheStatistics.class );
+ * </pre>
+ *
+ * The returned instance is a live view, i.e. its values reflect the state of the caches at the time of invoking its
+ * methods.
+ *
+ * @author agent
+ * @hv.experimental This API is considered experimental and may change in future revisions
+ * @since 5.4
+ */
+public interface ValidationResultCacheStatistics {
+
+	/**
+	 * @return the number of validations answered from a cache
+	 */
+	long getHitCount();
+
+	/**
+	 * @return the number of validations of cacheable values not answered from a cache
+	 */
+	long getMissCount();
+
+	/**
+	 * @return the ratio of validations of cacheable values answered from a cache, between 0 and 1
+	 */
+	double getHitRate();
+
+	/**
+	 * @return the number of results currently cached
+	 */
+	long getCachedResultCount();
+}
@@ -0,0 +1,72 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.constraintvalidators;
+
+import java.util.regex.PatternSyntaxException;
+import javax.validation.ConstraintValidator;
+import javax.validation.ConstraintValidatorContext;
+import javax.validation.constraints.Pattern;
+
+import org.hibernate.validator.internal.util.logging.Log;
+import org.hibernate.validator.internal.util.logging.LoggerFactory;
+import org.hibernate.validator.internal.util.regex.LinearTimePattern;
+import org.hibernate.validator.internal.util.regex.PatternCache;
+
+/**
+ * Validates that the character sequence (e.g. string) matches the regular expression of a {@code @Pattern} constraint
+ * in time linear to the length of the validated value, i.e. without the risk of catastrophic backtracking when
+ * validating untrusted input.
+ * <p>
+ * Back references, look-around, possessive quantifiers, word boundaries, Unicode properties, inline flags and flags
+ * other than {@code CASE_INSENSITIVE} and {@code DOTALL} are not supported by the linear-time matcher; for expressions
+ * making use of these, matching falls back to {@link java.util.regex.Pattern}.
+ * <p>
+ * This validator is not used by default; it can be registered for {@code @Pattern} using the constraint definition
+ * API.
+ *
+ * @author agent
+ *
+ * @since 5.4
+ */
+public class LinearTimePatternValidator implements ConstraintValidator<Pattern, CharSequence> {
+
+	private static final Log log = LoggerFactory.make();
+
+	private java.util.regex.Pattern pattern;
+	private LinearTimePattern linearTimePattern;
+
+	@Override
+	public void initialize(Pattern parameters) {
+		Pattern.Flag[] flags = parameters.flags();
+		int intFlag = 0;
+		for ( Pattern.Flag flag : flags ) {
+			intFlag = intFlag | flag.getValue();
+		}
+
+		try {
+			pattern = PatternCache.getPattern( parameters.regexp(), intFlag );
+		}
+		catch (PatternSyntaxException e) {
+			throw log.getInvalidRegularExpressionException( e );
+		}
+
+		linearTimePattern = PatternCache.getLinearTimePattern( parameters.regexp(), intFlag );
+	}
+
+	@Override
+	public boolean isValid(CharSequence value, ConstraintValidatorContext constraintValidatorContext) {
+		if ( value == null ) {
+			return true;
+		}
+
+		if ( linearTimePattern != null ) {
+			return linearTimePattern.matches( value );
+		}
+
+		return pattern.matcher( value ).matches();
+	}
+}
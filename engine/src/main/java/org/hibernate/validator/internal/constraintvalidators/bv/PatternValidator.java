@@ -14,6 +14,7 @@
 
 import org.hibernate.validator.internal.util.logging.Log;
 import org.hibernate.validator.internal.util.logging.LoggerFactory;
+import org.hibernate.validator.internal.util.regex.PatternCache;
 
 /**
  * @author Hardy Ferentschik
@@ -33,7 +34,7 @@ public void initialize(Pattern parameters) {
 		}
 
 		try {
-			pattern = java.util.regex.Pattern.compile( parameters.regexp(), intFlag );
+			pattern = PatternCache.getPattern( parameters.regexp(), intFlag );
 		}
 		catch (PatternSyntaxException e) {
 			throw log.getInvalidRegularExpressionException( e );
@@ -13,6 +13,7 @@
 
 import org.hibernate.validator.constraintvalidation.HibernateConstraintValidatorContext;
 import org.hibernate.validator.internal.util.IgnoreJava6Requirement;
+import org.hibernate.validator.internal.util.TimeHelper;
 import org.hibernate.validator.spi.time.TimeProvider;
 
 /**
@@ -39,6 +40,7 @@ public boolean isValid(OffsetDateTime value, ConstraintValidatorContext context)
 				.getTimeProvider();
 		long now = timeProvider.getCurrentTime();
 
-		return value.toInstant().toEpochMilli() < now;
+		// compare the epoch second and nano-of-second directly instead of creating an Instant
+		return TimeHelper.compareToEpochMilli( value.toEpochSecond(), value.getNano(), now ) < 0;
 	}
 }
@@ -0,0 +1,35 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.internal.engine;
+
+import org.hibernate.validator.BootstrapSnapshot;
+import org.hibernate.validator.HibernateValidatorFactory;
+
+/**
+ * Default implementation of {@link BootstrapSnapshot}. Factories are forked from a template factory which holds the
+ * processed configuration; the template itself is never handed out, so it is never used for validation or closed.
+ *
+ * @author agent
+ */
+public class BootstrapSnapshotImpl implements BootstrapSnapshot {
+
+	private final ValidatorFactoryImpl template;
+
+	public BootstrapSnapshotImpl(ValidatorFactoryImpl template) {
+		this.template = template;
+	}
+
+	@Override
+	public HibernateValidatorFactory buildValidatorFactory() {
+		return template.fork( false );
+	}
+
+	@Override
+	public HibernateValidatorFactory buildValidatorFactoryWithSharedMetaData() {
+		return template.fork( true );
+	}
+}
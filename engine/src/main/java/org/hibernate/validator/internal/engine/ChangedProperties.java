@@ -0,0 +1,147 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.internal.engine;
+
+import java.lang.annotation.ElementType;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
+import javax.validation.Path;
+
+import org.hibernate.validator.constraintvalidation.ReadsProperties;
+import org.hibernate.validator.internal.engine.path.PathImpl;
+import org.hibernate.validator.internal.metadata.core.MetaConstraint;
+import org.hibernate.validator.internal.metadata.descriptor.ConstraintDescriptorImpl;
+import org.hibernate.validator.internal.metadata.facets.Cascadable;
+import org.hibernate.validator.internal.util.ReflectionHelper;
+
+import static org.hibernate.validator.internal.util.CollectionHelper.newHashMap;
+
+/**
+ * The changed properties of a bean, as passed to
+ * {@link org.hibernate.validator.IncrementalValidator#validateChangedProperties(Object, java.util.Set, Class[])}.
+ * Organized as a tree, with the changed properties of a cascaded bean given by
+ * {@link #getNestedChangedProperties(Cascadable)}.
+ *
+ * @author agent
+ */
+class ChangedProperties {
+
+	/**
+	 * Represents a bean which changed entirely, e.g. as it has been set as the value of a changed property.
+	 */
+	private static final ChangedProperties ALL = new ChangedProperties( null );
+
+	/**
+	 * The changed properties by name; {@code null} for {@link #ALL}.
+	 */
+	private final Map<String, ChangedProperties> properties;
+
+	private ChangedProperties(Map<String, ChangedProperties> properties) {
+		this.properties = properties;
+	}
+
+	/**
+	 * Creates the changed properties of a root bean from the given property paths.
+	 *
+	 * @param paths the paths of the changed properties
+	 *
+	 * @return the changed properties of the root bean
+	 *
+	 * @throws IllegalArgumentException in case any of the paths is invalid
+	 */
+	static ChangedProperties forPaths(Collection<String> paths) {
+		ChangedProperties root = new ChangedProperties( newHashMap() );
+
+		for ( String path : paths ) {
+			ChangedProperties current = root;
+			Iterator<Path.Node> nodes = PathImpl.createPathFromString( path ).iterator();
+
+			while ( nodes.hasNext() && current != ALL ) {
+				String name = nodes.next().getName();
+
+				if ( !nodes.hasNext() ) {
+					current.properties.put( name, ALL );
+				}
+				else {
+					ChangedProperties nested = current.properties.get( name );
+					if ( nested == null ) {
+						nested = new ChangedProperties( newHashMap() );
+						current.properties.put( name, nested );
+					}
+					current = nested;
+				}
+			}
+		}
+
+		return root;
+	}
+
+	/**
+	 * Whether the given constraint of the bean needs to be validated. Property constraints need to be validated if the
+	 * property or any of its nested properties changed; class-level constraints unless their validators declare the
+	 * properties they read and none of these changed.
+	 */
+	boolean isAffected(MetaConstraint<?> metaConstraint) {
+		if ( this == ALL ) {
+			return true;
+		}
+
+		if ( metaConstraint.getElementType() != ElementType.TYPE ) {
+			return properties.containsKey( ReflectionHelper.getPropertyName( metaConstraint.getLocation().getMember() ) );
+		}
+
+		return readsChangedProperty( metaConstraint.getDescriptor() );
+	}
+
+	/**
+	 * Whether only some properties of the bean changed, i.e. not all of its constraints and cascadables are validated.
+	 */
+	boolean isPartial() {
+		return this != ALL;
+	}
+
+	/**
+	 * Whether the given cascadable of the bean needs to be validated, i.e. it or any of its nested properties changed.
+	 */
+	boolean isAffected(Cascadable cascadable) {
+		return this == ALL || properties.containsKey( cascadable.getName() );
+	}
+
+	/**
+	 * @return the changed properties of the bean(s) referenced by the given cascadable or {@code null} if the
+	 * cascadable didn't change
+	 */
+	ChangedProperties getNestedChangedProperties(Cascadable cascadable) {
+		return this == ALL ? ALL : properties.get( cascadable.getName() );
+	}
+
+	private boolean readsChangedProperty(ConstraintDescriptorImpl<?> descriptor) {
+		for ( Class<?> validatorClass : descriptor.getConstraintValidatorClasses() ) {
+			ReadsProperties readsProperties = validatorClass.getAnnotation( ReadsProperties.class );
+
+			// the validator could read any property
+			if ( readsProperties == null ) {
+				return true;
+			}
+
+			for ( String property : readsProperties.value() ) {
+				if ( properties.containsKey( property ) ) {
+					return true;
+				}
+			}
+		}
+
+		for ( ConstraintDescriptorImpl<?> composingDescriptor : descriptor.getComposingConstraintImpls() ) {
+			if ( readsChangedProperty( composingDescriptor ) ) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+}
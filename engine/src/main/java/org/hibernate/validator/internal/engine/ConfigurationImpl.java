@@ -31,6 +31,7 @@
 import javax.validation.spi.ConfigurationState;
 import javax.validation.spi.ValidationProvider;
 
+import org.hibernate.validator.BootstrapSnapshot;
 import org.hibernate.validator.HibernateValidatorConfiguration;
 import org.hibernate.validator.cfg.ConstraintMapping;
 import org.hibernate.validator.internal.cfg.context.DefaultConstraintMapping;
@@ -73,6 +74,12 @@ public class ConfigurationImpl implements HibernateValidatorConfiguration, Confi
 
 	private static final Log log = LoggerFactory.make();
 
+	/**
+	 * Whether JavaFX is available; only depends on the class path of Hibernate Validator itself, so it is determined
+	 * once.
+	 */
+	private static final boolean JAVA_FX_IN_CLASSPATH = isClassPresent( "javafx.application.Application", false );
+
 	private final ResourceBundleLocator defaultResourceBundleLocator;
 
 	/**
@@ -122,7 +129,7 @@ public ConfigurationImpl(ValidationProvider<?> provider) {
 	private ConfigurationImpl() {
 		this.validationBootstrapParameters = new ValidationBootstrapParameters();
 		TypeResolutionHelper typeResolutionHelper = new TypeResolutionHelper();
-		if ( isJavaFxInClasspath() ) {
+		if ( JAVA_FX_IN_CLASSPATH ) {
 			validatedValueHandlers.add( createJavaFXUnwrapperClass( typeResolutionHelper ) );
 		}
 		if ( Version.getJavaRelease() >= 8 ) {
@@ -333,20 +340,24 @@ public final ValidatorFactory buildValidatorFactory() {
 			}
 		}
 		finally {
-			// close all input streams opened by this configuration
-			for ( InputStream in : configurationStreams ) {
-				try {
-					in.close();
-				}
-				catch (IOException io) {
-					log.unableToCloseInputStream();
-				}
-			}
+			closeConfigurationStreams();
 		}
 
 		return factory;
 	}
 
+	@Override
+	public BootstrapSnapshot buildBootstrapSnapshot() {
+		parseValidationXml();
+
+		try {
+			return new BootstrapSnapshotImpl( new ValidatorFactoryImpl( this ) );
+		}
+		finally {
+			closeConfigurationStreams();
+		}
+	}
+
 	@Override
 	public final boolean isIgnoreXmlConfiguration() {
 		return ignoreXmlConfiguration;
@@ -454,6 +465,20 @@ private boolean isSpecificProvider() {
 		return validationBootstrapParameters.getProvider() != null;
 	}
 
+	/**
+	 * Closes all input streams opened by this configuration.
+	 */
+	private void closeConfigurationStreams() {
+		for ( InputStream in : configurationStreams ) {
+			try {
+				in.close();
+			}
+			catch (IOException io) {
+				log.unableToCloseInputStream();
+			}
+		}
+	}
+
 	/**
 	 * Tries to check whether a validation.xml file exists and parses it
 	 */
@@ -527,13 +552,9 @@ private void applyXmlSettings(ValidationBootstrapParameters xmlParameters) {
 		}
 	}
 
-	private boolean isJavaFxInClasspath() {
-		return isClassPresent( "javafx.application.Application", false );
-	}
-
-	private boolean isClassPresent(String className, boolean fallbackOnTCCL) {
+	private static boolean isClassPresent(String className, boolean fallbackOnTCCL) {
 		try {
-			run( LoadClass.action( className, getClass().getClassLoader(), fallbackOnTCCL ) );
+			run( LoadClass.action( className, ConfigurationImpl.class.getClassLoader(), fallbackOnTCCL ) );
 			return true;
 		}
 		catch (ValidationException e) {
@@ -126,6 +126,33 @@ public static <T> ConstraintViolation<T> forReturnValueValidation(String message
 		);
 	}
 
+	/**
+	 * Creates a copy of the given violation, obtained when validating a bean as root bean, for the given root bean
+	 * referencing that bean via the given path.
+	 */
+	static <T> ConstraintViolation<T> forReRootedViolation(ConstraintViolationImpl<?> violation,
+			Class<T> rootBeanClass,
+			T rootBean,
+			Path propertyPath,
+			Object[] executableParameters,
+			Object executableReturnValue) {
+		return new ConstraintViolationImpl<T>(
+				violation.messageTemplate,
+				violation.expressionVariables,
+				violation.interpolatedMessage,
+				rootBeanClass,
+				rootBean,
+				violation.leafBeanInstance,
+				violation.value,
+				propertyPath,
+				violation.constraintDescriptor,
+				violation.elementType,
+				executableParameters,
+				executableReturnValue,
+				violation.dynamicPayload
+		);
+	}
+
 	private ConstraintViolationImpl(String messageTemplate,
 			Map<String, Object> expressionVariables,
 			String interpolatedMessage,
@@ -256,28 +283,34 @@ public boolean equals(Object o) {
 
 		ConstraintViolationImpl<?> that = (ConstraintViolationImpl<?>) o;
 
-		if ( interpolatedMessage != null ? !interpolatedMessage.equals( that.interpolatedMessage ) : that.interpolatedMessage != null ) {
+		// the hash code is pre-calculated, so use it for a quick rejection of unequal violations
+		if ( hashCode != that.hashCode ) {
 			return false;
 		}
-		if ( propertyPath != null ? !propertyPath.equals( that.propertyPath ) : that.propertyPath != null ) {
+
+		// compare the cheap attributes first, the beans and the value come last
+		if ( elementType != that.elementType ) {
 			return false;
 		}
-		if ( rootBean != null ? !rootBean.equals( that.rootBean ) : that.rootBean != null ) {
+		if ( rootBeanClass != null ? !rootBeanClass.equals( that.rootBeanClass ) : that.rootBeanClass != null ) {
 			return false;
 		}
-		if ( leafBeanInstance != null ? !leafBeanInstance.equals( that.leafBeanInstance ) : that.leafBeanInstance != null ) {
+		if ( interpolatedMessage != null ? !interpolatedMessage.equals( that.interpolatedMessage ) : that.interpolatedMessage != null ) {
 			return false;
 		}
-		if ( constraintDescriptor != null ? !constraintDescriptor.equals( that.constraintDescriptor ) : that.constraintDescriptor != null ) {
+		if ( messageTemplate != null ? !messageTemplate.equals( that.messageTemplate ) : that.messageTemplate != null ) {
 			return false;
 		}
-		if ( elementType != null ? !elementType.equals( that.elementType ) : that.elementType != null ) {
+		if ( propertyPath != null ? !propertyPath.equals( that.propertyPath ) : that.propertyPath != null ) {
 			return false;
 		}
-		if ( messageTemplate != null ? !messageTemplate.equals( that.messageTemplate ) : that.messageTemplate != null ) {
+		if ( constraintDescriptor != null ? !constraintDescriptor.equals( that.constraintDescriptor ) : that.constraintDescriptor != null ) {
 			return false;
 		}
-		if ( rootBeanClass != null ? !rootBeanClass.equals( that.rootBeanClass ) : that.rootBeanClass != null ) {
+		if ( rootBean != null ? !rootBean.equals( that.rootBean ) : that.rootBean != null ) {
+			return false;
+		}
+		if ( leafBeanInstance != null ? !leafBeanInstance.equals( that.leafBeanInstance ) : that.leafBeanInstance != null ) {
 			return false;
 		}
 		if ( value != null ? !value.equals( that.value ) : that.value != null ) {
@@ -305,18 +338,36 @@ public String toString() {
 	}
 
 	/**
+	 * The root bean and the invalid value are not taken into account, as their (user-defined) hash code may be
+	 * expensive to compute. The leaf bean is only taken into account if its path leads through a {@code Set} or another
+	 * non-indexed {@code Iterable}, as the violations of the elements of such an iterable share their path and message.
+	 *
 	 * @see #equals(Object) on which fields are taken into account
 	 */
 	private int createHashCode() {
 		int result = interpolatedMessage != null ? interpolatedMessage.hashCode() : 0;
 		result = 31 * result + ( propertyPath != null ? propertyPath.hashCode() : 0 );
-		result = 31 * result + ( rootBean != null ? rootBean.hashCode() : 0 );
-		result = 31 * result + ( leafBeanInstance != null ? leafBeanInstance.hashCode() : 0 );
-		result = 31 * result + ( value != null ? value.hashCode() : 0 );
+		if ( leafBeanInstance != null && isInNonIndexedIterable( propertyPath ) ) {
+			result = 31 * result + leafBeanInstance.hashCode();
+		}
 		result = 31 * result + ( constraintDescriptor != null ? constraintDescriptor.hashCode() : 0 );
 		result = 31 * result + ( messageTemplate != null ? messageTemplate.hashCode() : 0 );
 		result = 31 * result + ( rootBeanClass != null ? rootBeanClass.hashCode() : 0 );
 		result = 31 * result + ( elementType != null ? elementType.hashCode() : 0 );
 		return result;
 	}
+
+	private static boolean isInNonIndexedIterable(Path path) {
+		if ( path == null ) {
+			return false;
+		}
+
+		for ( Path.Node node : path ) {
+			if ( node.isInIterable() && node.getIndex() == null && node.getKey() == null ) {
+				return true;
+			}
+		}
+
+		return false;
+	}
 }
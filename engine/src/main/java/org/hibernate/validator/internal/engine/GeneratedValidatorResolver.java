@@ -0,0 +1,306 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.internal.engine;
+
+import java.lang.annotation.Annotation;
+import java.lang.annotation.ElementType;
+import java.lang.reflect.Field;
+import java.security.AccessController;
+import java.security.PrivilegedAction;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Pattern;
+import javax.validation.constraints.Size;
+import javax.validation.groups.Default;
+
+import org.hibernate.validator.internal.engine.valuehandling.ValidatedValueUnwrapperResolver;
+import org.hibernate.validator.internal.metadata.BeanMetaDataManager;
+import org.hibernate.validator.internal.metadata.aggregated.BeanMetaData;
+import org.hibernate.validator.internal.metadata.aggregated.PropertyMetaData;
+import org.hibernate.validator.internal.metadata.core.MetaConstraint;
+import org.hibernate.validator.internal.metadata.descriptor.ConstraintDescriptorImpl;
+import org.hibernate.validator.internal.metadata.facets.Cascadable;
+import org.hibernate.validator.internal.util.ConcurrentReferenceHashMap;
+import org.hibernate.validator.internal.util.IdentitySet;
+import org.hibernate.validator.internal.util.privilegedactions.GetClassLoader;
+import org.hibernate.validator.internal.util.privilegedactions.NewInstance;
+import org.hibernate.validator.spi.generated.CascadedBeanValidator;
+import org.hibernate.validator.spi.generated.GeneratedBeanValidator;
+
+import static org.hibernate.validator.internal.util.ConcurrentReferenceHashMap.Option.IDENTITY_COMPARISONS;
+import static org.hibernate.validator.internal.util.ConcurrentReferenceHashMap.ReferenceType.SOFT;
+import static org.hibernate.validator.internal.util.ConcurrentReferenceHashMap.ReferenceType.WEAK;
+
+/**
+ * Provides the {@link GeneratedBeanValidator}s to be used by a validator as a fast path when validating the default
+ * group of a bean.
+ * <p>
+ * A generated validator is only used if it checks exactly the constraints the validation engine would check, i.e. if
+ * the meta data of its bean type is given by annotations only, consists of field constraints of the default group
+ * validated by the built-in validators, and none of the constrained or cascaded values needs to be unwrapped.
+ *
+ * @author agent
+ */
+final class GeneratedValidatorResolver {
+
+	private static final String CLASS_NAME_SUFFIX = "$$HvValidator";
+
+	private static final String BUILT_IN_VALIDATOR_PACKAGE = "org.hibernate.validator.internal.constraintvalidators.bv.";
+
+	private static final Set<Class<? extends Annotation>> SUPPORTED_CONSTRAINT_TYPES = supportedConstraintTypes();
+
+	/**
+	 * Marks bean types without a generated validator or whose generated validator must not be used.
+	 */
+	private static final Object NONE = new Object();
+
+	/**
+	 * Used for bean types without any constraints or cascades.
+	 */
+	private static final GeneratedBeanValidator<Object> UNCONSTRAINED = new GeneratedBeanValidator<Object>() {
+
+		@Override
+		public int getConstraintCount() {
+			return 0;
+		}
+
+		@Override
+		public int getCascadeCount() {
+			return 0;
+		}
+
+		@Override
+		public boolean isValid(Object bean, CascadedBeanValidator cascadedBeanValidator) {
+			return true;
+		}
+	};
+
+	/**
+	 * The generated validators by bean type, or {@link #NONE}. Shared by all validators, as generated validators only
+	 * depend on their bean type.
+	 */
+	private static final ConcurrentReferenceHashMap<Class<?>, Object> GENERATED_VALIDATORS = new ConcurrentReferenceHashMap<Class<?>, Object>(
+			16,
+			0.75f,
+			16,
+			WEAK,
+			SOFT,
+			EnumSet.of( IDENTITY_COMPARISONS )
+	);
+
+	private final BeanMetaDataManager beanMetaDataManager;
+
+	private final ValidatedValueUnwrapperResolver validatedValueUnwrapperResolver;
+
+	/**
+	 * The generated validators applicable for the meta data of this resolver by bean type, or {@link #NONE}.
+	 */
+	private final ConcurrentReferenceHashMap<Class<?>, Object> applicableValidators;
+
+	GeneratedValidatorResolver(BeanMetaDataManager beanMetaDataManager,
+			ValidatedValueUnwrapperResolver validatedValueUnwrapperResolver) {
+		this.beanMetaDataManager = beanMetaDataManager;
+		this.validatedValueUnwrapperResolver = validatedValueUnwrapperResolver;
+		this.applicableValidators = new ConcurrentReferenceHashMap<Class<?>, Object>(
+				16,
+				0.75f,
+				16,
+				WEAK,
+				SOFT,
+				EnumSet.of( IDENTITY_COMPARISONS )
+		);
+	}
+
+	/**
+	 * Validates the default group of the given bean using generated validators.
+	 *
+	 * @param bean the bean to validate
+	 *
+	 * @return {@code true} if the given bean and all its cascaded beans have applicable generated validators and are
+	 * valid, {@code false} otherwise, in which case the bean must be validated by the validation engine
+	 */
+	boolean isValid(Object bean) {
+		GeneratedBeanValidator<Object> generatedValidator = getApplicableValidator( bean.getClass() );
+		return generatedValidator != null && generatedValidator.isValid( bean, new Cascader( bean ) );
+	}
+
+	@SuppressWarnings("unchecked")
+	private GeneratedBeanValidator<Object> getApplicableValidator(Class<?> beanClass) {
+		Object validator = applicableValidators.get( beanClass );
+
+		if ( validator == null ) {
+			validator = getGeneratedValidator( beanClass );
+			if ( validator != NONE && !isApplicable( beanClass, (GeneratedBeanValidator<?>) validator ) ) {
+				validator = NONE;
+			}
+			applicableValidators.putIfAbsent( beanClass, validator );
+		}
+
+		return validator != NONE ? (GeneratedBeanValidator<Object>) validator : null;
+	}
+
+	private Object getGeneratedValidator(Class<?> beanClass) {
+		BeanMetaData<?> beanMetaData = beanMetaDataManager.getBeanMetaData( beanClass );
+		if ( beanMetaData.getMetaConstraints().isEmpty() && !beanMetaData.getCascadables().iterator().hasNext() ) {
+			return UNCONSTRAINED;
+		}
+
+		Object validator = GENERATED_VALIDATORS.get( beanClass );
+
+		if ( validator == null ) {
+			validator = loadGeneratedValidator( beanClass );
+			GENERATED_VALIDATORS.putIfAbsent( beanClass, validator );
+		}
+
+		return validator;
+	}
+
+	private static Object loadGeneratedValidator(Class<?> beanClass) {
+		ClassLoader classLoader = run( GetClassLoader.fromClass( beanClass ) );
+		if ( classLoader == null ) {
+			return NONE;
+		}
+
+		Class<?> validatorClass;
+		try {
+			validatorClass = Class.forName( beanClass.getName() + CLASS_NAME_SUFFIX, true, classLoader );
+		}
+		catch (ClassNotFoundException e) {
+			return NONE;
+		}
+
+		if ( !GeneratedBeanValidator.class.isAssignableFrom( validatorClass ) ) {
+			return NONE;
+		}
+
+		return run( NewInstance.action( validatorClass, "generated bean validator" ) );
+	}
+
+	private boolean isApplicable(Class<?> beanClass, GeneratedBeanValidator<?> generatedValidator) {
+		if ( generatedValidator == UNCONSTRAINED ) {
+			return true;
+		}
+
+		BeanMetaData<?> beanMetaData = beanMetaDataManager.getBeanMetaData( beanClass );
+
+		if ( beanMetaData.defaultGroupSequenceIsRedefined() || !beanMetaDataManager.isAnnotationBasedOnly( beanClass ) ) {
+			return false;
+		}
+
+		if ( beanMetaData.getMetaConstraints().size() != generatedValidator.getConstraintCount() ) {
+			return false;
+		}
+
+		for ( MetaConstraint<?> metaConstraint : beanMetaData.getMetaConstraints() ) {
+			if ( !isApplicable( beanClass, metaConstraint ) ) {
+				return false;
+			}
+		}
+
+		int cascadeCount = 0;
+		for ( Cascadable cascadable : beanMetaData.getCascadables() ) {
+			if ( !isApplicable( cascadable ) ) {
+				return false;
+			}
+			cascadeCount++;
+		}
+
+		return cascadeCount == generatedValidator.getCascadeCount();
+	}
+
+	private boolean isApplicable(Class<?> beanClass, MetaConstraint<?> metaConstraint) {
+		if ( !( metaConstraint.getLocation().getMember() instanceof Field )
+				|| metaConstraint.getLocation().getDeclaringClass() != beanClass ) {
+			return false;
+		}
+
+		ConstraintDescriptorImpl<?> descriptor = metaConstraint.getDescriptor();
+
+		if ( !SUPPORTED_CONSTRAINT_TYPES.contains( descriptor.getAnnotationType() )
+				|| !descriptor.getComposingConstraintImpls().isEmpty()
+				|| !descriptor.getGroups().equals( Collections.<Class<?>>singleton( Default.class ) ) ) {
+			return false;
+		}
+
+		for ( Class<?> validatorClass : descriptor.getConstraintValidatorClasses() ) {
+			if ( !validatorClass.getName().startsWith( BUILT_IN_VALIDATOR_PACKAGE ) ) {
+				return false;
+			}
+		}
+
+		return validatedValueUnwrapperResolver.getValidatedValueUnwrapper(
+				metaConstraint.getLocation().getTypeForValidatorResolution()
+		) == null;
+	}
+
+	private boolean isApplicable(Cascadable cascadable) {
+		return cascadable instanceof PropertyMetaData
+				&& cascadable.getElementType() == ElementType.FIELD
+				&& cascadable.getGroupConversionDescriptors().isEmpty()
+				&& cascadable.getTypeArgumentsConstraints().isEmpty()
+				&& validatedValueUnwrapperResolver.getValidatedValueUnwrapper( ( (PropertyMetaData) cascadable ).getType() ) == null;
+	}
+
+	private static Set<Class<? extends Annotation>> supportedConstraintTypes() {
+		Set<Class<? extends Annotation>> types = new HashSet<Class<? extends Annotation>>();
+
+		types.add( NotNull.class );
+		types.add( Size.class );
+		types.add( Min.class );
+		types.add( Max.class );
+		types.add( Pattern.class );
+
+		return Collections.unmodifiableSet( types );
+	}
+
+	/**
+	 * Runs the given privileged action, using a privileged block if required.
+	 * <p>
+	 * <b>NOTE:</b> This must never be changed into a publicly available method to avoid execution of arbitrary
+	 * privileged actions within HV's protection domain.
+	 */
+	private static <T> T run(PrivilegedAction<T> action) {
+		return System.getSecurityManager() != null ? AccessController.doPrivileged( action ) : action.run();
+	}
+
+	/**
+	 * Validates cascaded beans using their generated validators, visiting each bean only once.
+	 */
+	private class Cascader implements CascadedBeanValidator {
+
+		private final IdentitySet visitedBeans = new IdentitySet();
+
+		private Cascader(Object rootBean) {
+			visitedBeans.add( rootBean );
+		}
+
+		@Override
+		public boolean isValid(Object bean) {
+			if ( bean == null ) {
+				return true;
+			}
+
+			// containers held by fields of a non-container type such as Object are cascaded by the engine only
+			if ( bean instanceof Iterable || bean instanceof Map || bean.getClass().isArray() ) {
+				return false;
+			}
+
+			if ( !visitedBeans.add( bean ) ) {
+				return true;
+			}
+
+			GeneratedBeanValidator<Object> generatedValidator = getApplicableValidator( bean.getClass() );
+			return generatedValidator != null && generatedValidator.isValid( bean, this );
+		}
+	}
+}
@@ -0,0 +1,113 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.internal.engine;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentMap;
+import javax.validation.ConstraintViolation;
+
+import org.hibernate.validator.cascade.ImmutableValue;
+import org.hibernate.validator.internal.util.ConcurrentReferenceHashMap;
+
+import static org.hibernate.validator.internal.util.CollectionHelper.newConcurrentHashMap;
+import static org.hibernate.validator.internal.util.ConcurrentReferenceHashMap.Option.IDENTITY_COMPARISONS;
+import static org.hibernate.validator.internal.util.ConcurrentReferenceHashMap.ReferenceType.SOFT;
+import static org.hibernate.validator.internal.util.ConcurrentReferenceHashMap.ReferenceType.STRONG;
+import static org.hibernate.validator.internal.util.ConcurrentReferenceHashMap.ReferenceType.WEAK;
+
+/**
+ * Memoizes the results of validating instances of types annotated with {@link ImmutableValue} per group. Shared by
+ * all validators using the configuration of one validator factory.
+ * <p>
+ * Instances are referenced weakly, so results are discarded once their instance is no longer used. The results of
+ * invalid instances are held softly, as their constraint violations reference the instance.
+ *
+ * @author agent
+ */
+final class ImmutableValueResultCache {
+
+	/**
+	 * Whether the given types are annotated with {@link ImmutableValue}.
+	 */
+	private final ConcurrentReferenceHashMap<Class<?>, Boolean> immutableValueTypes;
+
+	/**
+	 * The constraint violations by group by validated instance. The violations are given as obtained when validating
+	 * the instance as root bean.
+	 */
+	private final ConcurrentReferenceHashMap<Object, ConcurrentMap<Class<?>, Set<ConstraintViolation<Object>>>> results;
+
+	ImmutableValueResultCache() {
+		this.immutableValueTypes = new ConcurrentReferenceHashMap<Class<?>, Boolean>(
+				16,
+				0.75f,
+				16,
+				WEAK,
+				STRONG,
+				EnumSet.of( IDENTITY_COMPARISONS )
+		);
+		this.results = new ConcurrentReferenceHashMap<Object, ConcurrentMap<Class<?>, Set<ConstraintViolation<Object>>>>(
+				16,
+				0.75f,
+				16,
+				WEAK,
+				SOFT,
+				EnumSet.of( IDENTITY_COMPARISONS )
+		);
+	}
+
+	boolean isImmutableValue(Class<?> type) {
+		Boolean immutableValue = immutableValueTypes.get( type );
+
+		if ( immutableValue == null ) {
+			immutableValue = type.isAnnotationPresent( ImmutableValue.class );
+			immutableValueTypes.putIfAbsent( type, immutableValue );
+		}
+
+		return immutableValue;
+	}
+
+	/**
+	 * Returns the memoized result of validating the given instance.
+	 *
+	 * @param value the validated instance
+	 * @param group the validated group
+	 *
+	 * @return the constraint violations of the given instance, relative to the instance, or {@code null} if the
+	 * instance has not been validated for the given group yet
+	 */
+	Set<ConstraintViolation<Object>> getResult(Object value, Class<?> group) {
+		ConcurrentMap<Class<?>, Set<ConstraintViolation<Object>>> resultsByGroup = results.get( value );
+		return resultsByGroup != null ? resultsByGroup.get( group ) : null;
+	}
+
+	void putResult(Object value, Class<?> group, Set<ConstraintViolation<Object>> violations) {
+		ConcurrentMap<Class<?>, Set<ConstraintViolation<Object>>> resultsByGroup = results.get( value );
+
+		if ( resultsByGroup == null ) {
+			resultsByGroup = newConcurrentHashMap();
+			ConcurrentMap<Class<?>, Set<ConstraintViolation<Object>>> cachedResultsByGroup = results.putIfAbsent(
+					value,
+					resultsByGroup
+			);
+			if ( cachedResultsByGroup != null ) {
+				resultsByGroup = cachedResultsByGroup;
+			}
+		}
+
+		resultsByGroup.put(
+				group,
+				violations.isEmpty() ? Collections.<ConstraintViolation<Object>>emptySet() : Collections.unmodifiableSet( violations )
+		);
+	}
+
+	void clear() {
+		results.clear();
+	}
+}
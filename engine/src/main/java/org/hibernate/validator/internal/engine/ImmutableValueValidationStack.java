@@ -0,0 +1,61 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.internal.engine;
+
+import java.util.List;
+
+import static org.hibernate.validator.internal.util.CollectionHelper.newArrayList;
+
+/**
+ * The immutable values currently being validated as root bean in order to memoize their results, shared by the
+ * validation contexts created for these validations. Detects cycles between immutable values, which would otherwise
+ * cause an endless recursion.
+ * <p>
+ * When a value is reached again while it is being validated, it is not validated again, just as with the regular
+ * cascade. The results of the values validated in between lack the violations of that value then, so they must not be
+ * memoized.
+ *
+ * @author agent
+ */
+final class ImmutableValueValidationStack {
+
+	private final List<Object> values = newArrayList();
+	private final List<Boolean> complete = newArrayList();
+
+	/**
+	 * Pushes the given value, unless it is being validated already.
+	 *
+	 * @param value the value to validate
+	 *
+	 * @return {@code true} if the value has been pushed, {@code false} if it is being validated already
+	 */
+	boolean push(Object value) {
+		for ( int i = values.size() - 1; i >= 0; i-- ) {
+			if ( values.get( i ) == value ) {
+				for ( int j = i + 1; j < complete.size(); j++ ) {
+					complete.set( j, Boolean.FALSE );
+				}
+				return false;
+			}
+		}
+
+		values.add( value );
+		complete.add( Boolean.TRUE );
+		return true;
+	}
+
+	/**
+	 * Pops the value validated last.
+	 *
+	 * @return {@code true} if the result of validating the value is complete and thus can be memoized, {@code false}
+	 * otherwise
+	 */
+	boolean pop() {
+		values.remove( values.size() - 1 );
+		return complete.remove( complete.size() - 1 );
+	}
+}
@@ -6,8 +6,8 @@
  */
 package org.hibernate.validator.internal.engine;
 
+import static org.hibernate.validator.internal.util.CollectionHelper.newArrayList;
 import static org.hibernate.validator.internal.util.CollectionHelper.newHashMap;
-import static org.hibernate.validator.internal.util.CollectionHelper.newHashSet;
 
 import java.lang.annotation.ElementType;
 import java.lang.reflect.Constructor;
@@ -17,6 +17,7 @@
 import java.util.HashSet;
 import java.util.IdentityHashMap;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -33,20 +34,18 @@
 import org.hibernate.validator.internal.engine.constraintvalidation.ConstraintValidatorContextImpl;
 import org.hibernate.validator.internal.engine.constraintvalidation.ConstraintValidatorManager;
 import org.hibernate.validator.internal.engine.constraintvalidation.ConstraintViolationCreationContext;
+import org.hibernate.validator.internal.engine.constraintvalidation.PendingConstraintCheck;
 import org.hibernate.validator.internal.engine.path.PathImpl;
+import org.hibernate.validator.internal.engine.time.SnapshotTimeProvider;
+import org.hibernate.validator.internal.engine.valuehandling.ValidatedValueUnwrapperResolver;
 import org.hibernate.validator.internal.metadata.core.MetaConstraint;
 import org.hibernate.validator.internal.metadata.raw.ExecutableElement;
 import org.hibernate.validator.internal.util.IdentitySet;
-import org.hibernate.validator.internal.util.TypeHelper;
-import org.hibernate.validator.internal.util.TypeResolutionHelper;
 import org.hibernate.validator.internal.util.logging.Log;
 import org.hibernate.validator.internal.util.logging.LoggerFactory;
 import org.hibernate.validator.spi.time.TimeProvider;
 import org.hibernate.validator.spi.valuehandling.ValidatedValueUnwrapper;
 
-import com.fasterxml.classmate.ResolvedType;
-import com.fasterxml.classmate.TypeResolver;
-
 /**
  * Context object keeping track of all required data for a validation call.
  *
@@ -108,7 +107,7 @@
 	private final Map<BeanAndPath, IdentitySet> processedMetaConstraints;
 
 	/**
-	 * Contains all failing constraints so far.
+	 * Contains all failing constraints so far, in the order in which they have been detected.
 	 */
 	private final Set<ConstraintViolation<T>> failingConstraintViolations;
 
@@ -133,30 +132,51 @@
 	private final ParameterNameProvider parameterNameProvider;
 
 	/**
-	 * List of value un-wrappers.
-	 */
-	private final List<ValidatedValueUnwrapper<?>> validatedValueUnwrappers;
-
-	/**
-	 * Used for resolving generic type information.
+	 * Determines the value un-wrapper to be applied for given types.
 	 */
-	private final TypeResolutionHelper typeResolutionHelper;
+	private final ValidatedValueUnwrapperResolver validatedValueUnwrapperResolver;
 
 	/**
 	 * Whether or not validation should fail on the first constraint violation.
 	 */
 	private final boolean failFast;
 
+	/**
+	 * Provides the current time as obtained once for this validation call, so all temporal constraints are validated
+	 * against the same time.
+	 */
 	private final TimeProvider timeProvider;
 
+	/**
+	 * The checks of asynchronous constraint validators not awaited yet; {@code null} unless this context collects such
+	 * checks, in which case they are awaited via {@link #awaitPendingChecks()}.
+	 */
+	private List<PendingConstraintCheck<T>> pendingChecks;
+
+	/**
+	 * The maximum number of pending checks; when reached, all pending checks are awaited before adding another one.
+	 */
+	private int maxPendingChecks;
+
+	/**
+	 * The number of awaited pending checks which failed, allowing to tell whether any checks added after a given point
+	 * failed.
+	 */
+	private int failedPendingCheckCount;
+
+	/**
+	 * The immutable values being validated as root bean for memoizing their results. Created lazily and shared with
+	 * the contexts of these validations.
+	 */
+	private ImmutableValueValidationStack immutableValueValidationStack;
+
 	private ValidationContext(ConstraintValidatorManager constraintValidatorManager,
 			MessageInterpolator messageInterpolator,
 			ConstraintValidatorFactory constraintValidatorFactory,
 			TraversableResolver traversableResolver,
 			ParameterNameProvider parameterNameProvider,
 			TimeProvider timeProvider,
-			List<ValidatedValueUnwrapper<?>> validatedValueUnwrappers,
-			TypeResolutionHelper typeResolutionHelper,
+			ValidatedValueUnwrapperResolver validatedValueUnwrapperResolver,
 			boolean failFast,
 			T rootBean,
 			Class<T> rootBeanClass,
@@ -168,9 +188,8 @@ private ValidationContext(ConstraintValidatorManager constraintValidatorManager,
 		this.constraintValidatorFactory = constraintValidatorFactory;
 		this.traversableResolver = traversableResolver;
 		this.parameterNameProvider = parameterNameProvider;
-		this.timeProvider = timeProvider;
-		this.validatedValueUnwrappers = validatedValueUnwrappers;
-		this.typeResolutionHelper = typeResolutionHelper;
+		this.timeProvider = new SnapshotTimeProvider( timeProvider );
+		this.validatedValueUnwrapperResolver = validatedValueUnwrapperResolver;
 		this.failFast = failFast;
 
 		this.rootBean = rootBean;
@@ -182,7 +201,7 @@ private ValidationContext(ConstraintValidatorManager constraintValidatorManager,
 		this.processedBeansPerGroup = newHashMap();
 		this.processedPathsPerBean = new IdentityHashMap<Object, Set<PathImpl>>();
 		this.processedMetaConstraints = newHashMap();
-		this.failingConstraintViolations = newHashSet();
+		this.failingConstraintViolations = new LinkedHashSet<ConstraintViolation<T>>();
 	}
 
 	public static ValidationContextBuilder getValidationContext(
@@ -191,8 +210,7 @@ public static ValidationContextBuilder getValidationContext(
 			ConstraintValidatorFactory constraintValidatorFactory,
 			TraversableResolver traversableResolver,
 			TimeProvider timeProvider,
-			List<ValidatedValueUnwrapper<?>> validatedValueUnwrappers,
-			TypeResolutionHelper typeResolutionHelper,
+			ValidatedValueUnwrapperResolver validatedValueUnwrapperResolver,
 			boolean failFast) {
 
 		return new ValidationContextBuilder(
@@ -201,8 +219,7 @@ public static ValidationContextBuilder getValidationContext(
 				constraintValidatorFactory,
 				traversableResolver,
 				timeProvider,
-				validatedValueUnwrappers,
-				typeResolutionHelper,
+				validatedValueUnwrapperResolver,
 				failFast
 		);
 	}
@@ -256,8 +273,21 @@ public TimeProvider getTimeProvider() {
 
 	public Set<ConstraintViolation<T>> createConstraintViolations(ValueContext<?, ?> localContext,
 			ConstraintValidatorContextImpl constraintValidatorContext) {
-		Set<ConstraintViolation<T>> constraintViolations = newHashSet();
-		for ( ConstraintViolationCreationContext constraintViolationCreationContext : constraintValidatorContext.getConstraintViolationCreationContexts() ) {
+		List<ConstraintViolationCreationContext> constraintViolationCreationContexts = constraintValidatorContext.getConstraintViolationCreationContexts();
+
+		// the common case, avoid creating a hash set for a single violation
+		if ( constraintViolationCreationContexts.size() == 1 ) {
+			return Collections.singleton(
+					createConstraintViolation(
+							localContext,
+							constraintViolationCreationContexts.get( 0 ),
+							constraintValidatorContext.getConstraintDescriptor()
+					)
+			);
+		}
+
+		Set<ConstraintViolation<T>> constraintViolations = new LinkedHashSet<ConstraintViolation<T>>();
+		for ( ConstraintViolationCreationContext constraintViolationCreationContext : constraintViolationCreationContexts ) {
 			ConstraintViolation<T> violation = createConstraintViolation(
 					localContext,
 					constraintViolationCreationContext, constraintValidatorContext.getConstraintDescriptor()
@@ -267,6 +297,58 @@ public Set<ConstraintViolation<T>> createConstraintViolations(ValueContext<?, ?>
 		return constraintViolations;
 	}
 
+	/**
+	 * Makes this context collect the checks of asynchronous constraint validators of constraints without composing
+	 * constraints, instead of awaiting each of them right away.
+	 *
+	 * @param maxPendingChecks the maximum number of checks pending at the same time
+	 */
+	public void collectPendingChecks(int maxPendingChecks) {
+		this.pendingChecks = newArrayList( maxPendingChecks );
+		this.maxPendingChecks = maxPendingChecks;
+	}
+
+	public boolean isCollectingPendingChecks() {
+		return pendingChecks != null;
+	}
+
+	public void addPendingCheck(PendingConstraintCheck<T> pendingCheck) {
+		if ( pendingChecks.size() >= maxPendingChecks ) {
+			awaitPendingChecks();
+		}
+
+		pendingChecks.add( pendingCheck );
+	}
+
+	/**
+	 * Awaits all pending checks, adding the violations of failed checks to the failing constraints.
+	 */
+	public void awaitPendingChecks() {
+		if ( pendingChecks == null || pendingChecks.isEmpty() ) {
+			return;
+		}
+
+		for ( PendingConstraintCheck<T> pendingCheck : pendingChecks ) {
+			Set<ConstraintViolation<T>> violations = pendingCheck.await( this );
+			if ( !violations.isEmpty() ) {
+				addConstraintFailures( violations );
+				failedPendingCheckCount++;
+			}
+		}
+
+		pendingChecks.clear();
+	}
+
+	/**
+	 * Returns the number of awaited pending checks which failed so far. For determining whether the checks added by a
+	 * given step of the validation failed, all pending checks need to be awaited before and after that step.
+	 *
+	 * @return the number of awaited pending checks which failed
+	 */
+	public int getFailedPendingCheckCount() {
+		return failedPendingCheckCount;
+	}
+
 	public ConstraintValidatorFactory getConstraintValidatorFactory() {
 		return constraintValidatorFactory;
 	}
@@ -290,6 +372,42 @@ public void addConstraintFailures(Set<ConstraintViolation<T>> failingConstraintV
 		this.failingConstraintViolations.addAll( failingConstraintViolations );
 	}
 
+	/**
+	 * Adds the given violations, obtained when validating the bean at the given path as root bean, to the failing
+	 * constraints, re-rooting their property paths onto the given path.
+	 *
+	 * @param path the path of the validated bean
+	 * @param relativeViolations the violations of the validated bean
+	 */
+	public void addReRootedConstraintFailures(PathImpl path, Set<ConstraintViolation<Object>> relativeViolations) {
+		for ( ConstraintViolation<Object> relativeViolation : relativeViolations ) {
+			PathImpl propertyPath = PathImpl.createCopy( path );
+			propertyPath.addRelativePath( (PathImpl) relativeViolation.getPropertyPath() );
+
+			failingConstraintViolations.add(
+					ConstraintViolationImpl.forReRootedViolation(
+							(ConstraintViolationImpl<?>) relativeViolation,
+							rootBeanClass,
+							rootBean,
+							propertyPath,
+							executableParameters,
+							executableReturnValue
+					)
+			);
+		}
+	}
+
+	ImmutableValueValidationStack getImmutableValueValidationStack() {
+		if ( immutableValueValidationStack == null ) {
+			immutableValueValidationStack = new ImmutableValueValidationStack();
+		}
+		return immutableValueValidationStack;
+	}
+
+	void setImmutableValueValidationStack(ImmutableValueValidationStack immutableValueValidationStack) {
+		this.immutableValueValidationStack = immutableValueValidationStack;
+	}
+
 	public Set<ConstraintViolation<T>> getFailingConstraints() {
 		return failingConstraintViolations;
 	}
@@ -379,27 +497,13 @@ public void markConstraintProcessed(Object bean, Path path, MetaConstraint<?> me
 
 	/**
 	 * Returns the first validated value handler found which supports the given type.
-	 * <p>
-	 * If required this could be enhanced to search for the most-specific handler and raise an exception in case more
-	 * than one matching handler is found (or a scheme of prioritizing handlers to process several handlers in order.
 	 *
 	 * @param type the type to be handled
 	 *
 	 * @return the handler for the given type or {@code null} if no matching handler was found
 	 */
 	public ValidatedValueUnwrapper<?> getValidatedValueUnwrapper(Type type) {
-		TypeResolver typeResolver = typeResolutionHelper.getTypeResolver();
-
-		for ( ValidatedValueUnwrapper<?> handler : validatedValueUnwrappers ) {
-			ResolvedType handlerType = typeResolver.resolve( handler.getClass() );
-			List<ResolvedType> typeParameters = handlerType.typeParametersFor( ValidatedValueUnwrapper.class );
-
-			if ( TypeHelper.isAssignable( typeParameters.get( 0 ).getErasedType(), type ) ) {
-				return handler;
-			}
-		}
-
-		return null;
+		return validatedValueUnwrapperResolver.getValidatedValueUnwrapper( type );
 	}
 
 	@Override
@@ -508,8 +612,7 @@ public static class ValidationContextBuilder {
 		private final ConstraintValidatorFactory constraintValidatorFactory;
 		private final TraversableResolver traversableResolver;
 		private final TimeProvider timeProvider;
-		private final List<ValidatedValueUnwrapper<?>> validatedValueUnwrappers;
-		private final TypeResolutionHelper typeResolutionHelper;
+		private final ValidatedValueUnwrapperResolver validatedValueUnwrapperResolver;
 		private final boolean failFast;
 
 		private ValidationContextBuilder(
@@ -518,16 +621,14 @@ private ValidationContextBuilder(
 				ConstraintValidatorFactory constraintValidatorFactory,
 				TraversableResolver traversableResolver,
 				TimeProvider timeProvider,
-				List<ValidatedValueUnwrapper<?>> validatedValueUnwrappers,
-				TypeResolutionHelper typeResolutionHelper,
+				ValidatedValueUnwrapperResolver validatedValueUnwrapperResolver,
 				boolean failFast) {
 			this.constraintValidatorManager = constraintValidatorManager;
 			this.messageInterpolator = messageInterpolator;
 			this.constraintValidatorFactory = constraintValidatorFactory;
 			this.traversableResolver = traversableResolver;
 			this.timeProvider = timeProvider;
-			this.validatedValueUnwrappers = validatedValueUnwrappers;
-			this.typeResolutionHelper = typeResolutionHelper;
+			this.validatedValueUnwrapperResolver = validatedValueUnwrapperResolver;
 			this.failFast = failFast;
 		}
 
@@ -541,8 +642,7 @@ public <T> ValidationContext<T> forValidate(T rootBean) {
 					traversableResolver,
 					null, //parameter name provider,
 					timeProvider,
-					validatedValueUnwrappers,
-					typeResolutionHelper,
+					validatedValueUnwrapperResolver,
 					failFast,
 					rootBean,
 					rootBeanClass,
@@ -562,8 +662,7 @@ public <T> ValidationContext<T> forValidateProperty(T rootBean) {
 					traversableResolver,
 					null, //parameter name provider,
 					timeProvider,
-					validatedValueUnwrappers,
-					typeResolutionHelper,
+					validatedValueUnwrapperResolver,
 					failFast,
 					rootBean,
 					rootBeanClass,
@@ -581,8 +680,7 @@ public <T> ValidationContext<T> forValidateValue(Class<T> rootBeanClass) {
 					traversableResolver,
 					null, //parameter name provider
 					timeProvider,
-					validatedValueUnwrappers,
-					typeResolutionHelper,
+					validatedValueUnwrapperResolver,
 					failFast,
 					null, //root bean
 					rootBeanClass,
@@ -607,8 +705,7 @@ public <T> ValidationContext<T> forValidateParameters(
 					traversableResolver,
 					parameterNameProvider,
 					timeProvider,
-					validatedValueUnwrappers,
-					typeResolutionHelper,
+					validatedValueUnwrapperResolver,
 					failFast,
 					rootBean,
 					rootBeanClass,
@@ -632,8 +729,7 @@ public <T> ValidationContext<T> forValidateReturnValue(
 					traversableResolver,
 					null, //parameter name provider
 					timeProvider,
-					validatedValueUnwrappers,
-					typeResolutionHelper,
+					validatedValueUnwrapperResolver,
 					failFast,
 					rootBean,
 					rootBeanClass,
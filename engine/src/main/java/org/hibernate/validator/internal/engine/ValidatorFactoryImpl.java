@@ -13,7 +13,7 @@
 import java.security.AccessController;
 import java.security.PrivilegedAction;
 import java.util.Collections;
-import java.util.IdentityHashMap;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -29,15 +29,19 @@
 import org.hibernate.validator.HibernateValidatorContext;
 import org.hibernate.validator.HibernateValidatorFactory;
 import org.hibernate.validator.cfg.ConstraintMapping;
+import org.hibernate.validator.constraintvalidation.ValidationResultCacheStatistics;
 import org.hibernate.validator.internal.cfg.context.DefaultConstraintMapping;
 import org.hibernate.validator.internal.engine.constraintdefinition.ConstraintDefinitionContribution;
 import org.hibernate.validator.internal.engine.constraintvalidation.ConstraintValidatorManager;
 import org.hibernate.validator.internal.engine.time.DefaultTimeProvider;
+import org.hibernate.validator.internal.engine.valuehandling.ValidatedValueUnwrapperResolver;
 import org.hibernate.validator.internal.metadata.BeanMetaDataManager;
 import org.hibernate.validator.internal.metadata.core.ConstraintHelper;
 import org.hibernate.validator.internal.metadata.provider.MetaDataProvider;
 import org.hibernate.validator.internal.metadata.provider.ProgrammaticMetaDataProvider;
 import org.hibernate.validator.internal.metadata.provider.XmlMetaDataProvider;
+import org.hibernate.validator.internal.util.ConcurrentReferenceHashMap;
+import org.hibernate.validator.internal.util.ConcurrentReferenceHashMap.ReferenceType;
 import org.hibernate.validator.internal.util.ExecutableHelper;
 import org.hibernate.validator.internal.util.StringHelper;
 import org.hibernate.validator.internal.util.TypeResolutionHelper;
@@ -129,23 +133,51 @@ public class ValidatorFactoryImpl implements HibernateValidatorFactory {
 	 * cached for all created {@code Validator}s. {@code ParameterNameProvider} makes parts of the meta data and
 	 * Bean Validation element descriptors dynamic, since depending of the used provider different parameter names
 	 * could be used. To still have the metadata static we create a {@code BeanMetaDataManager} per parameter name
-	 * provider. See also HV-659.
+	 * provider. See also HV-659. The meta data of beans not depending on parameter names is shared by all these
+	 * managers.
 	 */
-	private final Map<ParameterNameProvider, BeanMetaDataManager> beanMetaDataManagerMap;
+	private final ConcurrentReferenceHashMap<ParameterNameProvider, BeanMetaDataManager> beanMetaDataManagerMap;
 
 	/**
 	 * Contains handlers to be applied to the validated value when validating elements.
 	 */
 	private final List<ValidatedValueUnwrapper<?>> validatedValueHandlers;
 
+	/**
+	 * Determines the handler to be applied for given types; shared by all validators working with the handlers
+	 * configured for this factory.
+	 */
+	private final ValidatedValueUnwrapperResolver validatedValueUnwrapperResolver;
+
+	/**
+	 * Whether the bean meta data managers are shared with other factories, in which case they are not cleared when
+	 * closing this factory.
+	 */
+	private final boolean sharesBeanMetaData;
+
+	/**
+	 * Memoizes the results of validating immutable values in cascades; shared by all validators using the
+	 * configuration of this factory.
+	 */
+	private final ImmutableValueResultCache immutableValueResultCache;
+
 	public ValidatorFactoryImpl(ConfigurationState configurationState) {
+		this.sharesBeanMetaData = false;
+
 		ClassLoader externalClassLoader = getExternalClassLoader( configurationState );
 
 		this.messageInterpolator = configurationState.getMessageInterpolator();
 		this.traversableResolver = configurationState.getTraversableResolver();
 		this.parameterNameProvider = configurationState.getParameterNameProvider();
 		this.timeProvider = getTimeProvider( configurationState, externalClassLoader );
-		this.beanMetaDataManagerMap = Collections.synchronizedMap( new IdentityHashMap<ParameterNameProvider, BeanMetaDataManager>() );
+		this.beanMetaDataManagerMap = new ConcurrentReferenceHashMap<ParameterNameProvider, BeanMetaDataManager>(
+				16,
+				0.75f,
+				16,
+				ReferenceType.STRONG,
+				ReferenceType.STRONG,
+				EnumSet.of( ConcurrentReferenceHashMap.Option.IDENTITY_COMPARISONS )
+		);
 		this.constraintHelper = new ConstraintHelper();
 		this.typeResolutionHelper = new TypeResolutionHelper();
 		this.executableHelper = new ExecutableHelper( typeResolutionHelper );
@@ -156,8 +188,15 @@ public ValidatorFactoryImpl(ConfigurationState configurationState) {
 			this.xmlMetaDataProvider = null;
 		}
 		else {
+			String schemaValidation = configurationState.getProperties()
+					.get( HibernateValidatorConfiguration.XML_MAPPING_SCHEMA_VALIDATION );
+
 			this.xmlMetaDataProvider = new XmlMetaDataProvider(
-					constraintHelper, parameterNameProvider, configurationState.getMappingStreams(), externalClassLoader
+					constraintHelper,
+					parameterNameProvider,
+					configurationState.getMappingStreams(),
+					externalClassLoader,
+					schemaValidation == null || Boolean.valueOf( schemaValidation )
 			);
 		}
 
@@ -205,6 +244,10 @@ public ValidatorFactoryImpl(ConfigurationState configurationState) {
 				)
 		);
 		this.validatedValueHandlers = Collections.unmodifiableList( tmpValidatedValueHandlers );
+		this.validatedValueUnwrapperResolver = new ValidatedValueUnwrapperResolver(
+				validatedValueHandlers,
+				typeResolutionHelper
+		);
 
 		tmpFailFast = checkPropertiesForBoolean( properties, HibernateValidatorConfiguration.FAIL_FAST, tmpFailFast );
 		this.failFast = tmpFailFast;
@@ -239,6 +282,54 @@ public ValidatorFactoryImpl(ConfigurationState configurationState) {
 		);
 
 		this.constraintValidatorManager = new ConstraintValidatorManager( configurationState.getConstraintValidatorFactory() );
+		this.immutableValueResultCache = new ImmutableValueResultCache();
+	}
+
+	/**
+	 * Creates a new factory with the configuration of the given factory, without processing that configuration again.
+	 * The new factory manages its own constraint validator instances.
+	 *
+	 * @param template the factory whose configuration to apply
+	 * @param shareBeanMetaData whether to share the bean meta data with the given factory or not
+	 */
+	private ValidatorFactoryImpl(ValidatorFactoryImpl template, boolean shareBeanMetaData) {
+		this.messageInterpolator = template.messageInterpolator;
+		this.traversableResolver = template.traversableResolver;
+		this.parameterNameProvider = template.parameterNameProvider;
+		this.timeProvider = template.timeProvider;
+		this.constraintMappings = template.constraintMappings;
+		this.constraintHelper = template.constraintHelper;
+		this.typeResolutionHelper = template.typeResolutionHelper;
+		this.executableHelper = template.executableHelper;
+		this.failFast = template.failFast;
+		this.methodValidationConfiguration = template.methodValidationConfiguration;
+		this.xmlMetaDataProvider = template.xmlMetaDataProvider;
+		this.validatedValueHandlers = template.validatedValueHandlers;
+		this.validatedValueUnwrapperResolver = template.validatedValueUnwrapperResolver;
+		this.sharesBeanMetaData = shareBeanMetaData;
+		this.beanMetaDataManagerMap = shareBeanMetaData ? template.beanMetaDataManagerMap : new ConcurrentReferenceHashMap<ParameterNameProvider, BeanMetaDataManager>(
+				16,
+				0.75f,
+				16,
+				ReferenceType.STRONG,
+				ReferenceType.STRONG,
+				EnumSet.of( ConcurrentReferenceHashMap.Option.IDENTITY_COMPARISONS )
+		);
+		this.constraintValidatorManager = new ConstraintValidatorManager(
+				template.constraintValidatorManager.getDefaultConstraintValidatorFactory()
+		);
+		this.immutableValueResultCache = new ImmutableValueResultCache();
+	}
+
+	/**
+	 * Creates a new factory with the configuration of this factory, without processing that configuration again.
+	 *
+	 * @param shareBeanMetaData whether the new factory shares the bean meta data with this factory
+	 *
+	 * @return a new factory
+	 */
+	ValidatorFactoryImpl fork(boolean shareBeanMetaData) {
+		return new ValidatorFactoryImpl( this, shareBeanMetaData );
 	}
 
 	private static ClassLoader getExternalClassLoader(ConfigurationState configurationState) {
@@ -355,6 +446,9 @@ public <T> T unwrap(Class<T> type) {
 		if ( type.isAssignableFrom( HibernateValidatorFactory.class ) ) {
 			return type.cast( this );
 		}
+		if ( type == ValidationResultCacheStatistics.class ) {
+			return type.cast( constraintValidatorManager.getResultCacheStatistics() );
+		}
 		throw log.getTypeNotSupportedForUnwrappingException( type );
 	}
 
@@ -366,8 +460,11 @@ public HibernateValidatorContext usingContext() {
 	@Override
 	public void close() {
 		constraintValidatorManager.clear();
-		for ( BeanMetaDataManager beanMetaDataManager : beanMetaDataManagerMap.values() ) {
-			beanMetaDataManager.clear();
+		immutableValueResultCache.clear();
+		if ( !sharesBeanMetaData ) {
+			for ( BeanMetaDataManager beanMetaDataManager : beanMetaDataManagerMap.values() ) {
+				beanMetaDataManager.clear();
+			}
 		}
 
 		// this holds a reference to the provided external class-loader, thus freeing it to be on the safe side
@@ -383,20 +480,10 @@ Validator createValidator(ConstraintValidatorFactory constraintValidatorFactory,
 			TimeProvider timeProvider,
 			MethodValidationConfiguration methodValidationConfiguration) {
 
-		BeanMetaDataManager beanMetaDataManager;
-		if ( !beanMetaDataManagerMap.containsKey( parameterNameProvider ) ) {
-			beanMetaDataManager = new BeanMetaDataManager(
-					constraintHelper,
-					executableHelper,
-					parameterNameProvider,
-					buildDataProviders( parameterNameProvider ),
-					methodValidationConfiguration
-			);
-			beanMetaDataManagerMap.put( parameterNameProvider, beanMetaDataManager );
-		}
-		else {
-			beanMetaDataManager = beanMetaDataManagerMap.get( parameterNameProvider );
-		}
+		BeanMetaDataManager beanMetaDataManager = getBeanMetaDataManager(
+				parameterNameProvider,
+				methodValidationConfiguration
+		);
 
 		return new ValidatorImpl(
 				constraintValidatorFactory,
@@ -405,13 +492,79 @@ Validator createValidator(ConstraintValidatorFactory constraintValidatorFactory,
 				beanMetaDataManager,
 				parameterNameProvider,
 				timeProvider,
-				typeResolutionHelper,
-				validatedValueHandlers,
+				getValidatedValueUnwrapperResolver( validatedValueHandlers ),
 				constraintValidatorManager,
-				failFast
+				failFast,
+				// results of validating immutable values depend on the configuration of the validating validator
+				usesFactoryConfiguration(
+						constraintValidatorFactory,
+						messageInterpolator,
+						traversableResolver,
+						failFast,
+						validatedValueHandlers,
+						timeProvider
+				) ? immutableValueResultCache : null
 		);
 	}
 
+	private boolean usesFactoryConfiguration(ConstraintValidatorFactory constraintValidatorFactory,
+			MessageInterpolator messageInterpolator,
+			TraversableResolver traversableResolver,
+			boolean failFast,
+			List<ValidatedValueUnwrapper<?>> validatedValueHandlers,
+			TimeProvider timeProvider) {
+		return constraintValidatorFactory == constraintValidatorManager.getDefaultConstraintValidatorFactory()
+				&& messageInterpolator == this.messageInterpolator
+				&& traversableResolver == this.traversableResolver
+				&& failFast == this.failFast
+				&& validatedValueUnwrapperResolver.isResolverFor( validatedValueHandlers )
+				&& timeProvider == this.timeProvider;
+	}
+
+	private BeanMetaDataManager getBeanMetaDataManager(ParameterNameProvider parameterNameProvider,
+			MethodValidationConfiguration methodValidationConfiguration) {
+		BeanMetaDataManager beanMetaDataManager = beanMetaDataManagerMap.get( parameterNameProvider );
+		if ( beanMetaDataManager != null ) {
+			return beanMetaDataManager;
+		}
+
+		// managers for other providers share the meta data not depending on parameter names with the manager for the
+		// default provider
+		BeanMetaDataManager parameterNameAgnosticMetaDataManager = null;
+		if ( parameterNameProvider != this.parameterNameProvider ) {
+			parameterNameAgnosticMetaDataManager = getBeanMetaDataManager(
+					this.parameterNameProvider,
+					this.methodValidationConfiguration
+			);
+		}
+
+		beanMetaDataManager = new BeanMetaDataManager(
+				constraintHelper,
+				executableHelper,
+				parameterNameProvider,
+				buildDataProviders( parameterNameProvider ),
+				methodValidationConfiguration,
+				parameterNameAgnosticMetaDataManager
+		);
+
+		BeanMetaDataManager cachedBeanMetaDataManager = beanMetaDataManagerMap.putIfAbsent(
+				parameterNameProvider,
+				beanMetaDataManager
+		);
+
+		return cachedBeanMetaDataManager != null ? cachedBeanMetaDataManager : beanMetaDataManager;
+	}
+
+	private ValidatedValueUnwrapperResolver getValidatedValueUnwrapperResolver(
+			List<ValidatedValueUnwrapper<?>> validatedValueHandlers) {
+		// validators created via a context with additional handlers need a resolver of their own
+		if ( validatedValueUnwrapperResolver.isResolverFor( validatedValueHandlers ) ) {
+			return validatedValueUnwrapperResolver;
+		}
+
+		return new ValidatedValueUnwrapperResolver( validatedValueHandlers, typeResolutionHelper );
+	}
+
 	private List<MetaDataProvider> buildDataProviders(ParameterNameProvider parameterNameProvider) {
 		List<MetaDataProvider> metaDataProviders = newArrayList();
 		if ( xmlMetaDataProvider != null ) {
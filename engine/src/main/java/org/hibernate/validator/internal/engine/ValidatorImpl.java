@@ -26,7 +26,11 @@
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Callable;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
 
 import javax.validation.ConstraintValidatorFactory;
 import javax.validation.ConstraintViolation;
@@ -40,8 +44,11 @@
 import javax.validation.groups.Default;
 import javax.validation.metadata.BeanDescriptor;
 
+import org.hibernate.validator.AsyncValidator;
 import org.hibernate.validator.HibernateValidatorPermission;
+import org.hibernate.validator.IncrementalValidator;
 import org.hibernate.validator.internal.engine.ValidationContext.ValidationContextBuilder;
+import org.hibernate.validator.internal.engine.constraintvalidation.ConstraintValidatorFactoryImpl;
 import org.hibernate.validator.internal.engine.constraintvalidation.ConstraintValidatorManager;
 import org.hibernate.validator.internal.engine.groups.Group;
 import org.hibernate.validator.internal.engine.groups.GroupWithInheritance;
@@ -52,6 +59,7 @@
 import org.hibernate.validator.internal.engine.path.PathImpl;
 import org.hibernate.validator.internal.engine.resolver.CachingTraversableResolverForSingleValidation;
 import org.hibernate.validator.internal.engine.valuehandling.UnwrapMode;
+import org.hibernate.validator.internal.engine.valuehandling.ValidatedValueUnwrapperResolver;
 import org.hibernate.validator.internal.metadata.BeanMetaDataManager;
 import org.hibernate.validator.internal.metadata.aggregated.BeanMetaData;
 import org.hibernate.validator.internal.metadata.aggregated.ExecutableMetaData;
@@ -67,12 +75,12 @@
 import org.hibernate.validator.internal.util.Contracts;
 import org.hibernate.validator.internal.util.ReflectionHelper;
 import org.hibernate.validator.internal.util.TypeHelper;
-import org.hibernate.validator.internal.util.TypeResolutionHelper;
 import org.hibernate.validator.internal.util.logging.Log;
 import org.hibernate.validator.internal.util.logging.LoggerFactory;
 import org.hibernate.validator.internal.util.privilegedactions.GetDeclaredField;
 import org.hibernate.validator.internal.util.privilegedactions.GetDeclaredMethod;
 import org.hibernate.validator.internal.util.privilegedactions.SetAccessibility;
+import org.hibernate.validator.spi.resolver.HibernateTraversableResolver;
 import org.hibernate.validator.spi.time.TimeProvider;
 import org.hibernate.validator.spi.valuehandling.ValidatedValueUnwrapper;
 
@@ -85,7 +93,7 @@
  * @author Kevin Pollet &lt;kevin.pollet@serli.com&gt; (C) 2011 SERLI
  * @author Guillaume Smet
  */
-public class ValidatorImpl implements Validator, ExecutableValidator {
+public class ValidatorImpl implements Validator, ExecutableValidator, IncrementalValidator, AsyncValidator {
 
 	/**
 	 * For compatibility with JDK 7 we cannot use ElementType#TYPE_USE
@@ -120,6 +128,21 @@ public class ValidatorImpl implements Validator, ExecutableValidator {
 	 */
 	private final TraversableResolver traversableResolver;
 
+	/**
+	 * Whether the traversable resolver declares all properties as reachable, in which case it is not invoked.
+	 */
+	private final boolean traversableResolverAlwaysReachable;
+
+	/**
+	 * Whether the traversable resolver declares all properties as cascadable, in which case it is not invoked.
+	 */
+	private final boolean traversableResolverAlwaysCascadable;
+
+	/**
+	 * Whether the traversable resolver examines the path to the traversable object; if not, that path is not created.
+	 */
+	private final boolean traversableResolverNeedsPath;
+
 	/**
 	 * Used to get access to the bean meta data. Used to avoid to parsing the constraint configuration for each call
 	 * of a given entity.
@@ -144,19 +167,26 @@ public class ValidatorImpl implements Validator, ExecutableValidator {
 	private final boolean failFast;
 
 	/**
-	 * Used for resolving generic type information.
+	 * Determines the handlers to be applied prior to validation when validating elements.
 	 */
-	private final TypeResolutionHelper typeResolutionHelper;
+	private final ValidatedValueUnwrapperResolver validatedValueUnwrapperResolver;
 
 	/**
-	 * Contains handlers to be applied prior to validation when validating elements.
+	 * Keeps an accessible version for each non-accessible member whose value needs to be accessed during validation.
 	 */
-	private final List<ValidatedValueUnwrapper<?>> validatedValueHandlers;
+	private final ConcurrentMap<Member, Member> accessibleMembers;
 
 	/**
-	 * Keeps an accessible version for each non-accessible member whose value needs to be accessed during validation.
+	 * Provides the generated validators used as fast path when validating the default group of beans; {@code null} if
+	 * generated validators can't be used with the configuration of this validator.
 	 */
-	private final ConcurrentMap<Member, Member> accessibleMembers;
+	private final GeneratedValidatorResolver generatedValidatorResolver;
+
+	/**
+	 * Memoizes the results of validating immutable values in cascades; {@code null} if results can't be memoized
+	 * with the configuration of this validator.
+	 */
+	private final ImmutableValueResultCache immutableValueResultCache;
 
 	public ValidatorImpl(ConstraintValidatorFactory constraintValidatorFactory,
 			MessageInterpolator messageInterpolator,
@@ -164,28 +194,59 @@ public ValidatorImpl(ConstraintValidatorFactory constraintValidatorFactory,
 			BeanMetaDataManager beanMetaDataManager,
 			ParameterNameProvider parameterNameProvider,
 			TimeProvider timeProvider,
-			TypeResolutionHelper typeResolutionHelper,
-			List<ValidatedValueUnwrapper<?>> validatedValueHandlers,
+			ValidatedValueUnwrapperResolver validatedValueUnwrapperResolver,
 			ConstraintValidatorManager constraintValidatorManager,
-			boolean failFast) {
+			boolean failFast,
+			ImmutableValueResultCache immutableValueResultCache) {
 		this.constraintValidatorFactory = constraintValidatorFactory;
 		this.messageInterpolator = messageInterpolator;
 		this.traversableResolver = traversableResolver;
+		if ( traversableResolver instanceof HibernateTraversableResolver ) {
+			HibernateTraversableResolver hibernateTraversableResolver = (HibernateTraversableResolver) traversableResolver;
+			this.traversableResolverAlwaysReachable = hibernateTraversableResolver.isAlwaysReachable();
+			this.traversableResolverAlwaysCascadable = hibernateTraversableResolver.isAlwaysCascadable();
+			this.traversableResolverNeedsPath = hibernateTraversableResolver.needsPathToTraversableObject();
+		}
+		else {
+			this.traversableResolverAlwaysReachable = false;
+			this.traversableResolverAlwaysCascadable = false;
+			this.traversableResolverNeedsPath = true;
+		}
 		this.beanMetaDataManager = beanMetaDataManager;
 		this.parameterNameProvider = parameterNameProvider;
 		this.timeProvider = timeProvider;
-		this.typeResolutionHelper = typeResolutionHelper;
-		this.validatedValueHandlers = validatedValueHandlers;
+		this.validatedValueUnwrapperResolver = validatedValueUnwrapperResolver;
 		this.constraintValidatorManager = constraintValidatorManager;
 		this.failFast = failFast;
 
-		validationOrderGenerator = new ValidationOrderGenerator();
+		// shared with other validators using the same meta data manager, so resolved validation orders are cached across validators
+		this.validationOrderGenerator = beanMetaDataManager.getValidationOrderGenerator();
 
 		this.accessibleMembers = new ConcurrentReferenceHashMap<Member, Member>(
 				100,
 				ReferenceType.SOFT,
 				ReferenceType.SOFT
 		);
+
+		// generated validators read all fields and call the built-in validators directly
+		if ( traversableResolverAlwaysReachable && traversableResolverAlwaysCascadable
+				&& constraintValidatorFactory instanceof ConstraintValidatorFactoryImpl ) {
+			this.generatedValidatorResolver = new GeneratedValidatorResolver(
+					beanMetaDataManager,
+					validatedValueUnwrapperResolver
+			);
+		}
+		else {
+			this.generatedValidatorResolver = null;
+		}
+
+		// memoized results must not depend on the path of the validated value
+		if ( traversableResolverAlwaysReachable && traversableResolverAlwaysCascadable ) {
+			this.immutableValueResultCache = immutableValueResultCache;
+		}
+		else {
+			this.immutableValueResultCache = null;
+		}
 	}
 
 	@Override
@@ -196,6 +257,12 @@ public final <T> Set<ConstraintViolation<T>> validate(T object, Class<?>... grou
 			return Collections.emptySet();
 		}
 
+		// the validation engine is only needed for creating the violations if the generated validators fail
+		if ( generatedValidatorResolver != null && isDefaultGroupOnly( groups )
+				&& generatedValidatorResolver.isValid( object ) ) {
+			return Collections.emptySet();
+		}
+
 		ValidationOrder validationOrder = determineGroupValidationOrder( groups );
 		ValidationContext<T> validationContext = getValidationContext().forValidate( object );
 
@@ -247,6 +314,78 @@ public final <T> Set<ConstraintViolation<T>> validateValue(Class<T> beanType, St
 		);
 	}
 
+	@Override
+	public final <T> Set<ConstraintViolation<T>> validateChangedProperties(T object, Set<String> changedPropertyPaths, Class<?>... groups) {
+		Contracts.assertNotNull( object, MESSAGES.validatedObjectMustNotBeNull() );
+		Contracts.assertNotNull( changedPropertyPaths, MESSAGES.parameterMustNotBeNull( "changedPropertyPaths" ) );
+
+		for ( String propertyPath : changedPropertyPaths ) {
+			sanityCheckPropertyPath( propertyPath );
+		}
+		ChangedProperties changedProperties = ChangedProperties.forPaths( changedPropertyPaths );
+
+		if ( changedPropertyPaths.isEmpty() || !beanMetaDataManager.isConstrained( object.getClass() ) ) {
+			return Collections.emptySet();
+		}
+
+		ValidationOrder validationOrder = determineGroupValidationOrder( groups );
+		ValidationContext<T> validationContext = getValidationContext().forValidate( object );
+
+		ValueContext<?, Object> valueContext = ValueContext.getLocalExecutionContext(
+				object,
+				beanMetaDataManager.getBeanMetaData( object.getClass() ),
+				PathImpl.createRootPath()
+		);
+		valueContext.setChangedProperties( changedProperties );
+
+		return validateInContext( valueContext, validationContext, validationOrder );
+	}
+
+	@Override
+	public final <T> Future<Set<ConstraintViolation<T>>> validateAsync(final T object, Executor executor, final int maxPendingChecks, Class<?>... groups) {
+		Contracts.assertNotNull( object, MESSAGES.validatedObjectMustNotBeNull() );
+		Contracts.assertNotNull( executor, MESSAGES.parameterMustNotBeNull( "executor" ) );
+		Contracts.assertTrue( maxPendingChecks > 0, MESSAGES.parameterMustBeGreaterThanZero( "maxPendingChecks" ) );
+
+		final ValidationOrder validationOrder = determineGroupValidationOrder( groups );
+
+		FutureTask<Set<ConstraintViolation<T>>> validation = new FutureTask<Set<ConstraintViolation<T>>>(
+				new Callable<Set<ConstraintViolation<T>>>() {
+					@Override
+					public Set<ConstraintViolation<T>> call() {
+						return validateCollectingPendingChecks( object, validationOrder, maxPendingChecks );
+					}
+				}
+		);
+		executor.execute( validation );
+
+		return validation;
+	}
+
+	private <T> Set<ConstraintViolation<T>> validateCollectingPendingChecks(T object, ValidationOrder validationOrder, int maxPendingChecks) {
+		if ( !beanMetaDataManager.isConstrained( object.getClass() ) ) {
+			return Collections.emptySet();
+		}
+
+		ValidationContext<T> validationContext = getValidationContext().forValidate( object );
+
+		// in fail fast mode each check is awaited right away, so validation stops after the first failing one
+		if ( !failFast ) {
+			validationContext.collectPendingChecks( maxPendingChecks );
+		}
+
+		ValueContext<?, Object> valueContext = ValueContext.getLocalExecutionContext(
+				object,
+				beanMetaDataManager.getBeanMetaData( object.getClass() ),
+				PathImpl.createRootPath()
+		);
+
+		validateInContext( valueContext, validationContext, validationOrder );
+		validationContext.awaitPendingChecks();
+
+		return validationContext.getFailingConstraints();
+	}
+
 	@Override
 	public <T> Set<ConstraintViolation<T>> validateParameters(T object, Method method, Object[] parameterValues, Class<?>... groups) {
 		Contracts.assertNotNull( object, MESSAGES.validatedObjectMustNotBeNull() );
@@ -288,6 +427,28 @@ private <T> Set<ConstraintViolation<T>> validateParameters(T object, ExecutableE
 
 		ValidationOrder validationOrder = determineGroupValidationOrder( groups );
 
+		Class<T> rootBeanClass = getRootBeanClass( object, executable );
+		if ( !beanMetaDataManager.isConstrained( rootBeanClass ) ) {
+			return Collections.emptySet();
+		}
+
+		BeanMetaData<T> beanMetaData = beanMetaDataManager.getBeanMetaData( rootBeanClass );
+		ExecutableMetaData executableMetaData = beanMetaData.getMetaDataFor( executable.getMember() );
+
+		if ( executableMetaData == null ) {
+			// there is no executable metadata - specified object and method do not match
+			throw log.getMethodOrConstructorNotDefinedByValidatedTypeException(
+					beanMetaData.getBeanClass().getName(),
+					executable.getMember()
+			);
+		}
+
+		// nothing to do for unconstrained executables; the parameter count check is left to the regular path which
+		// raises the appropriate exception
+		if ( !executableMetaData.isConstrained() && parameterValues.length == executableMetaData.getParameterTypes().length ) {
+			return Collections.emptySet();
+		}
+
 		ValidationContext<T> context = getValidationContext().forValidateParameters(
 				parameterNameProvider,
 				object,
@@ -295,11 +456,7 @@ private <T> Set<ConstraintViolation<T>> validateParameters(T object, ExecutableE
 				parameterValues
 		);
 
-		if ( !beanMetaDataManager.isConstrained( context.getRootBeanClass() ) ) {
-			return Collections.emptySet();
-		}
-
-		validateParametersInContext( context, parameterValues, validationOrder );
+		validateParametersInContext( context, beanMetaData, executableMetaData, parameterValues, validationOrder );
 
 		return context.getFailingConstraints();
 	}
@@ -307,21 +464,35 @@ private <T> Set<ConstraintViolation<T>> validateParameters(T object, ExecutableE
 	private <T> Set<ConstraintViolation<T>> validateReturnValue(T object, ExecutableElement executable, Object returnValue, Class<?>... groups) {
 		ValidationOrder validationOrder = determineGroupValidationOrder( groups );
 
+		Class<T> rootBeanClass = getRootBeanClass( object, executable );
+		if ( !beanMetaDataManager.isConstrained( rootBeanClass ) ) {
+			return Collections.emptySet();
+		}
+
+		BeanMetaData<T> beanMetaData = beanMetaDataManager.getBeanMetaData( rootBeanClass );
+		ExecutableMetaData executableMetaData = beanMetaData.getMetaDataFor( executable.getMember() );
+
+		// nothing to validate
+		if ( executableMetaData == null || !executableMetaData.isConstrained() ) {
+			return Collections.emptySet();
+		}
+
 		ValidationContext<T> context = getValidationContext().forValidateReturnValue(
 				object,
 				executable,
 				returnValue
 		);
 
-		if ( !beanMetaDataManager.isConstrained( context.getRootBeanClass() ) ) {
-			return Collections.emptySet();
-		}
-
-		validateReturnValueInContext( context, object, returnValue, validationOrder );
+		validateReturnValueInContext( context, beanMetaData, executableMetaData, object, returnValue, validationOrder );
 
 		return context.getFailingConstraints();
 	}
 
+	@SuppressWarnings("unchecked")
+	private <T> Class<T> getRootBeanClass(T object, ExecutableElement executable) {
+		return object != null ? (Class<T>) object.getClass() : (Class<T>) executable.getMember().getDeclaringClass();
+	}
+
 	@Override
 	public final BeanDescriptor getConstraintsForClass(Class<?> clazz) {
 		return beanMetaDataManager.getBeanMetaData( clazz ).getBeanDescriptor();
@@ -332,7 +503,7 @@ public final <T> T unwrap(Class<T> type) {
 		//allow unwrapping into public super types; intentionally not exposing the
 		//fact that ExecutableValidator is implemented by this class as well as this
 		//might change
-		if ( type.isAssignableFrom( Validator.class ) ) {
+		if ( type.isAssignableFrom( Validator.class ) || type == IncrementalValidator.class || type == AsyncValidator.class ) {
 			return type.cast( this );
 		}
 
@@ -351,8 +522,7 @@ private ValidationContextBuilder getValidationContext() {
 				constraintValidatorFactory,
 				getCachingTraversableResolver(),
 				timeProvider,
-				validatedValueHandlers,
-				typeResolutionHelper,
+				validatedValueUnwrapperResolver,
 				failFast
 		);
 	}
@@ -382,6 +552,10 @@ private ValidationOrder determineGroupValidationOrder(Class<?>[] groups) {
 		return validationOrderGenerator.getValidationOrder( resultGroups );
 	}
 
+	private static boolean isDefaultGroupOnly(Class<?>[] groups) {
+		return groups != null && ( groups.length == 0 || ( groups.length == 1 && groups[0] == Default.class ) );
+	}
+
 	/**
 	 * Validates the given object using the available context information.
 	 *
@@ -407,7 +581,7 @@ private <T, U> Set<ConstraintViolation<T>> validateInContext(ValueContext<U, Obj
 		Iterator<Group> groupIterator = validationOrder.getGroupIterator();
 		while ( groupIterator.hasNext() ) {
 			Group group = groupIterator.next();
-			valueContext.setCurrentGroup( group.getDefiningClass() );
+			valueContext.setCurrentGroup( group );
 			validateConstraintsForCurrentGroup( context, valueContext );
 			if ( shouldFailFast( context ) ) {
 				return context.getFailingConstraints();
@@ -416,7 +590,7 @@ private <T, U> Set<ConstraintViolation<T>> validateInContext(ValueContext<U, Obj
 		groupIterator = validationOrder.getGroupIterator();
 		while ( groupIterator.hasNext() ) {
 			Group group = groupIterator.next();
-			valueContext.setCurrentGroup( group.getDefiningClass() );
+			valueContext.setCurrentGroup( group );
 			validateCascadedConstraints( context, valueContext );
 			if ( shouldFailFast( context ) ) {
 				return context.getFailingConstraints();
@@ -428,10 +602,12 @@ private <T, U> Set<ConstraintViolation<T>> validateInContext(ValueContext<U, Obj
 		while ( sequenceIterator.hasNext() ) {
 			Sequence sequence = sequenceIterator.next();
 			for ( GroupWithInheritance groupOfGroups : sequence ) {
+				// violations of asynchronous checks of earlier groups must not be attributed to this group
+				context.awaitPendingChecks();
 				int numberOfViolations = context.getFailingConstraints().size();
 
 				for ( Group group : groupOfGroups ) {
-					valueContext.setCurrentGroup( group.getDefiningClass() );
+					valueContext.setCurrentGroup( group );
 
 					validateConstraintsForCurrentGroup( context, valueContext );
 					if ( shouldFailFast( context ) ) {
@@ -443,6 +619,9 @@ private <T, U> Set<ConstraintViolation<T>> validateInContext(ValueContext<U, Obj
 						return context.getFailingConstraints();
 					}
 				}
+
+				// the next group of the sequence depends on the results of asynchronous checks still pending
+				context.awaitPendingChecks();
 				if ( context.getFailingConstraints().size() > numberOfViolations ) {
 					break;
 				}
@@ -480,10 +659,19 @@ private <U> void validateConstraintsForDefaultGroup(ValidationContext<?> validat
 					for ( GroupWithInheritance groupOfGroups : defaultGroupSequence.next() ) {
 						boolean validationSuccessful = true;
 
+						// only the asynchronous checks added by this group decide whether the sequence continues, so
+						// the checks of other beans and earlier groups are awaited before
+						validationContext.awaitPendingChecks();
+						int failedPendingCheckCount = validationContext.getFailedPendingCheckCount();
+
 						for ( Group defaultSequenceMember : groupOfGroups ) {
 							validationSuccessful = validateConstraintsForSingleDefaultGroupElement( validationContext, valueContext, validatedInterfaces, clazz,
 									metaConstraints, defaultSequenceMember );
 						}
+						validationContext.awaitPendingChecks();
+						if ( validationContext.getFailedPendingCheckCount() > failedPendingCheckCount ) {
+							validationSuccessful = false;
+						}
 						if ( !validationSuccessful ) {
 							break;
 						}
@@ -497,7 +685,7 @@ private <U> void validateConstraintsForDefaultGroup(ValidationContext<?> validat
 						Group.DEFAULT_GROUP );
 			}
 
-			validationContext.markCurrentBeanAsProcessed( valueContext );
+			markCurrentBeanAsProcessed( validationContext, valueContext );
 
 			// all constraints in the hierarchy has been validated, stop validation.
 			if ( defaultGroupSequenceIsRedefined ) {
@@ -510,10 +698,14 @@ private <U> boolean validateConstraintsForSingleDefaultGroupElement(ValidationCo
 			Class<? super U> clazz, Set<MetaConstraint<?>> metaConstraints, Group defaultSequenceMember) {
 		boolean validationSuccessful = true;
 
-		valueContext.setCurrentGroup( defaultSequenceMember.getDefiningClass() );
+		valueContext.setCurrentGroup( defaultSequenceMember );
 		PathImpl currentPath = valueContext.getPropertyPath();
 
 		for ( MetaConstraint<?> metaConstraint : metaConstraints ) {
+			if ( !isAffectedByChanges( valueContext, metaConstraint ) ) {
+				continue;
+			}
+
 			// HV-466, an interface implemented more than one time in the hierarchy has to be validated only one
 			// time. An interface can define more than one constraint, we have to check the class we are validating.
 			final Class<?> declaringClass = metaConstraint.getLocation().getDeclaringClass();
@@ -541,6 +733,10 @@ private void validateConstraintsForNonDefaultGroup(ValidationContext<?> validati
 		BeanMetaData<?> beanMetaData = beanMetaDataManager.getBeanMetaData( valueContext.getCurrentBeanType() );
 		PathImpl currentPath = valueContext.getPropertyPath();
 		for ( MetaConstraint<?> metaConstraint : beanMetaData.getMetaConstraints() ) {
+			if ( !isAffectedByChanges( valueContext, metaConstraint ) ) {
+				continue;
+			}
+
 			validateConstraint( validationContext, valueContext, false, metaConstraint );
 			if ( shouldFailFast( validationContext ) ) {
 				return;
@@ -548,7 +744,29 @@ private void validateConstraintsForNonDefaultGroup(ValidationContext<?> validati
 			// reset the path to the state before this call
 			valueContext.setPropertyPath( currentPath );
 		}
-		validationContext.markCurrentBeanAsProcessed( valueContext );
+		markCurrentBeanAsProcessed( validationContext, valueContext );
+	}
+
+	/**
+	 * Marks the current bean as processed, unless only the constraints of its changed properties have been validated.
+	 * Otherwise, a later validation of all its constraints within the same validation, e.g. as it is referenced by
+	 * another property which changed entirely, would be skipped. Partial validations follow the given paths of the
+	 * changed properties only, so they terminate also for cyclic object graphs.
+	 */
+	private void markCurrentBeanAsProcessed(ValidationContext<?> validationContext, ValueContext<?, Object> valueContext) {
+		ChangedProperties changedProperties = valueContext.getChangedProperties();
+		if ( changedProperties == null || !changedProperties.isPartial() ) {
+			validationContext.markCurrentBeanAsProcessed( valueContext );
+		}
+	}
+
+	/**
+	 * Whether the given constraint needs to be validated when only validating the changed properties of the current
+	 * bean; always {@code true} when validating all constraints.
+	 */
+	private boolean isAffectedByChanges(ValueContext<?, Object> valueContext, MetaConstraint<?> metaConstraint) {
+		ChangedProperties changedProperties = valueContext.getChangedProperties();
+		return changedProperties == null || changedProperties.isAffected( metaConstraint );
 	}
 
 	private boolean validateConstraint(ValidationContext<?> validationContext,
@@ -634,8 +852,13 @@ private void validateCascadedConstraints(ValidationContext<?> validationContext,
 		Validatable validatable = valueContext.getCurrentValidatable();
 		PathImpl originalPath = valueContext.getPropertyPath();
 		Class<?> originalGroup = valueContext.getCurrentGroup();
+		ChangedProperties changedProperties = valueContext.getChangedProperties();
 
 		for ( Cascadable cascadable : validatable.getCascadables() ) {
+			if ( changedProperties != null && !changedProperties.isAffected( cascadable ) ) {
+				continue;
+			}
+
 			valueContext.appendNode( cascadable );
 			Class<?> group = cascadable.convertGroup( originalGroup );
 			valueContext.setCurrentGroup( group );
@@ -671,7 +894,9 @@ private void validateCascadedConstraints(ValidationContext<?> validationContext,
 								false,
 								valueContext,
 								validationOrder,
-								Collections.<MetaConstraint<?>>emptySet()
+								group != originalGroup,
+								Collections.<MetaConstraint<?>>emptySet(),
+								null
 						);
 						if ( shouldFailFast( validationContext ) ) {
 							return;
@@ -688,7 +913,9 @@ private void validateCascadedConstraints(ValidationContext<?> validationContext,
 							isIndexable,
 							valueContext,
 							validationOrder,
-							cascadable.getTypeArgumentsConstraints()
+							group != originalGroup,
+							cascadable.getTypeArgumentsConstraints(),
+							changedProperties != null ? changedProperties.getNestedChangedProperties( cascadable ) : null
 					);
 					if ( shouldFailFast( validationContext ) ) {
 						return;
@@ -735,7 +962,8 @@ else if ( TypeHelper.isArray( type ) ) {
 	}
 
 	private void validateCascadedConstraint(ValidationContext<?> context, Iterator<?> iter, boolean isIndexable, ValueContext<?,
-			Object> valueContext, ValidationOrder validationOrder, Set<MetaConstraint<?>> typeArgumentsConstraint) {
+			Object> valueContext, ValidationOrder validationOrder, boolean groupConverted,
+			Set<MetaConstraint<?>> typeArgumentsConstraint, ChangedProperties changedProperties) {
 		Object value;
 		Object mapKey;
 		int i = 0;
@@ -759,7 +987,14 @@ else if ( isIndexable ) {
 				validateTypeArgumentConstraints( context, buildNewLocalExecutionContext( valueContext, value ), value, typeArgumentsConstraint );
 
 				// Cascade validation
-				validateInContext( buildNewLocalExecutionContext( valueContext, value ), context, validationOrder );
+				ValueContext<?, Object> cascadedValueContext = buildNewLocalExecutionContext( valueContext, value );
+				cascadedValueContext.setChangedProperties( changedProperties );
+				if ( isMemoizedImmutableValue( value, groupConverted, changedProperties ) ) {
+					validateImmutableValueInContext( cascadedValueContext, context, validationOrder, valueContext.getCurrentGroup() );
+				}
+				else {
+					validateInContext( cascadedValueContext, context, validationOrder );
+				}
 				if ( shouldFailFast( context ) ) {
 					return;
 				}
@@ -768,6 +1003,59 @@ else if ( isIndexable ) {
 		}
 	}
 
+	private boolean isMemoizedImmutableValue(Object value, boolean groupConverted, ChangedProperties changedProperties) {
+		return immutableValueResultCache != null
+				&& value != null
+				&& !groupConverted
+				&& changedProperties == null
+				&& immutableValueResultCache.isImmutableValue( value.getClass() );
+	}
+
+	/**
+	 * Validates the given immutable value by validating it as root bean once per group and re-rooting the resulting
+	 * violations onto the current path. As the group has not been converted, the validation order consists of that
+	 * group only, so the group suffices for identifying the result.
+	 */
+	private void validateImmutableValueInContext(ValueContext<?, Object> valueContext, ValidationContext<?> context,
+			ValidationOrder validationOrder, Class<?> group) {
+		Object value = valueContext.getCurrentBean();
+		Set<ConstraintViolation<Object>> relativeViolations = immutableValueResultCache.getResult( value, group );
+
+		valueContext.setCurrentGroup( group );
+		context.markCurrentBeanAsProcessed( valueContext );
+
+		if ( relativeViolations == null ) {
+			ImmutableValueValidationStack validationStack = context.getImmutableValueValidationStack();
+
+			// the value is part of a cycle and is being validated already
+			if ( !validationStack.push( value ) ) {
+				return;
+			}
+
+			ValueContext<?, Object> rootValueContext = ValueContext.getLocalExecutionContext(
+					value,
+					beanMetaDataManager.getBeanMetaData( value.getClass() ),
+					PathImpl.createRootPath()
+			);
+			ValidationContext<Object> valueValidationContext = getValidationContext().forValidate( value );
+			valueValidationContext.setImmutableValueValidationStack( validationStack );
+
+			boolean complete;
+			try {
+				relativeViolations = validateInContext( rootValueContext, valueValidationContext, validationOrder );
+			}
+			finally {
+				complete = validationStack.pop();
+			}
+
+			if ( complete ) {
+				immutableValueResultCache.putResult( value, group, relativeViolations );
+			}
+		}
+
+		context.addReRootedConstraintFailures( valueContext.getPropertyPath(), relativeViolations );
+	}
+
 	private ValueContext<?, Object> buildNewLocalExecutionContext(ValueContext<?, Object> valueContext, Object value) {
 		ValueContext<?, Object> newValueContext;
 		if ( value != null ) {
@@ -825,7 +1113,7 @@ private <T> Set<ConstraintViolation<T>> validatePropertyInContext(ValidationCont
 		Iterator<Group> groupIterator = validationOrder.getGroupIterator();
 		while ( groupIterator.hasNext() ) {
 			Group group = groupIterator.next();
-			valueContext.setCurrentGroup( group.getDefiningClass() );
+			valueContext.setCurrentGroup( group );
 			validatePropertyForCurrentGroup( valueContext, context, metaConstraints, typeUseConstraints );
 			if ( shouldFailFast( context ) ) {
 				return context.getFailingConstraints();
@@ -841,7 +1129,7 @@ private <T> Set<ConstraintViolation<T>> validatePropertyInContext(ValidationCont
 				int numberOfConstraintViolations = 0;
 
 				for ( Group group : groupOfGroups ) {
-					valueContext.setCurrentGroup( group.getDefiningClass() );
+					valueContext.setCurrentGroup( group );
 					numberOfConstraintViolations += validatePropertyForCurrentGroup(
 							valueContext, context, metaConstraints, typeUseConstraints
 					);
@@ -886,7 +1174,7 @@ private <T> Set<ConstraintViolation<T>> validateValueInContext(ValidationContext
 		Iterator<Group> groupIterator = validationOrder.getGroupIterator();
 		while ( groupIterator.hasNext() ) {
 			Group group = groupIterator.next();
-			valueContext.setCurrentGroup( group.getDefiningClass() );
+			valueContext.setCurrentGroup( group );
 			validatePropertyForCurrentGroup( valueContext, context, metaConstraints, typeArgumentConstraints );
 			if ( shouldFailFast( context ) ) {
 				return context.getFailingConstraints();
@@ -900,7 +1188,7 @@ private <T> Set<ConstraintViolation<T>> validateValueInContext(ValidationContext
 			for ( GroupWithInheritance groupOfGroups : sequence ) {
 				int numberOfConstraintViolations = 0;
 				for ( Group group : groupOfGroups ) {
-					valueContext.setCurrentGroup( group.getDefiningClass() );
+					valueContext.setCurrentGroup( group );
 					numberOfConstraintViolations += validatePropertyForCurrentGroup(
 							valueContext, context, metaConstraints, typeArgumentConstraints
 					);
@@ -1040,7 +1328,7 @@ private <U> boolean validatePropertyForSingleDefaultGroupElement(ValueContext<U,
 			List<MetaConstraint<?>> constraintList, List<MetaConstraint<?>> typeUseConstraints,
 			final Map<Class<?>, Class<?>> validatedInterfaces, Class<? super U> clazz, Set<MetaConstraint<?>> metaConstraints,
 			Group groupClass) {
-		valueContext.setCurrentGroup( groupClass.getDefiningClass() );
+		valueContext.setCurrentGroup( groupClass );
 		boolean validationSuccessful = true;
 
 		for ( MetaConstraint<?> metaConstraint : metaConstraints ) {
@@ -1082,19 +1370,10 @@ private <U> boolean validatePropertyForSingleDefaultGroupElement(ValueContext<U,
 	}
 
 	private <T> void validateParametersInContext(ValidationContext<T> validationContext,
+			BeanMetaData<T> beanMetaData,
+			ExecutableMetaData executableMetaData,
 			Object[] parameterValues,
 			ValidationOrder validationOrder) {
-		BeanMetaData<T> beanMetaData = beanMetaDataManager.getBeanMetaData( validationContext.getRootBeanClass() );
-		ExecutableMetaData executableMetaData = beanMetaData.getMetaDataFor( validationContext.getExecutable() );
-
-		if ( executableMetaData == null ) {
-			// there is no executable metadata - specified object and method do not match
-			throw log.getMethodOrConstructorNotDefinedByValidatedTypeException(
-					beanMetaData.getBeanClass().getName(),
-					validationContext.getExecutable().getMember()
-			);
-		}
-
 		if ( beanMetaData.defaultGroupSequenceIsRedefined() ) {
 			validationOrder.assertDefaultGroupSequenceIsExpandable(
 					beanMetaData.getDefaultGroupSequence(
@@ -1106,7 +1385,7 @@ private <T> void validateParametersInContext(ValidationContext<T> validationCont
 		// process first single groups
 		Iterator<Group> groupIterator = validationOrder.getGroupIterator();
 		while ( groupIterator.hasNext() ) {
-			validateParametersForGroup( validationContext, parameterValues, groupIterator.next() );
+			validateParametersForGroup( validationContext, beanMetaData, executableMetaData, parameterValues, groupIterator.next() );
 			if ( shouldFailFast( validationContext ) ) {
 				return;
 			}
@@ -1115,14 +1394,14 @@ private <T> void validateParametersInContext(ValidationContext<T> validationCont
 		ValueContext<Object[], Object> cascadingValueContext = ValueContext.getLocalExecutionContext(
 				parameterValues,
 				executableMetaData.getValidatableParametersMetaData(),
-				PathImpl.createPathForExecutable( executableMetaData )
+				executableMetaData.createExecutablePath()
 		);
 		cascadingValueContext.setUnwrapMode( executableMetaData.unwrapMode() );
 
 		groupIterator = validationOrder.getGroupIterator();
 		while ( groupIterator.hasNext() ) {
 			Group group = groupIterator.next();
-			cascadingValueContext.setCurrentGroup( group.getDefiningClass() );
+			cascadingValueContext.setCurrentGroup( group );
 			validateCascadedConstraints( validationContext, cascadingValueContext );
 			if ( shouldFailFast( validationContext ) ) {
 				return;
@@ -1137,12 +1416,12 @@ private <T> void validateParametersInContext(ValidationContext<T> validationCont
 				int numberOfViolations = validationContext.getFailingConstraints().size();
 
 				for ( Group group : groupOfGroups ) {
-					validateParametersForGroup( validationContext, parameterValues, group );
+					validateParametersForGroup( validationContext, beanMetaData, executableMetaData, parameterValues, group );
 					if ( shouldFailFast( validationContext ) ) {
 						return;
 					}
 
-					cascadingValueContext.setCurrentGroup( group.getDefiningClass() );
+					cascadingValueContext.setCurrentGroup( group );
 					validateCascadedConstraints( validationContext, cascadingValueContext );
 
 					if ( shouldFailFast( validationContext ) ) {
@@ -1157,12 +1436,10 @@ private <T> void validateParametersInContext(ValidationContext<T> validationCont
 		}
 	}
 
-	private <T> int validateParametersForGroup(ValidationContext<T> validationContext, Object[] parameterValues, Group group) {
+	private <T> int validateParametersForGroup(ValidationContext<T> validationContext, BeanMetaData<T> beanMetaData, ExecutableMetaData executableMetaData,
+			Object[] parameterValues, Group group) {
 		int numberOfViolationsBefore = validationContext.getFailingConstraints().size();
 
-		BeanMetaData<T> beanMetaData = beanMetaDataManager.getBeanMetaData( validationContext.getRootBeanClass() );
-		ExecutableMetaData executableMetaData = beanMetaData.getMetaDataFor( validationContext.getExecutable() );
-
 		if ( parameterValues.length != executableMetaData.getParameterTypes().length ) {
 			throw log.getInvalidParameterCountForExecutableException(
 					ExecutableElement.getExecutableAsString(
@@ -1286,14 +1563,14 @@ private <T> ValueContext<T, Object> getExecutableValueContext(T object, Executab
 			valueContext = ValueContext.getLocalExecutionContext(
 					object,
 					null,
-					PathImpl.createPathForExecutable( executableMetaData )
+					executableMetaData.createExecutablePath()
 			);
 		}
 		else {
 			valueContext = ValueContext.getLocalExecutionContext(
 					(Class<T>) null, //the type is not required in this case (only for cascaded validation)
 					null,
-					PathImpl.createPathForExecutable( executableMetaData )
+					executableMetaData.createExecutablePath()
 			);
 		}
 
@@ -1302,14 +1579,8 @@ private <T> ValueContext<T, Object> getExecutableValueContext(T object, Executab
 		return valueContext;
 	}
 
-	private <V, T> void validateReturnValueInContext(ValidationContext<T> context, T bean, V value, ValidationOrder validationOrder) {
-		BeanMetaData<T> beanMetaData = beanMetaDataManager.getBeanMetaData( context.getRootBeanClass() );
-		ExecutableMetaData executableMetaData = beanMetaData.getMetaDataFor( context.getExecutable() );
-
-		if ( executableMetaData == null ) {
-			return;
-		}
-
+	private <V, T> void validateReturnValueInContext(ValidationContext<T> context, BeanMetaData<T> beanMetaData, ExecutableMetaData executableMetaData,
+			T bean, V value, ValidationOrder validationOrder) {
 		if ( beanMetaData.defaultGroupSequenceIsRedefined() ) {
 			validationOrder.assertDefaultGroupSequenceIsExpandable( beanMetaData.getDefaultGroupSequence( bean ) );
 		}
@@ -1318,7 +1589,7 @@ private <V, T> void validateReturnValueInContext(ValidationContext<T> context, T
 
 		// process first single groups
 		while ( groupIterator.hasNext() ) {
-			validateReturnValueForGroup( context, bean, value, groupIterator.next() );
+			validateReturnValueForGroup( context, beanMetaData, executableMetaData, bean, value, groupIterator.next() );
 			if ( shouldFailFast( context ) ) {
 				return;
 			}
@@ -1330,13 +1601,13 @@ private <V, T> void validateReturnValueInContext(ValidationContext<T> context, T
 			cascadingValueContext = ValueContext.getLocalExecutionContext(
 					value,
 					executableMetaData.getReturnValueMetaData(),
-					PathImpl.createPathForExecutable( executableMetaData )
+					executableMetaData.createExecutablePath()
 			);
 
 			groupIterator = validationOrder.getGroupIterator();
 			while ( groupIterator.hasNext() ) {
 				Group group = groupIterator.next();
-				cascadingValueContext.setCurrentGroup( group.getDefiningClass() );
+				cascadingValueContext.setCurrentGroup( group );
 				validateCascadedConstraints( context, cascadingValueContext );
 				if ( shouldFailFast( context ) ) {
 					return;
@@ -1351,13 +1622,13 @@ private <V, T> void validateReturnValueInContext(ValidationContext<T> context, T
 			for ( GroupWithInheritance groupOfGroups : sequence ) {
 				int numberOfFailingConstraintsBeforeGroup = context.getFailingConstraints().size();
 				for ( Group group : groupOfGroups ) {
-					validateReturnValueForGroup( context, bean, value, group );
+					validateReturnValueForGroup( context, beanMetaData, executableMetaData, bean, value, group );
 					if ( shouldFailFast( context ) ) {
 						return;
 					}
 
 					if ( value != null ) {
-						cascadingValueContext.setCurrentGroup( group.getDefiningClass() );
+						cascadingValueContext.setCurrentGroup( group );
 						validateCascadedConstraints( context, cascadingValueContext );
 
 						if ( shouldFailFast( context ) ) {
@@ -1374,17 +1645,10 @@ private <V, T> void validateReturnValueInContext(ValidationContext<T> context, T
 	}
 
 	//TODO GM: if possible integrate with validateParameterForGroup()
-	private <T> int validateReturnValueForGroup(ValidationContext<T> validationContext, T bean, Object value, Group group) {
+	private <T> int validateReturnValueForGroup(ValidationContext<T> validationContext, BeanMetaData<T> beanMetaData, ExecutableMetaData executableMetaData,
+			T bean, Object value, Group group) {
 		int numberOfViolationsBefore = validationContext.getFailingConstraints().size();
 
-		BeanMetaData<T> beanMetaData = beanMetaDataManager.getBeanMetaData( validationContext.getRootBeanClass() );
-		ExecutableMetaData executableMetaData = beanMetaData.getMetaDataFor( validationContext.getExecutable() );
-
-		if ( executableMetaData == null ) {
-			// nothing to validate
-			return 0;
-		}
-
 		// TODO GM: define behavior with respect to redefined default sequences. Should only the
 		// sequence from the validated bean be honored or also default sequence definitions up in
 		// the inheritance tree?
@@ -1604,11 +1868,15 @@ private <V> ValueContext<?, V> collectMetaConstraintsForPathWithoutValue(Validat
 
 	/**
 	 * Must be called and stored for the duration of the stack call
-	 * A new instance is returned each time
+	 * A new instance is returned each time, unless the resolver is never invoked anyways
 	 *
 	 * @return The resolver for the duration of a full validation.
 	 */
 	private TraversableResolver getCachingTraversableResolver() {
+		if ( traversableResolverAlwaysReachable && traversableResolverAlwaysCascadable ) {
+			return traversableResolver;
+		}
+
 		return new CachingTraversableResolverForSingleValidation( traversableResolver );
 	}
 
@@ -1623,7 +1891,7 @@ private boolean isValidationRequired(ValidationContext<?> validationContext,
 			return false;
 		}
 
-		if ( !metaConstraint.getGroupList().contains( valueContext.getCurrentGroup() ) ) {
+		if ( !metaConstraint.isInGroup( valueContext.getCurrentGroupId(), valueContext.getCurrentGroup() ) ) {
 			return false;
 		}
 		return isReachable(
@@ -1635,11 +1903,11 @@ private boolean isValidationRequired(ValidationContext<?> validationContext,
 	}
 
 	private boolean isReachable(ValidationContext<?> validationContext, Object traversableObject, PathImpl path, ElementType type) {
-		if ( needToCallTraversableResolver( path, type ) ) {
+		if ( traversableResolverAlwaysReachable || needToCallTraversableResolver( path, type ) ) {
 			return true;
 		}
 
-		Path pathToObject = path.getPathWithoutLeafNode();
+		Path pathToObject = getPathToTraversableObject( path );
 		try {
 			return validationContext.getTraversableResolver().isReachable(
 					traversableObject,
@@ -1666,7 +1934,8 @@ private boolean needToCallTraversableResolver(PathImpl path, ElementType type) {
 	}
 
 	private boolean isCascadeRequired(ValidationContext<?> validationContext, Object traversableObject, PathImpl path, ElementType type) {
-		if ( needToCallTraversableResolver( path, type ) ) {
+		if ( ( traversableResolverAlwaysReachable && traversableResolverAlwaysCascadable )
+				|| needToCallTraversableResolver( path, type ) ) {
 			return true;
 		}
 
@@ -1675,7 +1944,11 @@ private boolean isCascadeRequired(ValidationContext<?> validationContext, Object
 			return false;
 		}
 
-		Path pathToObject = path.getPathWithoutLeafNode();
+		if ( traversableResolverAlwaysCascadable ) {
+			return true;
+		}
+
+		Path pathToObject = getPathToTraversableObject( path );
 		try {
 			return validationContext.getTraversableResolver().isCascadable(
 					traversableObject,
@@ -1690,6 +1963,10 @@ private boolean isCascadeRequired(ValidationContext<?> validationContext, Object
 		}
 	}
 
+	private Path getPathToTraversableObject(PathImpl path) {
+		return traversableResolverNeedsPath ? path.getPathWithoutLeafNode() : null;
+	}
+
 	private boolean isClassLevelConstraint(ElementType type) {
 		return ElementType.TYPE.equals( type );
 	}
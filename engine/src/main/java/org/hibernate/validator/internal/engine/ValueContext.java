@@ -12,6 +12,8 @@
 import javax.validation.ElementKind;
 import javax.validation.groups.Default;
 
+import org.hibernate.validator.internal.engine.groups.Group;
+import org.hibernate.validator.internal.engine.groups.GroupIds;
 import org.hibernate.validator.internal.engine.path.PathImpl;
 import org.hibernate.validator.internal.engine.valuehandling.UnwrapMode;
 import org.hibernate.validator.internal.metadata.aggregated.ParameterMetaData;
@@ -47,6 +49,11 @@
 	 */
 	private Class<?> currentGroup;
 
+	/**
+	 * The id of the current group.
+	 */
+	private int currentGroupId = GroupIds.NO_GROUP;
+
 	/**
 	 * The value which gets currently evaluated.
 	 */
@@ -74,6 +81,11 @@
 	 */
 	private UnwrapMode unwrapMode = UnwrapMode.AUTOMATIC;
 
+	/**
+	 * The changed properties of the current bean if only those are to be validated, {@code null} otherwise.
+	 */
+	private ChangedProperties changedProperties;
+
 	public static <T, V> ValueContext<T, V> getLocalExecutionContext(T value, Validatable validatable, PathImpl propertyPath) {
 		@SuppressWarnings("unchecked")
 		Class<T> rootBeanClass = (Class<T>) value.getClass();
@@ -91,6 +103,25 @@ private ValueContext(T currentBean, Class<T> currentBeanType, Validatable valida
 		this.propertyPath = propertyPath;
 	}
 
+	/**
+	 * Returns a copy of this context in its current state, e.g. for creating the constraint violations of a check whose
+	 * result is only known once this context has moved on to other values.
+	 *
+	 * @return a copy of this context
+	 */
+	public ValueContext<T, V> copy() {
+		ValueContext<T, V> copy = new ValueContext<T, V>( currentBean, currentBeanType, currentValidatable, propertyPath );
+		copy.currentGroup = currentGroup;
+		copy.currentGroupId = currentGroupId;
+		copy.currentValue = currentValue;
+		copy.elementType = elementType;
+		copy.declaredTypeOfValidatedElement = declaredTypeOfValidatedElement;
+		copy.validatedValueHandler = validatedValueHandler;
+		copy.unwrapMode = unwrapMode;
+		copy.changedProperties = changedProperties;
+		return copy;
+	}
+
 	public final PathImpl getPropertyPath() {
 		return propertyPath;
 	}
@@ -99,6 +130,13 @@ public final Class<?> getCurrentGroup() {
 		return currentGroup;
 	}
 
+	/**
+	 * @return the id of the current group as assigned by {@link GroupIds}
+	 */
+	public final int getCurrentGroupId() {
+		return currentGroupId;
+	}
+
 	public final T getCurrentBean() {
 		return currentBean;
 	}
@@ -168,6 +206,12 @@ public final void setIndex(Integer index) {
 
 	public final void setCurrentGroup(Class<?> currentGroup) {
 		this.currentGroup = currentGroup;
+		this.currentGroupId = GroupIds.getId( currentGroup );
+	}
+
+	public final void setCurrentGroup(Group currentGroup) {
+		this.currentGroup = currentGroup.getDefiningClass();
+		this.currentGroupId = currentGroup.getId();
 	}
 
 	public final void setCurrentValidatedValue(V currentValue) {
@@ -224,6 +268,14 @@ public ValidatedValueUnwrapper<V> getValidatedValueHandler() {
 		return validatedValueHandler;
 	}
 
+	ChangedProperties getChangedProperties() {
+		return changedProperties;
+	}
+
+	void setChangedProperties(ChangedProperties changedProperties) {
+		this.changedProperties = changedProperties;
+	}
+
 	public UnwrapMode getUnwrapMode() {
 		return unwrapMode;
 	}
@@ -11,10 +11,12 @@
 import java.util.Collections;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.Future;
 import javax.validation.ConstraintValidator;
 import javax.validation.ConstraintViolation;
 
 import org.hibernate.validator.constraints.CompositionType;
+import org.hibernate.validator.constraintvalidation.AsyncConstraintValidator;
 import org.hibernate.validator.internal.engine.ValidationContext;
 import org.hibernate.validator.internal.engine.ValueContext;
 import org.hibernate.validator.internal.engine.valuehandling.UnwrapMode;
@@ -32,6 +34,11 @@
 /**
  * Due to constraint composition a single constraint annotation can lead to a whole constraint tree being validated.
  * This class encapsulates such a tree.
+ * <p>
+ * Trees are immutable and hold no state specific to a validator factory, as the trees of identical constraint
+ * definitions are shared by all meta constraints of the JVM (see
+ * {@link org.hibernate.validator.internal.metadata.core.MetaConstraint}). State such as the initialized
+ * validators or their cached results is kept by the {@link ConstraintValidatorManager} of the factory.
  *
  * @author Hardy Ferentschik
  * @author Federico Mancini
@@ -52,6 +59,12 @@
 	 */
 	private final ConstraintDescriptorImpl<A> descriptor;
 
+	/**
+	 * Whether any of the validator types of the constraint caches its results; if not, result caches are never looked
+	 * up for this constraint.
+	 */
+	private final boolean resultCacheable;
+
 	public ConstraintTree(ConstraintDescriptorImpl<A> descriptor) {
 		this( descriptor, null );
 	}
@@ -59,14 +72,27 @@ public ConstraintTree(ConstraintDescriptorImpl<A> descriptor) {
 	private ConstraintTree(ConstraintDescriptorImpl<A> descriptor, ConstraintTree<?> parent) {
 		this.parent = parent;
 		this.descriptor = descriptor;
+		this.resultCacheable = hasCacheableValidatorType( descriptor );
 
 		final Set<ConstraintDescriptorImpl<?>> composingConstraints = descriptor.getComposingConstraintImpls();
-		children = newArrayList( composingConstraints.size() );
+		List<ConstraintTree<?>> children = newArrayList( composingConstraints.size() );
 
 		for ( ConstraintDescriptorImpl<?> composingDescriptor : composingConstraints ) {
 			ConstraintTree<?> treeNode = createConstraintTree( composingDescriptor );
 			children.add( treeNode );
 		}
+
+		this.children = Collections.unmodifiableList( children );
+	}
+
+	private static boolean hasCacheableValidatorType(ConstraintDescriptorImpl<?> descriptor) {
+		for ( Class<?> validatorType : descriptor.getMatchingConstraintValidatorClasses() ) {
+			if ( ValidationResultCache.isCacheableValidatorType( validatorType ) ) {
+				return true;
+			}
+		}
+
+		return false;
 	}
 
 	private <U extends Annotation> ConstraintTree<U> createConstraintTree(ConstraintDescriptorImpl<U> composingDescriptor) {
@@ -102,7 +128,7 @@ private <T, V> void validateConstraints(ValidationContext<T> validationContext,
 		Set<ConstraintViolation<T>> localViolations;
 
 		// After all children are validated the actual ConstraintValidator of the constraint itself is executed
-		if ( mainConstraintNeedsEvaluation( validationContext, constraintViolations ) ) {
+		if ( mainConstraintNeedsEvaluation( validationContext, compositionResult ) ) {
 
 			if ( log.isTraceEnabled() ) {
 				log.tracef(
@@ -151,13 +177,40 @@ private <T, V> void validateConstraints(ValidationContext<T> validationContext,
 		}
 	}
 
+	/**
+	 * Evaluates this constraint tree without creating any constraint violations. Used for composing constraints whose
+	 * violations would be discarded anyways, e.g. as the composed constraint is reported as single violation.
+	 *
+	 * @return {@code true} if the validated value satisfies this constraint, {@code false} otherwise
+	 */
+	private <T, V> boolean isValid(ValidationContext<T> validationContext, ValueContext<?, V> valueContext) {
+		CompositionResult compositionResult = validateComposingConstraints( validationContext, valueContext, null );
+
+		if ( mainConstraintNeedsEvaluation( validationContext, compositionResult ) ) {
+			ConstraintValidator<A, V> validator = getInitializedConstraintValidator( validationContext, valueContext );
+
+			ConstraintValidatorContextImpl constraintValidatorContext = new ConstraintValidatorContextImpl(
+					validationContext.getParameterNames(),
+					validationContext.getTimeProvider(),
+					valueContext.getPropertyPath(),
+					descriptor
+			);
+
+			if ( isValid( validationContext, valueContext, constraintValidatorContext, validator ) ) {
+				compositionResult.setAtLeastOneTrue( true );
+			}
+			else {
+				// still detect validators which disabled the default violation without creating a custom one
+				constraintValidatorContext.getConstraintViolationCreationContexts();
+				compositionResult.setAllTrue( false );
+			}
+		}
+
+		return passesCompositionTypeRequirement( compositionResult );
+	}
+
 	private <T, V> ConstraintValidator<A, V> getInitializedConstraintValidator(ValidationContext<T> validationContext,
 			ValueContext<?, V> valueContext) {
-		Type validatedValueType = valueContext.getDeclaredTypeOfValidatedElement();
-		@SuppressWarnings("unchecked")
-		ValidatedValueUnwrapper<V> validatedValueUnwrapper = (ValidatedValueUnwrapper<V>) validationContext
-				.getValidatedValueUnwrapper( validatedValueType );
-
 		// AUTOMATIC mode, need to determine which types of constraint validators are available
 		if ( valueContext.getUnwrapMode().equals( UnwrapMode.AUTOMATIC ) ) {
 			return getConstraintValidatorInstanceForAutomaticUnwrapping(
@@ -168,6 +221,11 @@ private <T, V> ConstraintValidator<A, V> getInitializedConstraintValidator(Valid
 		// TYPE_USE requires implicitly unwrapping
 		else if ( valueContext.getUnwrapMode().equals( UnwrapMode.UNWRAP )
 				|| TYPE_USE.equals( valueContext.getElementType().name() ) ) {
+			Type validatedValueType = valueContext.getDeclaredTypeOfValidatedElement();
+			@SuppressWarnings("unchecked")
+			ValidatedValueUnwrapper<V> validatedValueUnwrapper = (ValidatedValueUnwrapper<V>) validationContext
+					.getValidatedValueUnwrapper( validatedValueType );
+
 			return getInitializedValidatorInstanceForWrappedInstance(
 					validationContext,
 					valueContext,
@@ -314,20 +372,23 @@ private <T, V> ConstraintValidator<A, V> getConstraintValidatorNoUnwrapping(Vali
 	}
 
 	private <T> boolean mainConstraintNeedsEvaluation(ValidationContext<T> executionContext,
-			Set<ConstraintViolation<T>> constraintViolations) {
+			CompositionResult compositionResult) {
 		// we are dealing with a composing constraint with no validator for the main constraint
 		if ( !descriptor.getComposingConstraints().isEmpty() && descriptor.getMatchingConstraintValidatorClasses()
 				.isEmpty() ) {
 			return false;
 		}
 
+		// a composing constraint failed, i.e. there is already a violation
+		boolean composingConstraintFailed = !compositionResult.isAllTrue();
+
 		// report as single violation and there is already a violation
-		if ( descriptor.isReportAsSingleViolation() && descriptor.getCompositionType() == AND && !constraintViolations.isEmpty() ) {
+		if ( descriptor.isReportAsSingleViolation() && descriptor.getCompositionType() == AND && composingConstraintFailed ) {
 			return false;
 		}
 
 		// explicit fail fast mode
-		if ( executionContext.isFailFastModeEnabled() && !constraintViolations.isEmpty() ) {
+		if ( executionContext.isFailFastModeEnabled() && composingConstraintFailed ) {
 			return false;
 		}
 
@@ -381,10 +442,15 @@ private <T> void prepareFinalConstraintViolations(ValidationContext<T> execution
 
 	/**
 	 * Validates all composing constraints recursively.
+	 * <p>
+	 * If the violations of the composing constraints are going to be discarded (the constraint is reported as single
+	 * violation or {@code constraintViolations} is {@code null}), the composing constraints are only evaluated for
+	 * their result, without creating any constraint violations.
 	 *
 	 * @param executionContext Meta data about top level validation
 	 * @param valueContext Meta data for currently validated value
-	 * @param constraintViolations Used to accumulate constraint violations
+	 * @param constraintViolations Used to accumulate constraint violations; {@code null} if only the result of the
+	 * evaluation is of interest
 	 *
 	 * @return Returns an instance of {@code CompositionResult} relevant for boolean composition of constraints
 	 */
@@ -392,13 +458,22 @@ private <T> CompositionResult validateComposingConstraints(ValidationContext<T>
 			ValueContext<?, ?> valueContext,
 			Set<ConstraintViolation<T>> constraintViolations) {
 		CompositionResult compositionResult = new CompositionResult( true, false );
+		boolean collectViolations = constraintViolations != null && !reportAsSingleViolation();
 		List<ConstraintTree<?>> children = getChildren();
 		for ( ConstraintTree<?> tree : children ) {
-			Set<ConstraintViolation<T>> tmpViolations = newHashSet();
-			tree.validateConstraints( executionContext, valueContext, tmpViolations );
-			constraintViolations.addAll( tmpViolations );
+			boolean isValid;
 
-			if ( tmpViolations.isEmpty() ) {
+			if ( collectViolations ) {
+				Set<ConstraintViolation<T>> tmpViolations = newHashSet();
+				tree.validateConstraints( executionContext, valueContext, tmpViolations );
+				constraintViolations.addAll( tmpViolations );
+				isValid = tmpViolations.isEmpty();
+			}
+			else {
+				isValid = tree.isValid( executionContext, valueContext );
+			}
+
+			if ( isValid ) {
 				compositionResult.setAtLeastOneTrue( true );
 				// no need to further validate constraints, because at least one validation passed
 				if ( descriptor.getCompositionType() == OR ) {
@@ -417,6 +492,15 @@ private <T> CompositionResult validateComposingConstraints(ValidationContext<T>
 	}
 
 	private boolean passesCompositionTypeRequirement(Set<?> constraintViolations, CompositionResult compositionResult) {
+		boolean passedValidation = passesCompositionTypeRequirement( compositionResult );
+		assert ( !passedValidation || !( getDescriptor().getCompositionType() == AND ) || constraintViolations.isEmpty() );
+		if ( passedValidation ) {
+			constraintViolations.clear();
+		}
+		return passedValidation;
+	}
+
+	private boolean passesCompositionTypeRequirement(CompositionResult compositionResult) {
 		CompositionType compositionType = getDescriptor().getCompositionType();
 		boolean passedValidation = false;
 		switch ( compositionType ) {
@@ -430,10 +514,6 @@ private boolean passesCompositionTypeRequirement(Set<?> constraintViolations, Co
 				passedValidation = !compositionResult.isAtLeastOneTrue();
 				break;
 		}
-		assert ( !passedValidation || !( compositionType == AND ) || constraintViolations.isEmpty() );
-		if ( passedValidation ) {
-			constraintViolations.clear();
-		}
 		return passedValidation;
 	}
 
@@ -441,16 +521,26 @@ private <T, V> Set<ConstraintViolation<T>> validateSingleConstraint(ValidationCo
 			ValueContext<?, ?> valueContext,
 			ConstraintValidatorContextImpl constraintValidatorContext,
 			ConstraintValidator<A, V> validator) {
-		boolean isValid;
-		try {
+		// the result of a standalone constraint is not needed for evaluating any composition, so it can be awaited later
+		if ( validator instanceof AsyncConstraintValidator && parent == null && children.isEmpty()
+				&& executionContext.isCollectingPendingChecks() ) {
 			@SuppressWarnings("unchecked")
 			V validatedValue = (V) valueContext.getCurrentValidatedValue();
-			isValid = validator.isValid( validatedValue, constraintValidatorContext );
-		}
-		catch (RuntimeException e) {
-			throw log.getExceptionDuringIsValidCallException( e );
+
+			Future<Boolean> result = isValidAsync(
+					validatedValue,
+					constraintValidatorContext,
+					(AsyncConstraintValidator<A, V>) validator
+			);
+			// the value context moves on to other values before the check is awaited
+			executionContext.addPendingCheck(
+					new PendingConstraintCheck<T>( result, valueContext.copy(), constraintValidatorContext )
+			);
+
+			return Collections.emptySet();
 		}
-		if ( !isValid ) {
+
+		if ( !isValid( executionContext, valueContext, constraintValidatorContext, validator ) ) {
 			//We do not add these violations yet, since we don't know how they are
 			//going to influence the final boolean evaluation
 			return executionContext.createConstraintViolations(
@@ -460,6 +550,57 @@ private <T, V> Set<ConstraintViolation<T>> validateSingleConstraint(ValidationCo
 		return Collections.emptySet();
 	}
 
+	private <T, V> boolean isValid(ValidationContext<T> validationContext,
+			ValueContext<?, ?> valueContext,
+			ConstraintValidatorContextImpl constraintValidatorContext,
+			ConstraintValidator<A, V> validator) {
+		@SuppressWarnings("unchecked")
+		V validatedValue = (V) valueContext.getCurrentValidatedValue();
+
+		ValidationResultCache cache = resultCacheable && ValidationResultCache.isCacheable( validatedValue )
+				? validationContext.getConstraintValidatorManager().getResultCache( validator )
+				: null;
+		if ( cache != null ) {
+			Boolean cachedResult = cache.get( validatedValue );
+			if ( cachedResult != null ) {
+				return cachedResult;
+			}
+		}
+
+		boolean isValid;
+		if ( validator instanceof AsyncConstraintValidator ) {
+			isValid = PendingConstraintCheck.awaitResult(
+					isValidAsync( validatedValue, constraintValidatorContext, (AsyncConstraintValidator<A, V>) validator )
+			);
+		}
+		else {
+			try {
+				isValid = validator.isValid( validatedValue, constraintValidatorContext );
+			}
+			catch (RuntimeException e) {
+				throw log.getExceptionDuringIsValidCallException( e );
+			}
+		}
+
+		// a failed validation can only be replayed if it results in the default violation
+		if ( cache != null && ( isValid || constraintValidatorContext.isDefaultConstraintViolationOnly() ) ) {
+			cache.put( validatedValue, isValid );
+		}
+
+		return isValid;
+	}
+
+	private <V> Future<Boolean> isValidAsync(V validatedValue,
+			ConstraintValidatorContextImpl constraintValidatorContext,
+			AsyncConstraintValidator<A, V> validator) {
+		try {
+			return validator.isValidAsync( validatedValue, constraintValidatorContext );
+		}
+		catch (RuntimeException e) {
+			throw log.getExceptionDuringIsValidCallException( e );
+		}
+	}
+
 	/**
 	 * @return {@code} true if the current constraint should be reported as single violation, {@code false otherwise}.
 	 * When using negation, we only report the single top-level violation, as
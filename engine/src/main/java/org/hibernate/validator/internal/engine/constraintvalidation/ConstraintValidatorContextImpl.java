@@ -127,6 +127,15 @@ public final List<ConstraintViolationCreationContext> getConstraintViolationCrea
 		return returnedConstraintViolationCreationContexts;
 	}
 
+	/**
+	 * Whether the validator evaluated with this context left it untouched, i.e. the default constraint violation
+	 * without any expression variables or payload will be created.
+	 */
+	public boolean isDefaultConstraintViolationOnly() {
+		return !defaultDisabled && constraintViolationCreationContexts.isEmpty() && expressionVariables.isEmpty()
+				&& dynamicPayload == null;
+	}
+
 	public List<String> getMethodParameterNames() {
 		return methodParameterNames;
 	}
@@ -9,22 +9,31 @@
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
 import javax.validation.ConstraintValidator;
 import javax.validation.ConstraintValidatorContext;
 import javax.validation.ConstraintValidatorFactory;
 import javax.validation.constraints.Null;
 import javax.validation.metadata.ConstraintDescriptor;
 
+import org.hibernate.validator.constraintvalidation.CacheableValidationResult;
+import org.hibernate.validator.constraintvalidation.ValidationResultCacheStatistics;
 import org.hibernate.validator.internal.metadata.descriptor.ConstraintDescriptorImpl;
+import org.hibernate.validator.internal.util.ConcurrentReferenceHashMap;
 import org.hibernate.validator.internal.util.Contracts;
 import org.hibernate.validator.internal.util.TypeHelper;
 import org.hibernate.validator.internal.util.logging.Log;
 import org.hibernate.validator.internal.util.logging.LoggerFactory;
 
 import static org.hibernate.validator.internal.util.CollectionHelper.newArrayList;
+import static org.hibernate.validator.internal.util.ConcurrentReferenceHashMap.Option.IDENTITY_COMPARISONS;
+import static org.hibernate.validator.internal.util.ConcurrentReferenceHashMap.ReferenceType.STRONG;
+import static org.hibernate.validator.internal.util.ConcurrentReferenceHashMap.ReferenceType.WEAK;
 
 /**
  * Manager in charge of providing and caching initialized {@code ConstraintValidator} instances.
@@ -49,24 +58,47 @@ public boolean isValid(Object value, ConstraintValidatorContext context) {
 		}
 	};
 
+	/**
+	 * The default maximum number of non default constraint validator factories whose validator instances are cached.
+	 */
+	public static final int DEFAULT_MAX_CACHED_NON_DEFAULT_FACTORIES = 10;
+
 	/**
 	 * The explicit or implicit default constraint validator factory. We always cache {@code ConstraintValidator} instances
 	 * if they are created via the default instance. Constraint validator instances created via other factory
-	 * instances (specified eg via {@code ValidatorFactory#usingContext()} are only cached for the least recently used
-	 * factory
+	 * instances (specified eg via {@code ValidatorFactory#usingContext()} are cached for the
+	 * {@link #maxCachedNonDefaultFactories} most recently used factories.
 	 */
 	private final ConstraintValidatorFactory defaultConstraintValidatorFactory;
 
 	/**
-	 * The least recently used non default constraint validator factory.
+	 * Cache of initialized {@code ConstraintValidator} instances created via the default factory, keyed against
+	 * validated type and annotation ({@code CacheKey}).
+	 */
+	private final ConcurrentMap<CacheKey, ConstraintValidator<?, ?>> defaultFactoryConstraintValidatorCache;
+
+	/**
+	 * Caches of initialized {@code ConstraintValidator} instances created via non default factories, one per factory.
+	 * Factories are weakly referenced, so the validators created by a factory no longer used by the application are
+	 * discarded.
 	 */
-	private ConstraintValidatorFactory leastRecentlyUsedNonDefaultConstraintValidatorFactory;
+	private final ConcurrentReferenceHashMap<ConstraintValidatorFactory, FactoryCache> nonDefaultFactoryCaches;
+
+	private final int maxCachedNonDefaultFactories;
+
+	/**
+	 * Used to determine the least recently used non default factory.
+	 */
+	private final AtomicLong accessCounter = new AtomicLong();
 
 	/**
-	 * Cache of initialized {@code ConstraintValidator} instances keyed against validates type, annotation and
-	 * constraint validator factory ({@code CacheKey}).
+	 * The caches of the results of the validators marked with {@link CacheableValidationResult}, keyed by the
+	 * validator instances created by this manager. Validators are weakly referenced, so the cache of a validator is
+	 * discarded together with it.
 	 */
-	private final ConcurrentHashMap<CacheKey, ConstraintValidator<?, ?>> constraintValidatorCache;
+	private final ConcurrentReferenceHashMap<ConstraintValidator<?, ?>, ValidationResultCache> resultCaches;
+
+	private final ValidationResultCacheStatistics resultCacheStatistics = new ResultCacheStatistics();
 
 	/**
 	 * Creates a new {@code ConstraintValidatorManager}.
@@ -74,8 +106,37 @@ public boolean isValid(Object value, ConstraintValidatorContext context) {
 	 * @param constraintValidatorFactory the validator factory
 	 */
 	public ConstraintValidatorManager(ConstraintValidatorFactory constraintValidatorFactory) {
+		this( constraintValidatorFactory, DEFAULT_MAX_CACHED_NON_DEFAULT_FACTORIES );
+	}
+
+	/**
+	 * Creates a new {@code ConstraintValidatorManager}.
+	 *
+	 * @param constraintValidatorFactory the validator factory
+	 * @param maxCachedNonDefaultFactories the maximum number of non default factories whose validator instances are
+	 * cached; once exceeded, the validators of the least recently used factory are discarded
+	 */
+	public ConstraintValidatorManager(ConstraintValidatorFactory constraintValidatorFactory,
+			int maxCachedNonDefaultFactories) {
 		this.defaultConstraintValidatorFactory = constraintValidatorFactory;
-		this.constraintValidatorCache = new ConcurrentHashMap<CacheKey, ConstraintValidator<?, ?>>();
+		this.defaultFactoryConstraintValidatorCache = new ConcurrentHashMap<CacheKey, ConstraintValidator<?, ?>>();
+		this.nonDefaultFactoryCaches = new ConcurrentReferenceHashMap<ConstraintValidatorFactory, FactoryCache>(
+				16,
+				0.75f,
+				16,
+				WEAK,
+				STRONG,
+				EnumSet.of( IDENTITY_COMPARISONS )
+		);
+		this.maxCachedNonDefaultFactories = maxCachedNonDefaultFactories;
+		this.resultCaches = new ConcurrentReferenceHashMap<ConstraintValidator<?, ?>, ValidationResultCache>(
+				16,
+				0.75f,
+				16,
+				WEAK,
+				STRONG,
+				EnumSet.of( IDENTITY_COMPARISONS )
+		);
 	}
 
 	/**
@@ -95,23 +156,25 @@ public <V, A extends Annotation> ConstraintValidator<A, V> getInitializedValidat
 		Contracts.assertNotNull( descriptor );
 		Contracts.assertNotNull( constraintFactory );
 
+		final ConcurrentMap<CacheKey, ConstraintValidator<?, ?>> constraintValidatorCache = getConstraintValidatorCache(
+				constraintFactory
+		);
 		final CacheKey key = new CacheKey(
 				descriptor.getAnnotation(),
-				validatedValueType,
-				constraintFactory
+				validatedValueType
 		);
 
-		if ( constraintValidatorCache.containsKey( key ) ) {
-			@SuppressWarnings("unchecked")
-			ConstraintValidator<A, V> constraintValidator = (ConstraintValidator<A, V>) constraintValidatorCache.get(
-					key
-			);
-			if ( DUMMY_CONSTRAINT_VALIDATOR.equals( constraintValidator ) ) {
+		@SuppressWarnings("unchecked")
+		ConstraintValidator<A, V> cachedConstraintValidator = (ConstraintValidator<A, V>) constraintValidatorCache.get(
+				key
+		);
+		if ( cachedConstraintValidator != null ) {
+			if ( DUMMY_CONSTRAINT_VALIDATOR.equals( cachedConstraintValidator ) ) {
 				return null;
 			}
 			else {
-				log.tracef( "Constraint validator %s found in cache.", constraintValidator );
-				return constraintValidator;
+				log.tracef( "Constraint validator %s found in cache.", cachedConstraintValidator );
+				return cachedConstraintValidator;
 			}
 		}
 
@@ -125,43 +188,58 @@ public <V, A extends Annotation> ConstraintValidator<A, V> getInitializedValidat
 				descriptor
 		);
 		if ( constraintValidator == null ) {
-			putInitializedValidator(
-					validatedValueType,
-					descriptor.getAnnotation(),
-					constraintFactory,
-					DUMMY_CONSTRAINT_VALIDATOR
-			);
+			constraintValidatorCache.putIfAbsent( key, DUMMY_CONSTRAINT_VALIDATOR );
 			return null;
 		}
 		else {
-			putInitializedValidator(
-					validatedValueType,
-					descriptor.getAnnotation(),
-					constraintFactory,
-					constraintValidator
-			);
+			constraintValidatorCache.putIfAbsent( key, constraintValidator );
 			return constraintValidator;
-
 		}
 	}
 
-	private void putInitializedValidator(Type validatedValueType,
-			Annotation annotation,
-			ConstraintValidatorFactory constraintFactory,
-			ConstraintValidator<?, ?> constraintValidator) {
-		// we only cache constraint validator instance for the default and least recently used factory
-		if ( constraintFactory != defaultConstraintValidatorFactory && constraintFactory != leastRecentlyUsedNonDefaultConstraintValidatorFactory ) {
-			clearEntriesForFactory( leastRecentlyUsedNonDefaultConstraintValidatorFactory );
-			leastRecentlyUsedNonDefaultConstraintValidatorFactory = constraintFactory;
+	/**
+	 * Returns the cache for the validators created by the given factory. If a new cache needs to be created for a non
+	 * default factory and the maximum number of cached factories is reached, the cache of the least recently used
+	 * factory is discarded.
+	 */
+	private ConcurrentMap<CacheKey, ConstraintValidator<?, ?>> getConstraintValidatorCache(ConstraintValidatorFactory constraintFactory) {
+		if ( constraintFactory == defaultConstraintValidatorFactory ) {
+			return defaultFactoryConstraintValidatorCache;
 		}
 
-		final CacheKey key = new CacheKey(
-				annotation,
-				validatedValueType,
-				constraintFactory
-		);
+		FactoryCache factoryCache = nonDefaultFactoryCaches.get( constraintFactory );
+
+		if ( factoryCache == null ) {
+			synchronized ( nonDefaultFactoryCaches ) {
+				factoryCache = nonDefaultFactoryCaches.get( constraintFactory );
+				if ( factoryCache == null ) {
+					if ( nonDefaultFactoryCaches.size() >= maxCachedNonDefaultFactories ) {
+						evictLeastRecentlyUsedFactoryCache();
+					}
+					factoryCache = new FactoryCache();
+					nonDefaultFactoryCaches.put( constraintFactory, factoryCache );
+				}
+			}
+		}
 
-		constraintValidatorCache.putIfAbsent( key, constraintValidator );
+		factoryCache.lastAccess = accessCounter.incrementAndGet();
+		return factoryCache.constraintValidators;
+	}
+
+	private void evictLeastRecentlyUsedFactoryCache() {
+		ConstraintValidatorFactory leastRecentlyUsedFactory = null;
+		long leastRecentAccess = Long.MAX_VALUE;
+
+		for ( Map.Entry<ConstraintValidatorFactory, FactoryCache> entry : nonDefaultFactoryCaches.entrySet() ) {
+			if ( entry.getValue().lastAccess < leastRecentAccess ) {
+				leastRecentAccess = entry.getValue().lastAccess;
+				leastRecentlyUsedFactory = entry.getKey();
+			}
+		}
+
+		if ( leastRecentlyUsedFactory != null ) {
+			nonDefaultFactoryCaches.remove( leastRecentlyUsedFactory );
+		}
 	}
 
 	private <V, A extends Annotation> ConstraintValidator<A, V> createAndInitializeValidator(
@@ -181,26 +259,54 @@ private <V, A extends Annotation> ConstraintValidator<A, V> createAndInitializeV
 			throw log.getConstraintFactoryMustNotReturnNullException( validatorClass.getName() );
 		}
 		initializeConstraint( descriptor, constraintValidator );
+
+		// decide once whether to cache the results of the new instance
+		if ( ValidationResultCache.isCacheableValidatorType( constraintValidator.getClass() ) ) {
+			resultCaches.put( constraintValidator, ValidationResultCache.forValidator( constraintValidator ) );
+		}
+
 		return constraintValidator;
 	}
 
-	private void clearEntriesForFactory(ConstraintValidatorFactory constraintFactory) {
-		List<CacheKey> entriesToRemove = new ArrayList<CacheKey>();
-		for ( Map.Entry<CacheKey, ConstraintValidator<?, ?>> entry : constraintValidatorCache.entrySet() ) {
-			if ( entry.getKey().getConstraintFactory() == constraintFactory ) {
-				entriesToRemove.add( entry.getKey() );
+	/**
+	 * Returns the cache for the results of the given validator.
+	 *
+	 * @param validator a validator obtained from this manager
+	 *
+	 * @return the result cache or {@code null} if the given validator is not marked as cacheable
+	 */
+	public ValidationResultCache getResultCache(ConstraintValidator<?, ?> validator) {
+		return resultCaches.get( validator );
+	}
+
+	/**
+	 * @return a live view of the statistics of all result caches of this manager
+	 */
+	public ValidationResultCacheStatistics getResultCacheStatistics() {
+		return resultCacheStatistics;
+	}
+
+	public void clear() {
+		resultCaches.clear();
+
+		releaseInstances( defaultConstraintValidatorFactory, defaultFactoryConstraintValidatorCache );
+		defaultFactoryConstraintValidatorCache.clear();
+
+		synchronized ( nonDefaultFactoryCaches ) {
+			for ( Map.Entry<ConstraintValidatorFactory, FactoryCache> entry : nonDefaultFactoryCaches.entrySet() ) {
+				releaseInstances( entry.getKey(), entry.getValue().constraintValidators );
 			}
-		}
-		for ( CacheKey key : entriesToRemove ) {
-			constraintValidatorCache.remove( key );
+			nonDefaultFactoryCaches.clear();
 		}
 	}
 
-	public void clear() {
-		for ( Map.Entry<CacheKey, ConstraintValidator<?, ?>> entry : constraintValidatorCache.entrySet() ) {
-			entry.getKey().getConstraintFactory().releaseInstance( entry.getValue() );
+	private void releaseInstances(ConstraintValidatorFactory constraintFactory,
+			Map<CacheKey, ConstraintValidator<?, ?>> constraintValidators) {
+		for ( ConstraintValidator<?, ?> constraintValidator : constraintValidators.values() ) {
+			if ( constraintValidator != DUMMY_CONSTRAINT_VALIDATOR ) {
+				constraintFactory.releaseInstance( constraintValidator );
+			}
 		}
-		constraintValidatorCache.clear();
 	}
 
 	public ConstraintValidatorFactory getDefaultConstraintValidatorFactory() {
@@ -208,7 +314,13 @@ public ConstraintValidatorFactory getDefaultConstraintValidatorFactory() {
 	}
 
 	public int numberOfCachedConstraintValidatorInstances() {
-		return constraintValidatorCache.size();
+		int count = defaultFactoryConstraintValidatorCache.size();
+
+		for ( FactoryCache factoryCache : nonDefaultFactoryCaches.values() ) {
+			count += factoryCache.constraintValidators.size();
+		}
+
+		return count;
 	}
 
 	/**
@@ -292,23 +404,72 @@ else if ( TypeHelper.isAssignable( assignableTypes.get( i ), type ) ) {
 		} while ( typesToRemove.size() > 0 );
 	}
 
+	/**
+	 * The validators created by one non default constraint validator factory.
+	 */
+	private static final class FactoryCache {
+		private final ConcurrentMap<CacheKey, ConstraintValidator<?, ?>> constraintValidators = new ConcurrentHashMap<CacheKey, ConstraintValidator<?, ?>>();
+		private volatile long lastAccess;
+	}
+
+	private final class ResultCacheStatistics implements ValidationResultCacheStatistics {
+
+		@Override
+		public long getHitCount() {
+			long hitCount = 0;
+			for ( ValidationResultCache cache : resultCaches.values() ) {
+				hitCount += cache.getHitCount();
+			}
+			return hitCount;
+		}
+
+		@Override
+		public long getMissCount() {
+			long missCount = 0;
+			for ( ValidationResultCache cache : resultCaches.values() ) {
+				missCount += cache.getMissCount();
+			}
+			return missCount;
+		}
+
+		@Override
+		public double getHitRate() {
+			long hits = 0;
+			long lookups = 0;
+			for ( ValidationResultCache cache : resultCaches.values() ) {
+				hits += cache.getHitCount();
+				lookups += cache.getHitCount() + cache.getMissCount();
+			}
+			return lookups == 0 ? 0 : (double) hits / lookups;
+		}
+
+		@Override
+		public long getCachedResultCount() {
+			long count = 0;
+			for ( ValidationResultCache cache : resultCaches.values() ) {
+				count += cache.size();
+			}
+			return count;
+		}
+
+		@Override
+		public String toString() {
+			return "ValidationResultCacheStatistics [hitCount=" + getHitCount() + ", missCount=" + getMissCount()
+					+ ", cachedResultCount=" + getCachedResultCount() + "]";
+		}
+	}
+
 	private static final class CacheKey {
 		private final Annotation annotation;
 		private final Type validatedType;
-		private final ConstraintValidatorFactory constraintFactory;
 		private final int hashCode;
 
-		private CacheKey(Annotation annotation, Type validatorType, ConstraintValidatorFactory constraintFactory) {
+		private CacheKey(Annotation annotation, Type validatorType) {
 			this.annotation = annotation;
 			this.validatedType = validatorType;
-			this.constraintFactory = constraintFactory;
 			this.hashCode = createHashCode();
 		}
 
-		public ConstraintValidatorFactory getConstraintFactory() {
-			return constraintFactory;
-		}
-
 		@Override
 		public boolean equals(Object o) {
 			if ( this == o ) {
@@ -323,9 +484,6 @@ public boolean equals(Object o) {
 			if ( annotation != null ? !annotation.equals( cacheKey.annotation ) : cacheKey.annotation != null ) {
 				return false;
 			}
-			if ( constraintFactory != null ? !constraintFactory.equals( cacheKey.constraintFactory ) : cacheKey.constraintFactory != null ) {
-				return false;
-			}
 			if ( validatedType != null ? !validatedType.equals( cacheKey.validatedType ) : cacheKey.validatedType != null ) {
 				return false;
 			}
@@ -341,7 +499,6 @@ public int hashCode() {
 		private int createHashCode() {
 			int result = annotation != null ? annotation.hashCode() : 0;
 			result = 31 * result + ( validatedType != null ? validatedType.hashCode() : 0 );
-			result = 31 * result + ( constraintFactory != null ? constraintFactory.hashCode() : 0 );
 			return result;
 		}
 	}
@@ -0,0 +1,84 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.internal.engine.constraintvalidation;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import javax.validation.ConstraintViolation;
+
+import org.hibernate.validator.internal.engine.ValidationContext;
+import org.hibernate.validator.internal.engine.ValueContext;
+import org.hibernate.validator.internal.util.logging.Log;
+import org.hibernate.validator.internal.util.logging.LoggerFactory;
+
+/**
+ * The not yet awaited result of an {@link org.hibernate.validator.constraintvalidation.AsyncConstraintValidator},
+ * together with the contexts required for creating the constraint violations if the validated value turns out to be
+ * invalid. The violations, including their messages, are only created then, so the validator may still configure
+ * them via its {@link javax.validation.ConstraintValidatorContext} until it completes its result.
+ *
+ * @author agent
+ */
+public class PendingConstraintCheck<T> {
+
+	private static final Log log = LoggerFactory.make();
+
+	private final Future<Boolean> result;
+	private final ValueContext<?, ?> valueContext;
+	private final ConstraintValidatorContextImpl constraintValidatorContext;
+
+	/**
+	 * @param result the result of the asynchronous validator
+	 * @param valueContext the context of the validated value; must not be altered afterwards
+	 * @param constraintValidatorContext the context passed to the asynchronous validator
+	 */
+	public PendingConstraintCheck(Future<Boolean> result, ValueContext<?, ?> valueContext,
+			ConstraintValidatorContextImpl constraintValidatorContext) {
+		this.result = result;
+		this.valueContext = valueContext;
+		this.constraintValidatorContext = constraintValidatorContext;
+	}
+
+	/**
+	 * Awaits the result of this check.
+	 *
+	 * @param validationContext the context of the validation this check belongs to
+	 *
+	 * @return the violations of this check or an empty set if the validated value is valid
+	 */
+	public Set<ConstraintViolation<T>> await(ValidationContext<T> validationContext) {
+		if ( awaitResult( result ) ) {
+			return Collections.emptySet();
+		}
+
+		return validationContext.createConstraintViolations( valueContext, constraintValidatorContext );
+	}
+
+	/**
+	 * Awaits the given result of an asynchronous validator.
+	 *
+	 * @param result the result
+	 *
+	 * @return the result
+	 *
+	 * @throws javax.validation.ValidationException in case the evaluation failed or the current thread got interrupted
+	 */
+	static boolean awaitResult(Future<Boolean> result) {
+		try {
+			return result.get();
+		}
+		catch (ExecutionException e) {
+			throw log.getExceptionDuringAsyncIsValidCallException( e.getCause() );
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw log.getInterruptedWhileAwaitingAsyncIsValidCallException( e );
+		}
+	}
+}
@@ -0,0 +1,147 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.internal.engine.constraintvalidation;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.validation.ConstraintValidator;
+
+import org.hibernate.validator.constraintvalidation.CacheableValidationResult;
+
+import static org.hibernate.validator.internal.util.CollectionHelper.newHashSet;
+
+/**
+ * Caches the results of a {@link ConstraintValidator} marked with {@link CacheableValidationResult} per validated
+ * value.
+ * <p>
+ * Only values of immutable types are cached. The cache is bounded by the maximum size given via
+ * {@link CacheableValidationResult#maxSize()}; once this size is reached, all cached results are discarded. This keeps
+ * the cache free of any per-entry book-keeping while still bounding its memory consumption.
+ * <p>
+ * There is one cache per validator instance, as managed by {@link ConstraintValidatorManager#getResultCache}. Thus
+ * caches are not shared between validator factories or between validators of different constraint annotations.
+ *
+ * @author agent
+ */
+public class ValidationResultCache {
+
+	private static final Set<Class<?>> CACHEABLE_VALUE_TYPES;
+
+	static {
+		Set<Class<?>> types = newHashSet();
+
+		types.add( String.class );
+		types.add( Byte.class );
+		types.add( Short.class );
+		types.add( Integer.class );
+		types.add( Long.class );
+		types.add( Float.class );
+		types.add( Double.class );
+		types.add( BigInteger.class );
+		types.add( BigDecimal.class );
+
+		CACHEABLE_VALUE_TYPES = Collections.unmodifiableSet( types );
+	}
+
+	private final Class<?> validatorType;
+	private final int maxSize;
+	private final ConcurrentMap<Object, Boolean> results;
+	private final AtomicLong hitCount = new AtomicLong();
+	private final AtomicLong missCount = new AtomicLong();
+
+	private ValidationResultCache(Class<?> validatorType, int maxSize) {
+		this.validatorType = validatorType;
+		this.maxSize = maxSize;
+		this.results = new ConcurrentHashMap<Object, Boolean>();
+	}
+
+	/**
+	 * Whether the results of the given validator type can be cached, i.e. the type is marked with
+	 * {@link CacheableValidationResult} with a positive maximum size.
+	 */
+	public static boolean isCacheableValidatorType(Class<?> validatorType) {
+		CacheableValidationResult cacheable = validatorType.getAnnotation( CacheableValidationResult.class );
+		return cacheable != null && cacheable.maxSize() > 0;
+	}
+
+	/**
+	 * Creates a cache for the results of the given validator.
+	 *
+	 * @param validator the validator, whose type must be {@link #isCacheableValidatorType(Class) cacheable}
+	 *
+	 * @return a cache for the given validator
+	 */
+	public static ValidationResultCache forValidator(ConstraintValidator<?, ?> validator) {
+		CacheableValidationResult cacheable = validator.getClass().getAnnotation( CacheableValidationResult.class );
+		return new ValidationResultCache( validator.getClass(), cacheable.maxSize() );
+	}
+
+	/**
+	 * Whether the result of validating the given value can be cached, i.e. the value is of an immutable type.
+	 */
+	public static boolean isCacheable(Object value) {
+		return value != null && CACHEABLE_VALUE_TYPES.contains( value.getClass() );
+	}
+
+	/**
+	 * @return the cached result for the given value or {@code null} if there is no cached result
+	 */
+	public Boolean get(Object value) {
+		Boolean result = results.get( value );
+
+		if ( result != null ) {
+			hitCount.incrementAndGet();
+		}
+		else {
+			missCount.incrementAndGet();
+		}
+
+		return result;
+	}
+
+	public void put(Object value, boolean valid) {
+		if ( results.size() >= maxSize ) {
+			results.clear();
+		}
+
+		results.put( value, valid );
+	}
+
+	public int size() {
+		return results.size();
+	}
+
+	public long getHitCount() {
+		return hitCount.get();
+	}
+
+	public long getMissCount() {
+		return missCount.get();
+	}
+
+	/**
+	 * @return the ratio of lookups answered from this cache, between 0 and 1
+	 */
+	public double getHitRate() {
+		long hits = hitCount.get();
+		long lookups = hits + missCount.get();
+
+		return lookups == 0 ? 0 : (double) hits / lookups;
+	}
+
+	@Override
+	public String toString() {
+		return "ValidationResultCache [validatorType=" + validatorType.getName() + ", size=" + size() + ", hitRate="
+				+ getHitRate() + "]";
+	}
+}
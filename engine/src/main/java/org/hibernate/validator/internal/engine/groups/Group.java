@@ -21,14 +21,24 @@ public class Group {
 	 */
 	private Class<?> group;
 
+	/**
+	 * The id of the group as assigned by {@link GroupIds}.
+	 */
+	private final int id;
+
 	public Group(Class<?> group) {
 		this.group = group;
+		this.id = GroupIds.getId( group );
 	}
 
 	public Class<?> getDefiningClass() {
 		return group;
 	}
 
+	public int getId() {
+		return id;
+	}
+
 	@Override
 	public boolean equals(Object o) {
 		if ( this == o ) {
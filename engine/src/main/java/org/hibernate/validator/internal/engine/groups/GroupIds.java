@@ -0,0 +1,170 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.internal.engine.groups;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.Set;
+
+import org.hibernate.validator.internal.util.ConcurrentReferenceHashMap;
+
+import static org.hibernate.validator.internal.util.CollectionHelper.newHashSet;
+import static org.hibernate.validator.internal.util.ConcurrentReferenceHashMap.Option.IDENTITY_COMPARISONS;
+import static org.hibernate.validator.internal.util.ConcurrentReferenceHashMap.ReferenceType.STRONG;
+import static org.hibernate.validator.internal.util.ConcurrentReferenceHashMap.ReferenceType.WEAK;
+
+/**
+ * Assigns dense integer ids to groups in the order they are first seen, allowing to represent a set of groups as a bit
+ * set and to check for group membership by a single bit test.
+ * <p>
+ * Ids are assigned globally rather than per validator factory, as bean meta data - and thus the group bit sets of its
+ * constraints - may be shared between factories. Groups are weakly referenced, so they can be unloaded. The id of an
+ * unloaded group is re-used for the next group seen, keeping ids - and thus the size of bit sets - bounded by the
+ * number of groups loaded at the same time. This is safe as any bit set or {@link Group} referring to an id also
+ * references the group itself (via the constraint descriptor or the group instance), preventing it from being
+ * unloaded.
+ *
+ * @author agent
+ */
+public final class GroupIds {
+
+	/**
+	 * The id representing no group, it is not contained in any bit set.
+	 */
+	public static final int NO_GROUP = -1;
+
+	private static final ConcurrentReferenceHashMap<Class<?>, Integer> IDS = new ConcurrentReferenceHashMap<Class<?>, Integer>(
+			16,
+			0.75f,
+			16,
+			WEAK,
+			STRONG,
+			EnumSet.of( IDENTITY_COMPARISONS )
+	);
+
+	/**
+	 * References to all groups with an assigned id, keeping the references themselves reachable until their group has
+	 * been unloaded. Guarded by {@code IDS}.
+	 */
+	private static final Set<GroupReference> REFERENCES = newHashSet();
+
+	private static final ReferenceQueue<Class<?>> UNLOADED_GROUPS = new ReferenceQueue<Class<?>>();
+
+	/**
+	 * The ids of unloaded groups, available for re-use. Guarded by {@code IDS}.
+	 */
+	private static final BitSet FREE_IDS = new BitSet();
+
+	private static int nextId = 0;
+
+	private GroupIds() {
+		// Not allowed
+	}
+
+	/**
+	 * Returns the id of the given group, assigning a new id if the group hasn't been seen before.
+	 *
+	 * @param group the group, may be {@code null}
+	 *
+	 * @return the id of the given group or {@link #NO_GROUP} if the group is {@code null}
+	 */
+	public static int getId(Class<?> group) {
+		if ( group == null ) {
+			return NO_GROUP;
+		}
+
+		Integer id = IDS.get( group );
+		if ( id != null ) {
+			return id;
+		}
+
+		synchronized ( IDS ) {
+			id = IDS.get( group );
+			if ( id == null ) {
+				id = nextFreeId();
+				IDS.put( group, id );
+				REFERENCES.add( new GroupReference( group, id ) );
+			}
+		}
+
+		return id;
+	}
+
+	/**
+	 * Returns the lowest id not assigned to a loaded group. Must be called while holding the lock on {@code IDS}.
+	 */
+	private static int nextFreeId() {
+		GroupReference unloaded = (GroupReference) UNLOADED_GROUPS.poll();
+		while ( unloaded != null ) {
+			REFERENCES.remove( unloaded );
+			FREE_IDS.set( unloaded.id );
+			unloaded = (GroupReference) UNLOADED_GROUPS.poll();
+		}
+
+		int id = FREE_IDS.nextSetBit( 0 );
+		if ( id == -1 ) {
+			return nextId++;
+		}
+
+		FREE_IDS.clear( id );
+		return id;
+	}
+
+	/**
+	 * Returns a bit set with the bits for the ids of the given groups set.
+	 *
+	 * @param groups the groups
+	 *
+	 * @return a bit set representing the given groups
+	 */
+	public static long[] toBitSet(Collection<Class<?>> groups) {
+		int[] ids = new int[groups.size()];
+		int maxId = NO_GROUP;
+
+		int i = 0;
+		for ( Class<?> group : groups ) {
+			ids[i] = getId( group );
+			maxId = Math.max( maxId, ids[i] );
+			i++;
+		}
+
+		long[] bitSet = new long[( maxId >> 6 ) + 1];
+		for ( int id : ids ) {
+			if ( id != NO_GROUP ) {
+				bitSet[id >> 6] |= 1L << id;
+			}
+		}
+
+		return bitSet;
+	}
+
+	/**
+	 * Whether the given bit set contains the given group id.
+	 *
+	 * @param bitSet a bit set as created by {@link #toBitSet(Collection)}
+	 * @param id a group id
+	 *
+	 * @return {@code true} if the bit for the given id is set, {@code false} otherwise
+	 */
+	public static boolean contains(long[] bitSet, int id) {
+		int index = id >> 6;
+		return id >= 0 && index < bitSet.length && ( bitSet[index] & ( 1L << id ) ) != 0;
+	}
+
+	private static class GroupReference extends WeakReference<Class<?>> {
+
+		private final int id;
+
+		private GroupReference(Class<?> group, int id) {
+			super( group, UNLOADED_GROUPS );
+			this.id = id;
+		}
+	}
+}
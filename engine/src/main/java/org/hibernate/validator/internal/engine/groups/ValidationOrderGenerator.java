@@ -29,8 +29,25 @@ public class ValidationOrderGenerator {
 
 	private static final Log log = LoggerFactory.make();
 
+	/**
+	 * The maximum number of cached validation orders; once reached, the respective cache is cleared. Group
+	 * combinations are usually few, this just guards against unbounded growth with ever-changing combinations.
+	 */
+	private static final int MAX_CACHED_VALIDATION_ORDERS = 1000;
+
 	private final ConcurrentMap<Class<?>, Sequence> resolvedSequences = new ConcurrentHashMap<Class<?>, Sequence>();
 
+	/**
+	 * The validation orders resolved for the groups requested at validation calls. Validation orders are not altered
+	 * after their creation, so they can be shared between validation calls.
+	 */
+	private final ConcurrentMap<List<Class<?>>, ValidationOrder> validationOrders = new ConcurrentHashMap<List<Class<?>>, ValidationOrder>();
+
+	/**
+	 * The validation orders of single, non-expanded groups, as used when cascading.
+	 */
+	private final ConcurrentMap<Class<?>, ValidationOrder> singleGroupValidationOrders = new ConcurrentHashMap<Class<?>, ValidationOrder>();
+
 	private final DefaultValidationOrder validationOrderForDefaultGroup;
 
 	public ValidationOrderGenerator() {
@@ -53,8 +70,12 @@ public ValidationOrder getValidationOrder(Class<?> group, boolean expand) {
 			return getValidationOrder( Arrays.<Class<?>>asList( group ) );
 		}
 		else {
-			DefaultValidationOrder validationOrder = new DefaultValidationOrder();
-			validationOrder.insertGroup( new Group( group ) );
+			ValidationOrder validationOrder = singleGroupValidationOrders.get( group );
+			if ( validationOrder == null ) {
+				DefaultValidationOrder newValidationOrder = new DefaultValidationOrder();
+				newValidationOrder.insertGroup( new Group( group ) );
+				validationOrder = putIfAbsent( singleGroupValidationOrders, group, newValidationOrder );
+			}
 			return validationOrder;
 		}
 	}
@@ -77,6 +98,12 @@ public ValidationOrder getValidationOrder(Collection<Class<?>> groups) {
 			return validationOrderForDefaultGroup;
 		}
 
+		List<Class<?>> key = groups instanceof List ? (List<Class<?>>) groups : new ArrayList<Class<?>>( groups );
+		ValidationOrder cachedValidationOrder = validationOrders.get( key );
+		if ( cachedValidationOrder != null ) {
+			return cachedValidationOrder;
+		}
+
 		for ( Class<?> clazz : groups ) {
 			if ( !clazz.isInterface() ) {
 				throw log.getGroupHasToBeAnInterfaceException( clazz.getName() );
@@ -98,7 +125,8 @@ else if ( isGroupSequence( clazz ) ) {
 			}
 		}
 
-		return validationOrder;
+		// the passed list may be altered by the caller after this call, so the key needs to be a copy
+		return putIfAbsent( validationOrders, key == groups ? new ArrayList<Class<?>>( key ) : key, validationOrder );
 	}
 
 	public ValidationOrder getDefaultValidationOrder(Class<?> clazz, List<Class<?>> defaultGroupSequence) {
@@ -107,6 +135,15 @@ public ValidationOrder getDefaultValidationOrder(Class<?> clazz, List<Class<?>>
 		return validationOrder;
 	}
 
+	private static <K> ValidationOrder putIfAbsent(ConcurrentMap<K, ValidationOrder> cache, K key, ValidationOrder validationOrder) {
+		if ( cache.size() >= MAX_CACHED_VALIDATION_ORDERS ) {
+			cache.clear();
+		}
+
+		ValidationOrder cachedValidationOrder = cache.putIfAbsent( key, validationOrder );
+		return cachedValidationOrder != null ? cachedValidationOrder : validationOrder;
+	}
+
 	private boolean isGroupSequence(Class<?> clazz) {
 		return clazz.getAnnotation( GroupSequence.class ) != null;
 	}
@@ -180,6 +217,7 @@ public String toString() {
 		final StringBuilder sb = new StringBuilder();
 		sb.append( "ValidationOrderGenerator" );
 		sb.append( "{resolvedSequences=" ).append( resolvedSequences );
+		sb.append( ", cachedValidationOrders=" ).append( validationOrders.size() );
 		sb.append( '}' );
 		return sb.toString();
 	}
@@ -207,6 +207,20 @@ public static NodeImpl setMapKey(NodeImpl node, Object key) {
 		);
 	}
 
+	public static NodeImpl setParent(NodeImpl node, NodeImpl parent) {
+		return new NodeImpl(
+				node.name,
+				parent,
+				node.isIterable,
+				node.index,
+				node.key,
+				node.kind,
+				node.parameterTypes,
+				node.parameterIndex,
+				node.value
+		);
+	}
+
 	public static NodeImpl setPropertyValue(NodeImpl node, Object value) {
 		return new NodeImpl(
 				node.name,
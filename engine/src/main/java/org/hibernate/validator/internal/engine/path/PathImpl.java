@@ -175,6 +175,23 @@ private NodeImpl addMethodNode(String name, Class<?>[] parameterTypes) {
 		return currentLeafNode;
 	}
 
+	/**
+	 * Appends the nodes of the given path, except its root node, to this path.
+	 *
+	 * @param relativePath the path to append, as obtained when validating a bean of this path as root bean
+	 *
+	 * @return the new leaf node of this path
+	 */
+	public NodeImpl addRelativePath(PathImpl relativePath) {
+		for ( int i = 1; i < relativePath.nodeList.size(); i++ ) {
+			NodeImpl parent = nodeList.isEmpty() ? null : (NodeImpl) nodeList.get( nodeList.size() - 1 );
+			currentLeafNode = NodeImpl.setParent( (NodeImpl) relativePath.nodeList.get( i ), parent );
+			nodeList.add( currentLeafNode );
+		}
+		hashCode = -1;
+		return currentLeafNode;
+	}
+
 	public NodeImpl makeLeafNodeIterable() {
 		currentLeafNode = NodeImpl.makeIterable( currentLeafNode );
 
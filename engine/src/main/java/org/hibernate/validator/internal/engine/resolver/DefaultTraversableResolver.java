@@ -21,6 +21,7 @@
 import org.hibernate.validator.internal.util.privilegedactions.GetMethod;
 import org.hibernate.validator.internal.util.privilegedactions.LoadClass;
 import org.hibernate.validator.internal.util.privilegedactions.NewInstance;
+import org.hibernate.validator.spi.resolver.HibernateTraversableResolver;
 
 /**
  * A JPA 2 aware {@code TraversableResolver}.
@@ -28,7 +29,7 @@
  * @author Emmanuel Bernard
  * @author Hardy Ferentschik
  */
-public class DefaultTraversableResolver implements TraversableResolver {
+public class DefaultTraversableResolver implements HibernateTraversableResolver {
 
 	private static final Log log = LoggerFactory.make();
 
@@ -47,6 +48,12 @@ public class DefaultTraversableResolver implements TraversableResolver {
 	 */
 	private static final String JPA_AWARE_TRAVERSABLE_RESOLVER_CLASS_NAME = "org.hibernate.validator.internal.engine.resolver.JPATraversableResolver";
 
+	/**
+	 * Whether a complete JPA 2 environment is available. This only depends on the class path of Hibernate Validator
+	 * itself, so it is detected once and shared by all instances; {@code null} if not detected yet.
+	 */
+	private static volatile Boolean jpa2Available;
+
 	/**
 	 * A JPA 2 aware traversable resolver.
 	 */
@@ -54,24 +61,37 @@ public class DefaultTraversableResolver implements TraversableResolver {
 
 
 	public DefaultTraversableResolver() {
-		detectJPA();
+		if ( isJpa2Available() ) {
+			createJpaTraversableResolver();
+		}
+	}
+
+	private static boolean isJpa2Available() {
+		Boolean available = jpa2Available;
+
+		if ( available == null ) {
+			available = detectJPA();
+			jpa2Available = available;
+		}
+
+		return available;
 	}
 
 	/**
-	 * Tries to load detect and load JPA.
+	 * Tries to detect JPA 2.
 	 */
-	private void detectJPA() {
+	private static boolean detectJPA() {
 		// check whether we have Persistence on the classpath
 		Class<?> persistenceClass;
 		try {
-			persistenceClass = run( LoadClass.action( PERSISTENCE_CLASS_NAME, this.getClass().getClassLoader() ) );
+			persistenceClass = run( LoadClass.action( PERSISTENCE_CLASS_NAME, DefaultTraversableResolver.class.getClassLoader() ) );
 		}
 		catch (ValidationException e) {
 			log.debugf(
 					"Cannot find %s on classpath. Assuming non JPA 2 environment. All properties will per default be traversable.",
 					PERSISTENCE_CLASS_NAME
 			);
-			return;
+			return false;
 		}
 
 		// check whether Persistence contains getPersistenceUtil
@@ -82,7 +102,7 @@ private void detectJPA() {
 					PERSISTENCE_CLASS_NAME,
 					PERSISTENCE_UTIL_METHOD
 			);
-			return;
+			return false;
 		}
 
 		// try to invoke the method to make sure that we are dealing with a complete JPA2 implementation
@@ -97,15 +117,21 @@ private void detectJPA() {
 					PERSISTENCE_CLASS_NAME,
 					PERSISTENCE_UTIL_METHOD
 			);
-			return;
+			return false;
 		}
 
 		log.debugf(
-				"Found %s on classpath containing '%s'. Assuming JPA 2 environment. Trying to instantiate JPA aware TraversableResolver",
+				"Found %s on classpath containing '%s'. Assuming JPA 2 environment.",
 				PERSISTENCE_CLASS_NAME,
 				PERSISTENCE_UTIL_METHOD
 		);
 
+		return true;
+	}
+
+	private void createJpaTraversableResolver() {
+		log.debugf( "Trying to instantiate JPA aware TraversableResolver" );
+
 		try {
 			@SuppressWarnings("unchecked")
 			Class<? extends TraversableResolver> jpaAwareResolverClass = (Class<? extends TraversableResolver>)
@@ -137,13 +163,31 @@ public boolean isCascadable(Object traversableObject, Path.Node traversablePrope
 		);
 	}
 
+	@Override
+	public boolean isAlwaysReachable() {
+		return jpaTraversableResolver == null || ( jpaTraversableResolver instanceof HibernateTraversableResolver
+				&& ( (HibernateTraversableResolver) jpaTraversableResolver ).isAlwaysReachable() );
+	}
+
+	@Override
+	public boolean isAlwaysCascadable() {
+		return jpaTraversableResolver == null || ( jpaTraversableResolver instanceof HibernateTraversableResolver
+				&& ( (HibernateTraversableResolver) jpaTraversableResolver ).isAlwaysCascadable() );
+	}
+
+	@Override
+	public boolean needsPathToTraversableObject() {
+		return jpaTraversableResolver != null && ( !( jpaTraversableResolver instanceof HibernateTraversableResolver )
+				|| ( (HibernateTraversableResolver) jpaTraversableResolver ).needsPathToTraversableObject() );
+	}
+
 	/**
 	 * Runs the given privileged action, using a privileged block if required.
 	 * <p>
 	 * <b>NOTE:</b> This must never be changed into a publicly available method to avoid execution of arbitrary
 	 * privileged actions within HV's protection domain.
 	 */
-	private <T> T run(PrivilegedAction<T> action) {
+	private static <T> T run(PrivilegedAction<T> action) {
 		return System.getSecurityManager() != null ? AccessController.doPrivileged( action ) : action.run();
 	}
 }
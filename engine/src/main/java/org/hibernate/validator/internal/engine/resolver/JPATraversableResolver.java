@@ -7,25 +7,167 @@
 package org.hibernate.validator.internal.engine.resolver;
 
 import java.lang.annotation.ElementType;
-import javax.persistence.Persistence;
+import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.security.AccessController;
+import java.security.PrivilegedAction;
+import java.util.Calendar;
+import java.util.Collections;
+import java.util.Date;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import javax.persistence.Basic;
+import javax.persistence.Embeddable;
+import javax.persistence.EmbeddedId;
+import javax.persistence.Entity;
+import javax.persistence.FetchType;
+import javax.persistence.Id;
+import javax.persistence.Lob;
+import javax.persistence.Version;
+import javax.persistence.spi.LoadState;
+import javax.persistence.spi.PersistenceProvider;
+import javax.persistence.spi.PersistenceProviderResolver;
+import javax.persistence.spi.PersistenceProviderResolverHolder;
+import javax.persistence.spi.ProviderUtil;
 import javax.validation.Path;
-import javax.validation.TraversableResolver;
 
+import org.hibernate.validator.internal.util.ConcurrentReferenceHashMap;
 import org.hibernate.validator.internal.util.logging.Log;
 import org.hibernate.validator.internal.util.logging.LoggerFactory;
+import org.hibernate.validator.internal.util.privilegedactions.GetClassLoader;
+import org.hibernate.validator.internal.util.privilegedactions.GetDeclaredField;
+import org.hibernate.validator.internal.util.privilegedactions.GetMethodFromPropertyName;
+import org.hibernate.validator.spi.resolver.HibernateTraversableResolver;
+
+import static org.hibernate.validator.internal.util.CollectionHelper.newArrayList;
+import static org.hibernate.validator.internal.util.CollectionHelper.newHashSet;
+import static org.hibernate.validator.internal.util.ConcurrentReferenceHashMap.Option.IDENTITY_COMPARISONS;
+import static org.hibernate.validator.internal.util.ConcurrentReferenceHashMap.ReferenceType.SOFT;
+import static org.hibernate.validator.internal.util.ConcurrentReferenceHashMap.ReferenceType.STRONG;
+import static org.hibernate.validator.internal.util.ConcurrentReferenceHashMap.ReferenceType.WEAK;
 
 /**
  * An implementation of {@code TraversableResolver} which is aware of JPA 2 and utilizes {@code PersistenceUtil} to get
  * query the reachability of a property.
  * This resolver will be automatically enabled if JPA 2 is on the classpath and the {@code DefaultTraversableResolver} is
  * used.
+ * <p>
+ * Instead of going through {@link javax.persistence.Persistence#getPersistenceUtil()} for each property, the
+ * {@link ProviderUtil}s of the persistence providers are queried directly, the same way as
+ * {@code PersistenceUtil#isLoaded(Object, String)} does. Like there, the providers visible to the current thread
+ * context class loader are used. Their {@code ProviderUtil}s are cached per context class loader, the same way as
+ * the default {@link PersistenceProviderResolver} caches the providers. The cached entry is discarded when a different
+ * resolver is in effect, e.g. after {@link PersistenceProviderResolverHolder#setPersistenceProviderResolver} has been
+ * invoked.
+ * <p>
+ * Attributes of classes annotated with {@code @Entity} or {@code @Embeddable} which are explicitly mapped as eagerly
+ * loaded via annotations - identifier and version attributes as well as attributes of a basic type (e.g. strings,
+ * numbers or dates) annotated with {@code @Basic(fetch = EAGER)} - are considered to be always loaded, so the
+ * persistence providers are not queried for them. For all other attributes, the fetch type may be given by an XML
+ * mapping, so the providers are queried. Proxies of entities are not annotated themselves, so they are always passed
+ * to the providers.
  *
  * @author Hardy Ferentschik
  * @author Emmanuel Bernard
+ * @author agent
  */
-public class JPATraversableResolver implements TraversableResolver {
+public class JPATraversableResolver implements HibernateTraversableResolver {
 	private static final Log log = LoggerFactory.make();
 
+	/**
+	 * Types which are mapped as basic attributes and are eagerly loaded unless declared otherwise.
+	 */
+	private static final Set<Class<?>> BASIC_TYPES;
+
+	static {
+		Set<Class<?>> types = newHashSet();
+
+		types.add( boolean.class );
+		types.add( byte.class );
+		types.add( short.class );
+		types.add( int.class );
+		types.add( long.class );
+		types.add( float.class );
+		types.add( double.class );
+		types.add( char.class );
+		types.add( Boolean.class );
+		types.add( Byte.class );
+		types.add( Short.class );
+		types.add( Integer.class );
+		types.add( Long.class );
+		types.add( Float.class );
+		types.add( Double.class );
+		types.add( Character.class );
+		types.add( String.class );
+		types.add( BigInteger.class );
+		types.add( BigDecimal.class );
+		types.add( Date.class );
+		types.add( Calendar.class );
+		types.add( java.sql.Date.class );
+		types.add( java.sql.Time.class );
+		types.add( java.sql.Timestamp.class );
+
+		BASIC_TYPES = Collections.unmodifiableSet( types );
+	}
+
+	/**
+	 * The resolver to retrieve the persistence providers from; if {@code null}, the resolver set in
+	 * {@link PersistenceProviderResolverHolder} is used.
+	 */
+	private final PersistenceProviderResolver persistenceProviderResolver;
+
+	/**
+	 * The {@code ProviderUtil}s of the persistence providers, keyed by the thread context class loader they have been
+	 * retrieved for. Softly referenced, as the providers typically are loaded by that class loader.
+	 */
+	private final ConcurrentReferenceHashMap<ClassLoader, ProviderUtils> providerUtilsByClassLoader;
+
+	/**
+	 * Whether a given attribute of a given class is always loaded, keyed by class and attribute name.
+	 */
+	private final ConcurrentReferenceHashMap<Class<?>, ConcurrentMap<String, Boolean>> alwaysLoadedAttributes;
+
+	/**
+	 * Creates a resolver querying the persistence providers available via
+	 * {@link PersistenceProviderResolverHolder#getPersistenceProviderResolver()}.
+	 */
+	public JPATraversableResolver() {
+		this( null );
+	}
+
+	/**
+	 * Creates a resolver querying the persistence providers returned by the given resolver.
+	 *
+	 * @param persistenceProviderResolver the resolver providing the persistence providers to query; the providers are
+	 * retrieved from it once per thread context class loader. If {@code null}, the resolver set in
+	 * {@link PersistenceProviderResolverHolder} at the time of the check is used.
+	 */
+	public JPATraversableResolver(PersistenceProviderResolver persistenceProviderResolver) {
+		this.persistenceProviderResolver = persistenceProviderResolver;
+		this.providerUtilsByClassLoader = new ConcurrentReferenceHashMap<ClassLoader, ProviderUtils>(
+				16,
+				0.75f,
+				16,
+				WEAK,
+				SOFT,
+				EnumSet.of( IDENTITY_COMPARISONS )
+		);
+		this.alwaysLoadedAttributes = new ConcurrentReferenceHashMap<Class<?>, ConcurrentMap<String, Boolean>>(
+				16,
+				0.75f,
+				16,
+				WEAK,
+				STRONG,
+				EnumSet.of( IDENTITY_COMPARISONS )
+		);
+	}
+
 	@Override
 	public final boolean isReachable(Object traversableObject,
 									 Path.Node traversableProperty,
@@ -44,11 +186,190 @@ public final boolean isReachable(Object traversableObject,
 			return true;
 		}
 
-		return Persistence.getPersistenceUtil().isLoaded( traversableObject, traversableProperty.getName() );
+		String attributeName = traversableProperty.getName();
+
+		if ( isAlwaysLoaded( traversableObject.getClass(), attributeName ) ) {
+			return true;
+		}
+
+		return isLoaded( traversableObject, attributeName );
 	}
 
 	@Override
 	public final boolean isCascadable(Object traversableObject, Path.Node traversableProperty, Class<?> rootBeanType, Path pathToTraversableObject, ElementType elementType) {
 		return true;
 	}
+
+	/**
+	 * The persistence providers may report an attribute as not loaded.
+	 */
+	@Override
+	public final boolean isAlwaysReachable() {
+		return false;
+	}
+
+	@Override
+	public final boolean isAlwaysCascadable() {
+		return true;
+	}
+
+	@Override
+	public final boolean needsPathToTraversableObject() {
+		return false;
+	}
+
+	/**
+	 * Determines the load state of the given attribute the same way as {@code PersistenceUtil#isLoaded(Object, String)}
+	 * does: first all providers are asked without loading any state, then with loading state; if no provider knows the
+	 * entity, the attribute is considered as loaded.
+	 */
+	private boolean isLoaded(Object entity, String attributeName) {
+		List<ProviderUtil> providerUtils = getProviderUtils();
+
+		for ( ProviderUtil providerUtil : providerUtils ) {
+			LoadState state = providerUtil.isLoadedWithoutReference( entity, attributeName );
+			if ( state == LoadState.LOADED ) {
+				return true;
+			}
+			else if ( state == LoadState.NOT_LOADED ) {
+				return false;
+			}
+		}
+
+		for ( ProviderUtil providerUtil : providerUtils ) {
+			LoadState state = providerUtil.isLoadedWithReference( entity, attributeName );
+			if ( state == LoadState.LOADED ) {
+				return true;
+			}
+			else if ( state == LoadState.NOT_LOADED ) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	private List<ProviderUtil> getProviderUtils() {
+		PersistenceProviderResolver resolver = persistenceProviderResolver != null ?
+				persistenceProviderResolver :
+				PersistenceProviderResolverHolder.getPersistenceProviderResolver();
+		ClassLoader classLoader = run( GetClassLoader.fromContext() );
+
+		if ( classLoader == null ) {
+			return retrieveProviderUtils( resolver );
+		}
+
+		ProviderUtils providerUtils = providerUtilsByClassLoader.get( classLoader );
+		if ( providerUtils == null || providerUtils.resolver != resolver ) {
+			providerUtils = new ProviderUtils( resolver, retrieveProviderUtils( resolver ) );
+			providerUtilsByClassLoader.put( classLoader, providerUtils );
+		}
+
+		return providerUtils.providerUtils;
+	}
+
+	private List<ProviderUtil> retrieveProviderUtils(PersistenceProviderResolver resolver) {
+		List<PersistenceProvider> providers = resolver.getPersistenceProviders();
+		List<ProviderUtil> providerUtils = newArrayList( providers.size() );
+		for ( PersistenceProvider provider : providers ) {
+			providerUtils.add( provider.getProviderUtil() );
+		}
+
+		return providerUtils;
+	}
+
+	private boolean isAlwaysLoaded(Class<?> clazz, String attributeName) {
+		ConcurrentMap<String, Boolean> attributes = alwaysLoadedAttributes.get( clazz );
+		if ( attributes == null ) {
+			attributes = new ConcurrentHashMap<String, Boolean>();
+			ConcurrentMap<String, Boolean> cachedAttributes = alwaysLoadedAttributes.putIfAbsent( clazz, attributes );
+			if ( cachedAttributes != null ) {
+				attributes = cachedAttributes;
+			}
+		}
+
+		Boolean alwaysLoaded = attributes.get( attributeName );
+		if ( alwaysLoaded == null ) {
+			alwaysLoaded = determineWhetherAlwaysLoaded( clazz, attributeName );
+			attributes.put( attributeName, alwaysLoaded );
+		}
+
+		return alwaysLoaded;
+	}
+
+	private boolean determineWhetherAlwaysLoaded(Class<?> clazz, String attributeName) {
+		if ( !clazz.isAnnotationPresent( Entity.class ) && !clazz.isAnnotationPresent( Embeddable.class ) ) {
+			return false;
+		}
+
+		Field field = null;
+		for ( Class<?> current = clazz; current != null && field == null; current = current.getSuperclass() ) {
+			field = run( GetDeclaredField.action( current, attributeName ) );
+		}
+		Method getter = run( GetMethodFromPropertyName.action( clazz, attributeName ) );
+
+		if ( field == null && getter == null ) {
+			return false;
+		}
+
+		boolean mappedAsEager = ( field != null && isMappedAsEager( field, field.getType() ) )
+				|| ( getter != null && isMappedAsEager( getter, getter.getReturnType() ) );
+
+		return mappedAsEager && !isMappedAsLazy( field ) && !isMappedAsLazy( getter );
+	}
+
+	/**
+	 * Whether the given member is explicitly mapped as an eagerly loaded attribute. Attributes without mapping
+	 * annotations are not considered, as their fetch type may be declared in an XML mapping.
+	 */
+	private boolean isMappedAsEager(AnnotatedElement member, Class<?> type) {
+		if ( member.isAnnotationPresent( Id.class ) || member.isAnnotationPresent( EmbeddedId.class )
+				|| member.isAnnotationPresent( Version.class ) ) {
+			return true;
+		}
+
+		if ( !type.isEnum() && !BASIC_TYPES.contains( type ) ) {
+			return false;
+		}
+
+		if ( member.isAnnotationPresent( Lob.class ) ) {
+			return false;
+		}
+
+		Basic basic = member.getAnnotation( Basic.class );
+		return basic != null && basic.fetch() == FetchType.EAGER;
+	}
+
+	private boolean isMappedAsLazy(AnnotatedElement member) {
+		if ( member == null ) {
+			return false;
+		}
+
+		Basic basic = member.getAnnotation( Basic.class );
+		return basic != null && basic.fetch() == FetchType.LAZY;
+	}
+
+	/**
+	 * Runs the given privileged action, using a privileged block if required.
+	 * <p>
+	 * <b>NOTE:</b> This must never be changed into a publicly available method to avoid execution of arbitrary
+	 * privileged actions within HV's protection domain.
+	 */
+	private <T> T run(PrivilegedAction<T> action) {
+		return System.getSecurityManager() != null ? AccessController.doPrivileged( action ) : action.run();
+	}
+
+	/**
+	 * The {@code ProviderUtil}s retrieved via a given resolver.
+	 */
+	private static final class ProviderUtils {
+
+		private final PersistenceProviderResolver resolver;
+		private final List<ProviderUtil> providerUtils;
+
+		private ProviderUtils(PersistenceProviderResolver resolver, List<ProviderUtil> providerUtils) {
+			this.resolver = resolver;
+			this.providerUtils = providerUtils;
+		}
+	}
 }
@@ -0,0 +1,44 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.internal.engine.time;
+
+import org.hibernate.validator.spi.time.TimeProvider;
+
+/**
+ * A {@link TimeProvider} which obtains the current time from another provider once and returns that time from then
+ * on. Used for giving all the constraints of one validation call the same notion of the current time.
+ * <p>
+ * The time is obtained upon first access, so validations without temporal constraints don't read the clock at all.
+ *
+ * @author agent
+ */
+public class SnapshotTimeProvider implements TimeProvider {
+
+	private final TimeProvider timeProvider;
+
+	private volatile boolean currentTimeObtained;
+
+	private long currentTime;
+
+	public SnapshotTimeProvider(TimeProvider timeProvider) {
+		this.timeProvider = timeProvider;
+	}
+
+	@Override
+	public long getCurrentTime() {
+		if ( !currentTimeObtained ) {
+			synchronized ( this ) {
+				if ( !currentTimeObtained ) {
+					currentTime = timeProvider.getCurrentTime();
+					currentTimeObtained = true;
+				}
+			}
+		}
+
+		return currentTime;
+	}
+}
@@ -11,6 +11,8 @@
 import com.fasterxml.classmate.ResolvedType;
 import com.fasterxml.classmate.TypeResolver;
 
+import org.hibernate.validator.internal.util.ConcurrentReferenceHashMap;
+import org.hibernate.validator.internal.util.ConcurrentReferenceHashMap.ReferenceType;
 import org.hibernate.validator.internal.util.TypeResolutionHelper;
 import org.hibernate.validator.spi.valuehandling.ValidatedValueUnwrapper;
 
@@ -24,14 +26,31 @@
 	private final Class<?> clazz;
 	private final TypeResolver typeResolver;
 
+	/**
+	 * The validated value types resolved so far, keyed by wrapper type.
+	 */
+	private final ConcurrentReferenceHashMap<Type, Type> validatedValueTypes;
+
 	TypeResolverBasedValueUnwrapper(TypeResolutionHelper typeResolutionHelper) {
 		this.typeResolver = typeResolutionHelper.getTypeResolver();
 		clazz = resolveSingleTypeParameter( typeResolver, this.getClass(), ValidatedValueUnwrapper.class );
+		validatedValueTypes = new ConcurrentReferenceHashMap<Type, Type>(
+				100,
+				ReferenceType.SOFT,
+				ReferenceType.SOFT
+		);
 	}
 
 	@Override
 	public Type getValidatedValueType(Type valueType) {
-		return resolveSingleTypeParameter( typeResolver, valueType, clazz );
+		Type validatedValueType = validatedValueTypes.get( valueType );
+
+		if ( validatedValueType == null ) {
+			validatedValueType = resolveSingleTypeParameter( typeResolver, valueType, clazz );
+			validatedValueTypes.put( valueType, validatedValueType );
+		}
+
+		return validatedValueType;
 	}
 
 	/**
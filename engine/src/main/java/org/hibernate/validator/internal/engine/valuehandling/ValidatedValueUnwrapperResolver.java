@@ -0,0 +1,124 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.internal.engine.valuehandling;
+
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import com.fasterxml.classmate.ResolvedType;
+import com.fasterxml.classmate.TypeResolver;
+
+import org.hibernate.validator.internal.util.ConcurrentReferenceHashMap;
+import org.hibernate.validator.internal.util.ConcurrentReferenceHashMap.ReferenceType;
+import org.hibernate.validator.internal.util.TypeHelper;
+import org.hibernate.validator.internal.util.TypeResolutionHelper;
+import org.hibernate.validator.spi.valuehandling.ValidatedValueUnwrapper;
+
+import static org.hibernate.validator.internal.util.CollectionHelper.newArrayList;
+
+/**
+ * Determines the {@link ValidatedValueUnwrapper} to be applied for given types.
+ * <p>
+ * The types handled by the unwrappers are resolved once upon creation and the unwrapper selected for a given type is
+ * cached, so the selection doesn't need to be repeated for each validated value. Instances are shared by all validators
+ * working with the same list of unwrappers.
+ *
+ * @author agent
+ */
+public class ValidatedValueUnwrapperResolver {
+
+	/**
+	 * Marker for types which are not handled by any of the unwrappers.
+	 */
+	private static final Object NO_UNWRAPPER = new Object();
+
+	private final List<ValidatedValueUnwrapper<?>> unwrappers;
+
+	/**
+	 * The type handled by the unwrapper at the same index in {@link #unwrappers}.
+	 */
+	private final List<Class<?>> handledTypes;
+
+	/**
+	 * The unwrapper to be applied per type; {@link #NO_UNWRAPPER} if no unwrapper handles the type.
+	 */
+	private final ConcurrentReferenceHashMap<Type, Object> unwrappersByType;
+
+	public ValidatedValueUnwrapperResolver(List<ValidatedValueUnwrapper<?>> unwrappers,
+			TypeResolutionHelper typeResolutionHelper) {
+		this.unwrappers = Collections.unmodifiableList( new ArrayList<ValidatedValueUnwrapper<?>>( unwrappers ) );
+		this.handledTypes = Collections.unmodifiableList( resolveHandledTypes( unwrappers, typeResolutionHelper ) );
+		this.unwrappersByType = new ConcurrentReferenceHashMap<Type, Object>(
+				100,
+				ReferenceType.SOFT,
+				ReferenceType.STRONG
+		);
+	}
+
+	/**
+	 * Returns the first validated value unwrapper found which supports the given type.
+	 * <p>
+	 * If required this could be enhanced to search for the most-specific handler and raise an exception in case more
+	 * than one matching handler is found (or a scheme of prioritizing handlers to process several handlers in order.
+	 *
+	 * @param type the type to be handled
+	 *
+	 * @return the unwrapper for the given type or {@code null} if no matching unwrapper was found
+	 */
+	public ValidatedValueUnwrapper<?> getValidatedValueUnwrapper(Type type) {
+		if ( unwrappers.isEmpty() ) {
+			return null;
+		}
+
+		Object unwrapper = unwrappersByType.get( type );
+
+		if ( unwrapper == null ) {
+			unwrapper = findValidatedValueUnwrapper( type );
+			unwrappersByType.put( type, unwrapper );
+		}
+
+		return unwrapper == NO_UNWRAPPER ? null : (ValidatedValueUnwrapper<?>) unwrapper;
+	}
+
+	/**
+	 * Whether this resolver works with the given unwrappers (in the given order) and thus can be used by a validator
+	 * configured with these unwrappers.
+	 *
+	 * @param unwrappers the unwrappers to compare with
+	 *
+	 * @return {@code true} if this resolver works with the given unwrappers, {@code false} otherwise
+	 */
+	public boolean isResolverFor(List<ValidatedValueUnwrapper<?>> unwrappers) {
+		return this.unwrappers.equals( unwrappers );
+	}
+
+	private Object findValidatedValueUnwrapper(Type type) {
+		for ( int i = 0; i < unwrappers.size(); i++ ) {
+			if ( TypeHelper.isAssignable( handledTypes.get( i ), type ) ) {
+				return unwrappers.get( i );
+			}
+		}
+
+		return NO_UNWRAPPER;
+	}
+
+	private static List<Class<?>> resolveHandledTypes(List<ValidatedValueUnwrapper<?>> unwrappers,
+			TypeResolutionHelper typeResolutionHelper) {
+		TypeResolver typeResolver = typeResolutionHelper.getTypeResolver();
+		List<Class<?>> handledTypes = newArrayList( unwrappers.size() );
+
+		for ( ValidatedValueUnwrapper<?> unwrapper : unwrappers ) {
+			ResolvedType unwrapperType = typeResolver.resolve( unwrapper.getClass() );
+			List<ResolvedType> typeParameters = unwrapperType.typeParametersFor( ValidatedValueUnwrapper.class );
+			handledTypes.add( typeParameters.get( 0 ).getErasedType() );
+		}
+
+		return handledTypes;
+	}
+}
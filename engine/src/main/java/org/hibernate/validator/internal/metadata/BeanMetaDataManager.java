@@ -91,6 +91,9 @@ public class BeanMetaDataManager {
 	 */
 	private final ExecutableHelper executableHelper;
 
+	/**
+	 * Resolves and caches the validation orders for the requested groups; shared by all validators using this manager.
+	 */
 	private final ValidationOrderGenerator validationOrderGenerator = new ValidationOrderGenerator();
 
 	/**
@@ -100,6 +103,12 @@ public class BeanMetaDataManager {
 	 */
 	private final MethodValidationConfiguration methodValidationConfiguration;
 
+	/**
+	 * Manager whose meta data is shared by this manager for beans not depending on parameter names, avoiding to build
+	 * the same meta data once per parameter name provider. May be {@code null}.
+	 */
+	private final BeanMetaDataManager parameterNameAgnosticMetaDataManager;
+
 	/**
 	 * Creates a new {@code BeanMetaDataManager}. {@link DefaultParameterNameProvider} is used as parameter name
 	 * provider, no meta data providers besides the annotation-based providers are used.
@@ -135,6 +144,31 @@ public BeanMetaDataManager(ConstraintHelper constraintHelper,
 			ParameterNameProvider parameterNameProvider,
 			List<MetaDataProvider> optionalMetaDataProviders,
 			MethodValidationConfiguration methodValidationConfiguration) {
+		this(
+				constraintHelper, executableHelper,
+				parameterNameProvider, optionalMetaDataProviders,
+				methodValidationConfiguration, null
+		);
+	}
+
+	/**
+	 * Creates a new {@code BeanMetaDataManager}.
+	 *
+	 * @param constraintHelper the constraint helper
+	 * @param executableHelper the executable helper
+	 * @param parameterNameProvider the parameter name provider
+	 * @param optionalMetaDataProviders optional meta data provider used on top of the annotation based provider
+	 * @param methodValidationConfiguration the method validation configuration
+	 * @param parameterNameAgnosticMetaDataManager a manager working with the same meta data providers but another
+	 * parameter name provider; its meta data is re-used for beans not depending on parameter names. May be
+	 * {@code null}.
+	 */
+	public BeanMetaDataManager(ConstraintHelper constraintHelper,
+			ExecutableHelper executableHelper,
+			ParameterNameProvider parameterNameProvider,
+			List<MetaDataProvider> optionalMetaDataProviders,
+			MethodValidationConfiguration methodValidationConfiguration,
+			BeanMetaDataManager parameterNameAgnosticMetaDataManager) {
 		this.constraintHelper = constraintHelper;
 		this.metaDataProviders = newArrayList();
 		this.metaDataProviders.addAll( optionalMetaDataProviders );
@@ -142,6 +176,17 @@ public BeanMetaDataManager(ConstraintHelper constraintHelper,
 
 		this.methodValidationConfiguration = methodValidationConfiguration;
 
+		// meta data is only equivalent if the same rules for method constraints in hierarchies apply
+		if ( parameterNameAgnosticMetaDataManager != null && haveSameRules(
+				parameterNameAgnosticMetaDataManager.methodValidationConfiguration,
+				methodValidationConfiguration
+		) ) {
+			this.parameterNameAgnosticMetaDataManager = parameterNameAgnosticMetaDataManager;
+		}
+		else {
+			this.parameterNameAgnosticMetaDataManager = null;
+		}
+
 		this.beanMetaDataCache = new ConcurrentReferenceHashMap<Class<?>, BeanMetaData<?>>(
 				DEFAULT_INITIAL_CAPACITY,
 				DEFAULT_LOAD_FACTOR,
@@ -178,6 +223,29 @@ public <T> BeanMetaData<T> getBeanMetaData(Class<T> beanClass) {
 		return getOrCreateBeanMetaData( beanClass, false );
 	}
 
+	/**
+	 * Whether the meta data of the given type and its hierarchy is given by annotations only, i.e. neither XML nor the
+	 * programmatic API configure any of the types in the hierarchy.
+	 *
+	 * @param beanClass the type of interest
+	 *
+	 * @return {@code true} if the meta data of the given type is given by annotations only, {@code false} otherwise
+	 */
+	public boolean isAnnotationBasedOnly(Class<?> beanClass) {
+		// the annotation based provider is the last one
+		for ( MetaDataProvider metaDataProvider : metaDataProviders.subList( 0, metaDataProviders.size() - 1 ) ) {
+			if ( !metaDataProvider.getBeanConfigurationForHierarchy( beanClass ).isEmpty() ) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	public ValidationOrderGenerator getValidationOrderGenerator() {
+		return validationOrderGenerator;
+	}
+
 	public void clear() {
 		beanMetaDataCache.clear();
 	}
@@ -208,6 +276,28 @@ private <T> BeanMetaDataImpl<T> createBeanMetaData(Class<T> clazz) {
 		return builder.build();
 	}
 
+	/**
+	 * Returns the meta data of the parameter name agnostic manager for the given type if it doesn't depend on
+	 * parameter names, or creates the meta data otherwise.
+	 */
+	private <T> BeanMetaData<T> getSharedOrCreateBeanMetaData(Class<T> clazz) {
+		if ( parameterNameAgnosticMetaDataManager != null ) {
+			BeanMetaData<T> sharedBeanMetaData = parameterNameAgnosticMetaDataManager.getBeanMetaData( clazz );
+			if ( !sharedBeanMetaData.dependsOnParameterNames() ) {
+				return sharedBeanMetaData;
+			}
+		}
+
+		return createBeanMetaData( clazz );
+	}
+
+	private static boolean haveSameRules(MethodValidationConfiguration configuration,
+			MethodValidationConfiguration otherConfiguration) {
+		return configuration.isAllowOverridingMethodAlterParameterConstraint() == otherConfiguration.isAllowOverridingMethodAlterParameterConstraint()
+				&& configuration.isAllowMultipleCascadedValidationOnReturnValues() == otherConfiguration.isAllowMultipleCascadedValidationOnReturnValues()
+				&& configuration.isAllowParallelMethodsDefineParameterConstraints() == otherConfiguration.isAllowParallelMethodsDefineParameterConstraints();
+	}
+
 	/**
 	 * @return returns the annotation ignores from the non annotation based meta data providers
 	 */
@@ -228,7 +318,7 @@ private <T> BeanMetaData<T> getOrCreateBeanMetaData(Class<T> beanClass, boolean
 
 		// create a new BeanMetaData in case none is cached
 		if ( beanMetaData == null ) {
-			beanMetaData = createBeanMetaData( beanClass );
+			beanMetaData = getSharedOrCreateBeanMetaData( beanClass );
 			if ( !beanMetaData.hasConstraints() && allowUnconstrainedTypeSingleton ) {
 				beanMetaData = (BeanMetaData<T>) UnconstrainedEntityMetaDataSingleton.getSingleton();
 			}
@@ -243,7 +333,7 @@ private <T> BeanMetaData<T> getOrCreateBeanMetaData(Class<T> beanClass, boolean
 		}
 
 		if ( beanMetaData instanceof UnconstrainedEntityMetaDataSingleton && !allowUnconstrainedTypeSingleton ) {
-			beanMetaData = createBeanMetaData( beanClass );
+			beanMetaData = getSharedOrCreateBeanMetaData( beanClass );
 			beanMetaDataCache.put(
 					beanClass,
 					beanMetaData
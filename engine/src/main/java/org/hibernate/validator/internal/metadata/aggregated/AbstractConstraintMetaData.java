@@ -7,7 +7,6 @@
 package org.hibernate.validator.internal.metadata.aggregated;
 
 import java.lang.reflect.Type;
-import java.util.Collections;
 import java.util.Iterator;
 import java.util.Set;
 import javax.validation.ElementKind;
@@ -16,7 +15,9 @@
 import org.hibernate.validator.internal.metadata.core.MetaConstraint;
 import org.hibernate.validator.internal.metadata.descriptor.ConstraintDescriptorImpl;
 
+import static org.hibernate.validator.internal.metadata.core.ConstraintEvaluationCostComparator.orderByEvaluationCost;
 import static org.hibernate.validator.internal.util.CollectionHelper.newHashSet;
+import static org.hibernate.validator.internal.util.CollectionHelper.toImmutableSet;
 
 /**
  * Base implementation for {@link ConstraintMetaData} with attributes common
@@ -43,7 +44,7 @@ public AbstractConstraintMetaData(String name,
 									  UnwrapMode unwrapMode) {
 		this.name = name;
 		this.type = type;
-		this.constraints = Collections.unmodifiableSet( constraints );
+		this.constraints = toImmutableSet( orderByEvaluationCost( constraints ) );
 		this.constrainedMetaDataKind = constrainedMetaDataKind;
 		this.isCascading = isCascading;
 		this.isConstrained = isConstrained;
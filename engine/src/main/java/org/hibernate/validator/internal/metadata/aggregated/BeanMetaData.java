@@ -6,6 +6,7 @@
  */
 package org.hibernate.validator.internal.metadata.aggregated;
 
+import java.lang.reflect.Member;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Set;
@@ -110,9 +111,33 @@
 	 */
 	ExecutableMetaData getMetaDataFor(ExecutableElement method) throws ConstraintDeclarationException;
 
+	/**
+	 * Returns the constraint-related meta data for the given method or constructor of the class represented by this
+	 * bean meta data. In contrast to {@link #getMetaDataFor(ExecutableElement)} the meta data is retrieved from a cache
+	 * keyed by the executable itself, sparing the computation of its signature on repeated invocations.
+	 *
+	 * @param executable The method or constructor of interest.
+	 *
+	 * @return An aggregated view on the constraint related meta data from the given executable or {@code null} if
+	 *         the given executable is not defined by the represented type.
+	 *
+	 * @throws ConstraintDeclarationException In case any of the rules for the declaration of method
+	 * constraints described in the Bean Validation specification is violated.
+	 */
+	ExecutableMetaData getMetaDataFor(Member executable) throws ConstraintDeclarationException;
+
 	/**
 	 * @return Returns a list of classes representing the class hierarchy for the entity. The list start with the
 	 *         element itself and goes up the hierarchy chain. Interfaces are not included.
 	 */
 	List<Class<? super T>> getClassHierarchy();
+
+	/**
+	 * Whether this meta data depends on the names of executable parameters, i.e. whether any of the constrained or
+	 * cascaded executables of the bean has parameters. Meta data not depending on parameter names is the same for all
+	 * parameter name providers and thus can be shared.
+	 *
+	 * @return {@code true} if this meta data depends on parameter names, {@code false} otherwise
+	 */
+	boolean dependsOnParameterNames();
 }
@@ -7,15 +7,20 @@
 package org.hibernate.validator.internal.metadata.aggregated;
 
 import java.lang.annotation.ElementType;
+import java.lang.reflect.Constructor;
 import java.lang.reflect.Member;
+import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import javax.validation.ElementKind;
 import javax.validation.groups.Default;
@@ -28,6 +33,7 @@
 import org.hibernate.validator.internal.engine.groups.Sequence;
 import org.hibernate.validator.internal.engine.groups.ValidationOrder;
 import org.hibernate.validator.internal.engine.groups.ValidationOrderGenerator;
+import org.hibernate.validator.internal.metadata.core.ConstraintEvaluationCostComparator;
 import org.hibernate.validator.internal.metadata.core.ConstraintHelper;
 import org.hibernate.validator.internal.metadata.core.MetaConstraint;
 import org.hibernate.validator.internal.metadata.descriptor.BeanDescriptorImpl;
@@ -44,6 +50,7 @@
 import org.hibernate.validator.internal.metadata.raw.ExecutableElement;
 import org.hibernate.validator.internal.util.CollectionHelper.Partitioner;
 import org.hibernate.validator.internal.util.ExecutableHelper;
+import org.hibernate.validator.internal.util.ReflectionHelper;
 import org.hibernate.validator.internal.util.classhierarchy.ClassHierarchyHelper;
 import org.hibernate.validator.internal.util.classhierarchy.Filters;
 import org.hibernate.validator.internal.util.logging.Log;
@@ -53,6 +60,7 @@
 import static org.hibernate.validator.internal.util.CollectionHelper.newHashMap;
 import static org.hibernate.validator.internal.util.CollectionHelper.newHashSet;
 import static org.hibernate.validator.internal.util.CollectionHelper.partition;
+import static org.hibernate.validator.internal.util.CollectionHelper.toImmutableSet;
 
 /**
  * This class encapsulates all meta data needed for validation. Implementations of {@code Validator} interface can
@@ -72,6 +80,12 @@
 	 */
 	private static final List<Class<?>> DEFAULT_GROUP_SEQUENCE = Collections.<Class<?>>singletonList( Default.class );
 
+	/**
+	 * The maximum number of distinct default group sequences returned by a {@link DefaultGroupSequenceProvider} whose
+	 * validation orders are cached; once reached, the cache is cleared.
+	 */
+	private static final int MAX_CACHED_PROVIDER_VALIDATION_ORDERS = 100;
+
 	private final ValidationOrderGenerator validationOrderGenerator;
 
 	/**
@@ -101,6 +115,13 @@
 	 */
 	private final Map<String, ExecutableMetaData> executableMetaDataMap;
 
+	/**
+	 * Executable meta data keyed by the {@code Method} or {@code Constructor} it has been requested for, avoiding the
+	 * signature-based look-up for executables validated repeatedly. Populated lazily; only executables defined by
+	 * this type are added.
+	 */
+	private final ConcurrentMap<Member, ExecutableMetaData> executableMetaDataByMember;
+
 	/**
 	 * Property meta data keyed against the property name
 	 */
@@ -130,12 +151,25 @@
 	private final DefaultGroupSequenceProvider<? super T> defaultGroupSequenceProvider;
 
 	private final ValidationOrder validationOrder;
+
+	/**
+	 * The validation orders for the default group sequences returned by the default group sequence provider, keyed by
+	 * the returned sequence. Providers typically return one of very few sequences, so this saves the validation and
+	 * resolution of the sequence for each validated bean.
+	 */
+	private final ConcurrentMap<List<Class<?>>, ValidationOrder> providerValidationOrders = new ConcurrentHashMap<List<Class<?>>, ValidationOrder>();
+
 	/**
 	 * The class hierarchy for this class starting with the class itself going up the inheritance chain. Interfaces
 	 * are not included.
 	 */
 	private final List<Class<? super T>> classHierarchyWithoutInterfaces;
 
+	/**
+	 * Whether any constrained or cascaded executable of this bean has parameters.
+	 */
+	private final boolean dependsOnParameterNames;
+
 	/**
 	 * Creates a new {@link BeanMetaDataImpl}
 	 *
@@ -183,7 +217,7 @@ public BeanMetaDataImpl(Class<T> beanClass,
 		}
 
 		this.cascadedProperties = Collections.unmodifiableSet( cascadedProperties );
-		this.allMetaConstraints = Collections.unmodifiableSet( allMetaConstraints );
+		this.allMetaConstraints = toImmutableSet( ConstraintEvaluationCostComparator.orderByEvaluationCost( allMetaConstraints ) );
 
 		this.classHierarchyWithoutInterfaces = ClassHierarchyHelper.getHierarchy(
 				beanClass,
@@ -198,6 +232,8 @@ public BeanMetaDataImpl(Class<T> beanClass,
 		this.directMetaConstraints = getDirectConstraints();
 
 		this.executableMetaDataMap = Collections.unmodifiableMap( bySignature( executableMetaDataSet ) );
+		this.executableMetaDataByMember = new ConcurrentHashMap<Member, ExecutableMetaData>();
+		this.dependsOnParameterNames = hasConstrainedExecutableWithParameters( executableMetaDataSet );
 
 		boolean defaultGroupSequenceIsRedefined = defaultGroupSequenceIsRedefined();
 		List<Class<?>> resolvedDefaultGroupSequence = getDefaultGroupSequence( null );
@@ -277,6 +313,25 @@ public ExecutableMetaData getMetaDataFor(ExecutableElement executable) {
 		return executableMetaDataMap.get( executable.getSignature() );
 	}
 
+	@Override
+	public ExecutableMetaData getMetaDataFor(Member executable) {
+		ExecutableMetaData executableMetaData = executableMetaDataByMember.get( executable );
+
+		if ( executableMetaData == null ) {
+			ExecutableElement executableElement = executable instanceof Method ?
+					ExecutableElement.forMethod( (Method) executable ) :
+					ExecutableElement.forConstructor( (Constructor<?>) executable );
+
+			executableMetaData = executableMetaDataMap.get( executableElement.getSignature() );
+
+			if ( executableMetaData != null ) {
+				executableMetaDataByMember.putIfAbsent( executable, executableMetaData );
+			}
+		}
+
+		return executableMetaData;
+	}
+
 	@Override
 	public List<Class<?>> getDefaultGroupSequence(T beanState) {
 		if ( hasDefaultGroupSequenceProvider() ) {
@@ -291,17 +346,34 @@ public List<Class<?>> getDefaultGroupSequence(T beanState) {
 	public Iterator<Sequence> getDefaultValidationSequence(T beanState) {
 		if ( hasDefaultGroupSequenceProvider() ) {
 			List<Class<?>> providerDefaultGroupSequence = defaultGroupSequenceProvider.getValidationGroups( beanState );
-			return validationOrderGenerator.getDefaultValidationOrder(
-						beanClass,
-						getValidDefaultGroupSequence( beanClass, providerDefaultGroupSequence )
-					)
-					.getSequenceIterator();
+			return getProviderValidationOrder( providerDefaultGroupSequence ).getSequenceIterator();
 		}
 		else {
 			return validationOrder.getSequenceIterator();
 		}
 	}
 
+	private ValidationOrder getProviderValidationOrder(List<Class<?>> providerDefaultGroupSequence) {
+		ValidationOrder providerValidationOrder = providerDefaultGroupSequence != null ?
+				providerValidationOrders.get( providerDefaultGroupSequence ) :
+				null;
+
+		if ( providerValidationOrder == null ) {
+			providerValidationOrder = validationOrderGenerator.getDefaultValidationOrder(
+					beanClass,
+					getValidDefaultGroupSequence( beanClass, providerDefaultGroupSequence )
+			);
+
+			if ( providerValidationOrders.size() >= MAX_CACHED_PROVIDER_VALIDATION_ORDERS ) {
+				providerValidationOrders.clear();
+			}
+			// the provider may alter the returned list later on, so the key needs to be a copy
+			providerValidationOrders.put( new ArrayList<Class<?>>( providerDefaultGroupSequence ), providerValidationOrder );
+		}
+
+		return providerValidationOrder;
+	}
+
 	@Override
 	public boolean defaultGroupSequenceIsRedefined() {
 		return defaultGroupSequence.size() > 1 || hasDefaultGroupSequenceProvider();
@@ -312,6 +384,11 @@ public List<Class<? super T>> getClassHierarchy() {
 		return classHierarchyWithoutInterfaces;
 	}
 
+	@Override
+	public boolean dependsOnParameterNames() {
+		return dependsOnParameterNames;
+	}
+
 	private Set<ConstraintDescriptorImpl<?>> getClassLevelConstraintsAsDescriptors() {
 		Set<MetaConstraint<?>> classLevelConstraints = getClassLevelConstraints( allMetaConstraints );
 
@@ -343,6 +420,17 @@ private static Map<String, PropertyDescriptor> getConstrainedPropertiesAsDescrip
 		return theValue;
 	}
 
+	private static boolean hasConstrainedExecutableWithParameters(Set<ExecutableMetaData> executableMetaDataSet) {
+		for ( ExecutableMetaData executableMetaData : executableMetaDataSet ) {
+			if ( executableMetaData.getParameterTypes().length > 0
+					&& ( executableMetaData.isConstrained() || executableMetaData.isCascading() ) ) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
 	private static Map<String, ExecutableDescriptorImpl> getConstrainedMethodsAsDescriptors(Map<String, ExecutableMetaData> executableMetaDataMap,
 			boolean defaultGroupSequenceIsRedefined, List<Class<?>> resolvedDefaultGroupSequence) {
 		Map<String, ExecutableDescriptorImpl> constrainedMethodDescriptors = newHashMap();
@@ -418,21 +506,20 @@ private Set<MetaConstraint<?>> getClassLevelConstraints(Set<MetaConstraint<?>> c
 	}
 
 	private Set<MetaConstraint<?>> getDirectConstraints() {
-		Set<MetaConstraint<?>> constraints = newHashSet();
+		// retain the order of all meta constraints
+		Set<MetaConstraint<?>> constraints = new LinkedHashSet<MetaConstraint<?>>();
 
 		Set<Class<?>> classAndInterfaces = newHashSet();
 		classAndInterfaces.add( beanClass );
 		classAndInterfaces.addAll( ClassHierarchyHelper.getDirectlyImplementedInterfaces( beanClass ) );
 
-		for ( Class<?> clazz : classAndInterfaces ) {
-			for ( MetaConstraint<?> metaConstraint : allMetaConstraints ) {
-				if ( metaConstraint.getLocation().getDeclaringClass().equals( clazz ) ) {
-					constraints.add( metaConstraint );
-				}
+		for ( MetaConstraint<?> metaConstraint : allMetaConstraints ) {
+			if ( classAndInterfaces.contains( metaConstraint.getLocation().getDeclaringClass() ) ) {
+				constraints.add( metaConstraint );
 			}
 		}
 
-		return Collections.unmodifiableSet( constraints );
+		return toImmutableSet( constraints );
 	}
 
 	/**
@@ -515,6 +602,18 @@ public String toString() {
 
 		private final Set<BuilderDelegate> builders = newHashSet();
 
+		/**
+		 * The builders keyed by the names of the properties they aggregate. Only these builders can accept another
+		 * field, getter or the class-level element ({@code null} key) of the hierarchy.
+		 */
+		private final Map<String, List<BuilderDelegate>> buildersByPropertyName = newHashMap();
+
+		/**
+		 * The builders keyed by name and parameter count of the executables they aggregate. Only these builders can
+		 * accept another executable of the hierarchy, as an overriding method has the same name and parameter count.
+		 */
+		private final Map<String, List<BuilderDelegate>> buildersByExecutable = newHashMap();
+
 		private final ExecutableHelper executableHelper;
 
 		private ConfigurationSource sequenceSource;
@@ -536,7 +635,7 @@ private BeanMetaDataBuilder(
 			this.beanClass = beanClass;
 			this.constraintHelper = constraintHelper;
 			this.validationOrderGenerator = validationOrderGenerator;
-			this.executableHelper = executableHelper;
+			this.executableHelper = executableHelper.withResolvedMemberCache();
 			this.methodValidationConfiguration = methodValidationConfiguration;
 		}
 
@@ -574,28 +673,112 @@ public void add(BeanConfiguration<? super T> configuration) {
 			}
 
 			for ( ConstrainedElement constrainedElement : configuration.getConstrainedElements() ) {
-				addMetaDataToBuilder( constrainedElement, builders );
+				addMetaDataToBuilder( constrainedElement );
 			}
 		}
 
-		private void addMetaDataToBuilder(ConstrainedElement constrainableElement, Set<BuilderDelegate> builders) {
-			for ( BuilderDelegate builder : builders ) {
-				boolean foundBuilder = builder.add( constrainableElement );
+		private void addMetaDataToBuilder(ConstrainedElement constrainableElement) {
+			String propertyName = getPropertyName( constrainableElement );
+			String executableKey = getExecutableKey( constrainableElement );
+
+			BuilderDelegate builder = getAcceptingBuilder( constrainableElement, propertyName, executableKey );
 
-				if ( foundBuilder ) {
-					return;
+			if ( builder == null ) {
+				builder = new BuilderDelegate(
+						beanClass,
+						constrainableElement,
+						constraintHelper,
+						executableHelper,
+						methodValidationConfiguration
+				);
+				builders.add( builder );
+			}
+
+			// a builder created for a field may aggregate a getter later on, so it is registered for all keys of the
+			// elements it has accepted
+			if ( isProperty( constrainableElement ) ) {
+				register( buildersByPropertyName, propertyName, builder );
+			}
+			if ( executableKey != null ) {
+				register( buildersByExecutable, executableKey, builder );
+			}
+		}
+
+		private BuilderDelegate getAcceptingBuilder(ConstrainedElement constrainableElement, String propertyName, String executableKey) {
+			if ( executableKey != null ) {
+				List<BuilderDelegate> candidates = buildersByExecutable.get( executableKey );
+				if ( candidates != null ) {
+					for ( BuilderDelegate candidate : candidates ) {
+						if ( candidate.add( constrainableElement ) ) {
+							return candidate;
+						}
+					}
 				}
 			}
 
-			builders.add(
-					new BuilderDelegate(
-							beanClass,
-							constrainableElement,
-							constraintHelper,
-							executableHelper,
-							methodValidationConfiguration
-					)
-			);
+			if ( isProperty( constrainableElement ) ) {
+				List<BuilderDelegate> candidates = buildersByPropertyName.get( propertyName );
+				if ( candidates != null ) {
+					for ( BuilderDelegate candidate : candidates ) {
+						if ( candidate.add( constrainableElement ) ) {
+							return candidate;
+						}
+					}
+				}
+			}
+
+			return null;
+		}
+
+		private static void register(Map<String, List<BuilderDelegate>> buildersByKey, String key, BuilderDelegate builder) {
+			List<BuilderDelegate> buildersWithKey = buildersByKey.get( key );
+
+			if ( buildersWithKey == null ) {
+				buildersWithKey = new ArrayList<BuilderDelegate>( 1 );
+				buildersByKey.put( key, buildersWithKey );
+			}
+
+			if ( !buildersWithKey.contains( builder ) ) {
+				buildersWithKey.add( builder );
+			}
+		}
+
+		private static boolean isExecutable(ConstrainedElement constrainedElement) {
+			return constrainedElement.getKind() == ConstrainedElementKind.CONSTRUCTOR
+					|| constrainedElement.getKind() == ConstrainedElementKind.METHOD;
+		}
+
+		/**
+		 * Whether the given element may be aggregated into property meta data, i.e. it is a field, a getter or a
+		 * class-level element.
+		 */
+		private static boolean isProperty(ConstrainedElement constrainedElement) {
+			return !isExecutable( constrainedElement ) || ( (ConstrainedExecutable) constrainedElement ).isGetterMethod();
+		}
+
+		/**
+		 * Returns the name of the property represented by the given field or getter, {@code null} for class-level
+		 * elements and executables other than getters.
+		 */
+		private static String getPropertyName(ConstrainedElement constrainedElement) {
+			if ( !isProperty( constrainedElement ) || constrainedElement.getKind() == ConstrainedElementKind.TYPE ) {
+				return null;
+			}
+
+			return ReflectionHelper.getPropertyName( constrainedElement.getLocation().getMember() );
+		}
+
+		/**
+		 * Returns a key made up from the name and parameter count of the given executable, {@code null} for fields
+		 * and class-level elements.
+		 */
+		private static String getExecutableKey(ConstrainedElement constrainedElement) {
+			if ( !isExecutable( constrainedElement ) ) {
+				return null;
+			}
+
+			ExecutableElement executable = ( (ConstrainedExecutable) constrainedElement ).getExecutable();
+			return executable.getSimpleName() + "#" + executable.getParameterTypes().length;
 		}
 
 		public BeanMetaDataImpl<T> build() {
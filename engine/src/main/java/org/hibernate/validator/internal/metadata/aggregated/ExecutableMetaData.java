@@ -21,6 +21,7 @@
 import javax.validation.metadata.ParameterDescriptor;
 
 import org.hibernate.validator.internal.engine.MethodValidationConfiguration;
+import org.hibernate.validator.internal.engine.path.PathImpl;
 import org.hibernate.validator.internal.engine.valuehandling.UnwrapMode;
 import org.hibernate.validator.internal.metadata.aggregated.rule.MethodConfigurationRule;
 import org.hibernate.validator.internal.metadata.core.ConstraintHelper;
@@ -35,9 +36,11 @@
 import org.hibernate.validator.internal.util.logging.Log;
 import org.hibernate.validator.internal.util.logging.LoggerFactory;
 
+import static org.hibernate.validator.internal.metadata.core.ConstraintEvaluationCostComparator.orderByEvaluationCost;
 import static org.hibernate.validator.internal.util.CollectionHelper.newArrayList;
 import static org.hibernate.validator.internal.util.CollectionHelper.newHashMap;
 import static org.hibernate.validator.internal.util.CollectionHelper.newHashSet;
+import static org.hibernate.validator.internal.util.CollectionHelper.toImmutableSet;
 
 /**
  * An aggregated view of the constraint related meta data for a given method or
@@ -74,6 +77,13 @@ public class ExecutableMetaData extends AbstractConstraintMetaData {
 
 	private final ReturnValueMetaData returnValueMetaData;
 
+	private final ValidatableParametersMetaData validatableParametersMetaData;
+
+	/**
+	 * The path to the represented executable. Only handed out as copy, as paths are mutated during validation.
+	 */
+	private final PathImpl executablePath;
+
 	private ExecutableMetaData(
 			String name,
 			Type returnType,
@@ -101,7 +111,7 @@ private ExecutableMetaData(
 
 		this.parameterTypes = parameterTypes;
 		this.parameterMetaDataList = Collections.unmodifiableList( parameterMetaData );
-		this.crossParameterConstraints = Collections.unmodifiableSet( crossParameterConstraints );
+		this.crossParameterConstraints = toImmutableSet( orderByEvaluationCost( crossParameterConstraints ) );
 		this.signatures = signatures;
 		this.returnValueMetaData = new ReturnValueMetaData(
 				returnType,
@@ -112,6 +122,8 @@ private ExecutableMetaData(
 				unwrapMode
 		);
 		this.isGetter = isGetter;
+		this.validatableParametersMetaData = createValidatableParametersMetaData( this.parameterMetaDataList );
+		this.executablePath = PathImpl.createPathForExecutable( this );
 	}
 
 	/**
@@ -163,15 +175,17 @@ public Set<MetaConstraint<?>> getCrossParameterConstraints() {
 	}
 
 	public ValidatableParametersMetaData getValidatableParametersMetaData() {
-		Set<ParameterMetaData> cascadedParameters = newHashSet();
-
-		for ( ParameterMetaData parameterMetaData : parameterMetaDataList ) {
-			if ( parameterMetaData.isCascading() ) {
-				cascadedParameters.add( parameterMetaData );
-			}
-		}
+		return validatableParametersMetaData;
+	}
 
-		return new ValidatableParametersMetaData( cascadedParameters );
+	/**
+	 * Returns a new path representing the executable described by this meta data object. The path is copied from a
+	 * pre-built instance, avoiding the creation of the executable node for each validation call.
+	 *
+	 * @return A path to the represented executable; callers may alter the returned instance.
+	 */
+	public PathImpl createExecutablePath() {
+		return PathImpl.createCopy( executablePath );
 	}
 
 	public ReturnValueMetaData getReturnValueMetaData() {
@@ -195,6 +209,18 @@ public ExecutableDescriptorImpl asDescriptor(boolean defaultGroupSequenceRedefin
 		);
 	}
 
+	private static ValidatableParametersMetaData createValidatableParametersMetaData(List<ParameterMetaData> parameterMetaDataList) {
+		Set<ParameterMetaData> cascadedParameters = newHashSet();
+
+		for ( ParameterMetaData parameterMetaData : parameterMetaDataList ) {
+			if ( parameterMetaData.isCascading() ) {
+				cascadedParameters.add( parameterMetaData );
+			}
+		}
+
+		return new ValidatableParametersMetaData( cascadedParameters );
+	}
+
 	private List<ParameterDescriptor> parametersAsDescriptors(boolean defaultGroupSequenceRedefined, List<Class<?>> defaultGroupSequence) {
 		List<ParameterDescriptor> parameterDescriptorList = newArrayList();
 
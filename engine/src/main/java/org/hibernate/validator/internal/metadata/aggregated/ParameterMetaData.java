@@ -6,11 +6,12 @@
  */
 package org.hibernate.validator.internal.metadata.aggregated;
 
+import static org.hibernate.validator.internal.metadata.core.ConstraintEvaluationCostComparator.orderByEvaluationCost;
 import static org.hibernate.validator.internal.util.CollectionHelper.newHashSet;
+import static org.hibernate.validator.internal.util.CollectionHelper.toImmutableSet;
 
 import java.lang.annotation.ElementType;
 import java.lang.reflect.Type;
-import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -65,7 +66,7 @@ private ParameterMetaData(int index,
 
 		this.index = index;
 
-		this.typeArgumentsConstraints = Collections.unmodifiableSet( typeArgumentsConstraints );
+		this.typeArgumentsConstraints = toImmutableSet( orderByEvaluationCost( typeArgumentsConstraints ) );
 		this.groupConversionHelper = new GroupConversionHelper( groupConversions );
 		this.groupConversionHelper.validateGroupConversions( isCascading(), this.toString() );
 	}
@@ -6,7 +6,9 @@
  */
 package org.hibernate.validator.internal.metadata.aggregated;
 
+import static org.hibernate.validator.internal.metadata.core.ConstraintEvaluationCostComparator.orderByEvaluationCost;
 import static org.hibernate.validator.internal.util.CollectionHelper.newHashSet;
+import static org.hibernate.validator.internal.util.CollectionHelper.toImmutableSet;
 
 import java.lang.annotation.ElementType;
 import java.lang.reflect.AccessibleObject;
@@ -16,7 +18,6 @@
 import java.lang.reflect.Type;
 import java.security.AccessController;
 import java.security.PrivilegedAction;
-import java.util.Collections;
 import java.util.EnumSet;
 import java.util.List;
 import java.util.Map;
@@ -106,7 +107,7 @@ private PropertyMetaData(String propertyName,
 			this.elementType = ElementType.TYPE;
 		}
 
-		this.typeArgumentsConstraints = Collections.unmodifiableSet( typeArgumentsConstraints );
+		this.typeArgumentsConstraints = toImmutableSet( orderByEvaluationCost( typeArgumentsConstraints ) );
 		this.groupConversionHelper = new GroupConversionHelper( groupConversions );
 		this.groupConversionHelper.validateGroupConversions( isCascading(), this.toString() );
 	}
@@ -24,6 +24,9 @@
 import org.hibernate.validator.internal.metadata.facets.Cascadable;
 import org.hibernate.validator.internal.metadata.facets.Validatable;
 
+import static org.hibernate.validator.internal.metadata.core.ConstraintEvaluationCostComparator.orderByEvaluationCost;
+import static org.hibernate.validator.internal.util.CollectionHelper.toImmutableSet;
+
 /**
  * Represents the constraint related meta data of the return value of a method
  * or constructor.
@@ -59,7 +62,7 @@ public ReturnValueMetaData(Type type,
 				unwrapMode
 		);
 
-		this.typeArgumentsConstraints = Collections.unmodifiableSet( typeArgumentsConstraints );
+		this.typeArgumentsConstraints = toImmutableSet( orderByEvaluationCost( typeArgumentsConstraints ) );
 		this.cascadables = Collections.unmodifiableList( isCascading ? Arrays.<Cascadable>asList( this ) : Collections.<Cascadable>emptyList() );
 		this.groupConversionHelper = new GroupConversionHelper( groupConversions );
 		this.groupConversionHelper.validateGroupConversions( isCascading(), this.toString() );
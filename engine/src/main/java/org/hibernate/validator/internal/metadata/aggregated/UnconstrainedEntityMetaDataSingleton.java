@@ -6,6 +6,7 @@
  */
 package org.hibernate.validator.internal.metadata.aggregated;
 
+import java.lang.reflect.Member;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Set;
@@ -84,6 +85,11 @@ public ExecutableMetaData getMetaDataFor(ExecutableElement method) throws Constr
 		throw new UnsupportedOperationException();
 	}
 
+	@Override
+	public ExecutableMetaData getMetaDataFor(Member executable) throws ConstraintDeclarationException {
+		throw new UnsupportedOperationException();
+	}
+
 	@Override
 	public List<Class<? super T>> getClassHierarchy() {
 		throw new UnsupportedOperationException();
@@ -93,4 +99,9 @@ public List<Class<? super T>> getClassHierarchy() {
 	public Iterable<Cascadable> getCascadables() {
 		throw new UnsupportedOperationException();
 	}
+
+	@Override
+	public boolean dependsOnParameterNames() {
+		return false;
+	}
 }
@@ -0,0 +1,195 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.internal.metadata.core;
+
+import java.lang.annotation.Annotation;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.validation.constraints.AssertFalse;
+import javax.validation.constraints.AssertTrue;
+import javax.validation.constraints.DecimalMax;
+import javax.validation.constraints.DecimalMin;
+import javax.validation.constraints.Digits;
+import javax.validation.constraints.Future;
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Null;
+import javax.validation.constraints.Past;
+import javax.validation.constraints.Pattern;
+import javax.validation.constraints.Size;
+
+import org.hibernate.validator.constraints.CreditCardNumber;
+import org.hibernate.validator.constraints.EAN;
+import org.hibernate.validator.constraints.Email;
+import org.hibernate.validator.constraints.Length;
+import org.hibernate.validator.constraints.LuhnCheck;
+import org.hibernate.validator.constraints.Mod10Check;
+import org.hibernate.validator.constraints.Mod11Check;
+import org.hibernate.validator.constraints.ModCheck;
+import org.hibernate.validator.constraints.NotBlank;
+import org.hibernate.validator.constraints.NotEmpty;
+import org.hibernate.validator.constraints.ParameterScriptAssert;
+import org.hibernate.validator.constraints.Range;
+import org.hibernate.validator.constraints.SafeHtml;
+import org.hibernate.validator.constraints.ScriptAssert;
+import org.hibernate.validator.constraints.URL;
+import org.hibernate.validator.constraints.br.CNPJ;
+import org.hibernate.validator.constraints.br.CPF;
+import org.hibernate.validator.constraints.br.TituloEleitoral;
+import org.hibernate.validator.internal.metadata.descriptor.ConstraintDescriptorImpl;
+
+import static org.hibernate.validator.internal.util.CollectionHelper.newHashMap;
+
+/**
+ * Orders {@link MetaConstraint}s by the estimated cost of their evaluation, cheap constraints first. This way, in
+ * fail fast mode, invalid input is rejected by the cheapest constraint possible, e.g. {@code @NotNull} is evaluated
+ * before {@code @Pattern} or {@code @ScriptAssert}.
+ * <p>
+ * The cost of built-in constraints is estimated using static weights, custom constraints are considered more
+ * expensive than all built-in constraints but those based on scripts or HTML parsing. The cost of composed
+ * constraints is the sum of the costs of their composing constraints. Constraints with the same cost, e.g. repeated
+ * constraints of the same type, are considered equal; {@link #orderByEvaluationCost(Set)} keeps them in the order in
+ * which they are given.
+ *
+ * @author agent
+ */
+public class ConstraintEvaluationCostComparator implements Comparator<MetaConstraint<?>> {
+
+	public static final ConstraintEvaluationCostComparator INSTANCE = new ConstraintEvaluationCostComparator();
+
+	/**
+	 * Constraints checking nullness or a boolean value.
+	 */
+	private static final int TRIVIAL = 1;
+
+	/**
+	 * Constraints comparing the size or the value of the validated element.
+	 */
+	private static final int CHEAP = 2;
+
+	/**
+	 * Constraints examining the characters of the validated element, e.g. by matching regular expressions.
+	 */
+	private static final int MODERATE = 5;
+
+	/**
+	 * Custom constraints whose cost is unknown.
+	 */
+	private static final int UNKNOWN = 10;
+
+	/**
+	 * Constraints evaluating scripts or parsing HTML.
+	 */
+	private static final int EXPENSIVE = 50;
+
+	private static final Map<Class<? extends Annotation>, Integer> BUILT_IN_CONSTRAINT_COSTS;
+
+	static {
+		Map<Class<? extends Annotation>, Integer> costs = newHashMap();
+
+		costs.put( Null.class, TRIVIAL );
+		costs.put( NotNull.class, TRIVIAL );
+		costs.put( AssertTrue.class, TRIVIAL );
+		costs.put( AssertFalse.class, TRIVIAL );
+
+		costs.put( Size.class, CHEAP );
+		costs.put( Min.class, CHEAP );
+		costs.put( Max.class, CHEAP );
+		costs.put( DecimalMin.class, CHEAP );
+		costs.put( DecimalMax.class, CHEAP );
+		costs.put( Digits.class, CHEAP );
+		costs.put( Past.class, CHEAP );
+		costs.put( Future.class, CHEAP );
+		costs.put( Length.class, CHEAP );
+		costs.put( Range.class, CHEAP );
+		costs.put( NotEmpty.class, CHEAP );
+		costs.put( NotBlank.class, CHEAP );
+
+		costs.put( Pattern.class, MODERATE );
+		costs.put( Email.class, MODERATE );
+		costs.put( URL.class, MODERATE );
+		costs.put( CreditCardNumber.class, MODERATE );
+		costs.put( EAN.class, MODERATE );
+		costs.put( LuhnCheck.class, MODERATE );
+		costs.put( Mod10Check.class, MODERATE );
+		costs.put( Mod11Check.class, MODERATE );
+		costs.put( ModCheck.class, MODERATE );
+		costs.put( CNPJ.class, MODERATE );
+		costs.put( CPF.class, MODERATE );
+		costs.put( TituloEleitoral.class, MODERATE );
+
+		costs.put( SafeHtml.class, EXPENSIVE );
+		costs.put( ScriptAssert.class, EXPENSIVE );
+		costs.put( ParameterScriptAssert.class, EXPENSIVE );
+
+		BUILT_IN_CONSTRAINT_COSTS = Collections.unmodifiableMap( costs );
+	}
+
+	private ConstraintEvaluationCostComparator() {
+	}
+
+	/**
+	 * Orders the given constraints by their estimated evaluation cost, so in fail fast mode invalid values are rejected
+	 * as cheaply as possible.
+	 *
+	 * @param metaConstraints the constraints to order
+	 *
+	 * @return a set with the given constraints, iterating over them in the order of their estimated evaluation cost;
+	 * constraints of the same cost are iterated over in the order of the given set
+	 */
+	public static Set<MetaConstraint<?>> orderByEvaluationCost(Set<MetaConstraint<?>> metaConstraints) {
+		if ( metaConstraints.size() < 2 ) {
+			return metaConstraints;
+		}
+
+		List<MetaConstraint<?>> orderedMetaConstraints = new ArrayList<MetaConstraint<?>>( metaConstraints );
+		// the sort is stable, i.e. ties are broken by the index of the constraints within the given set
+		Collections.sort( orderedMetaConstraints, INSTANCE );
+
+		return new LinkedHashSet<MetaConstraint<?>>( orderedMetaConstraints );
+	}
+
+	@Override
+	public int compare(MetaConstraint<?> o1, MetaConstraint<?> o2) {
+		int cost1 = getCost( o1.getDescriptor() );
+		int cost2 = getCost( o2.getDescriptor() );
+
+		return cost1 < cost2 ? -1 : ( cost1 == cost2 ? 0 : 1 );
+	}
+
+	/**
+	 * Returns the estimated cost of evaluating the given constraint.
+	 *
+	 * @param descriptor the descriptor of the constraint
+	 *
+	 * @return the estimated cost of evaluating the given constraint
+	 */
+	public static int getCost(ConstraintDescriptorImpl<?> descriptor) {
+		Integer builtInCost = BUILT_IN_CONSTRAINT_COSTS.get( descriptor.getAnnotationType() );
+		if ( builtInCost != null ) {
+			return builtInCost;
+		}
+
+		if ( descriptor.getComposingConstraintImpls().isEmpty() ) {
+			return UNKNOWN;
+		}
+
+		int cost = descriptor.getMatchingConstraintValidatorClasses().isEmpty() ? 0 : UNKNOWN;
+		for ( ConstraintDescriptorImpl<?> composingConstraint : descriptor.getComposingConstraintImpls() ) {
+			cost += getCost( composingConstraint );
+		}
+
+		return cost;
+	}
+}
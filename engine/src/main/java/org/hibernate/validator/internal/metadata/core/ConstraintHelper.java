@@ -135,12 +135,22 @@ public class ConstraintHelper {
 	private static final Log log = LoggerFactory.make();
 	private static final String JODA_TIME_CLASS_NAME = "org.joda.time.ReadableInstant";
 
+	/**
+	 * The built-in constraints and their validators. They only depend on the class path of Hibernate Validator itself
+	 * and the Java version, so they are determined once and shared by all instances.
+	 */
+	private static final Map<Class<? extends Annotation>, List<? extends Class<?>>> BUILTIN_CONSTRAINTS = createBuiltinConstraints();
+
 	// immutable
 	private final Map<Class<? extends Annotation>, List<? extends Class<?>>> builtinConstraints;
 
 	private final ValidatorClassMap validatorClasses = new ValidatorClassMap();
 
 	public ConstraintHelper() {
+		this.builtinConstraints = BUILTIN_CONSTRAINTS;
+	}
+
+	private static Map<Class<? extends Annotation>, List<? extends Class<?>>> createBuiltinConstraints() {
 		Map<Class<? extends Annotation>, List<? extends Class<?>>> tmpConstraints = newHashMap();
 
 		putConstraint( tmpConstraints, AssertFalse.class, AssertFalseValidator.class );
@@ -152,10 +162,12 @@ public ConstraintHelper() {
 		putConstraints( tmpConstraints, DecimalMin.class, DecimalMinValidatorForNumber.class, DecimalMinValidatorForCharSequence.class );
 		putConstraints( tmpConstraints, Digits.class, DigitsValidatorForCharSequence.class, DigitsValidatorForNumber.class );
 
+		boolean jodaTimeInClasspath = isJodaTimeInClasspath();
+
 		List<Class<? extends ConstraintValidator<Future, ?>>> futureValidators = newArrayList( 11 );
 		futureValidators.add( FutureValidatorForCalendar.class );
 		futureValidators.add( FutureValidatorForDate.class );
-		if ( isJodaTimeInClasspath() ) {
+		if ( jodaTimeInClasspath ) {
 			futureValidators.add( FutureValidatorForReadableInstant.class );
 			futureValidators.add( FutureValidatorForReadablePartial.class );
 		}
@@ -175,7 +187,7 @@ public ConstraintHelper() {
 		List<Class<? extends ConstraintValidator<Past, ?>>> pastValidators = newArrayList( 11 );
 		pastValidators.add( PastValidatorForCalendar.class );
 		pastValidators.add( PastValidatorForDate.class );
-		if ( isJodaTimeInClasspath() ) {
+		if ( jodaTimeInClasspath ) {
 			pastValidators.add( PastValidatorForReadableInstant.class );
 			pastValidators.add( PastValidatorForReadablePartial.class );
 		}
@@ -217,7 +229,7 @@ public ConstraintHelper() {
 		putConstraint( tmpConstraints, ScriptAssert.class, ScriptAssertValidator.class );
 		putConstraint( tmpConstraints, URL.class, URLValidator.class );
 
-		this.builtinConstraints = Collections.unmodifiableMap( tmpConstraints );
+		return Collections.unmodifiableMap( tmpConstraints );
 	}
 
 	private static <A extends Annotation> void putConstraint(Map<Class<? extends Annotation>, List<? extends Class<?>>> validators, Class<A> constraintType, Class<? extends ConstraintValidator<A, ?>> validatorType) {
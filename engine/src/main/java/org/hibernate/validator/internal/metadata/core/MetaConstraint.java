@@ -8,13 +8,23 @@
 
 import java.lang.annotation.Annotation;
 import java.lang.annotation.ElementType;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
 import java.util.Set;
+import javax.validation.groups.Default;
 
 import org.hibernate.validator.internal.engine.ValidationContext;
 import org.hibernate.validator.internal.engine.ValueContext;
 import org.hibernate.validator.internal.engine.constraintvalidation.ConstraintTree;
+import org.hibernate.validator.internal.engine.groups.GroupIds;
 import org.hibernate.validator.internal.metadata.descriptor.ConstraintDescriptorImpl;
+import org.hibernate.validator.internal.metadata.descriptor.ConstraintDescriptorImpl.ConstraintType;
 import org.hibernate.validator.internal.metadata.location.ConstraintLocation;
+import org.hibernate.validator.internal.util.ConcurrentReferenceHashMap;
+import org.hibernate.validator.internal.util.ConcurrentReferenceHashMap.ReferenceType;
+
+import static org.hibernate.validator.internal.util.CollectionHelper.newArrayList;
 
 /**
  * Instances of this class abstract the constraint type  (class, method or field constraint) and give access to
@@ -26,9 +36,27 @@
 public class MetaConstraint<A extends Annotation> {
 
 	/**
-	 * The constraint tree created from the constraint annotation.
+	 * The constraint trees of identical constraint definitions, shared by all meta constraints of such a definition,
+	 * e.g. all occurrences of {@code @Size(max=255)} for the same groups. Keys and trees are weakly referenced, so
+	 * neither the annotations and validator classes of a definition nor their class loaders are retained by this map;
+	 * an entry is discarded once no meta constraint refers to its tree anymore.
+	 * <p>
+	 * As this map is shared by all validator factories, the trees and their descriptors must only hold immutable state
+	 * derived from the constraint definition. Anything specific to a factory, e.g. initialized validators or cached
+	 * validation results, is kept by the factory's
+	 * {@link org.hibernate.validator.internal.engine.constraintvalidation.ConstraintValidatorManager}.
+	 */
+	private static final ConcurrentReferenceHashMap<DefinitionKey, SharedConstraintTree<?>> CONSTRAINT_TREES = new ConcurrentReferenceHashMap<DefinitionKey, SharedConstraintTree<?>>(
+			100,
+			ReferenceType.WEAK,
+			ReferenceType.WEAK
+	);
+
+	/**
+	 * The constraint tree created from the constraint annotation, shared with other meta constraints of the same
+	 * definition.
 	 */
-	private final ConstraintTree<A> constraintTree;
+	private final SharedConstraintTree<A> sharedConstraintTree;
 
 	/**
 	 * The constraint descriptor.
@@ -40,14 +68,28 @@
 	 */
 	private final ConstraintLocation location;
 
+	/**
+	 * The ids of the groups this constraint is part of, as bit set.
+	 */
+	private final long[] groupIds;
+
+	/**
+	 * The implicit group of this constraint, i.e. the interface declaring it if the constraint is part of the default
+	 * group, or {@code null}. It is not represented in {@link #groupIds}, so ids are only assigned to groups referenced
+	 * explicitly.
+	 */
+	private final Class<?> implicitGroup;
+
 	/**
 	 * @param constraintDescriptor The constraint descriptor for this constraint
 	 * @param location meta data about constraint placement
 	 */
 	public MetaConstraint(ConstraintDescriptorImpl<A> constraintDescriptor, ConstraintLocation location) {
-		this.constraintTree = new ConstraintTree<A>( constraintDescriptor );
-		this.constraintDescriptor = constraintDescriptor;
+		this.sharedConstraintTree = getSharedConstraintTree( constraintDescriptor );
+		this.constraintDescriptor = sharedConstraintTree.tree.getDescriptor();
 		this.location = location;
+		this.implicitGroup = getImplicitGroup( this.constraintDescriptor.getGroups(), location );
+		this.groupIds = GroupIds.toBitSet( getExplicitGroups( this.constraintDescriptor.getGroups(), implicitGroup ) );
 	}
 
 	/**
@@ -58,6 +100,18 @@ public final Set<Class<?>> getGroupList() {
 		return constraintDescriptor.getGroups();
 	}
 
+	/**
+	 * Whether this constraint is part of the given group.
+	 *
+	 * @param groupId the id of the group as assigned by {@link GroupIds}
+	 * @param group the group
+	 *
+	 * @return {@code true} if this constraint is part of the given group, {@code false} otherwise
+	 */
+	public final boolean isInGroup(int groupId, Class<?> group) {
+		return GroupIds.contains( groupIds, groupId ) || ( implicitGroup != null && implicitGroup == group );
+	}
+
 	public final ConstraintDescriptorImpl<A> getDescriptor() {
 		return constraintDescriptor;
 	}
@@ -70,7 +124,7 @@ public boolean validateConstraint(ValidationContext<?> executionContext, ValueCo
 		valueContext.setElementType( getElementType() );
 		valueContext.setDeclaredTypeOfValidatedElement( location.getTypeForValidatorResolution() );
 
-		boolean validationResult = constraintTree.validateConstraints( executionContext, valueContext );
+		boolean validationResult = sharedConstraintTree.tree.validateConstraints( executionContext, valueContext );
 		executionContext.markConstraintProcessed( valueContext.getCurrentBean(), valueContext.getPropertyPath(), this );
 
 		return validationResult;
@@ -80,6 +134,32 @@ public ConstraintLocation getLocation() {
 		return location;
 	}
 
+	private static Class<?> getImplicitGroup(Set<Class<?>> groups, ConstraintLocation location) {
+		Class<?> declaringClass = location.getDeclaringClass();
+
+		if ( declaringClass != null && declaringClass.isInterface() && groups.contains( Default.class )
+				&& groups.contains( declaringClass ) ) {
+			return declaringClass;
+		}
+
+		return null;
+	}
+
+	private static Collection<Class<?>> getExplicitGroups(Set<Class<?>> groups, Class<?> implicitGroup) {
+		if ( implicitGroup == null ) {
+			return groups;
+		}
+
+		List<Class<?>> explicitGroups = newArrayList( groups.size() - 1 );
+		for ( Class<?> group : groups ) {
+			if ( group != implicitGroup ) {
+				explicitGroups.add( group );
+			}
+		}
+
+		return explicitGroups;
+	}
+
 	@Override
 	public boolean equals(Object o) {
 		if ( this == o ) {
@@ -108,6 +188,26 @@ public int hashCode() {
 		return result;
 	}
 
+	/**
+	 * Returns the shared tree for the given descriptor's constraint definition, creating it if required. The tree's
+	 * descriptor is used by all meta constraints of that definition, so the given descriptor can be discarded.
+	 */
+	@SuppressWarnings("unchecked")
+	private static <A extends Annotation> SharedConstraintTree<A> getSharedConstraintTree(ConstraintDescriptorImpl<A> descriptor) {
+		DefinitionKey key = new DefinitionKey( descriptor );
+		SharedConstraintTree<A> tree = (SharedConstraintTree<A>) CONSTRAINT_TREES.get( key );
+
+		if ( tree == null ) {
+			tree = new SharedConstraintTree<A>( key, new ConstraintTree<A>( descriptor ) );
+			SharedConstraintTree<A> cachedTree = (SharedConstraintTree<A>) CONSTRAINT_TREES.putIfAbsent( key, tree );
+			if ( cachedTree != null ) {
+				tree = cachedTree;
+			}
+		}
+
+		return tree;
+	}
+
 	@Override
 	public String toString() {
 		final StringBuilder sb = new StringBuilder();
@@ -117,4 +217,90 @@ public String toString() {
 		sb.append( "}" );
 		return sb.toString();
 	}
+
+	/**
+	 * Identifies a constraint definition by everything the state of its descriptor is derived from. Descriptors
+	 * equal as per {@link ConstraintDescriptorImpl#equals(Object)} (i.e. having equal annotations) may still differ
+	 * e.g. in their groups or element type, hence these are considered here as well. The validator classes are
+	 * compared, too, as they may differ between validator factories.
+	 */
+	private static final class DefinitionKey {
+
+		private final Annotation annotation;
+		private final ElementType elementType;
+		private final ConstraintOrigin definedOn;
+		private final ConstraintType constraintType;
+		private final Set<Class<?>> groups;
+		private final List<? extends Class<?>> constraintValidatorClasses;
+		private final List<DefinitionKey> composingConstraints;
+		private final int hashCode;
+
+		private DefinitionKey(ConstraintDescriptorImpl<?> descriptor) {
+			this.annotation = descriptor.getAnnotation();
+			this.elementType = descriptor.getElementType();
+			this.definedOn = descriptor.getDefinedOn();
+			this.constraintType = descriptor.getConstraintType();
+			this.groups = descriptor.getGroups();
+			this.constraintValidatorClasses = descriptor.getConstraintValidatorClasses();
+
+			Set<ConstraintDescriptorImpl<?>> composingDescriptors = descriptor.getComposingConstraintImpls();
+			if ( composingDescriptors.isEmpty() ) {
+				this.composingConstraints = Collections.emptyList();
+			}
+			else {
+				List<DefinitionKey> composingConstraints = newArrayList( composingDescriptors.size() );
+				for ( ConstraintDescriptorImpl<?> composingDescriptor : composingDescriptors ) {
+					composingConstraints.add( new DefinitionKey( composingDescriptor ) );
+				}
+				this.composingConstraints = composingConstraints;
+			}
+
+			int result = annotation.hashCode();
+			result = 31 * result + elementType.hashCode();
+			result = 31 * result + groups.hashCode();
+			result = 31 * result + composingConstraints.hashCode();
+			this.hashCode = result;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if ( this == o ) {
+				return true;
+			}
+			if ( o == null || getClass() != o.getClass() ) {
+				return false;
+			}
+
+			DefinitionKey other = (DefinitionKey) o;
+
+			return hashCode == other.hashCode
+					&& elementType == other.elementType
+					&& definedOn == other.definedOn
+					&& constraintType == other.constraintType
+					&& annotation.equals( other.annotation )
+					&& groups.equals( other.groups )
+					&& constraintValidatorClasses.equals( other.constraintValidatorClasses )
+					&& composingConstraints.equals( other.composingConstraints );
+		}
+
+		@Override
+		public int hashCode() {
+			return hashCode;
+		}
+	}
+
+	/**
+	 * A constraint tree together with the key it is registered with in {@link #CONSTRAINT_TREES}; keeps the weakly
+	 * referenced key alive as long as the tree is used by a meta constraint.
+	 */
+	private static final class SharedConstraintTree<A extends Annotation> {
+
+		private final DefinitionKey key;
+		private final ConstraintTree<A> tree;
+
+		private SharedConstraintTree(DefinitionKey key, ConstraintTree<A> tree) {
+			this.key = key;
+			this.tree = tree;
+		}
+	}
 }
@@ -52,6 +52,7 @@
 
 import static org.hibernate.validator.internal.util.CollectionHelper.newHashMap;
 import static org.hibernate.validator.internal.util.CollectionHelper.newHashSet;
+import static org.hibernate.validator.internal.util.CollectionHelper.toImmutableSet;
 
 /**
  * Describes a single constraint (including it's composing constraints).
@@ -533,7 +534,7 @@ private Set<Class<? extends Payload>> buildPayloadSet(T annotation) {
 		if ( payloadFromAnnotation != null ) {
 			payloadSet.addAll( Arrays.asList( payloadFromAnnotation ) );
 		}
-		return Collections.unmodifiableSet( payloadSet );
+		return toImmutableSet( payloadSet );
 	}
 
 	private Set<Class<?>> buildGroupSet(Class<?> implicitGroup) {
@@ -552,7 +553,7 @@ private Set<Class<?>> buildGroupSet(Class<?> implicitGroup) {
 		if ( implicitGroup != null && groupSet.contains( Default.class ) ) {
 			groupSet.add( implicitGroup );
 		}
-		return Collections.unmodifiableSet( groupSet );
+		return toImmutableSet( groupSet );
 	}
 
 	private Map<String, Object> buildAnnotationParameterMap(Annotation annotation) {
@@ -657,7 +658,7 @@ else if ( constraintHelper.isMultiValueConstraint( declaredAnnotationType ) ) {
 				}
 			}
 		}
-		return Collections.unmodifiableSet( composingConstraintsSet );
+		return toImmutableSet( composingConstraintsSet );
 	}
 
 	private CompositionType parseCompositionType(ConstraintHelper constraintHelper) {
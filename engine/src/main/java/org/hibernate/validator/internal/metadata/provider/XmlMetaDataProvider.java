@@ -38,12 +38,17 @@ public class XmlMetaDataProvider extends MetaDataProviderKeyedByClassName {
 	 * @param parameterNameProvider the name provider
 	 * @param mappingStreams the input stream for the xml configuration
 	 * @param externalClassLoader user provided class loader for the loading of XML mapping files
+	 * @param schemaValidation whether to validate the XML mapping files against their XML schema
 	 */
 	public XmlMetaDataProvider(ConstraintHelper constraintHelper,
 							   ParameterNameProvider parameterNameProvider,
 							   Set<InputStream> mappingStreams,
-							   ClassLoader externalClassLoader) {
-		this( constraintHelper, createMappingParser( constraintHelper, parameterNameProvider, mappingStreams, externalClassLoader ) );
+							   ClassLoader externalClassLoader,
+							   boolean schemaValidation) {
+		this(
+				constraintHelper,
+				createMappingParser( constraintHelper, parameterNameProvider, mappingStreams, externalClassLoader, schemaValidation )
+		);
 	}
 
 	private XmlMetaDataProvider(ConstraintHelper constraintHelper, XmlMappingParser mappingParser) {
@@ -52,8 +57,13 @@ private XmlMetaDataProvider(ConstraintHelper constraintHelper, XmlMappingParser
 	}
 
 	private static XmlMappingParser createMappingParser(ConstraintHelper constraintHelper, ParameterNameProvider parameterNameProvider, Set<InputStream> mappingStreams,
-			ClassLoader externalClassLoader) {
-		XmlMappingParser mappingParser = new XmlMappingParser( constraintHelper, parameterNameProvider, externalClassLoader );
+			ClassLoader externalClassLoader, boolean schemaValidation) {
+		XmlMappingParser mappingParser = new XmlMappingParser(
+				constraintHelper,
+				parameterNameProvider,
+				externalClassLoader,
+				schemaValidation
+		);
 		mappingParser.parse( mappingStreams );
 		return mappingParser;
 	}
@@ -30,7 +30,11 @@
  */
 public abstract class ExecutableElement {
 
-	private String signature;
+	/**
+	 * Lazily computed as most executable elements created at validation time are only used for looking up their
+	 * meta data by member.
+	 */
+	private volatile String signature;
 
 	public static ExecutableElement forConstructor(Constructor<?> constructor) {
 		return new ConstructorElement( constructor );
@@ -60,8 +64,7 @@ public static List<ExecutableElement> forMethods(Method[] methods) {
 		return executableElements;
 	}
 
-	private ExecutableElement(String name, Class<?>[]parameterTypes) {
-		this.signature = ExecutableHelper.getSignature( name, parameterTypes );
+	private ExecutableElement() {
 	}
 
 	public abstract List<String> getParameterNames(ParameterNameProvider parameterNameProvider);
@@ -95,6 +98,13 @@ public String getAsString() {
 	}
 
 	public String getSignature() {
+		String signature = this.signature;
+
+		if ( signature == null ) {
+			signature = ExecutableHelper.getSignature( getSimpleName(), getParameterTypes() );
+			this.signature = signature;
+		}
+
 		return signature;
 	}
 
@@ -139,7 +149,6 @@ private static class ConstructorElement extends ExecutableElement {
 		private final Constructor<?> constructor;
 
 		private ConstructorElement(Constructor<?> constructor) {
-			super( constructor.getDeclaringClass().getSimpleName(), constructor.getParameterTypes() );
 			this.constructor = constructor;
 		}
 
@@ -276,7 +285,6 @@ private static class MethodElement extends ExecutableElement {
 		private final boolean isGetterMethod;
 
 		public MethodElement(Method method) {
-			super( method.getName(), method.getParameterTypes() );
 			this.method = method;
 			isGetterMethod = ReflectionHelper.isGetterMethod( method );
 		}
@@ -6,14 +6,18 @@
  */
 package org.hibernate.validator.internal.util;
 
+import java.io.Serializable;
+import java.util.AbstractSet;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 
@@ -161,7 +165,73 @@ public static <K, V> Map<K, Set<V>> partition(Set<V> set, Partitioner<K, V> part
 		return theValue;
 	}
 
+	/**
+	 * Returns an immutable copy of the given set which retains the iteration order of the given set and is more
+	 * compact than a hash-based set. Checking whether an element is contained is linear in the size of the returned
+	 * set, so it should be used for sets which mainly are iterated.
+	 *
+	 * @param <T> The element type of the set.
+	 * @param set The set to copy.
+	 *
+	 * @return An immutable copy of the given set.
+	 */
+	public static <T> Set<T> toImmutableSet(Set<? extends T> set) {
+		switch ( set.size() ) {
+			case 0:
+				return Collections.emptySet();
+			case 1:
+				return Collections.<T>singleton( set.iterator().next() );
+			default:
+				return new ArrayBackedSet<T>( set.toArray() );
+		}
+	}
+
 	public interface Partitioner<K, V> {
 		K getPartition(V v);
 	}
+
+	/**
+	 * An immutable set backed by an array of distinct elements.
+	 */
+	private static class ArrayBackedSet<T> extends AbstractSet<T> implements Serializable {
+
+		private static final long serialVersionUID = 8206521455934766946L;
+
+		private final Object[] elements;
+
+		private ArrayBackedSet(Object[] elements) {
+			this.elements = elements;
+		}
+
+		@Override
+		public Iterator<T> iterator() {
+			return new Iterator<T>() {
+				private int index = 0;
+
+				@Override
+				public boolean hasNext() {
+					return index < elements.length;
+				}
+
+				@Override
+				@SuppressWarnings("unchecked")
+				public T next() {
+					if ( index >= elements.length ) {
+						throw new NoSuchElementException();
+					}
+					return (T) elements[index++];
+				}
+
+				@Override
+				public void remove() {
+					throw new UnsupportedOperationException();
+				}
+			};
+		}
+
+		@Override
+		public int size() {
+			return elements.length;
+		}
+	}
 }
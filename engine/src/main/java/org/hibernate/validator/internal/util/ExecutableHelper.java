@@ -11,6 +11,8 @@
 import java.lang.reflect.Modifier;
 import java.security.AccessController;
 import java.security.PrivilegedAction;
+import java.util.Arrays;
+import java.util.Map;
 
 import org.hibernate.validator.internal.metadata.raw.ExecutableElement;
 import org.hibernate.validator.internal.util.logging.Log;
@@ -25,6 +27,8 @@
 import com.fasterxml.classmate.members.RawMethod;
 import com.fasterxml.classmate.members.ResolvedMethod;
 
+import static org.hibernate.validator.internal.util.CollectionHelper.newHashMap;
+
 /**
  * Provides shared functionality dealing with executables.
  *
@@ -36,8 +40,31 @@ public final class ExecutableHelper {
 	private static final Log log = LoggerFactory.make();
 	private final TypeResolver typeResolver;
 
+	/**
+	 * The resolved member methods per type, keyed by their raw method; {@code null} if members are resolved for each
+	 * comparison.
+	 */
+	private final Map<Class<?>, Map<Method, ResolvedMethod>> resolvedMemberMethods;
+
 	public ExecutableHelper(TypeResolutionHelper typeResolutionHelper) {
-		this.typeResolver = typeResolutionHelper.getTypeResolver();
+		this( typeResolutionHelper.getTypeResolver(), null );
+	}
+
+	private ExecutableHelper(TypeResolver typeResolver, Map<Class<?>, Map<Method, ResolvedMethod>> resolvedMemberMethods) {
+		this.typeResolver = typeResolver;
+		this.resolvedMemberMethods = resolvedMemberMethods;
+	}
+
+	/**
+	 * Returns a helper which resolves the members of each type only once and keeps them for subsequent override
+	 * checks. The returned helper is not thread-safe and is meant to be used while building the meta data of a single
+	 * bean, so the resolved members don't outlive the build.
+	 *
+	 * @return a helper caching resolved member methods
+	 */
+	public ExecutableHelper withResolvedMemberCache() {
+		Map<Class<?>, Map<Method, ResolvedMethod>> memberMethodsCache = newHashMap();
+		return new ExecutableHelper( typeResolver, memberMethodsCache );
 	}
 
 	/**
@@ -140,6 +167,23 @@ private boolean instanceMethodParametersResolveToSameTypes(Method subTypeMethod,
 			return true;
 		}
 
+		// methods with the same erased parameter types are flattened to one resolved method by ClassMate, see below
+		if ( Arrays.equals( subTypeMethod.getParameterTypes(), superTypeMethod.getParameterTypes() ) ) {
+			return true;
+		}
+
+		if ( resolvedMemberMethods != null ) {
+			Map<Method, ResolvedMethod> memberMethods = getResolvedMemberMethods( subTypeMethod.getDeclaringClass() );
+			ResolvedMethod resolvedSubTypeMethod = memberMethods.get( subTypeMethod );
+			ResolvedMethod resolvedSuperTypeMethod = memberMethods.get( superTypeMethod );
+
+			// the super type method may be hidden by another method of the hierarchy with the same erased signature,
+			// in which case the two methods need to be resolved on their own
+			if ( resolvedSubTypeMethod != null && resolvedSuperTypeMethod != null ) {
+				return argumentTypesAreEqual( resolvedSubTypeMethod, resolvedSuperTypeMethod );
+			}
+		}
+
 		ResolvedType resolvedSubType = typeResolver.resolve( subTypeMethod.getDeclaringClass() );
 
 		MemberResolver memberResolver = new MemberResolver( typeResolver );
@@ -165,12 +209,7 @@ private boolean instanceMethodParametersResolveToSameTypes(Method subTypeMethod,
 		// For methods with generic parameters I have to compare the argument
 		// types (which are resolved) of the two filtered member methods.
 		try {
-			for ( int i = 0; i < resolvedMethods[0].getArgumentCount(); i++ ) {
-				if ( !resolvedMethods[0].getArgumentType( i )
-						.equals( resolvedMethods[1].getArgumentType( i ) ) ) {
-					return false;
-				}
-			}
+			return argumentTypesAreEqual( resolvedMethods[0], resolvedMethods[1] );
 		}
 		// Putting this in as a safe guard for HV-861. In case the issue occurs again we will have some
 		// better information
@@ -186,6 +225,37 @@ private boolean instanceMethodParametersResolveToSameTypes(Method subTypeMethod,
 		return true;
 	}
 
+	private boolean argumentTypesAreEqual(ResolvedMethod method1, ResolvedMethod method2) {
+		for ( int i = 0; i < method1.getArgumentCount(); i++ ) {
+			if ( !method1.getArgumentType( i ).equals( method2.getArgumentType( i ) ) ) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	private Map<Method, ResolvedMethod> getResolvedMemberMethods(Class<?> type) {
+		Map<Method, ResolvedMethod> memberMethods = resolvedMemberMethods.get( type );
+
+		if ( memberMethods == null ) {
+			ResolvedTypeWithMembers typeWithMembers = new MemberResolver( typeResolver ).resolve(
+					typeResolver.resolve( type ),
+					null,
+					null
+			);
+
+			memberMethods = newHashMap();
+			for ( ResolvedMethod resolvedMethod : run( GetResolvedMemberMethods.action( typeWithMembers ) ) ) {
+				memberMethods.put( resolvedMethod.getRawMember(), resolvedMethod );
+			}
+
+			resolvedMemberMethods.put( type, memberMethods );
+		}
+
+		return memberMethods;
+	}
+
 	/**
 	 * Runs the given privileged action, using a privileged block if required.
 	 * <p>
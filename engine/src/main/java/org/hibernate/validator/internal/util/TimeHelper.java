@@ -0,0 +1,50 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.internal.util;
+
+/**
+ * Helper class dealing with points in time.
+ *
+ * @author agent
+ */
+public class TimeHelper {
+
+	private static final int MILLIS_PER_SECOND = 1000;
+
+	private static final int NANOS_PER_MILLI = 1000000;
+
+	private TimeHelper() {
+	}
+
+	/**
+	 * Compares a point in time given by its epoch second and nano-of-second with a point in time given by its epoch
+	 * milliseconds, with millisecond precision. Allows to compare temporal values with the current time without
+	 * converting them into an {@code Instant} or epoch milliseconds first.
+	 *
+	 * @param epochSecond the seconds since the epoch of the first point in time
+	 * @param nanoOfSecond the nano-of-second of the first point in time, from 0 to 999,999,999
+	 * @param epochMilli the milliseconds since the epoch of the second point in time
+	 *
+	 * @return a negative value, zero or a positive value if the first point in time is before, within the same
+	 * millisecond or after the second point in time
+	 */
+	public static int compareToEpochMilli(long epochSecond, int nanoOfSecond, long epochMilli) {
+		long otherEpochSecond = epochMilli / MILLIS_PER_SECOND;
+		int otherMilliOfSecond = (int) ( epochMilli % MILLIS_PER_SECOND );
+
+		if ( otherMilliOfSecond < 0 ) {
+			otherEpochSecond--;
+			otherMilliOfSecond += MILLIS_PER_SECOND;
+		}
+
+		if ( epochSecond != otherEpochSecond ) {
+			return epochSecond < otherEpochSecond ? -1 : 1;
+		}
+
+		return ( nanoOfSecond / NANOS_PER_MILLI ) - otherMilliOfSecond;
+	}
+}
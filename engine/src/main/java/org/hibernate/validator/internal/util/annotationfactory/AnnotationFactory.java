@@ -7,16 +7,11 @@
 package org.hibernate.validator.internal.util.annotationfactory;
 
 import java.lang.annotation.Annotation;
-import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationHandler;
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Proxy;
 import java.security.AccessController;
 import java.security.PrivilegedAction;
 
 import org.hibernate.validator.internal.util.privilegedactions.ConstructorInstance;
-import org.hibernate.validator.internal.util.privilegedactions.GetClassLoader;
-import org.hibernate.validator.internal.util.privilegedactions.GetDeclaredConstructor;
 
 /**
  * Creates live annotations (actually {@link AnnotationProxy} instances) from {@code AnnotationDescriptor}s.
@@ -32,31 +27,10 @@ private AnnotationFactory() {
 	}
 
 	public static <T extends Annotation> T create(AnnotationDescriptor<T> descriptor) {
-		@SuppressWarnings("unchecked")
-		Class<T> proxyClass = (Class<T>) Proxy.getProxyClass(
-				run( GetClassLoader.fromClass( descriptor.type() ) ),
-				descriptor.type()
-		);
-		InvocationHandler handler = new AnnotationProxy( descriptor );
-		try {
-			return getProxyInstance( proxyClass, handler );
-		}
-		catch (RuntimeException e) {
-			throw e;
-		}
-		catch (Exception e) {
-			throw new RuntimeException( e );
-		}
-	}
+		AnnotationTypeMembers<T> members = AnnotationTypeMembers.forType( descriptor.type() );
+		InvocationHandler handler = new AnnotationProxy( members, descriptor );
 
-	private static <T extends Annotation> T getProxyInstance(Class<T> proxyClass, InvocationHandler handler) throws
-			SecurityException, NoSuchMethodException, IllegalArgumentException, InstantiationException,
-			IllegalAccessException, InvocationTargetException {
-		final Constructor<T> constructor = run( GetDeclaredConstructor.action(
-				proxyClass,
-				InvocationHandler.class
-		) );
-		return run( ConstructorInstance.action( constructor, handler ) );
+		return run( ConstructorInstance.action( members.getProxyConstructor(), handler ) );
 	}
 
 	/**
@@ -6,27 +6,21 @@
  */
 package org.hibernate.validator.internal.util.annotationfactory;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.io.Serializable;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
-import java.security.AccessController;
-import java.security.PrivilegedAction;
+import java.lang.reflect.Proxy;
 import java.util.Arrays;
-import java.util.Collections;
-import java.util.Map;
-import java.util.Map.Entry;
 import java.util.Set;
-import java.util.SortedSet;
-import java.util.TreeSet;
 
 import org.hibernate.validator.internal.util.logging.Log;
 import org.hibernate.validator.internal.util.logging.LoggerFactory;
-import org.hibernate.validator.internal.util.privilegedactions.GetDeclaredMethod;
-import org.hibernate.validator.internal.util.privilegedactions.GetDeclaredMethods;
 
-import static org.hibernate.validator.internal.util.CollectionHelper.newHashMap;
+import static org.hibernate.validator.internal.util.CollectionHelper.newHashSet;
 
 /**
  * A concrete implementation of <code>Annotation</code> that pretends it is a
@@ -48,25 +42,43 @@
  */
 class AnnotationProxy implements Annotation, InvocationHandler, Serializable {
 
-	private static final long serialVersionUID = 6907601010599429454L;
+	private static final long serialVersionUID = -2516224393010526591L;
 	private static final Log log = LoggerFactory.make();
 
 	private final Class<? extends Annotation> annotationType;
-	private final Map<String, Object> values;
+
+	/**
+	 * The member values, in the order of {@link AnnotationTypeMembers}.
+	 */
+	private final Object[] values;
 	private final int hashCode;
+	private transient AnnotationTypeMembers<?> members;
 
-	AnnotationProxy(AnnotationDescriptor<?> descriptor) {
+	AnnotationProxy(AnnotationTypeMembers<?> members, AnnotationDescriptor<?> descriptor) {
 		this.annotationType = descriptor.type();
-		values = Collections.unmodifiableMap( getAnnotationValues( descriptor ) );
+		this.members = members;
+		this.values = getAnnotationValues( descriptor );
 		this.hashCode = calculateHashCode();
 	}
 
 	@Override
 	public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
-		if ( values.containsKey( method.getName() ) ) {
-			return values.get( method.getName() );
+		int index = members.getIndex( method );
+
+		switch ( index ) {
+			case AnnotationTypeMembers.EQUALS:
+				return equals( args[0] );
+			case AnnotationTypeMembers.HASH_CODE:
+				return hashCode;
+			case AnnotationTypeMembers.TO_STRING:
+				return toString();
+			case AnnotationTypeMembers.ANNOTATION_TYPE:
+				return annotationType;
+			case AnnotationTypeMembers.UNKNOWN:
+				return method.invoke( this, args );
+			default:
+				return values[index];
 		}
-		return method.invoke( this, args );
 	}
 
 	@Override
@@ -75,7 +87,8 @@ public Class<? extends Annotation> annotationType() {
 	}
 
 	/**
-	 * Performs an equality check as described in {@link Annotation#equals(Object)}.
+	 * Performs an equality check as described in {@link Annotation#equals(Object)}. Other proxies created by
+	 * {@link AnnotationFactory} are compared by their member values directly, without invoking the member methods.
 	 *
 	 * @param obj The object to compare
 	 *
@@ -95,15 +108,16 @@ public boolean equals(Object obj) {
 			return false;
 		}
 
+		AnnotationProxy otherProxy = getAnnotationProxy( obj );
+		if ( otherProxy != null ) {
+			return otherProxy == this || ( hashCode == otherProxy.hashCode && areEqual( values, otherProxy.values ) );
+		}
+
 		Annotation other = annotationType.cast( obj );
 
 		//compare annotation member values
-		for ( Entry<String, Object> member : values.entrySet() ) {
-
-			Object value = member.getValue();
-			Object otherValue = getAnnotationMemberValue( other, member.getKey() );
-
-			if ( !areEqual( value, otherValue ) ) {
+		for ( int i = 0; i < values.length; i++ ) {
+			if ( !areEqual( values[i], getAnnotationMemberValue( other, members.getMember( i ) ) ) ) {
 				return false;
 			}
 		}
@@ -112,8 +126,8 @@ public boolean equals(Object obj) {
 	}
 
 	/**
-	 * Calculates the hash code of this annotation proxy as described in
-	 * {@link Annotation#hashCode()}.
+	 * Returns the hash code of this annotation proxy as described in
+	 * {@link Annotation#hashCode()}. It is calculated once upon creation.
 	 *
 	 * @return The hash code of this proxy.
 	 *
@@ -128,11 +142,12 @@ public int hashCode() {
 	public String toString() {
 		StringBuilder result = new StringBuilder();
 		result.append( '@' ).append( annotationType.getName() ).append( '(' );
-		for ( String s : getRegisteredMethodsInAlphabeticalOrder() ) {
-			result.append( s ).append( '=' ).append( values.get( s ) ).append( ", " );
+		// the members are ordered alphabetically
+		for ( int i = 0; i < values.length; i++ ) {
+			result.append( members.getName( i ) ).append( '=' ).append( values[i] ).append( ", " );
 		}
 		// remove last separator:
-		if ( values.size() > 0 ) {
+		if ( values.length > 0 ) {
 			result.delete( result.length() - 2, result.length() );
 			result.append( ")" );
 		}
@@ -143,30 +158,35 @@ public String toString() {
 		return result.toString();
 	}
 
-
-	private Map<String, Object> getAnnotationValues(AnnotationDescriptor<?> descriptor) {
-		Map<String, Object> result = newHashMap();
+	private Object[] getAnnotationValues(AnnotationDescriptor<?> descriptor) {
+		Object[] result = new Object[members.size()];
 		int processedValuesFromDescriptor = 0;
-		final Method[] declaredMethods = run( GetDeclaredMethods.action( annotationType ) );
-		for ( Method m : declaredMethods ) {
-			if ( descriptor.containsElement( m.getName() ) ) {
-				result.put( m.getName(), descriptor.valueOf( m.getName() ) );
+
+		for ( int i = 0; i < result.length; i++ ) {
+			String name = members.getName( i );
+
+			if ( descriptor.containsElement( name ) ) {
+				result[i] = descriptor.valueOf( name );
 				processedValuesFromDescriptor++;
 			}
-			else if ( m.getDefaultValue() != null ) {
-				result.put( m.getName(), m.getDefaultValue() );
+			else if ( members.getDefaultValue( i ) != null ) {
+				result[i] = members.getDefaultValue( i );
 			}
 			else {
 				throw log.getNoValueProvidedForAnnotationParameterException(
-						m.getName(),
+						name,
 						annotationType.getSimpleName()
 				);
 			}
 		}
 		if ( processedValuesFromDescriptor != descriptor.numberOfElements() ) {
+			Set<String> unknownParameters = newHashSet();
 
-			Set<String> unknownParameters = descriptor.getElements().keySet();
-			unknownParameters.removeAll( result.keySet() );
+			for ( String name : descriptor.getElements().keySet() ) {
+				if ( members.getIndex( name ) == null ) {
+					unknownParameters.add( name );
+				}
+			}
 
 			throw log.getTryingToInstantiateAnnotationWithUnknownParametersException(
 					annotationType,
@@ -179,10 +199,10 @@ else if ( m.getDefaultValue() != null ) {
 	private int calculateHashCode() {
 		int hashCode = 0;
 
-		for ( Entry<String, Object> member : values.entrySet() ) {
-			Object value = member.getValue();
+		for ( int i = 0; i < values.length; i++ ) {
+			Object value = values[i];
 
-			int nameHashCode = member.getKey().hashCode();
+			int nameHashCode = members.getName( i ).hashCode();
 
 			int valueHashCode =
 					!value.getClass().isArray() ? value.hashCode() :
@@ -205,10 +225,14 @@ private int calculateHashCode() {
 		return hashCode;
 	}
 
-	private SortedSet<String> getRegisteredMethodsInAlphabeticalOrder() {
-		SortedSet<String> result = new TreeSet<String>();
-		result.addAll( values.keySet() );
-		return result;
+	private boolean areEqual(Object[] values1, Object[] values2) {
+		for ( int i = 0; i < values1.length; i++ ) {
+			if ( !areEqual( values1[i], values2[i] ) ) {
+				return false;
+			}
+		}
+
+		return true;
 	}
 
 	private boolean areEqual(Object o1, Object o2) {
@@ -243,9 +267,9 @@ private boolean areEqual(Object o1, Object o2) {
 																						);
 	}
 
-	private Object getAnnotationMemberValue(Annotation annotation, String name) {
+	private Object getAnnotationMemberValue(Annotation annotation, Method member) {
 		try {
-			return run( GetDeclaredMethod.action( annotation.annotationType(), name ) ).invoke( annotation );
+			return member.invoke( annotation );
 		}
 		catch (IllegalAccessException e) {
 			throw log.getUnableToRetrieveAnnotationParameterValueException( e );
@@ -259,12 +283,21 @@ private Object getAnnotationMemberValue(Annotation annotation, String name) {
 	}
 
 	/**
-	 * Runs the given privileged action, using a privileged block if required.
-	 * <p>
-	 * <b>NOTE:</b> This must never be changed into a publicly available method to avoid execution of arbitrary
-	 * privileged actions within HV's protection domain.
+	 * Returns the handler of the given object if it is a proxy created by {@link AnnotationFactory}.
 	 */
-	private <T> T run(PrivilegedAction<T> action) {
-		return System.getSecurityManager() != null ? AccessController.doPrivileged( action ) : action.run();
+	private static AnnotationProxy getAnnotationProxy(Object obj) {
+		if ( Proxy.isProxyClass( obj.getClass() ) ) {
+			InvocationHandler handler = Proxy.getInvocationHandler( obj );
+			if ( handler instanceof AnnotationProxy ) {
+				return (AnnotationProxy) handler;
+			}
+		}
+
+		return null;
+	}
+
+	private void readObject(ObjectInputStream stream) throws IOException, ClassNotFoundException {
+		stream.defaultReadObject();
+		members = AnnotationTypeMembers.forType( annotationType );
 	}
 }
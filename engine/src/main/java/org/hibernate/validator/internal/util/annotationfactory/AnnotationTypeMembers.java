@@ -0,0 +1,209 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.internal.util.annotationfactory;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.security.AccessController;
+import java.security.PrivilegedAction;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.Map;
+
+import org.hibernate.validator.internal.util.ConcurrentReferenceHashMap;
+import org.hibernate.validator.internal.util.privilegedactions.GetClassLoader;
+import org.hibernate.validator.internal.util.privilegedactions.GetDeclaredConstructor;
+import org.hibernate.validator.internal.util.privilegedactions.GetDeclaredMethod;
+import org.hibernate.validator.internal.util.privilegedactions.GetDeclaredMethods;
+
+import static org.hibernate.validator.internal.util.CollectionHelper.newHashMap;
+import static org.hibernate.validator.internal.util.ConcurrentReferenceHashMap.Option.IDENTITY_COMPARISONS;
+import static org.hibernate.validator.internal.util.ConcurrentReferenceHashMap.ReferenceType.SOFT;
+import static org.hibernate.validator.internal.util.ConcurrentReferenceHashMap.ReferenceType.WEAK;
+
+/**
+ * The members of an annotation type, ordered by name and identified by their index in that order. Also provides the
+ * proxy constructor for the type, so annotation proxies can be created and queried without any reflective look-ups.
+ * <p>
+ * Instances are obtained via {@link #forType(Class)}; they are cached per annotation type and softly referenced, so
+ * they don't prevent the annotation type from being unloaded.
+ *
+ * @author agent
+ */
+final class AnnotationTypeMembers<T extends Annotation> {
+
+	/**
+	 * Index of {@link Object#equals(Object)}.
+	 */
+	static final int EQUALS = -1;
+
+	/**
+	 * Index of {@link Object#hashCode()}.
+	 */
+	static final int HASH_CODE = -2;
+
+	/**
+	 * Index of {@link Object#toString()}.
+	 */
+	static final int TO_STRING = -3;
+
+	/**
+	 * Index of {@link Annotation#annotationType()}.
+	 */
+	static final int ANNOTATION_TYPE = -4;
+
+	/**
+	 * Index of any method neither being a member of the annotation type nor one of the methods above.
+	 */
+	static final int UNKNOWN = -5;
+
+	private static final ConcurrentReferenceHashMap<Class<?>, AnnotationTypeMembers<?>> MEMBERS_BY_TYPE = new ConcurrentReferenceHashMap<Class<?>, AnnotationTypeMembers<?>>(
+			16,
+			0.75f,
+			16,
+			WEAK,
+			SOFT,
+			EnumSet.of( IDENTITY_COMPARISONS )
+	);
+
+	private final Method[] members;
+
+	private final String[] names;
+
+	/**
+	 * The default value per member, {@code null} for members without default.
+	 */
+	private final Object[] defaultValues;
+
+	private final Map<String, Integer> indicesByName;
+
+	/**
+	 * The index per member, also containing the methods declared by {@link Object} and {@link Annotation}.
+	 */
+	private final Map<Method, Integer> indicesByMethod;
+
+	private final Constructor<T> proxyConstructor;
+
+	private AnnotationTypeMembers(Class<T> annotationType) {
+		this.members = run( GetDeclaredMethods.action( annotationType ) );
+		Arrays.sort(
+				members, new Comparator<Method>() {
+					@Override
+					public int compare(Method m1, Method m2) {
+						return m1.getName().compareTo( m2.getName() );
+					}
+				}
+		);
+
+		this.names = new String[members.length];
+		this.defaultValues = new Object[members.length];
+
+		Map<String, Integer> indicesByName = newHashMap( members.length );
+		Map<Method, Integer> indicesByMethod = newHashMap( members.length + 4 );
+
+		for ( int i = 0; i < members.length; i++ ) {
+			names[i] = members[i].getName();
+			defaultValues[i] = members[i].getDefaultValue();
+			indicesByName.put( names[i], i );
+			indicesByMethod.put( members[i], i );
+		}
+
+		indicesByMethod.put( run( GetDeclaredMethod.action( Object.class, "equals", Object.class ) ), EQUALS );
+		indicesByMethod.put( run( GetDeclaredMethod.action( Object.class, "hashCode" ) ), HASH_CODE );
+		indicesByMethod.put( run( GetDeclaredMethod.action( Object.class, "toString" ) ), TO_STRING );
+		indicesByMethod.put( run( GetDeclaredMethod.action( Annotation.class, "annotationType" ) ), ANNOTATION_TYPE );
+
+		this.indicesByName = Collections.unmodifiableMap( indicesByName );
+		this.indicesByMethod = Collections.unmodifiableMap( indicesByMethod );
+
+		@SuppressWarnings("unchecked")
+		Class<T> proxyClass = (Class<T>) Proxy.getProxyClass(
+				run( GetClassLoader.fromClass( annotationType ) ),
+				annotationType
+		);
+		this.proxyConstructor = run( GetDeclaredConstructor.action( proxyClass, InvocationHandler.class ) );
+	}
+
+	/**
+	 * Returns the members of the given annotation type.
+	 *
+	 * @param annotationType the annotation type
+	 *
+	 * @return the members of the given type
+	 */
+	@SuppressWarnings("unchecked")
+	static <T extends Annotation> AnnotationTypeMembers<T> forType(Class<T> annotationType) {
+		AnnotationTypeMembers<T> members = (AnnotationTypeMembers<T>) MEMBERS_BY_TYPE.get( annotationType );
+
+		if ( members == null ) {
+			members = new AnnotationTypeMembers<T>( annotationType );
+			AnnotationTypeMembers<T> cachedMembers = (AnnotationTypeMembers<T>) MEMBERS_BY_TYPE.putIfAbsent(
+					annotationType,
+					members
+			);
+			if ( cachedMembers != null ) {
+				members = cachedMembers;
+			}
+		}
+
+		return members;
+	}
+
+	int size() {
+		return members.length;
+	}
+
+	Method getMember(int index) {
+		return members[index];
+	}
+
+	String getName(int index) {
+		return names[index];
+	}
+
+	/**
+	 * @return the default value of the given member or {@code null} if it has no default value
+	 */
+	Object getDefaultValue(int index) {
+		return defaultValues[index];
+	}
+
+	/**
+	 * @return the index of the member with the given name or {@code null} if there is no such member
+	 */
+	Integer getIndex(String name) {
+		return indicesByName.get( name );
+	}
+
+	/**
+	 * @return the index of the given member, one of the constants for the methods declared by {@link Object} and
+	 * {@link Annotation} or {@link #UNKNOWN}
+	 */
+	int getIndex(Method method) {
+		Integer index = indicesByMethod.get( method );
+		return index != null ? index : UNKNOWN;
+	}
+
+	Constructor<T> getProxyConstructor() {
+		return proxyConstructor;
+	}
+
+	/**
+	 * Runs the given privileged action, using a privileged block if required.
+	 * <p>
+	 * <b>NOTE:</b> This must never be changed into a publicly available method to avoid execution of arbitrary
+	 * privileged actions within HV's protection domain.
+	 */
+	private static <T> T run(PrivilegedAction<T> action) {
+		return System.getSecurityManager() != null ? AccessController.doPrivileged( action ) : action.run();
+	}
+}
@@ -632,7 +632,7 @@ UnexpectedTypeException getNoValidatorFoundForTypeException(String constraintTyp
 	ConstraintDeclarationException getInconsistentValueUnwrappingConfigurationBetweenFieldAndItsGetterException(String property, String clazz);
 
 	@Message(id = 190, value = "Unable to parse %s.")
-	ValidationException getUnableToCreateXMLEventReader(String file, @Cause Exception e);
+	ValidationException getUnableToCreateXMLStreamReader(String file, @Cause Exception e);
 
 	@Message(id = 191, value = "Error creating unwrapper: %s")
 	ValidationException validatedValueUnwrapperCannotBeCreated(String className, @Cause Exception e);
@@ -652,4 +652,10 @@ UnexpectedTypeException getNoValidatorFoundForTypeException(String constraintTyp
 
 	@Message(id = 196, value = "Unable to convert the Type %s to a Class.")
 	ValidationException getUnableToConvertTypeToClassException(Type type);
+
+	@Message(id = 197, value = "Unexpected exception during asynchronous isValid call.")
+	ValidationException getExceptionDuringAsyncIsValidCallException(@Cause Throwable e);
+
+	@Message(id = 198, value = "Interrupted while awaiting the result of an asynchronous isValid call.")
+	ValidationException getInterruptedWhileAwaitingAsyncIsValidCallException(@Cause InterruptedException e);
 }
@@ -31,6 +31,9 @@ public interface Messages {
 	@Message(value = "The parameter \"%s\" must not be empty.")
 	String parameterMustNotBeEmpty(String parameterName);
 
+	@Message(value = "The parameter \"%s\" must be greater than 0.")
+	String parameterMustBeGreaterThanZero(String parameterName);
+
 	@Message(value = "The bean type cannot be null.", format = Message.Format.NO_FORMAT)
 	String beanTypeCannotBeNull();
 
@@ -0,0 +1,41 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.internal.util.privilegedactions;
+
+import java.io.IOException;
+import java.security.PrivilegedExceptionAction;
+
+import javax.xml.transform.Source;
+import javax.xml.validation.Schema;
+
+import org.xml.sax.SAXException;
+
+/**
+ * Validates the given XML source against a given XML schema.
+ *
+ * @author agent
+ */
+public final class ValidateAgainstSchema implements PrivilegedExceptionAction<Void> {
+
+	private final Schema schema;
+	private final Source source;
+
+	public static ValidateAgainstSchema action(Schema schema, Source source) {
+		return new ValidateAgainstSchema( schema, source );
+	}
+
+	private ValidateAgainstSchema(Schema schema, Source source) {
+		this.schema = schema;
+		this.source = source;
+	}
+
+	@Override
+	public Void run() throws SAXException, IOException {
+		schema.newValidator().validate( source );
+		return null;
+	}
+}
@@ -0,0 +1,1056 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.internal.util.regex;
+
+import java.util.List;
+import java.util.regex.Pattern;
+
+import static org.hibernate.validator.internal.util.CollectionHelper.newArrayList;
+
+/**
+ * A regular expression which is matched in time linear to the length of the input, by simulating a non-deterministic
+ * finite automaton (Thompson NFA) instead of backtracking as done by {@link java.util.regex.Pattern}. Thus malicious
+ * input cannot cause catastrophic backtracking.
+ * <p>
+ * Only a subset of the {@code java.util.regex} syntax is supported: literals, escaped characters, character classes
+ * (including ranges, negation and the predefined classes {@code \d}, {@code \w}, {@code \s} and their negations),
+ * {@code .}, groups, alternation, the quantifiers {@code *}, {@code +}, {@code ?} and {@code {n,m}} (greedy or
+ * reluctant) and the anchors {@code ^} and {@code $}. Supported flags are {@link Pattern#CASE_INSENSITIVE} and
+ * {@link Pattern#DOTALL}. For expressions making use of other constructs such as back references or look-around,
+ * {@link #compile(String, int)} returns {@code null}, so callers can fall back to {@code java.util.regex}. The same
+ * applies to repetitions requiring two or more iterations of an expression which can match the empty string, for
+ * which {@code java.util.regex} deviates from the regular language semantics implemented by the automaton.
+ * <p>
+ * The given expression is expected to be valid as per {@link java.util.regex.Pattern}; it is not validated by this
+ * class. Instances are immutable and thread-safe.
+ *
+ * @author agent
+ */
+public final class LinearTimePattern {
+
+	private static final int SUPPORTED_FLAGS = Pattern.CASE_INSENSITIVE | Pattern.DOTALL;
+
+	/**
+	 * Upper bound for the size of the compiled program, e.g. when expanding counted repetitions.
+	 */
+	private static final int MAX_PROGRAM_SIZE = 10000;
+
+	private static final int OP_CHAR = 0;
+	private static final int OP_SPLIT = 1;
+	private static final int OP_JUMP = 2;
+	private static final int OP_BEGIN = 3;
+	private static final int OP_END = 4;
+	private static final int OP_MATCH = 5;
+
+	private final int[] opcodes;
+	private final int[] targets;
+	private final int[] alternativeTargets;
+	private final CharPredicate[] predicates;
+
+	private LinearTimePattern(Program program) {
+		int size = program.opcodes.size();
+
+		this.opcodes = new int[size];
+		this.targets = new int[size];
+		this.alternativeTargets = new int[size];
+		this.predicates = new CharPredicate[size];
+
+		for ( int i = 0; i < size; i++ ) {
+			opcodes[i] = program.opcodes.get( i );
+			targets[i] = program.targets.get( i );
+			alternativeTargets[i] = program.alternativeTargets.get( i );
+			predicates[i] = program.predicates.get( i );
+		}
+	}
+
+	/**
+	 * Compiles the given regular expression.
+	 *
+	 * @param regexp the regular expression, valid as per {@link java.util.regex.Pattern}
+	 * @param flags the match flags, a bit mask as used by {@link java.util.regex.Pattern#compile(String, int)}
+	 *
+	 * @return the compiled expression or {@code null} if the expression or the flags are not supported
+	 */
+	public static LinearTimePattern compile(String regexp, int flags) {
+		if ( ( flags & ~SUPPORTED_FLAGS ) != 0 ) {
+			return null;
+		}
+
+		Node node = new Parser( regexp, flags ).parse();
+		if ( node == null ) {
+			return null;
+		}
+
+		Program program = new Program();
+		if ( !node.emit( program ) || !program.emit( OP_MATCH, 0, 0, null ) ) {
+			return null;
+		}
+
+		return new LinearTimePattern( program );
+	}
+
+	/**
+	 * Whether the entire given input matches this expression, with the semantics of
+	 * {@link java.util.regex.Matcher#matches()}.
+	 *
+	 * @param input the input to match
+	 *
+	 * @return {@code true} if the input matches, {@code false} otherwise
+	 */
+	public boolean matches(CharSequence input) {
+		int length = input.length();
+
+		ThreadList current = new ThreadList( opcodes.length );
+		ThreadList next = new ThreadList( opcodes.length );
+		int[] stack = new int[opcodes.length];
+
+		addThreads( current, 0, input, 0, stack );
+
+		int position = 0;
+		while ( position < length ) {
+			if ( current.size == 0 ) {
+				return false;
+			}
+
+			int codePoint = Character.codePointAt( input, position );
+			int nextPosition = position + Character.charCount( codePoint );
+
+			next.clear();
+			for ( int i = 0; i < current.size; i++ ) {
+				int pc = current.pcs[i];
+				if ( opcodes[pc] == OP_CHAR && predicates[pc].matches( codePoint ) ) {
+					addThreads( next, pc + 1, input, nextPosition, stack );
+				}
+			}
+
+			ThreadList tmp = current;
+			current = next;
+			next = tmp;
+			position = nextPosition;
+		}
+
+		for ( int i = 0; i < current.size; i++ ) {
+			if ( opcodes[current.pcs[i]] == OP_MATCH ) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	/**
+	 * Adds the given instruction and all instructions reachable from it without consuming input to the given list.
+	 */
+	private void addThreads(ThreadList list, int startPc, CharSequence input, int position, int[] stack) {
+		int stackSize = 0;
+		stack[stackSize++] = startPc;
+
+		while ( stackSize > 0 ) {
+			int pc = stack[--stackSize];
+			if ( !list.add( pc ) ) {
+				continue;
+			}
+
+			switch ( opcodes[pc] ) {
+				case OP_JUMP:
+					stack[stackSize++] = targets[pc];
+					break;
+				case OP_SPLIT:
+					stack[stackSize++] = alternativeTargets[pc];
+					stack[stackSize++] = targets[pc];
+					break;
+				case OP_BEGIN:
+					if ( position == 0 ) {
+						stack[stackSize++] = pc + 1;
+					}
+					break;
+				case OP_END:
+					if ( isAtEnd( input, position ) ) {
+						stack[stackSize++] = pc + 1;
+					}
+					break;
+				default:
+					// characters and the final match instruction are examined by the caller
+					break;
+			}
+		}
+	}
+
+	/**
+	 * {@code $} matches at the end of the input and before a line terminator at the end of the input, but not between
+	 * the {@code \r} and {@code \n} of a final {@code \r\n}.
+	 */
+	private static boolean isAtEnd(CharSequence input, int position) {
+		int remaining = input.length() - position;
+
+		if ( remaining == 0 ) {
+			return true;
+		}
+		else if ( remaining == 1 ) {
+			char c = input.charAt( position );
+			if ( c == '\n' ) {
+				return position == 0 || input.charAt( position - 1 ) != '\r';
+			}
+			return isLineTerminator( c );
+		}
+		else if ( remaining == 2 ) {
+			return input.charAt( position ) == '\r' && input.charAt( position + 1 ) == '\n';
+		}
+
+		return false;
+	}
+
+	private static boolean isLineTerminator(int codePoint) {
+		return codePoint == '\n' || codePoint == '\r' || codePoint == '\u0085' || codePoint == '\u2028'
+				|| codePoint == '\u2029';
+	}
+
+	/**
+	 * The set of instructions active at one position of the input.
+	 */
+	private static final class ThreadList {
+
+		private final int[] pcs;
+		private final boolean[] contained;
+		private int size;
+
+		private ThreadList(int programSize) {
+			this.pcs = new int[programSize];
+			this.contained = new boolean[programSize];
+		}
+
+		private boolean add(int pc) {
+			if ( contained[pc] ) {
+				return false;
+			}
+
+			contained[pc] = true;
+			pcs[size++] = pc;
+			return true;
+		}
+
+		private void clear() {
+			for ( int i = 0; i < size; i++ ) {
+				contained[pcs[i]] = false;
+			}
+			size = 0;
+		}
+	}
+
+	/**
+	 * The instructions of a compiled expression.
+	 */
+	private static final class Program {
+
+		private final List<Integer> opcodes = newArrayList();
+		private final List<Integer> targets = newArrayList();
+		private final List<Integer> alternativeTargets = newArrayList();
+		private final List<CharPredicate> predicates = newArrayList();
+
+		private int size() {
+			return opcodes.size();
+		}
+
+		private boolean emit(int opcode, int target, int alternativeTarget, CharPredicate predicate) {
+			if ( size() >= MAX_PROGRAM_SIZE ) {
+				return false;
+			}
+
+			opcodes.add( opcode );
+			targets.add( target );
+			alternativeTargets.add( alternativeTarget );
+			predicates.add( predicate );
+			return true;
+		}
+
+		private void setTarget(int pc, int target) {
+			targets.set( pc, target );
+		}
+
+		private void setAlternativeTarget(int pc, int alternativeTarget) {
+			alternativeTargets.set( pc, alternativeTarget );
+		}
+	}
+
+	/**
+	 * A node of the syntax tree of an expression.
+	 */
+	private abstract static class Node {
+
+		/**
+		 * Emits the instructions for this node.
+		 *
+		 * @return {@code false} if the maximum program size has been exceeded, {@code true} otherwise
+		 */
+		abstract boolean emit(Program program);
+
+		/**
+		 * Whether this node can match the empty string.
+		 */
+		abstract boolean isNullable();
+	}
+
+	private static final class CharNode extends Node {
+
+		private final CharPredicate predicate;
+
+		private CharNode(CharPredicate predicate) {
+			this.predicate = predicate;
+		}
+
+		@Override
+		boolean emit(Program program) {
+			return program.emit( OP_CHAR, 0, 0, predicate );
+		}
+
+		@Override
+		boolean isNullable() {
+			return false;
+		}
+	}
+
+	private static final class AnchorNode extends Node {
+
+		private final int opcode;
+
+		private AnchorNode(int opcode) {
+			this.opcode = opcode;
+		}
+
+		@Override
+		boolean emit(Program program) {
+			return program.emit( opcode, 0, 0, null );
+		}
+
+		@Override
+		boolean isNullable() {
+			return true;
+		}
+	}
+
+	private static final class SequenceNode extends Node {
+
+		private final List<Node> nodes;
+
+		private SequenceNode(List<Node> nodes) {
+			this.nodes = nodes;
+		}
+
+		@Override
+		boolean emit(Program program) {
+			for ( Node node : nodes ) {
+				if ( !node.emit( program ) ) {
+					return false;
+				}
+			}
+			return true;
+		}
+
+		@Override
+		boolean isNullable() {
+			for ( Node node : nodes ) {
+				if ( !node.isNullable() ) {
+					return false;
+				}
+			}
+			return true;
+		}
+	}
+
+	private static final class AlternationNode extends Node {
+
+		private final List<Node> alternatives;
+
+		private AlternationNode(List<Node> alternatives) {
+			this.alternatives = alternatives;
+		}
+
+		@Override
+		boolean emit(Program program) {
+			List<Integer> jumps = newArrayList();
+
+			for ( int i = 0; i < alternatives.size(); i++ ) {
+				boolean isLast = i == alternatives.size() - 1;
+				int split = program.size();
+
+				if ( !isLast && !program.emit( OP_SPLIT, split + 1, 0, null ) ) {
+					return false;
+				}
+				if ( !alternatives.get( i ).emit( program ) ) {
+					return false;
+				}
+				if ( !isLast ) {
+					jumps.add( program.size() );
+					if ( !program.emit( OP_JUMP, 0, 0, null ) ) {
+						return false;
+					}
+					program.setAlternativeTarget( split, program.size() );
+				}
+			}
+
+			for ( Integer jump : jumps ) {
+				program.setTarget( jump, program.size() );
+			}
+
+			return true;
+		}
+
+		@Override
+		boolean isNullable() {
+			for ( Node alternative : alternatives ) {
+				if ( alternative.isNullable() ) {
+					return true;
+				}
+			}
+			return false;
+		}
+	}
+
+	private static final class RepetitionNode extends Node {
+
+		/**
+		 * Marks an unbounded repetition.
+		 */
+		private static final int UNBOUNDED = -1;
+
+		private final Node node;
+		private final int min;
+		private final int max;
+
+		private RepetitionNode(Node node, int min, int max) {
+			this.node = node;
+			this.min = min;
+			this.max = max;
+		}
+
+		@Override
+		boolean emit(Program program) {
+			for ( int i = 0; i < min; i++ ) {
+				if ( !node.emit( program ) ) {
+					return false;
+				}
+			}
+
+			if ( max == UNBOUNDED ) {
+				// L: split L+1, end; node; jump L; end:
+				int split = program.size();
+				if ( !program.emit( OP_SPLIT, split + 1, 0, null ) || !node.emit( program )
+						|| !program.emit( OP_JUMP, split, 0, null ) ) {
+					return false;
+				}
+				program.setAlternativeTarget( split, program.size() );
+			}
+			else {
+				for ( int i = min; i < max; i++ ) {
+					// split L+1, end; node; end:
+					int split = program.size();
+					if ( !program.emit( OP_SPLIT, split + 1, 0, null ) || !node.emit( program ) ) {
+						return false;
+					}
+					program.setAlternativeTarget( split, program.size() );
+				}
+			}
+
+			return true;
+		}
+
+		@Override
+		boolean isNullable() {
+			return min == 0 || node.isNullable();
+		}
+	}
+
+	/**
+	 * Recursive descent parser creating the syntax tree for an expression. All methods return {@code null} if an
+	 * unsupported construct is encountered.
+	 */
+	private static final class Parser {
+
+		private static final int INVALID = -1;
+		private static final int PREDEFINED_CLASS = -2;
+
+		private final String regexp;
+		private final boolean caseInsensitive;
+		private final boolean dotAll;
+		private int position;
+
+		private Parser(String regexp, int flags) {
+			this.regexp = regexp;
+			this.caseInsensitive = ( flags & Pattern.CASE_INSENSITIVE ) != 0;
+			this.dotAll = ( flags & Pattern.DOTALL ) != 0;
+		}
+
+		private Node parse() {
+			Node node = parseAlternation();
+			return position == regexp.length() ? node : null;
+		}
+
+		private Node parseAlternation() {
+			List<Node> alternatives = newArrayList();
+
+			Node sequence = parseSequence();
+			if ( sequence == null ) {
+				return null;
+			}
+			alternatives.add( sequence );
+
+			while ( hasNext() && peek() == '|' ) {
+				position++;
+				sequence = parseSequence();
+				if ( sequence == null ) {
+					return null;
+				}
+				alternatives.add( sequence );
+			}
+
+			return alternatives.size() == 1 ? alternatives.get( 0 ) : new AlternationNode( alternatives );
+		}
+
+		private Node parseSequence() {
+			List<Node> nodes = newArrayList();
+
+			while ( hasNext() && peek() != '|' && peek() != ')' ) {
+				Node node = parseRepetition();
+				if ( node == null ) {
+					return null;
+				}
+				nodes.add( node );
+			}
+
+			return new SequenceNode( nodes );
+		}
+
+		private Node parseRepetition() {
+			boolean isAnchor = peek() == '^' || peek() == '$';
+			Node atom = parseAtom();
+			if ( atom == null || !hasNext() ) {
+				return atom;
+			}
+
+			int min;
+			int max;
+			char c = peek();
+
+			if ( c == '*' ) {
+				min = 0;
+				max = RepetitionNode.UNBOUNDED;
+				position++;
+			}
+			else if ( c == '+' ) {
+				min = 1;
+				max = RepetitionNode.UNBOUNDED;
+				position++;
+			}
+			else if ( c == '?' ) {
+				min = 0;
+				max = 1;
+				position++;
+			}
+			else if ( c == '{' ) {
+				position++;
+				min = parseNumber();
+				if ( min < 0 || !hasNext() ) {
+					return null;
+				}
+				if ( peek() == '}' ) {
+					max = min;
+				}
+				else if ( peek() == ',' ) {
+					position++;
+					if ( hasNext() && peek() == '}' ) {
+						max = RepetitionNode.UNBOUNDED;
+					}
+					else {
+						max = parseNumber();
+						if ( max < min ) {
+							return null;
+						}
+					}
+				}
+				else {
+					return null;
+				}
+				if ( !hasNext() || peek() != '}' ) {
+					return null;
+				}
+				position++;
+			}
+			else {
+				return atom;
+			}
+
+			// quantified anchors and possessive quantifiers aren't supported; reluctant ones are irrelevant for
+			// matching the entire input
+			if ( isAnchor ) {
+				return null;
+			}
+			if ( hasNext() && peek() == '+' ) {
+				return null;
+			}
+			if ( hasNext() && peek() == '?' ) {
+				position++;
+			}
+			if ( hasNext() && isQuantifier( peek() ) ) {
+				return null;
+			}
+
+			// java.util.regex ends a repetition as soon as an iteration matches the empty string, even if the
+			// minimum number of iterations hasn't been reached yet, which can't be expressed by the automaton
+			if ( min > 1 && atom.isNullable() ) {
+				return null;
+			}
+
+			return new RepetitionNode( atom, min, max );
+		}
+
+		private Node parseAtom() {
+			char c = regexp.charAt( position );
+
+			switch ( c ) {
+				case '(':
+					position++;
+					if ( hasNext() && peek() == '?' ) {
+						// only non-capturing groups are supported; groups don't need to capture for matching
+						if ( position + 1 < regexp.length() && regexp.charAt( position + 1 ) == ':' ) {
+							position += 2;
+						}
+						else {
+							return null;
+						}
+					}
+					Node group = parseAlternation();
+					if ( group == null || !hasNext() || peek() != ')' ) {
+						return null;
+					}
+					position++;
+					return group;
+				case '[':
+					position++;
+					CharPredicate characterClass = parseCharacterClass();
+					return characterClass != null ? new CharNode( characterClass ) : null;
+				case '.':
+					position++;
+					return new CharNode( dotAll ? AnyCharacter.INSTANCE : AnyCharacterButLineTerminator.INSTANCE );
+				case '^':
+					position++;
+					return new AnchorNode( OP_BEGIN );
+				case '$':
+					position++;
+					return new AnchorNode( OP_END );
+				case '\\':
+					position++;
+					CharPredicate escaped = parseEscape();
+					return escaped != null ? new CharNode( escaped ) : null;
+				default:
+					if ( isQuantifier( c ) ) {
+						return null;
+					}
+					int codePoint = regexp.codePointAt( position );
+					position += Character.charCount( codePoint );
+					return new CharNode( caseInsensitive( new SingleCharacter( codePoint ) ) );
+			}
+		}
+
+		/**
+		 * Parses a character class, the opening bracket having been consumed already.
+		 */
+		private CharPredicate parseCharacterClass() {
+			boolean negated = false;
+			if ( hasNext() && peek() == '^' ) {
+				negated = true;
+				position++;
+			}
+
+			List<CharPredicate> members = newArrayList();
+
+			// a closing bracket right at the beginning is treated differently by different engines
+			if ( hasNext() && peek() == ']' ) {
+				return null;
+			}
+
+			while ( hasNext() && peek() != ']' ) {
+				char c = peek();
+
+				if ( c == '[' || ( c == '&' && position + 1 < regexp.length() && regexp.charAt( position + 1 ) == '&' ) ) {
+					// unions and intersections are not supported
+					return null;
+				}
+
+				int start = parseCharacterClassCharacter( members );
+				if ( start == INVALID ) {
+					return null;
+				}
+				if ( start == PREDEFINED_CLASS ) {
+					continue;
+				}
+
+				// a range, unless the dash is the last character of the class
+				if ( hasNext() && peek() == '-' && position + 1 < regexp.length() && regexp.charAt( position + 1 ) != ']' ) {
+					position++;
+					if ( peek() == '[' ) {
+						return null;
+					}
+					int end = parseCharacterClassCharacter( null );
+					if ( end < start ) {
+						return null;
+					}
+					members.add( new CharacterRange( start, end ) );
+				}
+				else {
+					members.add( new SingleCharacter( start ) );
+				}
+			}
+
+			if ( !hasNext() ) {
+				return null;
+			}
+			position++;
+
+			CharPredicate characterClass = caseInsensitive( new CharacterClass( members ) );
+			return negated ? new Negation( characterClass ) : characterClass;
+		}
+
+		/**
+		 * Parses a single character within a character class. Predefined classes are added to the given members.
+		 *
+		 * @return the code point of the character, {@link #PREDEFINED_CLASS} if a predefined class was parsed or
+		 *         {@link #INVALID} if an unsupported construct was encountered
+		 */
+		private int parseCharacterClassCharacter(List<CharPredicate> members) {
+			if ( peek() == '\\' ) {
+				position++;
+				if ( !hasNext() ) {
+					return INVALID;
+				}
+
+				CharPredicate predefinedClass = getPredefinedClass( peek() );
+				if ( predefinedClass != null ) {
+					position++;
+					if ( members == null ) {
+						return INVALID;
+					}
+					members.add( predefinedClass );
+					return PREDEFINED_CLASS;
+				}
+
+				return parseEscapedCharacter();
+			}
+
+			int codePoint = regexp.codePointAt( position );
+			position += Character.charCount( codePoint );
+			return codePoint;
+		}
+
+		/**
+		 * Parses an escape sequence outside of a character class, the backslash having been consumed already.
+		 */
+		private CharPredicate parseEscape() {
+			if ( !hasNext() ) {
+				return null;
+			}
+
+			CharPredicate predefinedClass = getPredefinedClass( peek() );
+			if ( predefinedClass != null ) {
+				position++;
+				return predefinedClass;
+			}
+
+			int codePoint = parseEscapedCharacter();
+			return codePoint != INVALID ? caseInsensitive( new SingleCharacter( codePoint ) ) : null;
+		}
+
+		/**
+		 * Parses an escaped character, the backslash having been consumed already.
+		 *
+		 * @return the code point of the escaped character or {@link #INVALID} if the escape sequence isn't supported
+		 */
+		private int parseEscapedCharacter() {
+			char c = peek();
+			position++;
+
+			switch ( c ) {
+				case 't':
+					return '\t';
+				case 'n':
+					return '\n';
+				case 'r':
+					return '\r';
+				case 'f':
+					return '\f';
+				case 'a':
+					return '\u0007';
+				case 'e':
+					return '\u001B';
+				case 'x':
+					if ( hasNext() && peek() == '{' ) {
+						position++;
+						int end = regexp.indexOf( '}', position );
+						if ( end < 0 ) {
+							return INVALID;
+						}
+						int codePoint = parseHex( position, end );
+						position = end + 1;
+						return isSurrogate( codePoint ) ? INVALID : codePoint;
+					}
+					return parseFixedLengthHex( 2 );
+				case 'u':
+					return parseUnicodeEscape();
+				default:
+					// escaped letters and digits denote special constructs such as back references or boundaries
+					if ( Character.isLetterOrDigit( c ) ) {
+						return INVALID;
+					}
+					return c;
+			}
+		}
+
+		/**
+		 * Parses the hex digits of a {@code \\u} escape. An escaped high surrogate directly followed by an escaped low
+		 * surrogate, e.g. {@code \\uD83D\\uDE00}, denotes a single code point, as with {@code java.util.regex}. Unpaired
+		 * escaped surrogates are not supported.
+		 */
+		private int parseUnicodeEscape() {
+			int codePoint = parseFixedLengthHex( 4 );
+			if ( codePoint == INVALID || !isSurrogate( codePoint ) ) {
+				return codePoint;
+			}
+
+			if ( Character.isHighSurrogate( (char) codePoint ) && regexp.startsWith( "\\u", position ) ) {
+				position += 2;
+				int lowSurrogate = parseFixedLengthHex( 4 );
+				if ( lowSurrogate != INVALID && Character.isLowSurrogate( (char) lowSurrogate ) ) {
+					return Character.toCodePoint( (char) codePoint, (char) lowSurrogate );
+				}
+			}
+
+			return INVALID;
+		}
+
+		private boolean isSurrogate(int codePoint) {
+			return codePoint >= Character.MIN_SURROGATE && codePoint <= Character.MAX_SURROGATE;
+		}
+
+		private int parseFixedLengthHex(int length) {
+			if ( position + length > regexp.length() ) {
+				return INVALID;
+			}
+
+			int codePoint = parseHex( position, position + length );
+			position += length;
+			return codePoint;
+		}
+
+		private int parseHex(int start, int end) {
+			if ( start == end || end - start > 6 ) {
+				return INVALID;
+			}
+
+			int value = 0;
+			for ( int i = start; i < end; i++ ) {
+				int digit = Character.digit( regexp.charAt( i ), 16 );
+				if ( digit < 0 ) {
+					return INVALID;
+				}
+				value = value * 16 + digit;
+			}
+
+			return value <= Character.MAX_CODE_POINT ? value : INVALID;
+		}
+
+		/**
+		 * @return the parsed non-negative number or {@link #INVALID} if there is no number at the current position
+		 */
+		private int parseNumber() {
+			int start = position;
+			int value = 0;
+
+			while ( hasNext() && peek() >= '0' && peek() <= '9' ) {
+				value = value * 10 + ( peek() - '0' );
+				if ( value > MAX_PROGRAM_SIZE ) {
+					return INVALID;
+				}
+				position++;
+			}
+
+			return position > start ? value : INVALID;
+		}
+
+		private CharPredicate getPredefinedClass(char c) {
+			switch ( c ) {
+				case 'd':
+					return PredefinedClass.DIGIT;
+				case 'D':
+					return new Negation( PredefinedClass.DIGIT );
+				case 'w':
+					return PredefinedClass.WORD;
+				case 'W':
+					return new Negation( PredefinedClass.WORD );
+				case 's':
+					return PredefinedClass.WHITESPACE;
+				case 'S':
+					return new Negation( PredefinedClass.WHITESPACE );
+				default:
+					return null;
+			}
+		}
+
+		private CharPredicate caseInsensitive(CharPredicate predicate) {
+			return caseInsensitive ? new AsciiCaseInsensitive( predicate ) : predicate;
+		}
+
+		private boolean isQuantifier(char c) {
+			return c == '*' || c == '+' || c == '?' || c == '{';
+		}
+
+		private boolean hasNext() {
+			return position < regexp.length();
+		}
+
+		private char peek() {
+			return regexp.charAt( position );
+		}
+	}
+
+	/**
+	 * Decides whether a single code point is matched.
+	 */
+	private interface CharPredicate {
+
+		boolean matches(int codePoint);
+	}
+
+	private static final class SingleCharacter implements CharPredicate {
+
+		private final int codePoint;
+
+		private SingleCharacter(int codePoint) {
+			this.codePoint = codePoint;
+		}
+
+		@Override
+		public boolean matches(int codePoint) {
+			return this.codePoint == codePoint;
+		}
+	}
+
+	private static final class CharacterRange implements CharPredicate {
+
+		private final int start;
+		private final int end;
+
+		private CharacterRange(int start, int end) {
+			this.start = start;
+			this.end = end;
+		}
+
+		@Override
+		public boolean matches(int codePoint) {
+			return codePoint >= start && codePoint <= end;
+		}
+	}
+
+	private static final class CharacterClass implements CharPredicate {
+
+		private final CharPredicate[] members;
+
+		private CharacterClass(List<CharPredicate> members) {
+			this.members = members.toArray( new CharPredicate[members.size()] );
+		}
+
+		@Override
+		public boolean matches(int codePoint) {
+			for ( CharPredicate member : members ) {
+				if ( member.matches( codePoint ) ) {
+					return true;
+				}
+			}
+			return false;
+		}
+	}
+
+	private static final class Negation implements CharPredicate {
+
+		private final CharPredicate predicate;
+
+		private Negation(CharPredicate predicate) {
+			this.predicate = predicate;
+		}
+
+		@Override
+		public boolean matches(int codePoint) {
+			return !predicate.matches( codePoint );
+		}
+	}
+
+	/**
+	 * Case-insensitive matching of US-ASCII characters, as done by {@link Pattern#CASE_INSENSITIVE} without
+	 * {@link Pattern#UNICODE_CASE}.
+	 */
+	private static final class AsciiCaseInsensitive implements CharPredicate {
+
+		private final CharPredicate predicate;
+
+		private AsciiCaseInsensitive(CharPredicate predicate) {
+			this.predicate = predicate;
+		}
+
+		@Override
+		public boolean matches(int codePoint) {
+			if ( predicate.matches( codePoint ) ) {
+				return true;
+			}
+			if ( codePoint >= 'a' && codePoint <= 'z' ) {
+				return predicate.matches( codePoint - 'a' + 'A' );
+			}
+			if ( codePoint >= 'A' && codePoint <= 'Z' ) {
+				return predicate.matches( codePoint - 'A' + 'a' );
+			}
+			return false;
+		}
+	}
+
+	private enum PredefinedClass implements CharPredicate {
+		DIGIT {
+			@Override
+			public boolean matches(int codePoint) {
+				return codePoint >= '0' && codePoint <= '9';
+			}
+		},
+		WORD {
+			@Override
+			public boolean matches(int codePoint) {
+				return ( codePoint >= 'a' && codePoint <= 'z' ) || ( codePoint >= 'A' && codePoint <= 'Z' )
+						|| ( codePoint >= '0' && codePoint <= '9' ) || codePoint == '_';
+			}
+		},
+		WHITESPACE {
+			@Override
+			public boolean matches(int codePoint) {
+				return codePoint == ' ' || codePoint == '\t' || codePoint == '\n' || codePoint == '\u000B'
+						|| codePoint == '\f' || codePoint == '\r';
+			}
+		}
+	}
+
+	private enum AnyCharacter implements CharPredicate {
+		INSTANCE;
+
+		@Override
+		public boolean matches(int codePoint) {
+			return true;
+		}
+	}
+
+	private enum AnyCharacterButLineTerminator implements CharPredicate {
+		INSTANCE;
+
+		@Override
+		public boolean matches(int codePoint) {
+			return !isLineTerminator( codePoint );
+		}
+	}
+}
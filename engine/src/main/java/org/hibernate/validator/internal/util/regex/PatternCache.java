@@ -0,0 +1,131 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.internal.util.regex;
+
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+import org.hibernate.validator.internal.util.ConcurrentReferenceHashMap;
+import org.hibernate.validator.internal.util.ConcurrentReferenceHashMap.ReferenceType;
+
+/**
+ * Caches compiled regular expressions, so an expression used by several constraints (e.g. the same {@code @Pattern}
+ * on many properties or classes) is compiled only once.
+ * <p>
+ * Compiled expressions are immutable and not tied to a specific validator factory, hence the cache is shared by all
+ * factories. Values are softly referenced and thus will be discarded under memory pressure.
+ *
+ * @author agent
+ */
+public final class PatternCache {
+
+	/**
+	 * Marker for expressions not supported by {@link LinearTimePattern}.
+	 */
+	private static final Object UNSUPPORTED = new Object();
+
+	private static final ConcurrentReferenceHashMap<PatternKey, Pattern> PATTERNS = new ConcurrentReferenceHashMap<PatternKey, Pattern>(
+			100,
+			ReferenceType.STRONG,
+			ReferenceType.SOFT
+	);
+
+	/**
+	 * The linear-time pattern per expression; {@link #UNSUPPORTED} if the expression isn't supported.
+	 */
+	private static final ConcurrentReferenceHashMap<PatternKey, Object> LINEAR_TIME_PATTERNS = new ConcurrentReferenceHashMap<PatternKey, Object>(
+			100,
+			ReferenceType.STRONG,
+			ReferenceType.SOFT
+	);
+
+	private PatternCache() {
+		// Not allowed
+	}
+
+	/**
+	 * Returns the compiled representation of the given expression.
+	 *
+	 * @param regexp the regular expression
+	 * @param flags the match flags, a bit mask as used by {@link Pattern#compile(String, int)}
+	 *
+	 * @return the compiled expression
+	 *
+	 * @throws PatternSyntaxException if the given expression is invalid
+	 */
+	public static Pattern getPattern(String regexp, int flags) {
+		PatternKey key = new PatternKey( regexp, flags );
+		Pattern pattern = PATTERNS.get( key );
+
+		if ( pattern == null ) {
+			pattern = Pattern.compile( regexp, flags );
+			PATTERNS.put( key, pattern );
+		}
+
+		return pattern;
+	}
+
+	/**
+	 * Returns the linear-time representation of the given expression.
+	 *
+	 * @param regexp the regular expression, valid as per {@link Pattern}
+	 * @param flags the match flags, a bit mask as used by {@link Pattern#compile(String, int)}
+	 *
+	 * @return the compiled expression or {@code null} if the expression or the flags are not supported by
+	 *         {@link LinearTimePattern}
+	 */
+	public static LinearTimePattern getLinearTimePattern(String regexp, int flags) {
+		PatternKey key = new PatternKey( regexp, flags );
+		Object pattern = LINEAR_TIME_PATTERNS.get( key );
+
+		if ( pattern == null ) {
+			pattern = LinearTimePattern.compile( regexp, flags );
+			if ( pattern == null ) {
+				pattern = UNSUPPORTED;
+			}
+			LINEAR_TIME_PATTERNS.put( key, pattern );
+		}
+
+		return pattern == UNSUPPORTED ? null : (LinearTimePattern) pattern;
+	}
+
+	private static final class PatternKey {
+
+		private final String regexp;
+		private final int flags;
+		private final int hashCode;
+
+		private PatternKey(String regexp, int flags) {
+			this.regexp = regexp;
+			this.flags = flags;
+			this.hashCode = 31 * regexp.hashCode() + flags;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if ( this == o ) {
+				return true;
+			}
+			if ( o == null || getClass() != o.getClass() ) {
+				return false;
+			}
+
+			PatternKey other = (PatternKey) o;
+			return flags == other.flags && regexp.equals( other.regexp );
+		}
+
+		@Override
+		public int hashCode() {
+			return hashCode;
+		}
+
+		@Override
+		public String toString() {
+			return "PatternKey [regexp=" + regexp + ", flags=" + flags + "]";
+		}
+	}
+}
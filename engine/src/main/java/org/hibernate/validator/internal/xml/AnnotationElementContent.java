@@ -0,0 +1,49 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.internal.xml;
+
+import java.io.Serializable;
+
+/**
+ * A {@code value} or {@code annotation} child element within the mixed content of an annotation element, taking the
+ * place of the {@code JAXBElement} used by the generated bindings, so that reading mapping files doesn't require
+ * {@code javax.xml.bind} at runtime.
+ * <p>
+ * Only serializable as the content of {@link ElementType} is declared as a list of {@code Serializable}s; instances
+ * are never actually serialized.
+ *
+ * @param <T> the type of the child element's value, either {@code String} or {@link AnnotationType}
+ *
+ * @author agent
+ */
+final class AnnotationElementContent<T> implements Serializable {
+
+	private final Class<T> declaredType;
+
+	private final transient T value;
+
+	private AnnotationElementContent(Class<T> declaredType, T value) {
+		this.declaredType = declaredType;
+		this.value = value;
+	}
+
+	static AnnotationElementContent<String> forValue(String value) {
+		return new AnnotationElementContent<String>( String.class, value );
+	}
+
+	static AnnotationElementContent<AnnotationType> forAnnotation(AnnotationType annotation) {
+		return new AnnotationElementContent<AnnotationType>( AnnotationType.class, annotation );
+	}
+
+	Class<T> getDeclaredType() {
+		return declaredType;
+	}
+
+	T getValue() {
+		return value;
+	}
+}
@@ -0,0 +1,31 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.internal.xml;
+
+import java.io.FilterInputStream;
+import java.io.InputStream;
+
+/**
+ * An input stream ignoring the close event.
+ * <p>
+ * HV-1025 - XML processors such as the XML schema validator may close the underlying input stream. To prevent this
+ * we wrap the input stream to be able to ignore the close event. It is the responsibility of the client API to close
+ * the stream (as per Bean Validation spec, see javax.validation.Configuration).
+ *
+ * @author Hardy Ferentschik
+ */
+class CloseIgnoringInputStream extends FilterInputStream {
+
+	CloseIgnoringInputStream(InputStream in) {
+		super( in );
+	}
+
+	@Override
+	public void close() {
+		// do nothing
+	}
+}
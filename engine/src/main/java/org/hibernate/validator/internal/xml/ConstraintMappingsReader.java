@@ -0,0 +1,386 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.internal.xml;
+
+import java.io.Serializable;
+import java.util.List;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+/**
+ * Reads constraint mapping files into {@link ConstraintMappingsType}s.
+ *
+ * @author agent
+ */
+class ConstraintMappingsReader extends XmlModelReader {
+
+	private static final String MAPPING_NAMESPACE = "http://jboss.org/xml/ns/javax/validation/mapping";
+
+	ConstraintMappingsReader(XMLStreamReader reader) {
+		super( reader, MAPPING_NAMESPACE );
+	}
+
+	ConstraintMappingsType read() throws XMLStreamException {
+		moveToRootElement();
+
+		ConstraintMappingsType constraintMappings = new ConstraintMappingsType();
+
+		while ( nextChildElement() ) {
+			if ( isElement( "default-package" ) ) {
+				constraintMappings.setDefaultPackage( readText() );
+			}
+			else if ( isElement( "bean" ) ) {
+				constraintMappings.getBean().add( readBean() );
+			}
+			else if ( isElement( "constraint-definition" ) ) {
+				constraintMappings.getConstraintDefinition().add( readConstraintDefinition() );
+			}
+			else {
+				skipElement();
+			}
+		}
+
+		return constraintMappings;
+	}
+
+	private BeanType readBean() throws XMLStreamException {
+		BeanType bean = new BeanType();
+		bean.setClazz( getAttribute( "class" ) );
+		bean.setIgnoreAnnotations( getBooleanAttribute( "ignore-annotations" ) );
+
+		while ( nextChildElement() ) {
+			if ( isElement( "class" ) ) {
+				bean.setClassType( readClass() );
+			}
+			else if ( isElement( "field" ) ) {
+				bean.getField().add( readField() );
+			}
+			else if ( isElement( "getter" ) ) {
+				bean.getGetter().add( readGetter() );
+			}
+			else if ( isElement( "constructor" ) ) {
+				bean.getConstructor().add( readConstructor() );
+			}
+			else if ( isElement( "method" ) ) {
+				bean.getMethod().add( readMethod() );
+			}
+			else {
+				skipElement();
+			}
+		}
+
+		return bean;
+	}
+
+	private ClassType readClass() throws XMLStreamException {
+		ClassType classType = new ClassType();
+		classType.setIgnoreAnnotations( getBooleanAttribute( "ignore-annotations" ) );
+
+		while ( nextChildElement() ) {
+			if ( isElement( "group-sequence" ) ) {
+				GroupSequenceType groupSequence = new GroupSequenceType();
+				readValues( groupSequence.getValue() );
+				classType.setGroupSequence( groupSequence );
+			}
+			else if ( isElement( "constraint" ) ) {
+				classType.getConstraint().add( readConstraint() );
+			}
+			else {
+				skipElement();
+			}
+		}
+
+		return classType;
+	}
+
+	private FieldType readField() throws XMLStreamException {
+		FieldType field = new FieldType();
+		field.setName( getAttribute( "name" ) );
+		field.setIgnoreAnnotations( getBooleanAttribute( "ignore-annotations" ) );
+
+		while ( nextChildElement() ) {
+			if ( isElement( "valid" ) ) {
+				field.setValid( readText() );
+			}
+			else if ( isElement( "convert-group" ) ) {
+				field.getConvertGroup().add( readGroupConversion() );
+			}
+			else if ( isElement( "constraint" ) ) {
+				field.getConstraint().add( readConstraint() );
+			}
+			else {
+				skipElement();
+			}
+		}
+
+		return field;
+	}
+
+	private GetterType readGetter() throws XMLStreamException {
+		GetterType getter = new GetterType();
+		getter.setName( getAttribute( "name" ) );
+		getter.setIgnoreAnnotations( getBooleanAttribute( "ignore-annotations" ) );
+
+		while ( nextChildElement() ) {
+			if ( isElement( "valid" ) ) {
+				getter.setValid( readText() );
+			}
+			else if ( isElement( "convert-group" ) ) {
+				getter.getConvertGroup().add( readGroupConversion() );
+			}
+			else if ( isElement( "constraint" ) ) {
+				getter.getConstraint().add( readConstraint() );
+			}
+			else {
+				skipElement();
+			}
+		}
+
+		return getter;
+	}
+
+	private ConstructorType readConstructor() throws XMLStreamException {
+		ConstructorType constructor = new ConstructorType();
+		constructor.setIgnoreAnnotations( getBooleanAttribute( "ignore-annotations" ) );
+
+		while ( nextChildElement() ) {
+			if ( isElement( "parameter" ) ) {
+				constructor.getParameter().add( readParameter() );
+			}
+			else if ( isElement( "cross-parameter" ) ) {
+				constructor.setCrossParameter( readCrossParameter() );
+			}
+			else if ( isElement( "return-value" ) ) {
+				constructor.setReturnValue( readReturnValue() );
+			}
+			else {
+				skipElement();
+			}
+		}
+
+		return constructor;
+	}
+
+	private MethodType readMethod() throws XMLStreamException {
+		MethodType method = new MethodType();
+		method.setName( getAttribute( "name" ) );
+		method.setIgnoreAnnotations( getBooleanAttribute( "ignore-annotations" ) );
+
+		while ( nextChildElement() ) {
+			if ( isElement( "parameter" ) ) {
+				method.getParameter().add( readParameter() );
+			}
+			else if ( isElement( "cross-parameter" ) ) {
+				method.setCrossParameter( readCrossParameter() );
+			}
+			else if ( isElement( "return-value" ) ) {
+				method.setReturnValue( readReturnValue() );
+			}
+			else {
+				skipElement();
+			}
+		}
+
+		return method;
+	}
+
+	private ParameterType readParameter() throws XMLStreamException {
+		ParameterType parameter = new ParameterType();
+		parameter.setType( getAttribute( "type" ) );
+		parameter.setIgnoreAnnotations( getBooleanAttribute( "ignore-annotations" ) );
+
+		while ( nextChildElement() ) {
+			if ( isElement( "valid" ) ) {
+				parameter.setValid( readText() );
+			}
+			else if ( isElement( "convert-group" ) ) {
+				parameter.getConvertGroup().add( readGroupConversion() );
+			}
+			else if ( isElement( "constraint" ) ) {
+				parameter.getConstraint().add( readConstraint() );
+			}
+			else {
+				skipElement();
+			}
+		}
+
+		return parameter;
+	}
+
+	private CrossParameterType readCrossParameter() throws XMLStreamException {
+		CrossParameterType crossParameter = new CrossParameterType();
+		crossParameter.setIgnoreAnnotations( getBooleanAttribute( "ignore-annotations" ) );
+
+		while ( nextChildElement() ) {
+			if ( isElement( "constraint" ) ) {
+				crossParameter.getConstraint().add( readConstraint() );
+			}
+			else {
+				skipElement();
+			}
+		}
+
+		return crossParameter;
+	}
+
+	private ReturnValueType readReturnValue() throws XMLStreamException {
+		ReturnValueType returnValue = new ReturnValueType();
+		returnValue.setIgnoreAnnotations( getBooleanAttribute( "ignore-annotations" ) );
+
+		while ( nextChildElement() ) {
+			if ( isElement( "valid" ) ) {
+				returnValue.setValid( readText() );
+			}
+			else if ( isElement( "convert-group" ) ) {
+				returnValue.getConvertGroup().add( readGroupConversion() );
+			}
+			else if ( isElement( "constraint" ) ) {
+				returnValue.getConstraint().add( readConstraint() );
+			}
+			else {
+				skipElement();
+			}
+		}
+
+		return returnValue;
+	}
+
+	private GroupConversionType readGroupConversion() throws XMLStreamException {
+		GroupConversionType groupConversion = new GroupConversionType();
+		groupConversion.setFrom( getAttribute( "from" ) );
+		groupConversion.setTo( getAttribute( "to" ) );
+
+		skipElement();
+
+		return groupConversion;
+	}
+
+	private ConstraintType readConstraint() throws XMLStreamException {
+		ConstraintType constraint = new ConstraintType();
+		constraint.setAnnotation( getAttribute( "annotation" ) );
+
+		while ( nextChildElement() ) {
+			if ( isElement( "message" ) ) {
+				constraint.setMessage( readText() );
+			}
+			else if ( isElement( "groups" ) ) {
+				GroupsType groups = new GroupsType();
+				readValues( groups.getValue() );
+				constraint.setGroups( groups );
+			}
+			else if ( isElement( "payload" ) ) {
+				PayloadType payload = new PayloadType();
+				readValues( payload.getValue() );
+				constraint.setPayload( payload );
+			}
+			else if ( isElement( "element" ) ) {
+				constraint.getElement().add( readElement() );
+			}
+			else {
+				skipElement();
+			}
+		}
+
+		return constraint;
+	}
+
+	/**
+	 * Reads an annotation element. Its content is mixed, i.e. text is retained alongside the {@code value} and
+	 * {@code annotation} elements, as expected by {@link MetaConstraintBuilder}.
+	 */
+	private ElementType readElement() throws XMLStreamException {
+		ElementType element = new ElementType();
+		element.setName( getAttribute( "name" ) );
+
+		List<Serializable> content = element.getContent();
+		StringBuilder text = null;
+
+		int event = reader.next();
+		while ( event != XMLStreamConstants.END_ELEMENT ) {
+			if ( event == XMLStreamConstants.CHARACTERS || event == XMLStreamConstants.CDATA
+					|| event == XMLStreamConstants.SPACE ) {
+				if ( text == null ) {
+					text = new StringBuilder();
+				}
+				text.append( reader.getText() );
+			}
+			else if ( event == XMLStreamConstants.START_ELEMENT ) {
+				if ( text != null ) {
+					content.add( text.toString() );
+					text = null;
+				}
+
+				if ( isElement( "value" ) ) {
+					content.add( AnnotationElementContent.forValue( readText() ) );
+				}
+				else if ( isElement( "annotation" ) ) {
+					content.add( AnnotationElementContent.forAnnotation( readAnnotation() ) );
+				}
+				else {
+					skipElement();
+				}
+			}
+
+			event = reader.next();
+		}
+
+		if ( text != null ) {
+			content.add( text.toString() );
+		}
+
+		return element;
+	}
+
+	private AnnotationType readAnnotation() throws XMLStreamException {
+		AnnotationType annotation = new AnnotationType();
+
+		while ( nextChildElement() ) {
+			if ( isElement( "element" ) ) {
+				annotation.getElement().add( readElement() );
+			}
+			else {
+				skipElement();
+			}
+		}
+
+		return annotation;
+	}
+
+	private ConstraintDefinitionType readConstraintDefinition() throws XMLStreamException {
+		ConstraintDefinitionType constraintDefinition = new ConstraintDefinitionType();
+		constraintDefinition.setAnnotation( getAttribute( "annotation" ) );
+
+		while ( nextChildElement() ) {
+			if ( isElement( "validated-by" ) ) {
+				ValidatedByType validatedBy = new ValidatedByType();
+				validatedBy.setIncludeExistingValidators( getBooleanAttribute( "include-existing-validators" ) );
+				readValues( validatedBy.getValue() );
+				constraintDefinition.setValidatedBy( validatedBy );
+			}
+			else {
+				skipElement();
+			}
+		}
+
+		return constraintDefinition;
+	}
+
+	/**
+	 * Adds the texts of the {@code value} elements nested in the current element to the given list.
+	 */
+	private void readValues(List<String> values) throws XMLStreamException {
+		while ( nextChildElement() ) {
+			if ( isElement( "value" ) ) {
+				values.add( readText() );
+			}
+			else {
+				skipElement();
+			}
+		}
+	}
+}
@@ -20,7 +20,6 @@
 
 import javax.validation.Payload;
 import javax.validation.ValidationException;
-import javax.xml.bind.JAXBElement;
 
 import org.hibernate.validator.internal.metadata.core.ConstraintHelper;
 import org.hibernate.validator.internal.metadata.core.MetaConstraint;
@@ -168,15 +167,15 @@ private Object getSingleValue(Serializable serializable, Class<?> returnType, St
 			String value = (String) serializable;
 			returnValue = convertStringToReturnType( returnType, value, defaultPackage );
 		}
-		else if ( serializable instanceof JAXBElement && ( (JAXBElement<?>) serializable ).getDeclaredType()
+		else if ( serializable instanceof AnnotationElementContent && ( (AnnotationElementContent<?>) serializable ).getDeclaredType()
 				.equals( String.class ) ) {
-			JAXBElement<?> elem = (JAXBElement<?>) serializable;
+			AnnotationElementContent<?> elem = (AnnotationElementContent<?>) serializable;
 			String value = (String) elem.getValue();
 			returnValue = convertStringToReturnType( returnType, value, defaultPackage );
 		}
-		else if ( serializable instanceof JAXBElement && ( (JAXBElement<?>) serializable ).getDeclaredType()
+		else if ( serializable instanceof AnnotationElementContent && ( (AnnotationElementContent<?>) serializable ).getDeclaredType()
 				.equals( AnnotationType.class ) ) {
-			JAXBElement<?> elem = (JAXBElement<?>) serializable;
+			AnnotationElementContent<?> elem = (AnnotationElementContent<?>) serializable;
 			AnnotationType annotationType = (AnnotationType) elem.getValue();
 			try {
 				@SuppressWarnings("unchecked")
@@ -0,0 +1,97 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.internal.xml;
+
+import javax.validation.executable.ExecutableType;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+/**
+ * Reads <i>validation.xml</i> into a {@link ValidationConfigType}.
+ *
+ * @author agent
+ */
+class ValidationConfigReader extends XmlModelReader {
+
+	private static final String CONFIGURATION_NAMESPACE = "http://jboss.org/xml/ns/javax/validation/configuration";
+
+	ValidationConfigReader(XMLStreamReader reader) {
+		super( reader, CONFIGURATION_NAMESPACE );
+	}
+
+	ValidationConfigType read() throws XMLStreamException {
+		moveToRootElement();
+
+		ValidationConfigType config = new ValidationConfigType();
+
+		while ( nextChildElement() ) {
+			if ( isElement( "default-provider" ) ) {
+				config.setDefaultProvider( readText() );
+			}
+			else if ( isElement( "message-interpolator" ) ) {
+				config.setMessageInterpolator( readText() );
+			}
+			else if ( isElement( "traversable-resolver" ) ) {
+				config.setTraversableResolver( readText() );
+			}
+			else if ( isElement( "constraint-validator-factory" ) ) {
+				config.setConstraintValidatorFactory( readText() );
+			}
+			else if ( isElement( "parameter-name-provider" ) ) {
+				config.setParameterNameProvider( readText() );
+			}
+			else if ( isElement( "executable-validation" ) ) {
+				config.setExecutableValidation( readExecutableValidation() );
+			}
+			else if ( isElement( "constraint-mapping" ) ) {
+				config.getConstraintMapping().add( readText() );
+			}
+			else if ( isElement( "property" ) ) {
+				PropertyType property = new PropertyType();
+				property.setName( getAttribute( "name" ) );
+				property.setValue( readText() );
+				config.getProperty().add( property );
+			}
+			else {
+				skipElement();
+			}
+		}
+
+		return config;
+	}
+
+	private ExecutableValidationType readExecutableValidation() throws XMLStreamException {
+		ExecutableValidationType executableValidation = new ExecutableValidationType();
+		executableValidation.setEnabled( getBooleanAttribute( "enabled" ) );
+
+		while ( nextChildElement() ) {
+			if ( isElement( "default-validated-executable-types" ) ) {
+				executableValidation.setDefaultValidatedExecutableTypes( readDefaultValidatedExecutableTypes() );
+			}
+			else {
+				skipElement();
+			}
+		}
+
+		return executableValidation;
+	}
+
+	private DefaultValidatedExecutableTypesType readDefaultValidatedExecutableTypes() throws XMLStreamException {
+		DefaultValidatedExecutableTypesType executableTypes = new DefaultValidatedExecutableTypesType();
+
+		while ( nextChildElement() ) {
+			if ( isElement( "executable-type" ) ) {
+				executableTypes.getExecutableType().add( ExecutableType.valueOf( readText() ) );
+			}
+			else {
+				skipElement();
+			}
+		}
+
+		return executableTypes;
+	}
+}
@@ -10,7 +10,6 @@
 import java.io.InputStream;
 import java.security.AccessController;
 import java.security.PrivilegedAction;
-import java.security.PrivilegedExceptionAction;
 import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -20,21 +19,16 @@
 
 import javax.validation.BootstrapConfiguration;
 import javax.validation.executable.ExecutableType;
-import javax.xml.bind.JAXBContext;
-import javax.xml.bind.JAXBElement;
-import javax.xml.bind.Unmarshaller;
-import javax.xml.stream.XMLEventReader;
+import javax.xml.stream.XMLStreamReader;
 import javax.xml.validation.Schema;
 
 import org.hibernate.validator.internal.util.logging.Log;
 import org.hibernate.validator.internal.util.logging.LoggerFactory;
 import org.hibernate.validator.internal.util.privilegedactions.GetClassLoader;
-import org.hibernate.validator.internal.util.privilegedactions.NewJaxbContext;
 import org.hibernate.validator.internal.util.privilegedactions.SetContextClassLoader;
-import org.hibernate.validator.internal.util.privilegedactions.Unmarshal;
 
 /**
- * Parser for <i>validation.xml</i> using JAXB.
+ * Parser for <i>validation.xml</i> using StAX.
  *
  * @author Hardy Ferentschik
  * @author Gunnar Morling
@@ -81,11 +75,27 @@ public final BootstrapConfiguration parseValidationXml() {
 			// this avoids accessing javax.xml.stream.* (which does not exist on Android) when not actually
 			// working with the XML configuration
 			XmlParserHelper xmlParserHelper = new XmlParserHelper();
-			XMLEventReader xmlEventReader = xmlParserHelper.createXmlEventReader( VALIDATION_XML_FILE, inputStream );
+			inputStream.mark( Integer.MAX_VALUE );
+			XMLStreamReader xmlStreamReader = xmlParserHelper.createXmlStreamReader( VALIDATION_XML_FILE, inputStream );
+			ValidationConfigType validationConfig;
 
-			String schemaVersion = xmlParserHelper.getSchemaVersion( VALIDATION_XML_FILE, xmlEventReader );
-			Schema schema = getSchema( xmlParserHelper, schemaVersion );
-			ValidationConfigType validationConfig = unmarshal( xmlEventReader, schema );
+			try {
+				String schemaVersion = xmlParserHelper.getSchemaVersion( VALIDATION_XML_FILE, xmlStreamReader );
+				Schema schema = getSchema( xmlParserHelper, schemaVersion );
+
+				if ( schema != null ) {
+					// the first reader was only used to determine the schema version
+					xmlParserHelper.closeXmlStreamReader( VALIDATION_XML_FILE, xmlStreamReader );
+					xmlStreamReader = null;
+				}
+
+				validationConfig = read( xmlParserHelper, inputStream, xmlStreamReader, schema );
+			}
+			finally {
+				if ( xmlStreamReader != null ) {
+					xmlParserHelper.closeXmlStreamReader( VALIDATION_XML_FILE, xmlStreamReader );
+				}
+			}
 
 			return createBootstrapConfiguration( validationConfig );
 		}
@@ -118,20 +128,32 @@ private Schema getSchema(XmlParserHelper xmlParserHelper, String schemaVersion)
 		return xmlParserHelper.getSchema( schemaResource );
 	}
 
-	private ValidationConfigType unmarshal(XMLEventReader xmlEventReader, Schema schema) {
+	/**
+	 * Reads the given stream, validating it against the given schema first unless the schema is {@code null}.
+	 *
+	 * @param inputStream The stream to read, positioned at its mark.
+	 * @param xmlStreamReader A reader for the given stream, positioned at its root element; {@code null} if a schema
+	 * is given, in which case a new reader is created and closed after validating the stream.
+	 */
+	private ValidationConfigType read(XmlParserHelper xmlParserHelper, InputStream inputStream, XMLStreamReader xmlStreamReader, Schema schema) {
 		log.parsingXMLFile( VALIDATION_XML_FILE );
 
 		try {
-			// JAXBContext#newInstance() requires several permissions internally and doesn't use any privileged blocks
-			// itself; Wrapping it here avoids that all calling code bases need to have these permissions as well
-			JAXBContext jc = run( NewJaxbContext.action( ValidationConfigType.class ) );
-			Unmarshaller unmarshaller = jc.createUnmarshaller();
-			unmarshaller.setSchema( schema );
-
-			// Unmashaller#unmarshal() requires several permissions internally and doesn't use any privileged blocks
-			// itself; Wrapping it here avoids that all calling code bases need to have these permissions as well
-			JAXBElement<ValidationConfigType> root = run( Unmarshal.action( unmarshaller, xmlEventReader, ValidationConfigType.class ) );
-			return root.getValue();
+			if ( schema == null ) {
+				return new ValidationConfigReader( xmlStreamReader ).read();
+			}
+
+			inputStream.reset();
+			xmlParserHelper.validate( inputStream, schema );
+			inputStream.reset();
+
+			XMLStreamReader validatedXmlStreamReader = xmlParserHelper.createXmlStreamReader( VALIDATION_XML_FILE, inputStream );
+			try {
+				return new ValidationConfigReader( validatedXmlStreamReader ).read();
+			}
+			finally {
+				xmlParserHelper.closeXmlStreamReader( VALIDATION_XML_FILE, validatedXmlStreamReader );
+			}
 		}
 		catch (Exception e) {
 			throw log.getUnableToParseValidationXmlFileException( VALIDATION_XML_FILE, e );
@@ -208,14 +230,4 @@ private EnumSet<ExecutableType> getValidatedExecutableTypes(DefaultValidatedExec
 	private static <T> T run(PrivilegedAction<T> action) {
 		return System.getSecurityManager() != null ? AccessController.doPrivileged( action ) : action.run();
 	}
-
-	/**
-	 * Runs the given privileged action, using a privileged block if required.
-	 * <p>
-	 * <b>NOTE:</b> This must never be changed into a publicly available method to avoid execution of arbitrary
-	 * privileged actions within HV's protection domain.
-	 */
-	private <T> T run(PrivilegedExceptionAction<T> action) throws Exception {
-		return System.getSecurityManager() != null ? AccessController.doPrivileged( action ) : action.run();
-	}
 }
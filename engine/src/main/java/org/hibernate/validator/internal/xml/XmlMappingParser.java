@@ -6,13 +6,12 @@
  */
 package org.hibernate.validator.internal.xml;
 
-import java.io.FilterInputStream;
+import java.io.BufferedInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.lang.annotation.Annotation;
 import java.security.AccessController;
 import java.security.PrivilegedAction;
-import java.security.PrivilegedExceptionAction;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -21,11 +20,7 @@
 import java.util.concurrent.ConcurrentMap;
 import javax.validation.ConstraintValidator;
 import javax.validation.ParameterNameProvider;
-import javax.xml.bind.JAXBContext;
-import javax.xml.bind.JAXBElement;
-import javax.xml.bind.JAXBException;
-import javax.xml.bind.Unmarshaller;
-import javax.xml.stream.XMLEventReader;
+import javax.xml.stream.XMLStreamReader;
 import javax.xml.validation.Schema;
 
 import org.hibernate.validator.internal.metadata.core.AnnotationProcessingOptions;
@@ -39,9 +34,7 @@
 import org.hibernate.validator.internal.util.logging.Log;
 import org.hibernate.validator.internal.util.logging.LoggerFactory;
 import org.hibernate.validator.internal.util.privilegedactions.GetClassLoader;
-import org.hibernate.validator.internal.util.privilegedactions.NewJaxbContext;
 import org.hibernate.validator.internal.util.privilegedactions.SetContextClassLoader;
-import org.hibernate.validator.internal.util.privilegedactions.Unmarshal;
 
 import static org.hibernate.validator.internal.util.CollectionHelper.newArrayList;
 import static org.hibernate.validator.internal.util.CollectionHelper.newHashMap;
@@ -56,6 +49,8 @@ public class XmlMappingParser {
 
 	private static final Log log = LoggerFactory.make();
 
+	private static final String MAPPING_FILE = "constraint mapping file";
+
 	private final Set<Class<?>> processedClasses = newHashSet();
 	private final ConstraintHelper constraintHelper;
 	private final AnnotationProcessingOptionsImpl annotationProcessingOptions;
@@ -67,6 +62,11 @@ public class XmlMappingParser {
 
 	private final ClassLoadingHelper classLoadingHelper;
 
+	/**
+	 * Whether mapping files are validated against the XML schema of their version before being read.
+	 */
+	private final boolean schemaValidation;
+
 	private static final ConcurrentMap<String, String> SCHEMAS_BY_VERSION = new ConcurrentHashMap<String, String>(
 			2,
 			0.75f,
@@ -79,7 +79,7 @@ public class XmlMappingParser {
 	}
 
 	public XmlMappingParser(ConstraintHelper constraintHelper, ParameterNameProvider parameterNameProvider,
-			ClassLoader externalClassLoader) {
+			ClassLoader externalClassLoader, boolean schemaValidation) {
 		this.constraintHelper = constraintHelper;
 		this.annotationProcessingOptions = new AnnotationProcessingOptionsImpl();
 		this.defaultSequences = newHashMap();
@@ -87,6 +87,7 @@ public XmlMappingParser(ConstraintHelper constraintHelper, ParameterNameProvider
 		this.xmlParserHelper = new XmlParserHelper();
 		this.parameterNameProvider = parameterNameProvider;
 		this.classLoadingHelper = new ClassLoadingHelper( externalClassLoader );
+		this.schemaValidation = schemaValidation;
 	}
 
 	/**
@@ -96,100 +97,118 @@ public XmlMappingParser(ConstraintHelper constraintHelper, ParameterNameProvider
 	 * @param mappingStreams The streams to parse. Must support the mark/reset contract.
 	 */
 	public final void parse(Set<InputStream> mappingStreams) {
-		try {
-			// JAXBContext#newInstance() requires several permissions internally and doesn't use any privileged blocks
-			// itself; Wrapping it here avoids that all calling code bases need to have these permissions as well
-			JAXBContext jc = run( NewJaxbContext.action( ConstraintMappingsType.class ) );
+		MetaConstraintBuilder metaConstraintBuilder = new MetaConstraintBuilder(
+				classLoadingHelper,
+				constraintHelper
+		);
+		GroupConversionBuilder groupConversionBuilder = new GroupConversionBuilder( classLoadingHelper );
 
-			MetaConstraintBuilder metaConstraintBuilder = new MetaConstraintBuilder(
-					classLoadingHelper,
-					constraintHelper
-			);
-			GroupConversionBuilder groupConversionBuilder = new GroupConversionBuilder( classLoadingHelper );
+		ConstrainedTypeBuilder constrainedTypeBuilder = new ConstrainedTypeBuilder(
+				classLoadingHelper,
+				metaConstraintBuilder,
+				annotationProcessingOptions,
+				defaultSequences
+		);
+		ConstrainedFieldBuilder constrainedFieldBuilder = new ConstrainedFieldBuilder(
+				metaConstraintBuilder,
+				groupConversionBuilder,
+				annotationProcessingOptions
+		);
+		ConstrainedExecutableBuilder constrainedExecutableBuilder = new ConstrainedExecutableBuilder(
+				classLoadingHelper,
+				parameterNameProvider,
+				metaConstraintBuilder,
+				groupConversionBuilder,
+				annotationProcessingOptions
+		);
+		ConstrainedGetterBuilder constrainedGetterBuilder = new ConstrainedGetterBuilder(
+				metaConstraintBuilder,
+				groupConversionBuilder,
+				annotationProcessingOptions
+		);
 
-			ConstrainedTypeBuilder constrainedTypeBuilder = new ConstrainedTypeBuilder(
-					classLoadingHelper,
-					metaConstraintBuilder,
-					annotationProcessingOptions,
-					defaultSequences
-			);
-			ConstrainedFieldBuilder constrainedFieldBuilder = new ConstrainedFieldBuilder(
-					metaConstraintBuilder,
-					groupConversionBuilder,
-					annotationProcessingOptions
-			);
-			ConstrainedExecutableBuilder constrainedExecutableBuilder = new ConstrainedExecutableBuilder(
-					classLoadingHelper,
-					parameterNameProvider,
-					metaConstraintBuilder,
-					groupConversionBuilder,
-					annotationProcessingOptions
-			);
-			ConstrainedGetterBuilder constrainedGetterBuilder = new ConstrainedGetterBuilder(
-					metaConstraintBuilder,
-					groupConversionBuilder,
-					annotationProcessingOptions
-			);
+		Set<String> alreadyProcessedConstraintDefinitions = newHashSet();
+		for ( InputStream in : mappingStreams ) {
 
-			Set<String> alreadyProcessedConstraintDefinitions = newHashSet();
-			for ( InputStream in : mappingStreams ) {
+			// check whether mark is supported, if so we can reset the stream in order to allow reuse of Configuration;
+			// otherwise the stream is buffered, as it is read twice if schema validation is enabled
+			boolean markSupported = in.markSupported();
+			InputStream mappingStream = markSupported ? in : new BufferedInputStream( in );
+			mappingStream.mark( Integer.MAX_VALUE );
 
-				// check whether mark is supported, if so we can reset the stream in order to allow reuse of Configuration
-				boolean markSupported = in.markSupported();
-				if ( markSupported ) {
-					in.mark( Integer.MAX_VALUE );
-				}
+			ConstraintMappingsType mapping = read( mappingStream );
+			String defaultPackage = mapping.getDefaultPackage();
 
-				ConstraintMappingsType mapping = unmarshal( jc, in );
-				String defaultPackage = mapping.getDefaultPackage();
+			parseConstraintDefinitions(
+					mapping.getConstraintDefinition(),
+					defaultPackage,
+					alreadyProcessedConstraintDefinitions
+			);
 
-				parseConstraintDefinitions(
-						mapping.getConstraintDefinition(),
+			for ( BeanType bean : mapping.getBean() ) {
+				processBeanType(
+						constrainedTypeBuilder,
+						constrainedFieldBuilder,
+						constrainedExecutableBuilder,
+						constrainedGetterBuilder,
 						defaultPackage,
-						alreadyProcessedConstraintDefinitions
+						bean
 				);
+			}
 
-				for ( BeanType bean : mapping.getBean() ) {
-					processBeanType(
-							constrainedTypeBuilder,
-							constrainedFieldBuilder,
-							constrainedExecutableBuilder,
-							constrainedGetterBuilder,
-							defaultPackage,
-							bean
-					);
+			if ( markSupported ) {
+				try {
+					in.reset();
 				}
-
-				if ( markSupported ) {
-					try {
-						in.reset();
-					}
-					catch (IOException e) {
-						log.debug( "Unable to reset input stream." );
-					}
+				catch (IOException e) {
+					log.debug( "Unable to reset input stream." );
 				}
 			}
 		}
-		catch (JAXBException e) {
-			throw log.getErrorParsingMappingFileException( e );
-		}
 	}
 
-	private ConstraintMappingsType unmarshal(JAXBContext jc, InputStream in) throws JAXBException {
+	/**
+	 * Reads the given mapping stream, validating it against the XML schema of its version first if schema validation
+	 * is enabled.
+	 *
+	 * @param in The stream to read, positioned at its mark.
+	 */
+	private ConstraintMappingsType read(InputStream in) {
 		ClassLoader previousTccl = run( GetClassLoader.fromContext() );
 
 		try {
 			run( SetContextClassLoader.action( XmlMappingParser.class.getClassLoader() ) );
 
-			XMLEventReader xmlEventReader = xmlParserHelper.createXmlEventReader( "constraint mapping file", new CloseIgnoringInputStream( in ) );
-			String schemaVersion = xmlParserHelper.getSchemaVersion( "constraint mapping file", xmlEventReader );
-			String schemaResourceName = getSchemaResourceName( schemaVersion );
-			Schema schema = xmlParserHelper.getSchema( schemaResourceName );
+			XMLStreamReader xmlStreamReader = xmlParserHelper.createXmlStreamReader( MAPPING_FILE, in );
+
+			try {
+				String schemaVersion = xmlParserHelper.getSchemaVersion( MAPPING_FILE, xmlStreamReader );
+				String schemaResourceName = getSchemaResourceName( schemaVersion );
+
+				try {
+					if ( schemaValidation ) {
+						Schema schema = xmlParserHelper.getSchema( schemaResourceName );
+
+						if ( schema != null ) {
+							in.reset();
+							xmlParserHelper.validate( in, schema );
+							in.reset();
 
-			Unmarshaller unmarshaller = jc.createUnmarshaller();
-			unmarshaller.setSchema( schema );
+							// the first reader was only used to determine the schema version
+							xmlParserHelper.closeXmlStreamReader( MAPPING_FILE, xmlStreamReader );
+							xmlStreamReader = xmlParserHelper.createXmlStreamReader( MAPPING_FILE, in );
+						}
+					}
 
-			return getValidationConfig( xmlEventReader, unmarshaller );
+					return new ConstraintMappingsReader( xmlStreamReader ).read();
+				}
+				catch (Exception e) {
+					throw log.getErrorParsingMappingFileException( e );
+				}
+			}
+			finally {
+				xmlParserHelper.closeXmlStreamReader( MAPPING_FILE, xmlStreamReader );
+			}
 		}
 		finally {
 			run( SetContextClassLoader.action( previousTccl ) );
@@ -355,31 +374,11 @@ private void addConstrainedElements(Class<?> beanClass, Set<? extends Constraine
 		}
 	}
 
-	private ConstraintMappingsType getValidationConfig(XMLEventReader xmlEventReader, Unmarshaller unmarshaller) {
-		ConstraintMappingsType constraintMappings;
-		try {
-			// Unmashaller#unmarshal() requires several permissions internally and doesn't use any privileged blocks
-			// itself; Wrapping it here avoids that all calling code bases need to have these permissions as well
-			JAXBElement<ConstraintMappingsType> root = run(
-					Unmarshal.action(
-							unmarshaller,
-							xmlEventReader,
-							ConstraintMappingsType.class
-					)
-			);
-			constraintMappings = root.getValue();
-		}
-		catch (Exception e) {
-			throw log.getErrorParsingMappingFileException( e );
-		}
-		return constraintMappings;
-	}
-
 	private String getSchemaResourceName(String schemaVersion) {
 		String schemaResource = SCHEMAS_BY_VERSION.get( schemaVersion );
 
 		if ( schemaResource == null ) {
-			throw log.getUnsupportedSchemaVersionException( "constraint mapping file", schemaVersion );
+			throw log.getUnsupportedSchemaVersionException( MAPPING_FILE, schemaVersion );
 		}
 
 		return schemaResource;
@@ -394,36 +393,4 @@ private String getSchemaResourceName(String schemaVersion) {
 	private static <T> T run(PrivilegedAction<T> action) {
 		return System.getSecurityManager() != null ? AccessController.doPrivileged( action ) : action.run();
 	}
-
-	/**
-	 * Runs the given privileged action, using a privileged block if required.
-	 * <p>
-	 * <b>NOTE:</b> This must never be changed into a publicly available method to avoid execution of arbitrary
-	 * privileged actions within HV's protection domain.
-	 */
-	private <T> T run(PrivilegedExceptionAction<T> action) throws JAXBException {
-		try {
-			return System.getSecurityManager() != null ? AccessController.doPrivileged( action ) : action.run();
-		}
-		catch (JAXBException e) {
-			throw e;
-		}
-		catch (Exception e) {
-			throw log.getErrorParsingMappingFileException( e );
-		}
-	}
-
-	// HV-1025 - On some JVMs (eg the IBM JVM) the JAXB implementation closes the underlying input stream.
-	// To prevent this we wrap the input stream to be able to ignore the close event. It is the responsibility
-	// of the client API to close the stream (as per Bean Validation spec, see javax.validation.Configuration).
-	private static class CloseIgnoringInputStream extends FilterInputStream {
-		public CloseIgnoringInputStream(InputStream in) {
-			super( in );
-		}
-
-		@Override
-		public void close() {
-			// do nothing
-		}
-	}
 }
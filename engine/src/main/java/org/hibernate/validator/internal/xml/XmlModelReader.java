@@ -0,0 +1,136 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.internal.xml;
+
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+/**
+ * Base class for readers populating the types generated from the XML schemas of Bean Validation by streaming over a
+ * {@link XMLStreamReader}, avoiding the creation of a JAXB context.
+ * <p>
+ * Mirrors the unmarshalling rules of the generated types: unknown elements are skipped, values of type
+ * {@code xs:string} are whitespace-collapsed and values of type {@code xs:boolean} not denoting a boolean are ignored.
+ * Whether a document adheres to its schema is not checked by the readers themselves.
+ *
+ * @author agent
+ */
+abstract class XmlModelReader {
+
+	protected final XMLStreamReader reader;
+
+	private final String namespace;
+
+	protected XmlModelReader(XMLStreamReader reader, String namespace) {
+		this.reader = reader;
+		this.namespace = namespace;
+	}
+
+	/**
+	 * Advances the reader to the root element of the document.
+	 */
+	protected void moveToRootElement() throws XMLStreamException {
+		int event = reader.getEventType();
+		while ( event != XMLStreamConstants.START_ELEMENT ) {
+			event = reader.next();
+		}
+	}
+
+	/**
+	 * Advances the reader to the next child element of the current element. The reader must be positioned at the start
+	 * of the current element or at the end of its previous child element.
+	 *
+	 * @return {@code true} if the reader has been advanced to the start of the next child element, {@code false} if it
+	 * has been advanced to the end of the current element
+	 */
+	protected boolean nextChildElement() throws XMLStreamException {
+		int event = reader.next();
+		while ( event != XMLStreamConstants.START_ELEMENT && event != XMLStreamConstants.END_ELEMENT ) {
+			event = reader.next();
+		}
+		return event == XMLStreamConstants.START_ELEMENT;
+	}
+
+	protected boolean isElement(String localName) {
+		return namespace.equals( reader.getNamespaceURI() ) && localName.equals( reader.getLocalName() );
+	}
+
+	/**
+	 * Returns the text of the current element, advancing the reader to the end of the element.
+	 */
+	protected String readText() throws XMLStreamException {
+		return collapse( reader.getElementText() );
+	}
+
+	/**
+	 * Advances the reader to the end of the current element, skipping all its contents.
+	 */
+	protected void skipElement() throws XMLStreamException {
+		int depth = 1;
+		while ( depth > 0 ) {
+			int event = reader.next();
+			if ( event == XMLStreamConstants.START_ELEMENT ) {
+				depth++;
+			}
+			else if ( event == XMLStreamConstants.END_ELEMENT ) {
+				depth--;
+			}
+		}
+	}
+
+	protected String getAttribute(String name) {
+		return collapse( reader.getAttributeValue( null, name ) );
+	}
+
+	protected Boolean getBooleanAttribute(String name) {
+		String value = getAttribute( name );
+
+		if ( "true".equals( value ) || "1".equals( value ) ) {
+			return Boolean.TRUE;
+		}
+		else if ( "false".equals( value ) || "0".equals( value ) ) {
+			return Boolean.FALSE;
+		}
+		else {
+			return null;
+		}
+	}
+
+	/**
+	 * Collapses the white space of the given value as per the {@code collapse} facet of XML schema, i.e. removes
+	 * leading and trailing white space and replaces each sequence of white space characters with a single blank.
+	 */
+	static String collapse(String value) {
+		if ( value == null ) {
+			return null;
+		}
+
+		StringBuilder collapsed = new StringBuilder( value.length() );
+		boolean pendingBlank = false;
+
+		for ( int i = 0; i < value.length(); i++ ) {
+			char c = value.charAt( i );
+			if ( isWhitespace( c ) ) {
+				pendingBlank = collapsed.length() > 0;
+			}
+			else {
+				if ( pendingBlank ) {
+					collapsed.append( ' ' );
+					pendingBlank = false;
+				}
+				collapsed.append( c );
+			}
+		}
+
+		return collapsed.toString();
+	}
+
+	private static boolean isWhitespace(char c) {
+		return c == ' ' || c == '\t' || c == '\n' || c == '\r';
+	}
+}
@@ -14,13 +14,11 @@
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 
-import javax.xml.namespace.QName;
-import javax.xml.stream.XMLEventReader;
 import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
 import javax.xml.stream.XMLStreamException;
-import javax.xml.stream.events.Attribute;
-import javax.xml.stream.events.StartElement;
-import javax.xml.stream.events.XMLEvent;
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.transform.stream.StreamSource;
 import javax.xml.validation.Schema;
 import javax.xml.validation.SchemaFactory;
 
@@ -30,6 +28,7 @@
 import org.hibernate.validator.internal.util.privilegedactions.GetClassLoader;
 import org.hibernate.validator.internal.util.privilegedactions.GetResource;
 import org.hibernate.validator.internal.util.privilegedactions.NewSchema;
+import org.hibernate.validator.internal.util.privilegedactions.ValidateAgainstSchema;
 
 import static org.hibernate.validator.internal.util.logging.Messages.MESSAGES;
 
@@ -49,6 +48,7 @@ public class XmlParserHelper {
 	 */
 	private static final int NUMBER_OF_SCHEMAS = 4;
 	private static final String DEFAULT_VERSION = "1.0";
+	private static final String VERSION_ATTRIBUTE = "version";
 
 	// xmlInputFactory used to be static in order to cache the factory, but that introduced a leakage of
 	// class loader in Wildfly. See HV-842
@@ -63,53 +63,74 @@ public class XmlParserHelper {
 	 * represented by the "version" attribute of the root element of the stream.
 	 * <p>
 	 * The given reader will be advanced to the root element of the given XML
-	 * structure. It can be used for unmarshalling from there.
+	 * structure.
 	 *
 	 * @param resourceName The name of the represented XML resource.
-	 * @param xmlEventReader An STAX event reader
+	 * @param xmlStreamReader An STAX stream reader
 	 *
 	 * @return The value of the "version" attribute. For compatibility with BV
 	 *         1.0, "1.0" will be returned if the given stream doesn't have a
 	 *         "version" attribute.
 	 */
-	public String getSchemaVersion(String resourceName, XMLEventReader xmlEventReader) {
-		Contracts.assertNotNull( xmlEventReader, MESSAGES.parameterMustNotBeNull( "xmlEventReader" ) );
+	public String getSchemaVersion(String resourceName, XMLStreamReader xmlStreamReader) {
+		Contracts.assertNotNull( xmlStreamReader, MESSAGES.parameterMustNotBeNull( "xmlStreamReader" ) );
 		try {
-			StartElement rootElement = getRootElement( xmlEventReader );
+			if ( !moveToRootElement( xmlStreamReader ) ) {
+				return null;
+			}
 
-			return getVersionValue( rootElement );
+			String version = xmlStreamReader.getAttributeValue( null, VERSION_ATTRIBUTE );
+			return version != null ? version : DEFAULT_VERSION;
 		}
 		catch (XMLStreamException e) {
 			throw log.getUnableToDetermineSchemaVersionException( resourceName, e );
 		}
 	}
 
-	public synchronized XMLEventReader createXmlEventReader(String resourceName, InputStream xmlStream) {
+	public synchronized XMLStreamReader createXmlStreamReader(String resourceName, InputStream xmlStream) {
 		try {
-			return xmlInputFactory.createXMLEventReader( xmlStream );
+			return xmlInputFactory.createXMLStreamReader( xmlStream );
 		}
 		catch (Exception e) {
-			throw log.getUnableToCreateXMLEventReader( resourceName, e );
+			throw log.getUnableToCreateXMLStreamReader( resourceName, e );
 		}
 	}
 
-	private String getVersionValue(StartElement startElement) {
-		if ( startElement == null ) {
-			return null;
+	/**
+	 * Closes the given reader, freeing its resources. The underlying stream will not be closed.
+	 *
+	 * @param resourceName The name of the represented XML resource.
+	 * @param xmlStreamReader The reader to close
+	 */
+	void closeXmlStreamReader(String resourceName, XMLStreamReader xmlStreamReader) {
+		try {
+			xmlStreamReader.close();
 		}
+		catch (XMLStreamException e) {
+			log.unableToCloseXMLFileInputStream( resourceName );
+		}
+	}
 
-		Attribute versionAttribute = startElement.getAttributeByName( new QName( "version" ) );
-		return versionAttribute != null ? versionAttribute.getValue() : DEFAULT_VERSION;
+	/**
+	 * Validates the given XML stream against the given schema, consuming the stream from its current position. The
+	 * stream will not be closed.
+	 *
+	 * @param xmlStream the XML stream to validate
+	 * @param schema the schema to validate against
+	 *
+	 * @throws Exception in case the stream could not be read or does not adhere to the schema
+	 */
+	void validate(InputStream xmlStream, Schema schema) throws Exception {
+		run( ValidateAgainstSchema.action( schema, new StreamSource( new CloseIgnoringInputStream( xmlStream ) ) ) );
 	}
 
-	private StartElement getRootElement(XMLEventReader xmlEventReader) throws XMLStreamException {
-		XMLEvent event = xmlEventReader.peek();
-		while ( event != null && !event.isStartElement() ) {
-			xmlEventReader.nextEvent();
-			event = xmlEventReader.peek();
+	private boolean moveToRootElement(XMLStreamReader xmlStreamReader) throws XMLStreamException {
+		int event = xmlStreamReader.getEventType();
+		while ( event != XMLStreamConstants.START_ELEMENT && xmlStreamReader.hasNext() ) {
+			event = xmlStreamReader.next();
 		}
 
-		return event == null ?  null : event.asStartElement();
+		return event == XMLStreamConstants.START_ELEMENT;
 	}
 
 	/**
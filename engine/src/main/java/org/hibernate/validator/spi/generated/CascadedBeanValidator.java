@@ -0,0 +1,27 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.spi.generated;
+
+/**
+ * Validates the values of cascaded fields on behalf of a {@link GeneratedBeanValidator}.
+ *
+ * @author agent
+ * @hv.experimental This API is considered experimental and may change in future revisions
+ * @since 5.4
+ */
+public interface CascadedBeanValidator {
+
+	/**
+	 * Checks the constraints of the given cascaded bean, using its generated validator.
+	 *
+	 * @param bean the value of a cascaded field; may be {@code null}
+	 *
+	 * @return {@code true} if the given bean is {@code null}, has been validated before within the current
+	 * validation or is valid; {@code false} if it is invalid or can't be validated by a generated validator
+	 */
+	boolean isValid(Object bean);
+}
@@ -0,0 +1,54 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.spi.generated;
+
+/**
+ * A validator for one bean type, generated by the Hibernate Validator annotation processor. It checks the
+ * constraints of the default group declared on the fields of the bean in a straight-line fashion, without any meta
+ * data look-ups.
+ * <p>
+ * Generated validators are named after the binary name of their bean type, suffixed with {@code $$HvValidator}. They
+ * are used by {@link javax.validation.Validator#validate(Object, Class[])} as a fast path when validating the default
+ * group of a bean whose meta data is given by annotations only. They only tell whether a bean is valid; if it is not,
+ * the regular validation engine is used to create the constraint violations.
+ * <p>
+ * Implementations must be safe for access from several threads at the same time.
+ *
+ * @param <T> the validated bean type
+ *
+ * @author agent
+ * @hv.experimental This API is considered experimental and may change in future revisions
+ * @since 5.4
+ */
+public interface GeneratedBeanValidator<T> {
+
+	/**
+	 * Returns the number of constraints checked by this validator. Used to make sure that the validator matches the
+	 * meta data of the bean type, i.e. that it has not been generated from an outdated version of the bean type.
+	 *
+	 * @return the number of constraints checked by this validator
+	 */
+	int getConstraintCount();
+
+	/**
+	 * Returns the number of cascaded fields of the bean type.
+	 *
+	 * @return the number of cascaded fields of the bean type
+	 */
+	int getCascadeCount();
+
+	/**
+	 * Checks the constraints of the given bean.
+	 *
+	 * @param bean the bean to validate; never {@code null}
+	 * @param cascadedBeanValidator validates the values of cascaded fields
+	 *
+	 * @return {@code true} if all constraints of the given bean and its cascaded beans are satisfied, {@code false}
+	 * otherwise
+	 */
+	boolean isValid(T bean, CascadedBeanValidator cascadedBeanValidator);
+}
@@ -0,0 +1,47 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.spi.resolver;
+
+import javax.validation.TraversableResolver;
+
+/**
+ * A {@link TraversableResolver} declaring its capabilities, allowing the engine to avoid calls to the resolver and the
+ * preparation of their arguments where possible.
+ * <p>
+ * The capabilities are retrieved once, when creating a validator using the resolver. So the values returned by the
+ * methods of this contract must not change during the lifetime of the resolver.
+ *
+ * @author agent
+ * @hv.experimental This API is considered experimental and may change in future revisions
+ * @since 5.4
+ */
+public interface HibernateTraversableResolver extends TraversableResolver {
+
+	/**
+	 * Whether {@link #isReachable(Object, javax.validation.Path.Node, Class, javax.validation.Path, java.lang.annotation.ElementType)}
+	 * returns {@code true} for all properties. If so, the engine will not invoke that method.
+	 *
+	 * @return {@code true} if all properties are reachable, {@code false} otherwise
+	 */
+	boolean isAlwaysReachable();
+
+	/**
+	 * Whether {@link #isCascadable(Object, javax.validation.Path.Node, Class, javax.validation.Path, java.lang.annotation.ElementType)}
+	 * returns {@code true} for all properties. If so, the engine will not invoke that method.
+	 *
+	 * @return {@code true} if all properties are cascadable, {@code false} otherwise
+	 */
+	boolean isAlwaysCascadable();
+
+	/**
+	 * Whether this resolver examines the path to the traversable object passed to its methods. If not, the engine
+	 * will not create that path and pass {@code null} instead.
+	 *
+	 * @return {@code true} if this resolver needs the path to the traversable object, {@code false} otherwise
+	 */
+	boolean needsPathToTraversableObject();
+}
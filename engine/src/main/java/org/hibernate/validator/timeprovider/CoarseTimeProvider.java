@@ -0,0 +1,94 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.timeprovider;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.validator.internal.util.Contracts;
+import org.hibernate.validator.spi.time.TimeProvider;
+
+import static org.hibernate.validator.internal.util.logging.Messages.MESSAGES;
+
+/**
+ * A {@link TimeProvider} returning the current system time with a coarse granularity. The time is read from the
+ * system clock by a background thread once per given interval, so obtaining the current time is as cheap as reading a
+ * field. This may be useful for applications validating large numbers of objects with temporal constraints in many
+ * separate validation calls, if a deviation of up to the given interval is acceptable.
+ * <p>
+ * The background thread is a daemon thread; it should be stopped by invoking {@link #close()} once the provider is not
+ * used any longer, e.g. after closing the validator factory using it.
+ *
+ * @author agent
+ * @hv.experimental This API is considered experimental and may change in future revisions
+ * @since 5.4
+ */
+public class CoarseTimeProvider implements TimeProvider {
+
+	private static final long DEFAULT_GRANULARITY_MILLIS = 10;
+
+	private final ScheduledExecutorService clockUpdater;
+
+	private volatile long currentTime;
+
+	/**
+	 * Creates a new provider which updates the current time every 10 milliseconds.
+	 */
+	public CoarseTimeProvider() {
+		this( DEFAULT_GRANULARITY_MILLIS, TimeUnit.MILLISECONDS );
+	}
+
+	/**
+	 * Creates a new provider which updates the current time in the given interval.
+	 *
+	 * @param granularity the interval in which to update the current time; must be at least one millisecond
+	 * @param unit the unit of the given interval
+	 */
+	public CoarseTimeProvider(long granularity, TimeUnit unit) {
+		Contracts.assertNotNull( unit, MESSAGES.parameterMustNotBeNull( "unit" ) );
+		Contracts.assertTrue( unit.toMillis( granularity ) > 0, MESSAGES.parameterMustBeGreaterThanZero( "granularity" ) );
+
+		this.currentTime = System.currentTimeMillis();
+		this.clockUpdater = Executors.newSingleThreadScheduledExecutor( new ClockUpdaterThreadFactory() );
+		this.clockUpdater.scheduleAtFixedRate(
+				new Runnable() {
+					@Override
+					public void run() {
+						currentTime = System.currentTimeMillis();
+					}
+				},
+				granularity,
+				granularity,
+				unit
+		);
+	}
+
+	@Override
+	public long getCurrentTime() {
+		return currentTime;
+	}
+
+	/**
+	 * Stops the background thread updating the current time. The time returned by this provider doesn't change
+	 * afterwards.
+	 */
+	public void close() {
+		clockUpdater.shutdownNow();
+	}
+
+	private static class ClockUpdaterThreadFactory implements ThreadFactory {
+
+		@Override
+		public Thread newThread(Runnable runnable) {
+			Thread thread = new Thread( runnable, "hibernate-validator-clock" );
+			thread.setDaemon( true );
+			return thread;
+		}
+	}
+}
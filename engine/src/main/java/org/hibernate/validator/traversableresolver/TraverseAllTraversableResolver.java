@@ -0,0 +1,52 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.traversableresolver;
+
+import java.lang.annotation.ElementType;
+
+import javax.validation.Path;
+
+import org.hibernate.validator.spi.resolver.HibernateTraversableResolver;
+
+/**
+ * A {@link javax.validation.TraversableResolver} considering all properties as reachable and cascadable.
+ * <p>
+ * Unlike the default resolver, this resolver doesn't take the load state of JPA entities into account. In turn, the
+ * engine doesn't need to consult any resolver during validation, which is the fastest option when validating objects
+ * not managed by a JPA persistence provider.
+ *
+ * @author agent
+ * @hv.experimental This API is considered experimental and may change in future revisions
+ * @since 5.4
+ */
+public class TraverseAllTraversableResolver implements HibernateTraversableResolver {
+
+	@Override
+	public boolean isReachable(Object traversableObject, Path.Node traversableProperty, Class<?> rootBeanType, Path pathToTraversableObject, ElementType elementType) {
+		return true;
+	}
+
+	@Override
+	public boolean isCascadable(Object traversableObject, Path.Node traversableProperty, Class<?> rootBeanType, Path pathToTraversableObject, ElementType elementType) {
+		return true;
+	}
+
+	@Override
+	public boolean isAlwaysReachable() {
+		return true;
+	}
+
+	@Override
+	public boolean isAlwaysCascadable() {
+		return true;
+	}
+
+	@Override
+	public boolean needsPathToTraversableObject() {
+		return false;
+	}
+}
@@ -0,0 +1,12 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+
+/**
+ * <p>Custom Hibernate Validator {@code javax.validation.TraversableResolver} implementations.</p>
+ * <p>This package is part of the public Hibernate Validator API.</p>
+ */
+package org.hibernate.validator.traversableresolver;
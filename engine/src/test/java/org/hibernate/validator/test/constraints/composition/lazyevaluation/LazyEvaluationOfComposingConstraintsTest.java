@@ -8,12 +8,22 @@
 
 import java.lang.annotation.Retention;
 import java.lang.annotation.Target;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
 import javax.validation.Constraint;
 import javax.validation.ConstraintValidator;
 import javax.validation.ConstraintValidatorContext;
+import javax.validation.ConstraintViolation;
+import javax.validation.MessageInterpolator;
 import javax.validation.Payload;
 import javax.validation.ReportAsSingleViolation;
 import javax.validation.Validator;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Pattern;
+import javax.validation.constraints.Size;
 
 import org.testng.annotations.Test;
 
@@ -45,10 +55,73 @@ public void testComposedConstraintWithReportAsSingleViolationStopsEvaluatingOnFi
 		);
 	}
 
+	@Test
+	public void testViolationsOfComposingConstraintsAreNotCreatedWhenReportedAsSingleViolation() {
+		CountingMessageInterpolator messageInterpolator = new CountingMessageInterpolator(
+				ValidatorUtil.getConfiguration().getDefaultMessageInterpolator()
+		);
+		Validator validator = ValidatorUtil.getConfiguration()
+				.messageInterpolator( messageInterpolator )
+				.buildValidatorFactory()
+				.getValidator();
+
+		Set<ConstraintViolation<Bar>> violations = validator.validate( new Bar() );
+
+		assertEquals( violations.size(), 1 );
+		assertEquals( violations.iterator().next().getMessage(), "my single violation" );
+		assertEquals(
+				messageInterpolator.interpolatedTemplates,
+				Collections.singletonList( "my single violation" ),
+				"Only the message of the composed constraint should have been interpolated"
+		);
+	}
+
 	@MyComposedConstraint
 	public class Foo {
 	}
 
+	public class Bar {
+		@MySingleViolationConstraint
+		private final String value = "ab";
+	}
+
+	@Constraint(validatedBy = { })
+	@Target({ METHOD, FIELD, TYPE })
+	@Retention(RUNTIME)
+	@ReportAsSingleViolation
+	@NotNull
+	@Size(min = 5)
+	@Pattern(regexp = "[0-9]*")
+	public @interface MySingleViolationConstraint {
+		String message() default "my single violation";
+
+		Class<?>[] groups() default { };
+
+		Class<? extends Payload>[] payload() default { };
+	}
+
+	private static class CountingMessageInterpolator implements MessageInterpolator {
+
+		private final MessageInterpolator delegate;
+		private final List<String> interpolatedTemplates = new ArrayList<String>();
+
+		CountingMessageInterpolator(MessageInterpolator delegate) {
+			this.delegate = delegate;
+		}
+
+		@Override
+		public String interpolate(String messageTemplate, Context context) {
+			interpolatedTemplates.add( messageTemplate );
+			return delegate.interpolate( messageTemplate, context );
+		}
+
+		@Override
+		public String interpolate(String messageTemplate, Context context, Locale locale) {
+			interpolatedTemplates.add( messageTemplate );
+			return delegate.interpolate( messageTemplate, context, locale );
+		}
+	}
+
 	@Constraint(validatedBy = { MyComposedConstraintValidator.class })
 	@Target({ METHOD, FIELD, TYPE })
 	@Retention(RUNTIME)
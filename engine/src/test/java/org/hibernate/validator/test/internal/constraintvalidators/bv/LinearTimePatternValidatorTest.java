@@ -0,0 +1,79 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.test.internal.constraintvalidators.bv;
+
+import javax.validation.constraints.Pattern;
+
+import org.testng.annotations.Test;
+
+import org.hibernate.validator.constraintvalidators.LinearTimePatternValidator;
+import org.hibernate.validator.internal.util.annotationfactory.AnnotationDescriptor;
+import org.hibernate.validator.internal.util.annotationfactory.AnnotationFactory;
+
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * @author agent
+ */
+public class LinearTimePatternValidatorTest {
+
+	@Test
+	public void testIsValid() {
+		LinearTimePatternValidator constraint = createValidator( "\\w+@\\w+\\.com" );
+
+		assertTrue( constraint.isValid( null, null ) );
+		assertTrue( constraint.isValid( "foo@bar.com", null ) );
+		assertFalse( constraint.isValid( "", null ) );
+		assertFalse( constraint.isValid( "foo@bar.org", null ) );
+	}
+
+	@Test
+	public void testIsValidWithCaseInsensitiveFlag() {
+		AnnotationDescriptor<Pattern> descriptor = new AnnotationDescriptor<Pattern>( Pattern.class );
+		descriptor.setValue( "regexp", "[a-c]+" );
+		descriptor.setValue( "flags", new Pattern.Flag[] { Pattern.Flag.CASE_INSENSITIVE } );
+		LinearTimePatternValidator constraint = new LinearTimePatternValidator();
+		constraint.initialize( AnnotationFactory.create( descriptor ) );
+
+		assertTrue( constraint.isValid( "aBc", null ) );
+		assertFalse( constraint.isValid( "abd", null ) );
+	}
+
+	@Test
+	public void testIsValidForExpressionNotSupportedByLinearTimeMatcher() {
+		LinearTimePatternValidator constraint = createValidator( "(a+)b\\1" );
+
+		assertTrue( constraint.isValid( "aabaa", null ) );
+		assertFalse( constraint.isValid( "aaba", null ) );
+	}
+
+	@Test
+	public void testIsValidForMaliciousInput() {
+		LinearTimePatternValidator constraint = createValidator( "(a+)+b" );
+
+		StringBuilder value = new StringBuilder();
+		for ( int i = 0; i < 10000; i++ ) {
+			value.append( 'a' );
+		}
+
+		assertFalse( constraint.isValid( value, null ) );
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void testInvalidRegularExpression() {
+		createValidator( "(unbalanced parentheses" );
+	}
+
+	private LinearTimePatternValidator createValidator(String regexp) {
+		AnnotationDescriptor<Pattern> descriptor = new AnnotationDescriptor<Pattern>( Pattern.class );
+		descriptor.setValue( "regexp", regexp );
+		LinearTimePatternValidator constraint = new LinearTimePatternValidator();
+		constraint.initialize( AnnotationFactory.create( descriptor ) );
+		return constraint;
+	}
+}
@@ -0,0 +1,441 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.test.internal.engine;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.validation.Constraint;
+import javax.validation.ConstraintValidatorContext;
+import javax.validation.ConstraintViolation;
+import javax.validation.GroupSequence;
+import javax.validation.MessageInterpolator;
+import javax.validation.Payload;
+import javax.validation.Valid;
+import javax.validation.Validator;
+import javax.validation.constraints.NotNull;
+import javax.validation.groups.Default;
+
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import org.hibernate.validator.AsyncValidator;
+import org.hibernate.validator.HibernateValidatorConfiguration;
+import org.hibernate.validator.constraintvalidation.AsyncConstraintValidator;
+import org.hibernate.validator.testutils.ValidatorUtil;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+import static org.hibernate.validator.testutil.ConstraintViolationAssert.assertCorrectConstraintTypes;
+import static org.hibernate.validator.testutil.ConstraintViolationAssert.assertCorrectConstraintViolationMessages;
+import static org.hibernate.validator.testutil.ConstraintViolationAssert.assertCorrectPropertyPaths;
+import static org.testng.Assert.assertEquals;
+
+/**
+ * Tests for {@link AsyncValidator} and {@link AsyncConstraintValidator}, using an in-process stand-in for a reference
+ * data store.
+ *
+ * @author agent
+ */
+public class AsyncValidatorTest {
+
+	private static ReferenceStore referenceStore;
+
+	private Validator validator;
+	private AsyncValidator asyncValidator;
+	private ExecutorService executor;
+
+	@BeforeClass
+	public void setUp() {
+		validator = ValidatorUtil.getValidator();
+		asyncValidator = validator.unwrap( AsyncValidator.class );
+		executor = Executors.newFixedThreadPool( 2 );
+	}
+
+	@AfterClass
+	public void tearDown() {
+		executor.shutdown();
+		referenceStore.shutdown();
+	}
+
+	@BeforeMethod
+	public void setUpReferenceStore() {
+		if ( referenceStore != null ) {
+			referenceStore.shutdown();
+		}
+		referenceStore = new ReferenceStore( 0, "DE", "FR", "EUR" );
+	}
+
+	@Test
+	public void testAsyncValidatorsAreEvaluatedConcurrently() throws Exception {
+		// the store answers only once both look-ups have been started
+		referenceStore.shutdown();
+		referenceStore = new ReferenceStore( 2, "DE", "FR", "EUR" );
+
+		Set<ConstraintViolation<Invoice>> violations = asyncValidator.validateAsync(
+				new Invoice( "DE", "USD", "Bob" ),
+				executor,
+				16
+		).get( 10, TimeUnit.SECONDS );
+
+		assertCorrectPropertyPaths( violations, "currency" );
+		assertEquals( referenceStore.lookups().size(), 2 );
+	}
+
+	@Test
+	public void testPendingChecksAreBounded() throws Exception {
+		Set<ConstraintViolation<Invoice>> violations = asyncValidator.validateAsync(
+				new Invoice( "XX", "USD", null ),
+				executor,
+				1
+		).get( 10, TimeUnit.SECONDS );
+
+		assertCorrectPropertyPaths( violations, "country", "currency", "customer" );
+	}
+
+	@Test
+	public void testGroupSequenceStopsAfterGroupWithFailingAsyncCheck() throws Exception {
+		Set<ConstraintViolation<SequencedInvoice>> violations = asyncValidator.validateAsync(
+				new SequencedInvoice( "XX", null ),
+				executor,
+				16
+		).get( 10, TimeUnit.SECONDS );
+
+		assertCorrectConstraintTypes( violations, KnownReference.class );
+		assertCorrectPropertyPaths( violations, "country" );
+	}
+
+	@Test
+	public void testFailingAsyncCheckOfOtherBeanDoesNotStopDefaultGroupSequence() throws Exception {
+		Shipment shipment = new Shipment( "XX", new SequencedInvoice( "DE", null ) );
+
+		Set<ConstraintViolation<Shipment>> violations = asyncValidator.validateAsync(
+				shipment,
+				executor,
+				16
+		).get( 10, TimeUnit.SECONDS );
+
+		assertCorrectPropertyPaths( violations, "destination", "invoice.customer" );
+		assertCorrectPropertyPaths( validator.validate( shipment ), "destination", "invoice.customer" );
+	}
+
+	@Test
+	public void testFailingAsyncCheckOfEarlierGroupDoesNotStopSequence() throws Exception {
+		OrderedInvoice invoice = new OrderedInvoice( "XX", "Bob", null );
+
+		Set<ConstraintViolation<OrderedInvoice>> violations = asyncValidator.validateAsync(
+				invoice,
+				executor,
+				16,
+				Default.class,
+				ThirdThenSecond.class
+		).get( 10, TimeUnit.SECONDS );
+
+		assertCorrectPropertyPaths( violations, "country", "customer" );
+		assertCorrectPropertyPaths(
+				validator.validate( invoice, Default.class, ThirdThenSecond.class ),
+				"country",
+				"customer"
+		);
+	}
+
+	@Test
+	public void testAsyncValidatorIsAwaitedInSynchronousValidation() {
+		Set<ConstraintViolation<Invoice>> violations = validator.validate( new Invoice( "XX", "EUR", "Bob" ) );
+
+		assertCorrectPropertyPaths( violations, "country" );
+	}
+
+	@Test
+	public void testMessagesAreOnlyInterpolatedForFailedAsyncChecks() throws Exception {
+		HibernateValidatorConfiguration configuration = ValidatorUtil.getConfiguration();
+		CountingMessageInterpolator messageInterpolator = new CountingMessageInterpolator(
+				configuration.getDefaultMessageInterpolator()
+		);
+		AsyncValidator countingAsyncValidator = configuration.messageInterpolator( messageInterpolator )
+				.buildValidatorFactory()
+				.getValidator()
+				.unwrap( AsyncValidator.class );
+
+		Set<ConstraintViolation<Invoice>> violations = countingAsyncValidator.validateAsync(
+				new Invoice( "DE", "EUR", "Bob" ),
+				executor,
+				16
+		).get( 10, TimeUnit.SECONDS );
+
+		assertCorrectPropertyPaths( violations );
+		assertEquals( messageInterpolator.interpolations.get(), 0 );
+
+		violations = countingAsyncValidator.validateAsync(
+				new Invoice( "XX", "EUR", "Bob" ),
+				executor,
+				16
+		).get( 10, TimeUnit.SECONDS );
+
+		assertCorrectPropertyPaths( violations, "country" );
+		assertEquals( messageInterpolator.interpolations.get(), 1 );
+	}
+
+	@Test
+	public void testViolationCanBeCustomizedUntilAsyncCheckCompletes() throws Exception {
+		Set<ConstraintViolation<DetailedInvoice>> violations = asyncValidator.validateAsync(
+				new DetailedInvoice( "XX" ),
+				executor,
+				16
+		).get( 10, TimeUnit.SECONDS );
+
+		assertCorrectPropertyPaths( violations, "country" );
+		assertCorrectConstraintViolationMessages( violations, "unknown reference XX" );
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void testMaxPendingChecksMustBePositive() {
+		asyncValidator.validateAsync( new Invoice( "DE", "EUR", "Bob" ), executor, 0 );
+	}
+
+	private static class Invoice {
+
+		@KnownReference
+		private final String country;
+
+		@KnownReference
+		private final String currency;
+
+		@NotNull
+		private final String customer;
+
+		private Invoice(String country, String currency, String customer) {
+			this.country = country;
+			this.currency = currency;
+			this.customer = customer;
+		}
+	}
+
+	@GroupSequence({ SequencedInvoice.class, Second.class })
+	private static class SequencedInvoice {
+
+		@KnownReference
+		private final String country;
+
+		@NotNull(groups = Second.class)
+		private final String customer;
+
+		private SequencedInvoice(String country, String customer) {
+			this.country = country;
+			this.customer = customer;
+		}
+	}
+
+	private interface Second {
+	}
+
+	private interface Third {
+	}
+
+	@GroupSequence({ Third.class, Second.class })
+	private interface ThirdThenSecond {
+	}
+
+	private static class Shipment {
+
+		@KnownReference
+		private final String destination;
+
+		@Valid
+		private final SequencedInvoice invoice;
+
+		private Shipment(String destination, SequencedInvoice invoice) {
+			this.destination = destination;
+			this.invoice = invoice;
+		}
+	}
+
+	private static class OrderedInvoice {
+
+		@KnownReference
+		private final String country;
+
+		@NotNull(groups = Third.class)
+		private final String accountant;
+
+		@NotNull(groups = Second.class)
+		private final String customer;
+
+		private OrderedInvoice(String country, String accountant, String customer) {
+			this.country = country;
+			this.accountant = accountant;
+			this.customer = customer;
+		}
+	}
+
+	private static class DetailedInvoice {
+
+		@DetailedKnownReference
+		private final String country;
+
+		private DetailedInvoice(String country) {
+			this.country = country;
+		}
+	}
+
+	@Documented
+	@Constraint(validatedBy = KnownReferenceValidator.class)
+	@Target({ FIELD })
+	@Retention(RUNTIME)
+	public @interface KnownReference {
+		String message() default "unknown reference";
+
+		Class<?>[] groups() default { };
+
+		Class<? extends Payload>[] payload() default { };
+	}
+
+	public static class KnownReferenceValidator implements AsyncConstraintValidator<KnownReference, String> {
+
+		@Override
+		public void initialize(KnownReference constraintAnnotation) {
+		}
+
+		@Override
+		public Future<Boolean> isValidAsync(String value, ConstraintValidatorContext context) {
+			return referenceStore.contains( value );
+		}
+
+		@Override
+		public boolean isValid(String value, ConstraintValidatorContext context) {
+			throw new UnsupportedOperationException( "Not invoked for asynchronous validators" );
+		}
+	}
+
+	@Documented
+	@Constraint(validatedBy = DetailedKnownReferenceValidator.class)
+	@Target({ FIELD })
+	@Retention(RUNTIME)
+	public @interface DetailedKnownReference {
+		String message() default "unknown reference";
+
+		Class<?>[] groups() default { };
+
+		Class<? extends Payload>[] payload() default { };
+	}
+
+	/**
+	 * Describes an unknown reference in the violation message, once the look-up has completed.
+	 */
+	public static class DetailedKnownReferenceValidator implements AsyncConstraintValidator<DetailedKnownReference, String> {
+
+		@Override
+		public void initialize(DetailedKnownReference constraintAnnotation) {
+		}
+
+		@Override
+		public Future<Boolean> isValidAsync(final String value, final ConstraintValidatorContext context) {
+			final Future<Boolean> lookup = referenceStore.contains( value );
+
+			return referenceStore.submit(
+					new Callable<Boolean>() {
+						@Override
+						public Boolean call() throws Exception {
+							boolean known = lookup.get();
+							if ( !known ) {
+								context.disableDefaultConstraintViolation();
+								context.buildConstraintViolationWithTemplate( "unknown reference " + value )
+										.addConstraintViolation();
+							}
+							return known;
+						}
+					}
+			);
+		}
+
+		@Override
+		public boolean isValid(String value, ConstraintValidatorContext context) {
+			throw new UnsupportedOperationException( "Not invoked for asynchronous validators" );
+		}
+	}
+
+	private static class CountingMessageInterpolator implements MessageInterpolator {
+
+		private final MessageInterpolator delegate;
+		private final AtomicInteger interpolations = new AtomicInteger();
+
+		private CountingMessageInterpolator(MessageInterpolator delegate) {
+			this.delegate = delegate;
+		}
+
+		@Override
+		public String interpolate(String messageTemplate, Context context) {
+			interpolations.incrementAndGet();
+			return delegate.interpolate( messageTemplate, context );
+		}
+
+		@Override
+		public String interpolate(String messageTemplate, Context context, Locale locale) {
+			interpolations.incrementAndGet();
+			return delegate.interpolate( messageTemplate, context, locale );
+		}
+	}
+
+	/**
+	 * Answers look-ups on a separate thread; optionally only once a given number of look-ups have been started.
+	 */
+	private static class ReferenceStore {
+
+		private final Set<String> references;
+		private final CountDownLatch startedLookups;
+		private final Set<String> lookups = new HashSet<String>();
+		private final ExecutorService executor = Executors.newCachedThreadPool();
+
+		private ReferenceStore(int awaitedLookups, String... references) {
+			this.references = new HashSet<String>( Arrays.asList( references ) );
+			this.startedLookups = new CountDownLatch( awaitedLookups );
+		}
+
+		private Future<Boolean> contains(final String reference) {
+			synchronized ( lookups ) {
+				lookups.add( reference );
+			}
+
+			return executor.submit(
+					new Callable<Boolean>() {
+						@Override
+						public Boolean call() throws Exception {
+							startedLookups.countDown();
+							return startedLookups.await( 5, TimeUnit.SECONDS ) && references.contains( reference );
+						}
+					}
+			);
+		}
+
+		private <V> Future<V> submit(Callable<V> task) {
+			return executor.submit( task );
+		}
+
+		private Set<String> lookups() {
+			synchronized ( lookups ) {
+				return new HashSet<String>( lookups );
+			}
+		}
+
+		private void shutdown() {
+			executor.shutdown();
+		}
+	}
+}
@@ -0,0 +1,134 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.test.internal.engine;
+
+import java.util.Set;
+import javax.validation.ConstraintViolation;
+import javax.validation.ValidatorFactory;
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotNull;
+import javax.validation.groups.Default;
+
+import org.testng.annotations.Test;
+
+import org.hibernate.validator.BootstrapSnapshot;
+import org.hibernate.validator.HibernateValidatorConfiguration;
+import org.hibernate.validator.cfg.ConstraintMapping;
+import org.hibernate.validator.cfg.defs.MinDef;
+import org.hibernate.validator.test.internal.xml.Customer;
+import org.hibernate.validator.test.internal.xml.XmlMappingTest;
+import org.hibernate.validator.testutils.ValidatorUtil;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static org.hibernate.validator.testutil.ConstraintViolationAssert.assertCorrectConstraintTypes;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertSame;
+
+/**
+ * Tests for {@link BootstrapSnapshot}.
+ *
+ * @author agent
+ */
+public class BootstrapSnapshotTest {
+
+	@Test
+	public void testFactoriesBuiltFromSnapshotApplyConfiguration() {
+		HibernateValidatorConfiguration configuration = ValidatorUtil.getConfiguration();
+		ConstraintMapping mapping = configuration.createConstraintMapping();
+		mapping.type( Order.class )
+				.property( "quantity", FIELD )
+				.constraint( new MinDef().value( 10 ) );
+
+		BootstrapSnapshot snapshot = configuration.addMapping( mapping )
+				.failFast( true )
+				.buildBootstrapSnapshot();
+
+		for ( int i = 0; i < 3; i++ ) {
+			ValidatorFactory factory = snapshot.buildValidatorFactory();
+
+			Set<ConstraintViolation<Order>> violations = factory.getValidator().validate( new Order( 5, "Bob" ) );
+			assertCorrectConstraintTypes( violations, Min.class );
+
+			// fail fast, so only one of the two violated constraints is reported
+			violations = factory.getValidator().validate( new Order( null, null ) );
+			assertEquals( violations.size(), 1 );
+
+			factory.close();
+		}
+	}
+
+	@Test
+	public void testXmlMappingIsProcessedOnlyOnce() {
+		BootstrapSnapshot snapshot = ValidatorUtil.getConfiguration()
+				.addMapping( XmlMappingTest.class.getResourceAsStream( "mapping.xml" ) )
+				.buildBootstrapSnapshot();
+
+		for ( int i = 0; i < 3; i++ ) {
+			Set<ConstraintViolation<Customer>> violations = snapshot.buildValidatorFactory()
+					.getValidator()
+					.validate( new Customer(), Default.class );
+
+			assertEquals( violations.size(), 1 );
+		}
+	}
+
+	@Test
+	public void testFactoriesHaveOwnMetaDataByDefault() {
+		BootstrapSnapshot snapshot = ValidatorUtil.getConfiguration().buildBootstrapSnapshot();
+
+		assertNotSame(
+				snapshot.buildValidatorFactory().getValidator().getConstraintsForClass( Order.class ),
+				snapshot.buildValidatorFactory().getValidator().getConstraintsForClass( Order.class )
+		);
+	}
+
+	@Test
+	public void testFactoriesCanShareMetaData() {
+		BootstrapSnapshot snapshot = ValidatorUtil.getConfiguration().buildBootstrapSnapshot();
+
+		ValidatorFactory factory1 = snapshot.buildValidatorFactoryWithSharedMetaData();
+		ValidatorFactory factory2 = snapshot.buildValidatorFactoryWithSharedMetaData();
+
+		Object descriptor = factory1.getValidator().getConstraintsForClass( Order.class );
+		assertSame( factory2.getValidator().getConstraintsForClass( Order.class ), descriptor );
+
+		// closing a factory doesn't discard the shared meta data
+		factory1.close();
+		assertSame( factory2.getValidator().getConstraintsForClass( Order.class ), descriptor );
+
+		assertNotSame( snapshot.buildValidatorFactory().getValidator().getConstraintsForClass( Order.class ), descriptor );
+	}
+
+	@Test
+	public void testClosingFactoryDoesNotAffectOtherFactoriesOfSnapshot() {
+		BootstrapSnapshot snapshot = ValidatorUtil.getConfiguration().buildBootstrapSnapshot();
+
+		ValidatorFactory factory1 = snapshot.buildValidatorFactory();
+		ValidatorFactory factory2 = snapshot.buildValidatorFactory();
+
+		factory1.getValidator().validate( new Order( null, "Bob" ) );
+		factory1.close();
+
+		Set<ConstraintViolation<Order>> violations = factory2.getValidator().validate( new Order( null, "Bob" ) );
+		assertCorrectConstraintTypes( violations, NotNull.class );
+	}
+
+	private static class Order {
+
+		@NotNull
+		private final Integer quantity;
+
+		@NotNull
+		private final String customer;
+
+		private Order(Integer quantity, String customer) {
+			this.quantity = quantity;
+			this.customer = customer;
+		}
+	}
+}
@@ -6,11 +6,18 @@
  */
 package org.hibernate.validator.test.internal.engine;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Set;
 import javax.validation.ConstraintViolation;
+import javax.validation.Valid;
 import javax.validation.Validation;
 import javax.validation.Validator;
 import javax.validation.constraints.DecimalMin;
+import javax.validation.constraints.NotNull;
 import javax.validation.constraints.Size;
 
 import org.testng.annotations.BeforeMethod;
@@ -19,6 +26,8 @@
 import org.hibernate.validator.testutil.TestForIssue;
 
 import static org.hibernate.validator.testutil.ConstraintViolationAssert.assertCorrectConstraintTypes;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
 
 /**
  * Test related to the identity of {@link org.hibernate.validator.internal.engine.ConstraintViolationImpl}s.
@@ -42,9 +51,123 @@ public void testTwoViolationsForDifferentConstraintsAreNotEqual() {
 		assertCorrectConstraintTypes( violations, Size.class, DecimalMin.class );
 	}
 
+	@Test
+	public void testViolationsForDifferentValuesAreNotEqual() {
+		Bar bar = new Bar();
+
+		bar.name = "1";
+		ConstraintViolation<Bar> violation1 = validator.validate( bar ).iterator().next();
+
+		bar.name = "0";
+		ConstraintViolation<Bar> violation2 = validator.validate( bar ).iterator().next();
+
+		assertFalse( violation1.equals( violation2 ) );
+	}
+
+	@Test
+	public void testViolationsForSameBeanAndValueAreEqual() {
+		Foo foo = new Foo();
+
+		Set<ConstraintViolation<Foo>> violations = validator.validate( foo );
+		Set<ConstraintViolation<Foo>> violationsOfSecondRun = validator.validate( foo );
+
+		assertEquals( violations, violationsOfSecondRun );
+	}
+
+	@Test
+	public void testViolationsOfSetElementsSharingTheirPathAreDistinct() {
+		Cart cart = new Cart();
+		for ( int i = 0; i < 100; i++ ) {
+			cart.items.add( new Item() );
+		}
+
+		Set<ConstraintViolation<Cart>> violations = validator.validate( cart );
+		assertEquals( violations.size(), 100 );
+
+		Set<Integer> hashCodes = new HashSet<Integer>();
+		for ( ConstraintViolation<Cart> violation : violations ) {
+			hashCodes.add( violation.hashCode() );
+		}
+		assertEquals( hashCodes.size(), 100 );
+	}
+
+	@Test
+	public void testViolationsOfEqualSetElementsAreEqual() {
+		Shelf shelf = new Shelf();
+
+		shelf.labels = Collections.singleton( new Label( "x" ) );
+		ConstraintViolation<Shelf> violation1 = validator.validate( shelf ).iterator().next();
+
+		shelf.labels = Collections.singleton( new Label( "x" ) );
+		ConstraintViolation<Shelf> violation2 = validator.validate( shelf ).iterator().next();
+
+		assertEquals( violation1, violation2 );
+		assertEquals( violation1.hashCode(), violation2.hashCode() );
+	}
+
+	@Test
+	public void testViolationsAreReportedInOrderOfDetection() {
+		Order order = new Order( new Item(), new Item(), new Item() );
+
+		Iterator<ConstraintViolation<Order>> violations = validator.validate( order ).iterator();
+
+		assertEquals( violations.next().getPropertyPath().toString(), "items[0].name" );
+		assertEquals( violations.next().getPropertyPath().toString(), "items[1].name" );
+		assertEquals( violations.next().getPropertyPath().toString(), "items[2].name" );
+		assertFalse( violations.hasNext() );
+	}
+
 	private static class Foo {
 		@Size(min = 2, message = "must be 2 at least")
 		@DecimalMin(value = "2", message = "must be 2 at least")
 		String name = "1";
 	}
+
+	private static class Bar {
+		@Size(min = 2)
+		String name;
+	}
+
+	private static class Item {
+		@NotNull
+		String name;
+	}
+
+	private static class Cart {
+		@Valid
+		Set<Item> items = new HashSet<Item>();
+	}
+
+	private static class Label {
+		@Size(min = 2)
+		final String name;
+
+		Label(String name) {
+			this.name = name;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			return o instanceof Label && name.equals( ( (Label) o ).name );
+		}
+
+		@Override
+		public int hashCode() {
+			return name.hashCode();
+		}
+	}
+
+	private static class Shelf {
+		@Valid
+		Set<Label> labels;
+	}
+
+	private static class Order {
+		@Valid
+		List<Item> items;
+
+		Order(Item... items) {
+			this.items = Arrays.asList( items );
+		}
+	}
 }
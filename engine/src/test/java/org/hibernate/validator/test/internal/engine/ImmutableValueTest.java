@@ -0,0 +1,276 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.test.internal.engine;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.validation.Constraint;
+import javax.validation.ConstraintValidator;
+import javax.validation.ConstraintValidatorContext;
+import javax.validation.ConstraintViolation;
+import javax.validation.Payload;
+import javax.validation.Valid;
+import javax.validation.Validator;
+import javax.validation.ValidatorFactory;
+import javax.validation.constraints.NotNull;
+import javax.validation.groups.ConvertGroup;
+import javax.validation.groups.Default;
+
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import org.hibernate.validator.cascade.ImmutableValue;
+import org.hibernate.validator.messageinterpolation.ParameterMessageInterpolator;
+import org.hibernate.validator.testutils.ValidatorUtil;
+import org.hibernate.validator.traversableresolver.TraverseAllTraversableResolver;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+import static org.hibernate.validator.testutil.ConstraintViolationAssert.assertCorrectConstraintTypes;
+import static org.hibernate.validator.testutil.ConstraintViolationAssert.assertCorrectPropertyPaths;
+import static org.hibernate.validator.testutil.ConstraintViolationAssert.assertNumberOfViolations;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertSame;
+
+/**
+ * Tests for the memoization of validation results of types annotated with {@link ImmutableValue}.
+ *
+ * @author agent
+ */
+public class ImmutableValueTest {
+
+	private ValidatorFactory validatorFactory;
+	private Validator validator;
+
+	@BeforeMethod
+	public void setUp() {
+		validatorFactory = ValidatorUtil.getConfiguration()
+				.traversableResolver( new TraverseAllTraversableResolver() )
+				.buildValidatorFactory();
+		validator = validatorFactory.getValidator();
+		CurrencyCodeValidator.invocations.set( 0 );
+	}
+
+	@Test
+	public void testResultIsReusedForOtherRootBeans() {
+		Currency currency = new Currency( "EURO" );
+
+		Product first = new Product( "Pen", currency );
+		Set<ConstraintViolation<Product>> violations = validator.validate( first );
+		assertCorrectConstraintTypes( violations, CurrencyCode.class );
+		assertCorrectPropertyPaths( violations, "currency.code" );
+
+		Product second = new Product( "Paper", currency );
+		violations = validator.validate( second );
+		assertCorrectConstraintTypes( violations, CurrencyCode.class );
+		assertCorrectPropertyPaths( violations, "currency.code" );
+
+		ConstraintViolation<Product> violation = violations.iterator().next();
+		assertSame( violation.getRootBean(), second );
+		assertSame( violation.getLeafBean(), currency );
+		assertEquals( violation.getInvalidValue(), "EURO" );
+
+		assertEquals( CurrencyCodeValidator.invocations.get(), 1 );
+	}
+
+	@Test
+	public void testViolationsAreReRootedOntoCurrentPath() {
+		Currency currency = new Currency( "EURO" );
+
+		Set<ConstraintViolation<Order>> violations = validator.validate(
+				new Order(
+						currency,
+						new Product( "Pen", currency ),
+						new Product( null, currency )
+				)
+		);
+
+		assertCorrectPropertyPaths(
+				violations,
+				"currency.code",
+				"items[0].currency.code",
+				"items[1].currency.code",
+				"items[1].name"
+		);
+		assertEquals( CurrencyCodeValidator.invocations.get(), 1 );
+	}
+
+	@Test
+	public void testValidResultIsReused() {
+		Currency currency = new Currency( "EUR" );
+
+		assertNumberOfViolations( validator.validate( new Product( "Pen", currency ) ), 0 );
+		assertNumberOfViolations( validator.validate( new Product( "Paper", currency ) ), 0 );
+
+		assertEquals( CurrencyCodeValidator.invocations.get(), 1 );
+	}
+
+	@Test
+	public void testResultIsNotReusedForConvertedGroup() {
+		Currency currency = new Currency( "EURO" );
+
+		validator.validate( new Product( "Pen", currency ) );
+		Set<ConstraintViolation<Invoice>> violations = validator.validate( new Invoice( currency ) );
+
+		assertCorrectPropertyPaths( violations, "currency.code" );
+		assertEquals( CurrencyCodeValidator.invocations.get(), 2 );
+	}
+
+	@Test
+	public void testResultIsNotReusedByValidatorWithOtherConfiguration() {
+		Currency currency = new Currency( "EURO" );
+		Validator otherValidator = validatorFactory.usingContext()
+				.messageInterpolator( new ParameterMessageInterpolator() )
+				.getValidator();
+
+		validator.validate( new Product( "Pen", currency ) );
+		Set<ConstraintViolation<Product>> violations = otherValidator.validate( new Product( "Paper", currency ) );
+
+		assertCorrectPropertyPaths( violations, "currency.code" );
+		assertEquals( CurrencyCodeValidator.invocations.get(), 2 );
+	}
+
+	@Test
+	public void testResultIsNotReusedByOtherValidatorFactory() {
+		Currency currency = new Currency( "EURO" );
+		Validator otherValidator = ValidatorUtil.getConfiguration()
+				.traversableResolver( new TraverseAllTraversableResolver() )
+				.buildValidatorFactory()
+				.getValidator();
+
+		validator.validate( new Product( "Pen", currency ) );
+		otherValidator.validate( new Product( "Paper", currency ) );
+
+		assertEquals( CurrencyCodeValidator.invocations.get(), 2 );
+	}
+
+	@Test
+	public void testCyclicGraphOfImmutableValues() {
+		Unit first = new Unit( null );
+		Unit second = new Unit( "m" );
+		first.next = second;
+		second.next = first;
+
+		Set<ConstraintViolation<Measurement>> violations = validator.validate( new Measurement( first ) );
+		assertCorrectPropertyPaths( violations, "unit.name" );
+
+		violations = validator.validate( new Measurement( second ) );
+		assertCorrectPropertyPaths( violations, "unit.next.name" );
+
+		violations = validator.validate( new Measurement( first ) );
+		assertCorrectPropertyPaths( violations, "unit.name" );
+	}
+
+	private interface Billing {
+	}
+
+	@ImmutableValue
+	private static class Currency {
+
+		@CurrencyCode(groups = { Default.class, Billing.class })
+		private final String code;
+
+		private Currency(String code) {
+			this.code = code;
+		}
+	}
+
+	@ImmutableValue
+	private static class Unit {
+
+		@NotNull
+		private final String name;
+
+		@Valid
+		private Unit next;
+
+		private Unit(String name) {
+			this.name = name;
+		}
+	}
+
+	private static class Measurement {
+
+		@Valid
+		private final Unit unit;
+
+		private Measurement(Unit unit) {
+			this.unit = unit;
+		}
+	}
+
+	private static class Product {
+
+		@NotNull
+		private final String name;
+
+		@Valid
+		private final Currency currency;
+
+		private Product(String name, Currency currency) {
+			this.name = name;
+			this.currency = currency;
+		}
+	}
+
+	private static class Order {
+
+		@Valid
+		private final Currency currency;
+
+		@Valid
+		private final List<Product> items;
+
+		private Order(Currency currency, Product... items) {
+			this.currency = currency;
+			this.items = Arrays.asList( items );
+		}
+	}
+
+	private static class Invoice {
+
+		@Valid
+		@ConvertGroup(from = Default.class, to = Billing.class)
+		private final Currency currency;
+
+		private Invoice(Currency currency) {
+			this.currency = currency;
+		}
+	}
+
+	@Documented
+	@Constraint(validatedBy = CurrencyCodeValidator.class)
+	@Target({ FIELD })
+	@Retention(RUNTIME)
+	public @interface CurrencyCode {
+		String message() default "invalid currency code";
+
+		Class<?>[] groups() default { };
+
+		Class<? extends Payload>[] payload() default { };
+	}
+
+	public static class CurrencyCodeValidator implements ConstraintValidator<CurrencyCode, String> {
+
+		private static final AtomicInteger invocations = new AtomicInteger();
+
+		@Override
+		public void initialize(CurrencyCode constraintAnnotation) {
+		}
+
+		@Override
+		public boolean isValid(String value, ConstraintValidatorContext context) {
+			invocations.incrementAndGet();
+			return value == null || value.length() == 3;
+		}
+	}
+}
@@ -0,0 +1,236 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.test.internal.engine;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import javax.validation.Constraint;
+import javax.validation.ConstraintValidator;
+import javax.validation.ConstraintValidatorContext;
+import javax.validation.ConstraintViolation;
+import javax.validation.Payload;
+import javax.validation.Valid;
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Size;
+
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import org.hibernate.validator.IncrementalValidator;
+import org.hibernate.validator.constraintvalidation.ReadsProperties;
+import org.hibernate.validator.testutils.ValidatorUtil;
+
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+import static org.hibernate.validator.testutil.ConstraintViolationAssert.assertCorrectPropertyPaths;
+import static org.hibernate.validator.testutil.ConstraintViolationAssert.assertNumberOfViolations;
+
+/**
+ * Tests for {@link IncrementalValidator}.
+ *
+ * @author agent
+ */
+public class IncrementalValidatorTest {
+
+	private IncrementalValidator validator;
+
+	@BeforeClass
+	public void setUp() {
+		validator = ValidatorUtil.getValidator().unwrap( IncrementalValidator.class );
+	}
+
+	@Test
+	public void testOnlyConstraintsOfChangedPropertiesAreValidated() {
+		Booking booking = new Booking( null, 0, 2, new Guest( null, "" ) );
+
+		Set<ConstraintViolation<Booking>> violations = validator.validateChangedProperties(
+				booking,
+				paths( "number" )
+		);
+		assertCorrectPropertyPaths( violations, "number", "" );
+
+		violations = validator.validateChangedProperties( booking, paths( "number", "nights" ) );
+		assertCorrectPropertyPaths( violations, "number", "nights", "" );
+	}
+
+	@Test
+	public void testClassLevelConstraintReadingChangedPropertyIsValidated() {
+		Booking booking = new Booking( "B-1", 1, 2, new Guest( "Bob", "bob@example.com" ) );
+		booking.checkIn = 3;
+
+		Set<ConstraintViolation<Booking>> violations = validator.validateChangedProperties(
+				booking,
+				paths( "checkIn" )
+		);
+		assertCorrectPropertyPaths( violations, "", "" );
+
+		violations = validator.validateChangedProperties( booking, paths( "number" ) );
+		assertCorrectPropertyPaths( violations, "" );
+	}
+
+	@Test
+	public void testChangedCascadedBeanIsValidatedEntirely() {
+		Booking booking = new Booking( "B-1", 1, 2, new Guest( null, "" ) );
+
+		Set<ConstraintViolation<Booking>> violations = validator.validateChangedProperties(
+				booking,
+				paths( "guest" )
+		);
+		assertCorrectPropertyPaths( violations, "guest.name", "guest.email", "" );
+	}
+
+	@Test
+	public void testOnlyChangedNestedPropertiesOfCascadedBeanAreValidated() {
+		Booking booking = new Booking( "B-1", 1, 2, new Guest( null, "" ) );
+
+		Set<ConstraintViolation<Booking>> violations = validator.validateChangedProperties(
+				booking,
+				paths( "guest.email" )
+		);
+		assertCorrectPropertyPaths( violations, "guest.email", "" );
+	}
+
+	@Test
+	public void testBeanValidatedPartiallyIsValidatedEntirelyWhenReferencedByChangedProperty() {
+		Guest guest = new Guest( null, "" );
+		Booking booking = new Booking( null, 0, 2, guest );
+		guest.booking = booking;
+
+		Set<ConstraintViolation<Booking>> violations = validator.validateChangedProperties(
+				booking,
+				paths( "number", "guest.booking" )
+		);
+		assertCorrectPropertyPaths(
+				violations,
+				"number",
+				"",
+				"guest.booking.number",
+				"guest.booking.nights",
+				"guest.booking",
+				"guest.booking.guest.name",
+				"guest.booking.guest.email"
+		);
+	}
+
+	@Test
+	public void testNoConstraintsAreValidatedWithoutChangedProperties() {
+		Booking booking = new Booking( null, 0, 2, new Guest( null, "" ) );
+
+		Set<ConstraintViolation<Booking>> violations = validator.validateChangedProperties(
+				booking,
+				Collections.<String>emptySet()
+		);
+		assertNumberOfViolations( violations, 0 );
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void testInvalidPathIsRejected() {
+		validator.validateChangedProperties( new Booking( "B-1", 1, 2, null ), paths( "guest..name" ) );
+	}
+
+	private Set<String> paths(String... paths) {
+		return new HashSet<String>( Arrays.asList( paths ) );
+	}
+
+	@ValidStay
+	@AlwaysInvalid
+	private static class Booking {
+
+		@NotNull
+		private String number;
+
+		@Min(1)
+		private int nights;
+
+		private int checkIn;
+
+		private int checkOut;
+
+		@Valid
+		private Guest guest;
+
+		private Booking(String number, int nights, int checkIn, Guest guest) {
+			this.number = number;
+			this.nights = nights;
+			this.checkIn = checkIn;
+			this.checkOut = checkIn + 1;
+			this.guest = guest;
+		}
+	}
+
+	private static class Guest {
+
+		@NotNull
+		private final String name;
+
+		@Size(min = 3)
+		private final String email;
+
+		@Valid
+		private Booking booking;
+
+		private Guest(String name, String email) {
+			this.name = name;
+			this.email = email;
+		}
+	}
+
+	@Documented
+	@Constraint(validatedBy = ValidStayValidator.class)
+	@Target({ TYPE })
+	@Retention(RUNTIME)
+	public @interface ValidStay {
+		String message() default "check-out must be after check-in";
+
+		Class<?>[] groups() default { };
+
+		Class<? extends Payload>[] payload() default { };
+	}
+
+	@ReadsProperties({ "checkIn", "checkOut" })
+	public static class ValidStayValidator implements ConstraintValidator<ValidStay, Booking> {
+
+		@Override
+		public void initialize(ValidStay constraintAnnotation) {
+		}
+
+		@Override
+		public boolean isValid(Booking booking, ConstraintValidatorContext context) {
+			return booking.checkOut > booking.checkIn;
+		}
+	}
+
+	@Documented
+	@Constraint(validatedBy = AlwaysInvalidValidator.class)
+	@Target({ TYPE })
+	@Retention(RUNTIME)
+	public @interface AlwaysInvalid {
+		String message() default "always invalid";
+
+		Class<?>[] groups() default { };
+
+		Class<? extends Payload>[] payload() default { };
+	}
+
+	public static class AlwaysInvalidValidator implements ConstraintValidator<AlwaysInvalid, Object> {
+
+		@Override
+		public void initialize(AlwaysInvalid constraintAnnotation) {
+		}
+
+		@Override
+		public boolean isValid(Object value, ConstraintValidatorContext context) {
+			return false;
+		}
+	}
+}
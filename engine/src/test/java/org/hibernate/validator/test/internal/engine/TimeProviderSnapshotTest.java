@@ -0,0 +1,113 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.test.internal.engine;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.validation.Valid;
+import javax.validation.Validator;
+import javax.validation.constraints.Future;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Past;
+
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import org.hibernate.validator.spi.time.TimeProvider;
+
+import static org.hibernate.validator.testutil.ConstraintViolationAssert.assertCorrectPropertyPaths;
+import static org.hibernate.validator.testutil.ConstraintViolationAssert.assertNumberOfViolations;
+import static org.hibernate.validator.testutils.ValidatorUtil.getConfiguration;
+import static org.testng.Assert.assertEquals;
+
+/**
+ * Tests that the configured {@link TimeProvider} is asked for the current time once per validation call.
+ *
+ * @author agent
+ */
+public class TimeProviderSnapshotTest {
+
+	private static final long NOW = 1000000L;
+
+	private TickingTimeProvider timeProvider;
+	private Validator validator;
+
+	@BeforeClass
+	public void setUpValidator() {
+		timeProvider = new TickingTimeProvider();
+		validator = getConfiguration()
+				.timeProvider( timeProvider )
+				.buildValidatorFactory()
+				.getValidator();
+	}
+
+	@Test
+	public void testCurrentTimeIsObtainedOncePerValidationCall() {
+		int invocations = timeProvider.invocations.get();
+
+		Batch batch = new Batch();
+		for ( int i = 0; i < 100; i++ ) {
+			batch.events.add( new Event( new Date( NOW - 1 ), new Date( NOW + 50 ) ) );
+		}
+
+		// a provider ticking on each invocation would make the later events invalid
+		assertNumberOfViolations( validator.validate( batch ), 0 );
+		assertEquals( timeProvider.invocations.get() - invocations, 1 );
+
+		assertNumberOfViolations( validator.validate( batch ), 0 );
+		assertEquals( timeProvider.invocations.get() - invocations, 2 );
+	}
+
+	@Test
+	public void testCurrentTimeIsNotObtainedWithoutTemporalConstraints() {
+		int invocations = timeProvider.invocations.get();
+
+		assertCorrectPropertyPaths( validator.validate( new Customer() ), "name" );
+		assertEquals( timeProvider.invocations.get(), invocations );
+	}
+
+	/**
+	 * Returns a time later by one millisecond with each invocation, starting at {@link #NOW}.
+	 */
+	private static class TickingTimeProvider implements TimeProvider {
+
+		private final AtomicInteger invocations = new AtomicInteger();
+
+		@Override
+		public long getCurrentTime() {
+			return NOW + invocations.getAndIncrement();
+		}
+	}
+
+	private static class Batch {
+
+		@Valid
+		private final List<Event> events = new ArrayList<Event>();
+	}
+
+	private static class Event {
+
+		@Past
+		private final Date start;
+
+		@Future
+		private final Date end;
+
+		private Event(Date start, Date end) {
+			this.start = start;
+			this.end = end;
+		}
+	}
+
+	private static class Customer {
+
+		@NotNull
+		private String name;
+	}
+}
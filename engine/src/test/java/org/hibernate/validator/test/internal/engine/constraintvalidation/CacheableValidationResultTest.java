@@ -0,0 +1,261 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.test.internal.engine.constraintvalidation;
+
+import static org.hibernate.validator.testutil.ConstraintViolationAssert.assertCorrectConstraintViolationMessages;
+import static org.hibernate.validator.testutil.ConstraintViolationAssert.assertNumberOfViolations;
+import static org.hibernate.validator.testutils.ValidatorUtil.getConfiguration;
+import static org.hibernate.validator.testutils.ValidatorUtil.getValidator;
+import static org.testng.Assert.assertEquals;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.validation.Constraint;
+import javax.validation.ConstraintValidator;
+import javax.validation.ConstraintValidatorContext;
+import javax.validation.ConstraintViolation;
+import javax.validation.Payload;
+import javax.validation.Validator;
+import javax.validation.ValidatorFactory;
+
+import org.hibernate.validator.constraintvalidation.CacheableValidationResult;
+import org.hibernate.validator.constraintvalidation.ValidationResultCacheStatistics;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+/**
+ * Tests for constraint validators marked with {@link CacheableValidationResult}.
+ *
+ * @author agent
+ */
+public class CacheableValidationResultTest {
+
+	private Validator validator;
+
+	@BeforeMethod
+	public void setupValidator() {
+		validator = getValidator();
+		CountryCodeValidator.invocationCount.set( 0 );
+		CountryCodeWithCustomMessageValidator.invocationCount.set( 0 );
+		UncachedCountryCodeValidator.invocationCount.set( 0 );
+	}
+
+	@Test
+	public void testValidatorIsInvokedOncePerValue() {
+		for ( int i = 0; i < 10; i++ ) {
+			assertNumberOfViolations( validator.validate( new Address( "DE" ) ), 0 );
+			assertNumberOfViolations( validator.validate( new Address( "FR" ) ), 0 );
+		}
+
+		assertEquals( CountryCodeValidator.invocationCount.get(), 2 );
+	}
+
+	@Test
+	public void testCachedInvalidResultCreatesViolation() {
+		for ( int i = 0; i < 10; i++ ) {
+			Set<ConstraintViolation<Address>> violations = validator.validate( new Address( "XX" ) );
+			assertNumberOfViolations( violations, 1 );
+			assertCorrectConstraintViolationMessages( violations, "invalid country code" );
+		}
+
+		assertEquals( CountryCodeValidator.invocationCount.get(), 1 );
+	}
+
+	@Test
+	public void testInvalidResultWithCustomViolationIsNotCached() {
+		for ( int i = 0; i < 3; i++ ) {
+			Set<ConstraintViolation<Shipment>> violations = validator.validate( new Shipment( "XX" ) );
+			assertNumberOfViolations( violations, 1 );
+			assertCorrectConstraintViolationMessages( violations, "XX is not a country code" );
+		}
+
+		assertEquals( CountryCodeWithCustomMessageValidator.invocationCount.get(), 3 );
+
+		for ( int i = 0; i < 3; i++ ) {
+			assertNumberOfViolations( validator.validate( new Shipment( "DE" ) ), 0 );
+		}
+
+		assertEquals( CountryCodeWithCustomMessageValidator.invocationCount.get(), 4 );
+	}
+
+	@Test
+	public void testMutableValuesAreNotCached() {
+		for ( int i = 0; i < 3; i++ ) {
+			assertNumberOfViolations( validator.validate( new Address( new StringBuilder( "DE" ) ) ), 0 );
+		}
+
+		assertEquals( CountryCodeValidator.invocationCount.get(), 3 );
+	}
+
+	@Test
+	public void testValidatorWithoutPositiveMaxSizeIsNotCached() {
+		ValidatorFactory validatorFactory = getConfiguration().buildValidatorFactory();
+		Validator validator = validatorFactory.getValidator();
+		ValidationResultCacheStatistics statistics = validatorFactory.unwrap( ValidationResultCacheStatistics.class );
+
+		for ( int i = 0; i < 3; i++ ) {
+			assertNumberOfViolations( validator.validate( new Parcel( "DE" ) ), 0 );
+		}
+
+		assertEquals( UncachedCountryCodeValidator.invocationCount.get(), 3 );
+		assertEquals( statistics.getMissCount(), 0 );
+	}
+
+	@Test
+	public void testResultsAreNotSharedBetweenValidatorFactories() {
+		assertNumberOfViolations( validator.validate( new Address( "DE" ) ), 0 );
+		assertNumberOfViolations( getValidator().validate( new Address( "DE" ) ), 0 );
+
+		assertEquals( CountryCodeValidator.invocationCount.get(), 2 );
+	}
+
+	@Test
+	public void testStatisticsCanBeObtainedByUnwrappingValidatorFactory() {
+		ValidatorFactory validatorFactory = getConfiguration().buildValidatorFactory();
+		Validator validator = validatorFactory.getValidator();
+		ValidationResultCacheStatistics statistics = validatorFactory.unwrap( ValidationResultCacheStatistics.class );
+
+		assertEquals( statistics.getCachedResultCount(), 0 );
+
+		for ( int i = 0; i < 3; i++ ) {
+			assertNumberOfViolations( validator.validate( new Address( "DE" ) ), 0 );
+		}
+		assertNumberOfViolations( validator.validate( new Address( "XX" ) ), 1 );
+
+		assertEquals( statistics.getHitCount(), 2 );
+		assertEquals( statistics.getMissCount(), 2 );
+		assertEquals( statistics.getHitRate(), 0.5 );
+		assertEquals( statistics.getCachedResultCount(), 2 );
+	}
+
+	private static class Address {
+
+		@CountryCode
+		private final CharSequence countryCode;
+
+		private Address(CharSequence countryCode) {
+			this.countryCode = countryCode;
+		}
+	}
+
+	private static class Shipment {
+
+		@CountryCodeWithCustomMessage
+		private final String countryCode;
+
+		private Shipment(String countryCode) {
+			this.countryCode = countryCode;
+		}
+	}
+
+	private static class Parcel {
+
+		@UncachedCountryCode
+		private final String countryCode;
+
+		private Parcel(String countryCode) {
+			this.countryCode = countryCode;
+		}
+	}
+
+	@Target({ ElementType.FIELD })
+	@Retention(RetentionPolicy.RUNTIME)
+	@Constraint(validatedBy = CountryCodeValidator.class)
+	public @interface CountryCode {
+		String message() default "invalid country code";
+
+		Class<?>[] groups() default { };
+
+		Class<? extends Payload>[] payload() default { };
+	}
+
+	@Target({ ElementType.FIELD })
+	@Retention(RetentionPolicy.RUNTIME)
+	@Constraint(validatedBy = CountryCodeWithCustomMessageValidator.class)
+	public @interface CountryCodeWithCustomMessage {
+		String message() default "invalid country code";
+
+		Class<?>[] groups() default { };
+
+		Class<? extends Payload>[] payload() default { };
+	}
+
+	@Target({ ElementType.FIELD })
+	@Retention(RetentionPolicy.RUNTIME)
+	@Constraint(validatedBy = UncachedCountryCodeValidator.class)
+	public @interface UncachedCountryCode {
+		String message() default "invalid country code";
+
+		Class<?>[] groups() default { };
+
+		Class<? extends Payload>[] payload() default { };
+	}
+
+	@CacheableValidationResult
+	public static class CountryCodeValidator implements ConstraintValidator<CountryCode, CharSequence> {
+
+		private static final List<String> COUNTRY_CODES = Arrays.asList( "DE", "FR" );
+
+		private static final AtomicInteger invocationCount = new AtomicInteger();
+
+		@Override
+		public void initialize(CountryCode constraintAnnotation) {
+		}
+
+		@Override
+		public boolean isValid(CharSequence value, ConstraintValidatorContext context) {
+			invocationCount.incrementAndGet();
+			return value == null || COUNTRY_CODES.contains( value.toString() );
+		}
+	}
+
+	@CacheableValidationResult
+	public static class CountryCodeWithCustomMessageValidator implements ConstraintValidator<CountryCodeWithCustomMessage, String> {
+
+		private static final AtomicInteger invocationCount = new AtomicInteger();
+
+		@Override
+		public void initialize(CountryCodeWithCustomMessage constraintAnnotation) {
+		}
+
+		@Override
+		public boolean isValid(String value, ConstraintValidatorContext context) {
+			invocationCount.incrementAndGet();
+
+			if ( value == null || CountryCodeValidator.COUNTRY_CODES.contains( value ) ) {
+				return true;
+			}
+
+			context.disableDefaultConstraintViolation();
+			context.buildConstraintViolationWithTemplate( value + " is not a country code" ).addConstraintViolation();
+			return false;
+		}
+	}
+
+	@CacheableValidationResult(maxSize = 0)
+	public static class UncachedCountryCodeValidator implements ConstraintValidator<UncachedCountryCode, String> {
+
+		private static final AtomicInteger invocationCount = new AtomicInteger();
+
+		@Override
+		public void initialize(UncachedCountryCode constraintAnnotation) {
+		}
+
+		@Override
+		public boolean isValid(String value, ConstraintValidatorContext context) {
+			invocationCount.incrementAndGet();
+			return value == null || CountryCodeValidator.COUNTRY_CODES.contains( value );
+		}
+	}
+}
@@ -6,6 +6,8 @@
  */
 package org.hibernate.validator.test.internal.engine.constraintvalidation;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Set;
 import javax.validation.ConstraintValidator;
 import javax.validation.ConstraintValidatorFactory;
@@ -33,6 +35,7 @@
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertNotSame;
 import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
 import static org.testng.Assert.assertTrue;
 
 /**
@@ -166,21 +169,27 @@ public void testConstraintValidatorInstancesAreCachedPerFactory() {
 	}
 
 	@Test
-	public void testOnlyTheInstancesForTheLeastRecentlyUsedCustomFactoryAreCached() {
+	public void testOnlyTheInstancesForTheMostRecentlyUsedCustomFactoriesAreCached() {
 		ConstraintDescriptorImpl<?> constraintDescriptor = getConstraintDescriptorForProperty( "s1" );
 		ValueContext valueContext = ValueContext.getLocalExecutionContext( new Foo(), null, null );
 		valueContext.setDeclaredTypeOfValidatedElement( String.class );
 
-		for ( int i = 0; i < 10; i++ ) {
+		List<ConstraintValidatorFactory> factories = new ArrayList<ConstraintValidatorFactory>();
+
+		for ( int i = 0; i < 2 * ConstraintValidatorManager.DEFAULT_MAX_CACHED_NON_DEFAULT_FACTORIES; i++ ) {
+			ConstraintValidatorFactory factory = new MyCustomValidatorFactory();
+			factories.add( factory );
+
 			constraintValidatorManager.getInitializedValidator(
 					valueContext.getDeclaredTypeOfValidatedElement(),
 					constraintDescriptor,
-					new MyCustomValidatorFactory()
+					factory
 			);
 
 			assertEquals(
-					constraintValidatorManager.numberOfCachedConstraintValidatorInstances(), 1,
-					"There should be only one instance cached"
+					constraintValidatorManager.numberOfCachedConstraintValidatorInstances(),
+					Math.min( i + 1, ConstraintValidatorManager.DEFAULT_MAX_CACHED_NON_DEFAULT_FACTORIES ),
+					"Only the instances of the most recently used factories should be cached"
 			);
 		}
 
@@ -192,6 +201,86 @@ public void testOnlyTheInstancesForTheLeastRecentlyUsedCustomFactoryAreCached()
 		);
 	}
 
+	@Test
+	public void testInstancesAreKeptWhenAlternatingBetweenCustomFactories() {
+		ConstraintDescriptorImpl<?> constraintDescriptor = getConstraintDescriptorForProperty( "s1" );
+		ValueContext valueContext = ValueContext.getLocalExecutionContext( new Foo(), null, null );
+		valueContext.setDeclaredTypeOfValidatedElement( String.class );
+
+		ConstraintValidatorFactory factory1 = new MyCustomValidatorFactory();
+		ConstraintValidatorFactory factory2 = new MyCustomValidatorFactory();
+
+		ConstraintValidator<?, ?> constraintValidator1 = constraintValidatorManager.getInitializedValidator(
+				valueContext.getDeclaredTypeOfValidatedElement(),
+				constraintDescriptor,
+				factory1
+		);
+		ConstraintValidator<?, ?> constraintValidator2 = constraintValidatorManager.getInitializedValidator(
+				valueContext.getDeclaredTypeOfValidatedElement(),
+				constraintDescriptor,
+				factory2
+		);
+
+		for ( int i = 0; i < 5; i++ ) {
+			assertSame(
+					constraintValidatorManager.getInitializedValidator(
+							valueContext.getDeclaredTypeOfValidatedElement(),
+							constraintDescriptor,
+							factory1
+					),
+					constraintValidator1
+			);
+			assertSame(
+					constraintValidatorManager.getInitializedValidator(
+							valueContext.getDeclaredTypeOfValidatedElement(),
+							constraintDescriptor,
+							factory2
+					),
+					constraintValidator2
+			);
+		}
+	}
+
+	@Test
+	public void testLeastRecentlyUsedCustomFactoryIsEvicted() {
+		ConstraintDescriptorImpl<?> constraintDescriptor = getConstraintDescriptorForProperty( "s1" );
+		ValueContext valueContext = ValueContext.getLocalExecutionContext( new Foo(), null, null );
+		valueContext.setDeclaredTypeOfValidatedElement( String.class );
+
+		constraintValidatorManager = new ConstraintValidatorManager( constraintValidatorFactory, 2 );
+		ConstraintValidatorFactory factory1 = new MyCustomValidatorFactory();
+		ConstraintValidatorFactory factory2 = new MyCustomValidatorFactory();
+		ConstraintValidatorFactory factory3 = new MyCustomValidatorFactory();
+
+		ConstraintValidator<?, ?> constraintValidator1 = constraintValidatorManager.getInitializedValidator(
+				valueContext.getDeclaredTypeOfValidatedElement(), constraintDescriptor, factory1
+		);
+		ConstraintValidator<?, ?> constraintValidator2 = constraintValidatorManager.getInitializedValidator(
+				valueContext.getDeclaredTypeOfValidatedElement(), constraintDescriptor, factory2
+		);
+
+		// factory 1 is used again, so factory 2 is the least recently used one when adding factory 3
+		constraintValidatorManager.getInitializedValidator(
+				valueContext.getDeclaredTypeOfValidatedElement(), constraintDescriptor, factory1
+		);
+		constraintValidatorManager.getInitializedValidator(
+				valueContext.getDeclaredTypeOfValidatedElement(), constraintDescriptor, factory3
+		);
+
+		assertSame(
+				constraintValidatorManager.getInitializedValidator(
+						valueContext.getDeclaredTypeOfValidatedElement(), constraintDescriptor, factory1
+				),
+				constraintValidator1
+		);
+		assertNotSame(
+				constraintValidatorManager.getInitializedValidator(
+						valueContext.getDeclaredTypeOfValidatedElement(), constraintDescriptor, factory2
+				),
+				constraintValidator2
+		);
+	}
+
 	@Test
 	@TestForIssue(jiraKey = "HV-662")
 	public void testValidatorsAreCachedPerConstraint() {
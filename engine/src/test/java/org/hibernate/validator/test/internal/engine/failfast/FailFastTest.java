@@ -38,8 +38,11 @@
 import org.hibernate.validator.testutils.ValidatorUtil;
 
 import static java.lang.annotation.ElementType.ANNOTATION_TYPE;
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.ElementType.PARAMETER;
 import static java.lang.annotation.ElementType.TYPE;
 import static java.lang.annotation.RetentionPolicy.RUNTIME;
+import static org.hibernate.validator.testutil.ConstraintViolationAssert.assertCorrectConstraintTypes;
 import static org.hibernate.validator.testutil.ConstraintViolationAssert.assertCorrectConstraintViolationMessages;
 import static org.hibernate.validator.testutil.ConstraintViolationAssert.assertNumberOfViolations;
 import static org.hibernate.validator.testutils.ValidatorUtil.getValidatingProxy;
@@ -234,6 +237,47 @@ public void testFailFastComposingConstraints() {
 		assertCorrectConstraintViolationMessages( constraintViolations, "Bar constraint failed!" );
 	}
 
+	@Test
+	public void testFailFastEvaluatesCheapConstraintsFirst() {
+		final HibernateValidatorConfiguration configuration = ValidatorUtil.getConfiguration( HibernateValidator.class );
+		final ValidatorFactory factory = configuration.failFast( true ).buildValidatorFactory();
+
+		final Validator validator = factory.getValidator();
+		Set<ConstraintViolation<Baz>> constraintViolations = validator.validate( new Baz() );
+		assertNumberOfViolations( constraintViolations, 1 );
+		assertCorrectConstraintTypes( constraintViolations, NotNull.class );
+	}
+
+	@Test
+	public void testFailFastEvaluatesCheapPropertyConstraintsFirst() {
+		final HibernateValidatorConfiguration configuration = ValidatorUtil.getConfiguration( HibernateValidator.class );
+		final ValidatorFactory factory = configuration.failFast( true ).buildValidatorFactory();
+
+		final Validator validator = factory.getValidator();
+		Set<ConstraintViolation<Qux>> constraintViolations = validator.validateProperty( new Qux(), "value" );
+		assertNumberOfViolations( constraintViolations, 1 );
+		assertCorrectConstraintTypes( constraintViolations, NotNull.class );
+
+		constraintViolations = validator.validateValue( Qux.class, "value", null );
+		assertNumberOfViolations( constraintViolations, 1 );
+		assertCorrectConstraintTypes( constraintViolations, NotNull.class );
+	}
+
+	@Test
+	public void testFailFastEvaluatesCheapParameterConstraintsFirst() throws Exception {
+		final HibernateValidatorConfiguration configuration = ValidatorUtil.getConfiguration( HibernateValidator.class );
+		final ValidatorFactory factory = configuration.failFast( true ).buildValidatorFactory();
+
+		final Validator validator = factory.getValidator();
+		Set<ConstraintViolation<Qux>> constraintViolations = validator.forExecutables().validateParameters(
+				new Qux(),
+				Qux.class.getMethod( "setValue", String.class ),
+				new Object[] { null }
+		);
+		assertNumberOfViolations( constraintViolations, 1 );
+		assertCorrectConstraintTypes( constraintViolations, NotNull.class );
+	}
+
 	public void testFailSafePerformance() {
 		final Validator regularValidator = ValidatorUtil.getConfiguration().buildValidatorFactory().getValidator();
 		final Validator failFastValidator = ValidatorUtil.getConfiguration()
@@ -326,6 +370,47 @@ public void testMethod(String param1, String param2) {
 	public class FooBar {
 	}
 
+	public class Baz {
+		@ExpensiveConstraint
+		String expensive = "foo";
+
+		@NotNull
+		String cheap;
+	}
+
+	public class Qux {
+		@ExpensiveConstraint
+		@NotNull
+		String value;
+
+		public void setValue(@ExpensiveConstraint @NotNull String value) {
+			this.value = value;
+		}
+	}
+
+	@Target({ FIELD, PARAMETER })
+	@Retention(RUNTIME)
+	@Constraint(validatedBy = { ExpensiveConstraintValidator.class })
+	public @interface ExpensiveConstraint {
+		String message() default "expensive constraint failed";
+
+		Class<?>[] groups() default { };
+
+		Class<? extends Payload>[] payload() default { };
+	}
+
+	public static class ExpensiveConstraintValidator implements ConstraintValidator<ExpensiveConstraint, String> {
+
+		@Override
+		public void initialize(ExpensiveConstraint constraintAnnotation) {
+		}
+
+		@Override
+		public boolean isValid(String value, ConstraintValidatorContext context) {
+			throw new RuntimeException( "Should not be executed as the cheaper @NotNull constraint fails first" );
+		}
+	}
+
 	@BarConstraint(message = "Bar constraint failed!")
 	@Target({ TYPE })
 	@Retention(RUNTIME)
@@ -0,0 +1,121 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.test.internal.engine.generated;
+
+import java.lang.annotation.ElementType;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import javax.validation.ConstraintViolation;
+import javax.validation.Validator;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Size;
+
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import org.hibernate.validator.HibernateValidatorConfiguration;
+import org.hibernate.validator.cfg.ConstraintMapping;
+import org.hibernate.validator.cfg.defs.SizeDef;
+import org.hibernate.validator.spi.generated.GeneratedBeanValidator;
+import org.hibernate.validator.testutils.ValidatorUtil;
+import org.hibernate.validator.traversableresolver.TraverseAllTraversableResolver;
+
+import static org.hibernate.validator.testutil.ConstraintViolationAssert.assertCorrectConstraintTypes;
+import static org.hibernate.validator.testutil.ConstraintViolationAssert.assertCorrectPropertyPaths;
+import static org.hibernate.validator.testutil.ConstraintViolationAssert.assertNumberOfViolations;
+import static org.testng.Assert.assertEquals;
+
+/**
+ * Tests for the usage of {@link GeneratedBeanValidator}s when validating the default group of a bean.
+ *
+ * @author agent
+ */
+public class GeneratedValidatorTest {
+
+	private Validator validator;
+
+	@BeforeClass
+	public void setUpValidator() {
+		validator = ValidatorUtil.getConfiguration()
+				.traversableResolver( new TraverseAllTraversableResolver() )
+				.buildValidatorFactory()
+				.getValidator();
+	}
+
+	@BeforeMethod
+	public void resetInvocations() {
+		Order$$HvValidator.invocations.set( 0 );
+	}
+
+	@Test
+	public void testGeneratedValidatorIsUsedForValidBean() {
+		Set<ConstraintViolation<Order>> violations = validator.validate( new Order( "A-1", null ) );
+
+		assertNumberOfViolations( violations, 0 );
+		assertEquals( Order$$HvValidator.invocations.get(), 1 );
+	}
+
+	@Test
+	public void testViolationsOfInvalidBeanAreCreatedByValidationEngine() {
+		Set<ConstraintViolation<Order>> violations = validator.validate( new Order( "A-12345", null ) );
+
+		assertCorrectConstraintTypes( violations, Size.class );
+		assertCorrectPropertyPaths( violations, "number" );
+		assertEquals( Order$$HvValidator.invocations.get(), 1 );
+	}
+
+	@Test
+	public void testValidationEngineIsUsedForCascadedBeanWithoutGeneratedValidator() {
+		Set<ConstraintViolation<Order>> violations = validator.validate( new Order( "A-1", new Order.Customer( null ) ) );
+
+		assertCorrectConstraintTypes( violations, NotNull.class );
+		assertCorrectPropertyPaths( violations, "customer.name" );
+	}
+
+	@Test
+	public void testValidationEngineIsUsedForCascadedContainerOfNonContainerField() {
+		List<Order.Customer> customers = Arrays.asList( new Order.Customer( "Bob" ), new Order.Customer( null ) );
+		Set<ConstraintViolation<Order>> violations = validator.validate( new Order( "A-1", null, customers ) );
+
+		assertCorrectConstraintTypes( violations, NotNull.class );
+		assertCorrectPropertyPaths( violations, "attachment[1].name" );
+		assertEquals( Order$$HvValidator.invocations.get(), 1 );
+	}
+
+	@Test
+	public void testGeneratedValidatorIsNotUsedForOtherGroups() {
+		Set<ConstraintViolation<Order>> violations = validator.validate( new Order( "A-1", null ), Other.class );
+
+		assertNumberOfViolations( violations, 0 );
+		assertEquals( Order$$HvValidator.invocations.get(), 0 );
+	}
+
+	@Test
+	public void testGeneratedValidatorIsNotUsedForProgrammaticallyConfiguredBean() {
+		HibernateValidatorConfiguration configuration = ValidatorUtil.getConfiguration();
+		ConstraintMapping mapping = configuration.createConstraintMapping();
+		mapping.type( Order.class )
+				.property( "number", ElementType.FIELD )
+				.constraint( new SizeDef().max( 2 ) );
+
+		Validator validator = configuration.traversableResolver( new TraverseAllTraversableResolver() )
+				.addMapping( mapping )
+				.buildValidatorFactory()
+				.getValidator();
+
+		Set<ConstraintViolation<Order>> violations = validator.validate( new Order( "A-1", null ) );
+
+		assertCorrectConstraintTypes( violations, Size.class );
+		assertCorrectPropertyPaths( violations, "number" );
+		assertEquals( Order$$HvValidator.invocations.get(), 0 );
+	}
+
+	private interface Other {
+	}
+}
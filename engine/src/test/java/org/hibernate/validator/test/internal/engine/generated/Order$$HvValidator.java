@@ -0,0 +1,69 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.test.internal.engine.generated;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.validator.spi.generated.CascadedBeanValidator;
+import org.hibernate.validator.spi.generated.GeneratedBeanValidator;
+
+/**
+ * Stands in for the validator generated for {@link Order} by the annotation processor, counting its invocations.
+ *
+ * @author agent
+ */
+public final class Order$$HvValidator implements GeneratedBeanValidator<Order> {
+
+	static final AtomicInteger invocations = new AtomicInteger();
+
+	@Override
+	public int getConstraintCount() {
+		return 2;
+	}
+
+	@Override
+	public int getCascadeCount() {
+		return 2;
+	}
+
+	@Override
+	public boolean isValid(Order bean, CascadedBeanValidator cascadedBeanValidator) {
+		invocations.incrementAndGet();
+
+		// number
+		{
+			Object value = bean.number;
+			if ( value == null ) {
+				return false;
+			}
+			if ( value != null ) {
+				int size = ( (CharSequence) value ).length();
+				if ( size < 0 || size > 5 ) {
+					return false;
+				}
+			}
+		}
+
+		// customer
+		{
+			Object value = bean.customer;
+			if ( !cascadedBeanValidator.isValid( value ) ) {
+				return false;
+			}
+		}
+
+		// attachment
+		{
+			Object value = bean.attachment;
+			if ( !cascadedBeanValidator.isValid( value ) ) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+}
@@ -0,0 +1,47 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.test.internal.engine.generated;
+
+import javax.validation.Valid;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Size;
+
+/**
+ * @author agent
+ */
+public class Order {
+
+	@NotNull
+	@Size(max = 5)
+	String number;
+
+	@Valid
+	Customer customer;
+
+	@Valid
+	Object attachment;
+
+	public Order(String number, Customer customer) {
+		this( number, customer, null );
+	}
+
+	public Order(String number, Customer customer, Object attachment) {
+		this.number = number;
+		this.customer = customer;
+		this.attachment = attachment;
+	}
+
+	public static class Customer {
+
+		@NotNull
+		private final String name;
+
+		public Customer(String name) {
+			this.name = name;
+		}
+	}
+}
@@ -6,6 +6,8 @@
  */
 package org.hibernate.validator.test.internal.engine.groups.validationordergenerator;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
@@ -27,6 +29,8 @@
 import org.hibernate.validator.test.internal.engine.groups.validationorder.Second;
 
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertSame;
 
 /**
  * @author Hardy Ferentschik
@@ -130,6 +134,51 @@ public void testSequenceResolution() {
 		assertEquals( sequence.get( 1 ).getDefiningClass(), Address.HighLevelCoherence.class, "Wrong group" );
 	}
 
+	@Test
+	public void testValidationOrderIsCachedPerGroups() {
+		ValidationOrder chain = generator.getValidationOrder( Arrays.<Class<?>>asList( First.class, Second.class ) );
+
+		assertSame( generator.getValidationOrder( Arrays.<Class<?>>asList( First.class, Second.class ) ), chain );
+		assertNotSame( generator.getValidationOrder( Arrays.<Class<?>>asList( Second.class, First.class ) ), chain );
+		assertNotSame( generator.getValidationOrder( Arrays.<Class<?>>asList( First.class ) ), chain );
+	}
+
+	@Test
+	public void testCachedValidationOrderIsNotAffectedByChangesOfRequestedGroups() {
+		List<Class<?>> groups = new ArrayList<Class<?>>();
+		groups.add( First.class );
+		groups.add( Last.class );
+		ValidationOrder chain = generator.getValidationOrder( groups );
+
+		groups.add( Second.class );
+		assertEquals( countGroups( generator.getValidationOrder( groups ) ), 3, "Wrong number of groups" );
+
+		groups.remove( Second.class );
+		assertSame( generator.getValidationOrder( groups ), chain );
+		assertEquals( countGroups( chain ), 2, "Wrong number of groups" );
+	}
+
+	@Test
+	public void testValidationOrderOfSingleGroupIsCached() {
+		ValidationOrder chain = generator.getValidationOrder( GroupA.class, false );
+
+		assertSame( generator.getValidationOrder( GroupA.class, false ), chain );
+		assertEquals( countGroups( chain ), 1, "Wrong number of groups" );
+		assertEquals( countGroups( generator.getValidationOrder( GroupA.class, true ) ), 2, "Wrong number of groups" );
+	}
+
+	@Test(expectedExceptions = ValidationException.class)
+	public void testInvalidGroupsAreNotCached() {
+		List<Class<?>> groups = Arrays.<Class<?>>asList( First.class, String.class );
+		try {
+			generator.getValidationOrder( groups );
+		}
+		catch (ValidationException e) {
+			// expected
+		}
+		generator.getValidationOrder( groups );
+	}
+
 	private int countGroups(ValidationOrder chain) {
 		Iterator<Group> groupIterator = chain.getGroupIterator();
 		int count = 0;
@@ -0,0 +1,38 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.test.internal.engine.traversableresolver;
+
+import javax.persistence.Basic;
+import javax.persistence.Entity;
+import javax.persistence.FetchType;
+import javax.persistence.Id;
+import javax.persistence.ManyToOne;
+import javax.validation.constraints.NotNull;
+
+/**
+ * @author agent
+ */
+@Entity
+public class Customer {
+	@Id
+	public Long id;
+
+	@NotNull
+	@Basic
+	public String name;
+
+	@NotNull
+	public String email;
+
+	@NotNull
+	@Basic(fetch = FetchType.LAZY)
+	public String notes;
+
+	@NotNull
+	@ManyToOne
+	public Author favoriteAuthor;
+}
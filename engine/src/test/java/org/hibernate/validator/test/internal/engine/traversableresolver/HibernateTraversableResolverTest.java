@@ -0,0 +1,146 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.test.internal.engine.traversableresolver;
+
+import java.lang.annotation.ElementType;
+import java.util.Set;
+import javax.validation.ConstraintViolation;
+import javax.validation.Path;
+import javax.validation.TraversableResolver;
+import javax.validation.Validator;
+
+import org.testng.annotations.Test;
+
+import org.hibernate.validator.spi.resolver.HibernateTraversableResolver;
+import org.hibernate.validator.testutils.ValidatorUtil;
+import org.hibernate.validator.traversableresolver.TraverseAllTraversableResolver;
+
+import static org.hibernate.validator.testutil.ConstraintViolationAssert.assertCorrectPropertyPaths;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Tests for the handling of {@link HibernateTraversableResolver}s by the engine.
+ *
+ * @author agent
+ */
+public class HibernateTraversableResolverTest {
+
+	@Test
+	public void testTraverseAllResolverValidatesAllProperties() {
+		Set<ConstraintViolation<Suit>> violations = getValidator( new TraverseAllTraversableResolver() ).validate( getSuit() );
+		assertCorrectPropertyPaths( violations, "size", "trousers.length", "jacket.width" );
+	}
+
+	@Test
+	public void testResolverIsNotInvokedIfAllPropertiesAreReachableAndCascadable() {
+		CountingTraversableResolver resolver = new CountingTraversableResolver( true, true, true );
+
+		Set<ConstraintViolation<Suit>> violations = getValidator( resolver ).validate( getSuit() );
+
+		assertCorrectPropertyPaths( violations, "size", "trousers.length", "jacket.width" );
+		assertEquals( resolver.reachableCalls, 0 );
+		assertEquals( resolver.cascadableCalls, 0 );
+	}
+
+	@Test
+	public void testIsCascadableIsNotInvokedIfAllPropertiesAreCascadable() {
+		CountingTraversableResolver resolver = new CountingTraversableResolver( false, true, true );
+
+		Set<ConstraintViolation<Suit>> violations = getValidator( resolver ).validate( getSuit() );
+
+		assertCorrectPropertyPaths( violations, "size", "trousers.length", "jacket.width" );
+		assertTrue( resolver.reachableCalls > 0 );
+		assertEquals( resolver.cascadableCalls, 0 );
+	}
+
+	@Test
+	public void testIsReachableIsNotInvokedIfAllPropertiesAreReachable() {
+		CountingTraversableResolver resolver = new CountingTraversableResolver( true, false, true );
+
+		Set<ConstraintViolation<Suit>> violations = getValidator( resolver ).validate( getSuit() );
+
+		assertCorrectPropertyPaths( violations, "size", "trousers.length", "jacket.width" );
+		assertEquals( resolver.reachableCalls, 0 );
+		assertTrue( resolver.cascadableCalls > 0 );
+	}
+
+	@Test
+	public void testPathIsPassedOnlyIfRequired() {
+		CountingTraversableResolver resolver = new CountingTraversableResolver( false, false, false );
+		getValidator( resolver ).validate( getSuit() );
+		assertFalse( resolver.pathPassed );
+
+		resolver = new CountingTraversableResolver( false, false, true );
+		getValidator( resolver ).validate( getSuit() );
+		assertTrue( resolver.pathPassed );
+	}
+
+	private Validator getValidator(TraversableResolver resolver) {
+		return ValidatorUtil.getConfiguration()
+				.traversableResolver( resolver )
+				.buildValidatorFactory()
+				.getValidator();
+	}
+
+	private Suit getSuit() {
+		Suit suit = new Suit();
+		suit.setSize( 3333 );
+		suit.setTrousers( new Trousers() );
+		suit.getTrousers().setLength( 10 );
+		suit.setJacket( new Jacket() );
+		suit.getJacket().setWidth( 100 );
+		return suit;
+	}
+
+	private static class CountingTraversableResolver implements HibernateTraversableResolver {
+
+		private final boolean alwaysReachable;
+		private final boolean alwaysCascadable;
+		private final boolean needsPath;
+
+		private int reachableCalls;
+		private int cascadableCalls;
+		private boolean pathPassed;
+
+		private CountingTraversableResolver(boolean alwaysReachable, boolean alwaysCascadable, boolean needsPath) {
+			this.alwaysReachable = alwaysReachable;
+			this.alwaysCascadable = alwaysCascadable;
+			this.needsPath = needsPath;
+		}
+
+		@Override
+		public boolean isReachable(Object traversableObject, Path.Node traversableProperty, Class<?> rootBeanType, Path pathToTraversableObject, ElementType elementType) {
+			reachableCalls++;
+			pathPassed |= pathToTraversableObject != null;
+			return true;
+		}
+
+		@Override
+		public boolean isCascadable(Object traversableObject, Path.Node traversableProperty, Class<?> rootBeanType, Path pathToTraversableObject, ElementType elementType) {
+			cascadableCalls++;
+			pathPassed |= pathToTraversableObject != null;
+			return true;
+		}
+
+		@Override
+		public boolean isAlwaysReachable() {
+			return alwaysReachable;
+		}
+
+		@Override
+		public boolean isAlwaysCascadable() {
+			return alwaysCascadable;
+		}
+
+		@Override
+		public boolean needsPathToTraversableObject() {
+			return needsPath;
+		}
+	}
+}
@@ -0,0 +1,216 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.test.internal.engine.traversableresolver;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import javax.persistence.EntityManagerFactory;
+import javax.persistence.spi.LoadState;
+import javax.persistence.spi.PersistenceProvider;
+import javax.persistence.spi.PersistenceProviderResolver;
+import javax.persistence.spi.PersistenceProviderResolverHolder;
+import javax.persistence.spi.PersistenceUnitInfo;
+import javax.persistence.spi.ProviderUtil;
+import javax.validation.ConstraintViolation;
+import javax.validation.Validator;
+
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import org.hibernate.validator.internal.engine.resolver.JPATraversableResolver;
+import org.hibernate.validator.testutils.ValidatorUtil;
+
+import static org.hibernate.validator.testutil.ConstraintViolationAssert.assertCorrectPropertyPaths;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Tests for {@link JPATraversableResolver}, using a stand-in persistence provider.
+ *
+ * @author agent
+ */
+public class JpaTraversableResolverLoadStateTest {
+
+	private StandInProviderUtil providerUtil;
+	private StandInPersistenceProviderResolver persistenceProviderResolver;
+	private Validator validator;
+
+	@BeforeMethod
+	public void setUp() {
+		providerUtil = new StandInProviderUtil();
+		persistenceProviderResolver = new StandInPersistenceProviderResolver();
+		persistenceProviderResolver.providers.add( new StandInPersistenceProvider( providerUtil ) );
+		validator = ValidatorUtil.getConfiguration()
+				.traversableResolver( new JPATraversableResolver( persistenceProviderResolver ) )
+				.buildValidatorFactory()
+				.getValidator();
+	}
+
+	@Test
+	public void testProviderIsNotQueriedForAttributesMappedAsEager() {
+		providerUtil.loadStates.put( "email", LoadState.LOADED );
+		providerUtil.loadStates.put( "notes", LoadState.LOADED );
+		providerUtil.loadStates.put( "favoriteAuthor", LoadState.LOADED );
+
+		Set<ConstraintViolation<Customer>> violations = validator.validate( new Customer() );
+		assertCorrectPropertyPaths( violations, "name", "email", "notes", "favoriteAuthor" );
+
+		violations = validator.validate( new Customer() );
+		assertCorrectPropertyPaths( violations, "name", "email", "notes", "favoriteAuthor" );
+
+		assertEquals( providerUtil.queriedAttributes.get( "name" ), null );
+		assertEquals( providerUtil.queriedAttributes.get( "email" ), Integer.valueOf( 2 ) );
+		assertEquals( providerUtil.queriedAttributes.get( "notes" ), Integer.valueOf( 2 ) );
+		assertEquals( providerUtil.queriedAttributes.get( "favoriteAuthor" ), Integer.valueOf( 2 ) );
+	}
+
+	@Test
+	public void testAttributesNotLoadedAreNotValidated() {
+		providerUtil.loadStates.put( "email", LoadState.NOT_LOADED );
+		providerUtil.loadStates.put( "notes", LoadState.NOT_LOADED );
+		providerUtil.loadStates.put( "favoriteAuthor", LoadState.NOT_LOADED );
+
+		Set<ConstraintViolation<Customer>> violations = validator.validate( new Customer() );
+		assertCorrectPropertyPaths( violations, "name" );
+	}
+
+	@Test
+	public void testUnknownLoadStateIsConsideredAsLoaded() {
+		Set<ConstraintViolation<Customer>> violations = validator.validate( new Customer() );
+		assertCorrectPropertyPaths( violations, "name", "email", "notes", "favoriteAuthor" );
+	}
+
+	@Test
+	public void testProvidersAreRetrievedOnce() {
+		validator.validate( new Customer() );
+		validator.validate( new Customer() );
+
+		assertEquals( persistenceProviderResolver.retrievalCount, 1 );
+	}
+
+	@Test
+	public void testProvidersAreRetrievedAgainAfterResolverChange() {
+		providerUtil.loadStates.put( "email", LoadState.NOT_LOADED );
+		providerUtil.loadStates.put( "notes", LoadState.NOT_LOADED );
+		providerUtil.loadStates.put( "favoriteAuthor", LoadState.NOT_LOADED );
+
+		Validator validator = ValidatorUtil.getConfiguration()
+				.traversableResolver( new JPATraversableResolver() )
+				.buildValidatorFactory()
+				.getValidator();
+
+		try {
+			PersistenceProviderResolverHolder.setPersistenceProviderResolver( persistenceProviderResolver );
+
+			Set<ConstraintViolation<Customer>> violations = validator.validate( new Customer() );
+			assertCorrectPropertyPaths( violations, "name" );
+
+			PersistenceProviderResolverHolder.setPersistenceProviderResolver( new StandInPersistenceProviderResolver() );
+
+			violations = validator.validate( new Customer() );
+			assertCorrectPropertyPaths( violations, "name", "email", "notes", "favoriteAuthor" );
+		}
+		finally {
+			PersistenceProviderResolverHolder.setPersistenceProviderResolver( null );
+		}
+	}
+
+	@Test
+	public void testProviderIsQueriedForAllAttributesOfProxies() {
+		providerUtil.loadStates.put( "name", LoadState.NOT_LOADED );
+		providerUtil.loadStates.put( "email", LoadState.NOT_LOADED );
+		providerUtil.loadStates.put( "notes", LoadState.NOT_LOADED );
+		providerUtil.loadStates.put( "favoriteAuthor", LoadState.NOT_LOADED );
+
+		Set<ConstraintViolation<CustomerProxy>> violations = validator.validate( new CustomerProxy() );
+		assertTrue( violations.isEmpty() );
+		assertEquals( providerUtil.queriedAttributes.get( "name" ), Integer.valueOf( 1 ) );
+	}
+
+	/**
+	 * Mimics a proxy generated by a persistence provider, which isn't annotated with {@code @Entity} itself.
+	 */
+	private static class CustomerProxy extends Customer {
+	}
+
+	private static class StandInProviderUtil implements ProviderUtil {
+
+		private final Map<String, LoadState> loadStates = new HashMap<String, LoadState>();
+		private final Map<String, Integer> queriedAttributes = new HashMap<String, Integer>();
+
+		@Override
+		public LoadState isLoadedWithoutReference(Object entity, String attributeName) {
+			Integer count = queriedAttributes.get( attributeName );
+			queriedAttributes.put( attributeName, count == null ? 1 : count + 1 );
+
+			LoadState loadState = loadStates.get( attributeName );
+			return loadState != null ? loadState : LoadState.UNKNOWN;
+		}
+
+		@Override
+		public LoadState isLoadedWithReference(Object entity, String attributeName) {
+			return LoadState.UNKNOWN;
+		}
+
+		@Override
+		public LoadState isLoaded(Object entity) {
+			return LoadState.UNKNOWN;
+		}
+	}
+
+	private static class StandInPersistenceProviderResolver implements PersistenceProviderResolver {
+
+		private final List<PersistenceProvider> providers = new ArrayList<PersistenceProvider>();
+		private int retrievalCount;
+
+		@Override
+		public List<PersistenceProvider> getPersistenceProviders() {
+			retrievalCount++;
+			return providers;
+		}
+
+		@Override
+		public void clearCachedProviders() {
+		}
+	}
+
+	private static class StandInPersistenceProvider implements PersistenceProvider {
+
+		private final ProviderUtil providerUtil;
+
+		private StandInPersistenceProvider(ProviderUtil providerUtil) {
+			this.providerUtil = providerUtil;
+		}
+
+		@Override
+		public EntityManagerFactory createEntityManagerFactory(String emName, @SuppressWarnings("rawtypes") Map map) {
+			return null;
+		}
+
+		@Override
+		public EntityManagerFactory createContainerEntityManagerFactory(PersistenceUnitInfo info, @SuppressWarnings("rawtypes") Map map) {
+			return null;
+		}
+
+		@Override
+		public void generateSchema(PersistenceUnitInfo info, @SuppressWarnings("rawtypes") Map map) {
+		}
+
+		@Override
+		public boolean generateSchema(String persistenceUnitName, @SuppressWarnings("rawtypes") Map map) {
+			return false;
+		}
+
+		@Override
+		public ProviderUtil getProviderUtil() {
+			return providerUtil;
+		}
+	}
+}
@@ -0,0 +1,75 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.test.internal.engine.valuehandling;
+
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import org.hibernate.validator.internal.engine.valuehandling.OptionalValueUnwrapper;
+import org.hibernate.validator.internal.engine.valuehandling.ValidatedValueUnwrapperResolver;
+import org.hibernate.validator.internal.util.TypeResolutionHelper;
+import org.hibernate.validator.spi.valuehandling.ValidatedValueUnwrapper;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+/**
+ * Tests for {@link ValidatedValueUnwrapperResolver}.
+ *
+ * @author agent
+ */
+public class ValidatedValueUnwrapperResolverTest {
+
+	private OptionalValueUnwrapper optionalValueUnwrapper;
+	private List<ValidatedValueUnwrapper<?>> unwrappers;
+	private ValidatedValueUnwrapperResolver resolver;
+
+	@BeforeMethod
+	public void setupResolver() {
+		TypeResolutionHelper typeResolutionHelper = new TypeResolutionHelper();
+		optionalValueUnwrapper = new OptionalValueUnwrapper( typeResolutionHelper );
+		unwrappers = Arrays.<ValidatedValueUnwrapper<?>>asList( optionalValueUnwrapper );
+		resolver = new ValidatedValueUnwrapperResolver( unwrappers, typeResolutionHelper );
+	}
+
+	@Test
+	public void shouldReturnUnwrapperForHandledType() {
+		assertSame( resolver.getValidatedValueUnwrapper( Optional.class ), optionalValueUnwrapper );
+		// answered from the cache
+		assertSame( resolver.getValidatedValueUnwrapper( Optional.class ), optionalValueUnwrapper );
+	}
+
+	@Test
+	public void shouldReturnNullForUnhandledType() {
+		assertNull( resolver.getValidatedValueUnwrapper( String.class ) );
+		// answered from the cache
+		assertNull( resolver.getValidatedValueUnwrapper( String.class ) );
+	}
+
+	@Test
+	public void shouldReturnNullWithoutUnwrappers() {
+		ValidatedValueUnwrapperResolver emptyResolver = new ValidatedValueUnwrapperResolver(
+				Collections.<ValidatedValueUnwrapper<?>>emptyList(),
+				new TypeResolutionHelper()
+		);
+
+		assertNull( emptyResolver.getValidatedValueUnwrapper( Optional.class ) );
+	}
+
+	@Test
+	public void shouldBeResolverForEqualListOfUnwrappers() {
+		assertTrue( resolver.isResolverFor( new ArrayList<ValidatedValueUnwrapper<?>>( unwrappers ) ) );
+		assertFalse( resolver.isResolverFor( Collections.<ValidatedValueUnwrapper<?>>emptyList() ) );
+	}
+}
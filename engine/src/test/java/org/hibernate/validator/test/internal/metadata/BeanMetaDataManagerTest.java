@@ -10,13 +10,17 @@
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import javax.validation.ParameterNameProvider;
 
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 import org.hibernate.validator.internal.engine.DefaultParameterNameProvider;
+import org.hibernate.validator.internal.engine.MethodValidationConfiguration;
 import org.hibernate.validator.internal.metadata.BeanMetaDataManager;
 import org.hibernate.validator.internal.metadata.aggregated.BeanMetaData;
 import org.hibernate.validator.internal.metadata.aggregated.BeanMetaDataImpl;
@@ -27,8 +31,10 @@
 import org.hibernate.validator.internal.util.logging.Log;
 import org.hibernate.validator.internal.util.logging.LoggerFactory;
 
+import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertFalse;
 import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertSame;
 import static org.testng.Assert.assertTrue;
 import static org.testng.Assert.fail;
 
@@ -120,6 +126,40 @@ public void testGetMetaDataForUnConstrainedEntity() {
 		assertFalse( beanMetaData.hasConstraints() );
 	}
 
+	@Test
+	public void testMetaDataNotDependingOnParameterNamesIsShared() {
+		BeanMetaDataManager otherMetaDataManager = createManagerSharingMetaDataWith( metaDataManager );
+
+		assertSame( otherMetaDataManager.getBeanMetaData( Engine.class ), metaDataManager.getBeanMetaData( Engine.class ) );
+		assertFalse( otherMetaDataManager.isConstrained( UnconstrainedEntity.class ) );
+	}
+
+	@Test
+	public void testMetaDataDependingOnParameterNamesIsNotShared() throws Exception {
+		BeanMetaDataManager otherMetaDataManager = createManagerSharingMetaDataWith( metaDataManager );
+
+		BeanMetaData<CustomerRepository> beanMetaData = metaDataManager.getBeanMetaData( CustomerRepository.class );
+		BeanMetaData<CustomerRepository> otherBeanMetaData = otherMetaDataManager.getBeanMetaData( CustomerRepository.class );
+
+		assertTrue( beanMetaData.dependsOnParameterNames() );
+		assertNotSame( otherBeanMetaData, beanMetaData );
+
+		Method method = CustomerRepository.class.getMethod( "createCustomer", CharSequence.class, String.class );
+		assertEquals( beanMetaData.getMetaDataFor( method ).getParameterMetaData( 1 ).getName(), "arg1" );
+		assertEquals( otherBeanMetaData.getMetaDataFor( method ).getParameterMetaData( 1 ).getName(), "param1" );
+	}
+
+	private BeanMetaDataManager createManagerSharingMetaDataWith(BeanMetaDataManager parameterNameAgnosticMetaDataManager) {
+		return new BeanMetaDataManager(
+				new ConstraintHelper(),
+				new ExecutableHelper( new TypeResolutionHelper() ),
+				new PrefixParameterNameProvider( "param" ),
+				Collections.<MetaDataProvider>emptyList(),
+				new MethodValidationConfiguration(),
+				parameterNameAgnosticMetaDataManager
+		);
+	}
+
 	public class CustomClassLoader extends ClassLoader {
 
 		/**
@@ -185,4 +225,31 @@ private byte[] loadClassData(String className) throws IOException {
 	public static class UnconstrainedEntity {
 		private String foo;
 	}
+
+	private static class PrefixParameterNameProvider implements ParameterNameProvider {
+
+		private final String prefix;
+
+		private PrefixParameterNameProvider(String prefix) {
+			this.prefix = prefix;
+		}
+
+		@Override
+		public List<String> getParameterNames(Constructor<?> constructor) {
+			return getParameterNames( constructor.getParameterTypes().length );
+		}
+
+		@Override
+		public List<String> getParameterNames(Method method) {
+			return getParameterNames( method.getParameterTypes().length );
+		}
+
+		private List<String> getParameterNames(int parameterCount) {
+			List<String> parameterNames = new ArrayList<String>();
+			for ( int i = 0; i < parameterCount; i++ ) {
+				parameterNames.add( prefix + i );
+			}
+			return parameterNames;
+		}
+	}
 }
@@ -17,6 +17,7 @@
 import javax.validation.groups.Default;
 
 import org.hibernate.validator.internal.engine.DefaultParameterNameProvider;
+import org.hibernate.validator.internal.engine.path.PathImpl;
 import org.hibernate.validator.internal.engine.valuehandling.UnwrapMode;
 import org.hibernate.validator.internal.metadata.BeanMetaDataManager;
 import org.hibernate.validator.internal.metadata.aggregated.BeanMetaData;
@@ -461,4 +462,41 @@ public void unconstrainedMethod() throws Exception {
 		assertThat( methodMetaData.getParameterMetaData( 0 ).isCascading() ).isFalse();
 		assertThat( methodMetaData.getParameterMetaData( 0 ) ).isEmpty();
 	}
+
+	@Test
+	public void getMetaDataForMethodMember() throws Exception {
+		Method method = CustomerRepositoryExt.class.getMethod( "createCustomer", CharSequence.class, String.class );
+		ExecutableMetaData methodMetaData = beanMetaData.getMetaDataFor( method );
+
+		assertThat( methodMetaData ).isSameAs( beanMetaData.getMetaDataFor( ExecutableElement.forMethod( method ) ) );
+		assertThat( beanMetaData.getMetaDataFor( method ) ).isSameAs( methodMetaData );
+	}
+
+	@Test
+	public void getMetaDataForConstructorMember() throws Exception {
+		Constructor<CustomerRepositoryExt> constructor = CustomerRepositoryExt.class.getConstructor( String.class );
+		ExecutableMetaData constructorMetaData = beanMetaData.getMetaDataFor( constructor );
+
+		assertThat( constructorMetaData ).isSameAs( beanMetaData.getMetaDataFor( ExecutableElement.forConstructor( constructor ) ) );
+	}
+
+	@Test
+	public void getMetaDataForMemberOfOtherTypeReturnsNull() throws Exception {
+		Method method = ExecutableMetaDataTest.class.getMethod( "setupBeanMetaData" );
+
+		assertThat( beanMetaData.getMetaDataFor( method ) ).isNull();
+	}
+
+	@Test
+	public void createdExecutablePathsAreIndependentCopies() throws Exception {
+		Method method = CustomerRepositoryExt.class.getMethod( "createCustomer", CharSequence.class, String.class );
+		ExecutableMetaData methodMetaData = beanMetaData.getMetaDataFor( method );
+
+		PathImpl path = methodMetaData.createExecutablePath();
+		path.addReturnValueNode();
+
+		assertThat( path ).isNotSameAs( methodMetaData.createExecutablePath() );
+		assertThat( methodMetaData.createExecutablePath().asString() ).isEqualTo( "createCustomer" );
+		assertThat( path.asString() ).isEqualTo( "createCustomer.<return value>" );
+	}
 }
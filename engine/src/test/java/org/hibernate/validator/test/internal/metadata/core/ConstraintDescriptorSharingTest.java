@@ -0,0 +1,105 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.test.internal.metadata.core;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+import javax.validation.Validation;
+import javax.validation.Validator;
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Size;
+import javax.validation.metadata.ConstraintDescriptor;
+import javax.validation.metadata.PropertyDescriptor;
+
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+
+/**
+ * Checks that identical constraint definitions share one descriptor, also across validator factories, by counting
+ * the distinct descriptor instances exposed by the meta data API.
+ *
+ * @author agent
+ */
+public class ConstraintDescriptorSharingTest {
+
+	private static final int FACTORY_COUNT = 10;
+
+	/**
+	 * {@code @NotNull} and {@code @Size(max = 255)} on fields and getters plus {@code @Min(1)} on a field
+	 */
+	private static final int DISTINCT_DEFINITION_COUNT = 5;
+
+	@Test
+	public void identical_constraint_definitions_should_share_their_descriptor_across_factories() {
+		Set<ConstraintDescriptor<?>> descriptors = Collections.newSetFromMap(
+				new IdentityHashMap<ConstraintDescriptor<?>, Boolean>()
+		);
+
+		for ( int i = 0; i < FACTORY_COUNT; i++ ) {
+			Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+
+			collectDescriptors( validator, Customer.class, descriptors );
+			collectDescriptors( validator, Address.class, descriptors );
+			collectDescriptors( validator, Order.class, descriptors );
+		}
+
+		assertEquals( descriptors.size(), DISTINCT_DEFINITION_COUNT );
+	}
+
+	private void collectDescriptors(Validator validator, Class<?> beanClass, Set<ConstraintDescriptor<?>> descriptors) {
+		for ( PropertyDescriptor property : validator.getConstraintsForClass( beanClass ).getConstrainedProperties() ) {
+			descriptors.addAll( property.getConstraintDescriptors() );
+		}
+	}
+
+	private static class Customer {
+		@NotNull
+		@Size(max = 255)
+		private String firstName;
+
+		@NotNull
+		@Size(max = 255)
+		private String lastName;
+
+		@Size(max = 255)
+		private String phone;
+
+		@NotNull
+		private Address address;
+	}
+
+	private static class Address {
+		@NotNull
+		@Size(max = 255)
+		private String street;
+
+		@NotNull
+		@Size(max = 255)
+		private String city;
+	}
+
+	private static class Order {
+		@NotNull
+		@Size(max = 255)
+		private String number;
+
+		@NotNull
+		private Customer customer;
+
+		@Min(1)
+		private int quantity;
+
+		@NotNull
+		@Size(max = 255)
+		public String getComment() {
+			return null;
+		}
+	}
+}
@@ -0,0 +1,119 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.test.internal.metadata.core;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Pattern;
+
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import org.hibernate.validator.internal.engine.DefaultParameterNameProvider;
+import org.hibernate.validator.internal.metadata.BeanMetaDataManager;
+import org.hibernate.validator.internal.metadata.aggregated.PropertyMetaData;
+import org.hibernate.validator.internal.metadata.core.ConstraintHelper;
+import org.hibernate.validator.internal.metadata.core.MetaConstraint;
+import org.hibernate.validator.internal.metadata.provider.MetaDataProvider;
+import org.hibernate.validator.internal.util.ExecutableHelper;
+import org.hibernate.validator.internal.util.TypeResolutionHelper;
+
+import static org.hibernate.validator.internal.metadata.core.ConstraintEvaluationCostComparator.orderByEvaluationCost;
+import static org.testng.Assert.assertEquals;
+
+/**
+ * Tests for {@link org.hibernate.validator.internal.metadata.core.ConstraintEvaluationCostComparator}.
+ *
+ * @author agent
+ */
+public class ConstraintEvaluationCostComparatorTest {
+
+	private BeanMetaDataManager beanMetaDataManager;
+
+	@BeforeMethod
+	public void setupBeanMetaDataManager() {
+		beanMetaDataManager = new BeanMetaDataManager(
+				new ConstraintHelper(),
+				new ExecutableHelper( new TypeResolutionHelper() ),
+				new DefaultParameterNameProvider(),
+				Collections.<MetaDataProvider>emptyList()
+		);
+	}
+
+	@Test
+	public void testRepeatedConstraintsKeepTheirGivenOrder() {
+		PropertyMetaData property = beanMetaDataManager.getBeanMetaData( Product.class ).getMetaDataFor( "code" );
+
+		List<MetaConstraint<?>> constraints = new ArrayList<MetaConstraint<?>>();
+		for ( MetaConstraint<?> constraint : property ) {
+			constraints.add( constraint );
+		}
+		assertEquals( constraints.size(), 4 );
+
+		assertEquals( getOrderedConstraints( constraints ), getExpectedOrder( constraints ) );
+
+		Collections.reverse( constraints );
+		assertEquals( getOrderedConstraints( constraints ), getExpectedOrder( constraints ) );
+	}
+
+	/**
+	 * Returns the constraints ordered by evaluation cost, described by their annotation type and regular
+	 * expression.
+	 */
+	private List<String> getOrderedConstraints(List<MetaConstraint<?>> constraints) {
+		Set<MetaConstraint<?>> orderedConstraints = orderByEvaluationCost(
+				new LinkedHashSet<MetaConstraint<?>>( constraints )
+		);
+
+		List<String> result = new ArrayList<String>();
+		for ( MetaConstraint<?> constraint : orderedConstraints ) {
+			result.add( describe( constraint ) );
+		}
+
+		return result;
+	}
+
+	/**
+	 * Returns the {@code @NotNull} constraint, followed by the {@code @Pattern} constraints in the given order.
+	 */
+	private List<String> getExpectedOrder(List<MetaConstraint<?>> constraints) {
+		List<String> result = new ArrayList<String>();
+		result.add( NotNull.class.getSimpleName() );
+
+		for ( MetaConstraint<?> constraint : constraints ) {
+			if ( constraint.getDescriptor().getAnnotationType() == Pattern.class ) {
+				result.add( describe( constraint ) );
+			}
+		}
+
+		return result;
+	}
+
+	private String describe(MetaConstraint<?> constraint) {
+		if ( constraint.getDescriptor().getAnnotation() instanceof Pattern ) {
+			return Pattern.class.getSimpleName() + "(" + ( (Pattern) constraint.getDescriptor()
+					.getAnnotation() ).regexp() + ")";
+		}
+
+		return constraint.getDescriptor().getAnnotationType().getSimpleName();
+	}
+
+	private static class Product {
+
+		@Pattern.List({
+				@Pattern(regexp = "[A-Z].*"),
+				@Pattern(regexp = ".*[0-9]"),
+				@Pattern(regexp = ".{4}")
+		})
+		@NotNull
+		private String code;
+	}
+}
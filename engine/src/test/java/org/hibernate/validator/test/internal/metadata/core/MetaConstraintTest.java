@@ -8,18 +8,28 @@
 
 import java.lang.reflect.Method;
 import javax.validation.constraints.NotNull;
+import javax.validation.groups.Default;
 
 import org.testng.annotations.BeforeClass;
 import org.testng.annotations.Test;
 
+import org.hibernate.validator.internal.engine.groups.Group;
+import org.hibernate.validator.internal.engine.groups.GroupIds;
 import org.hibernate.validator.internal.metadata.core.ConstraintHelper;
+import org.hibernate.validator.internal.metadata.core.ConstraintOrigin;
 import org.hibernate.validator.internal.metadata.core.MetaConstraint;
 import org.hibernate.validator.internal.metadata.descriptor.ConstraintDescriptorImpl;
+import org.hibernate.validator.internal.metadata.descriptor.ConstraintDescriptorImpl.ConstraintType;
 import org.hibernate.validator.internal.metadata.location.ConstraintLocation;
 import org.hibernate.validator.testutil.TestForIssue;
 
+import static java.lang.annotation.ElementType.FIELD;
 import static java.lang.annotation.ElementType.METHOD;
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
 
 /**
  * @author Hardy Ferentschik
@@ -57,6 +67,70 @@ public void two_meta_constraints_for_the_same_constraint_should_be_equal() throw
 		);
 	}
 
+	@Test
+	public void meta_constraint_should_be_in_its_groups_only() throws Exception {
+		ConstraintDescriptorImpl<NotNull> constraintDescriptor = new ConstraintDescriptorImpl<NotNull>(
+				constraintHelper, barMethod, constraintAnnotation, METHOD
+		);
+		MetaConstraint<NotNull> metaConstraint = new MetaConstraint<NotNull>(
+				constraintDescriptor,
+				ConstraintLocation.forClass( Foo.class )
+		);
+
+		assertTrue( metaConstraint.isInGroup( GroupIds.getId( Default.class ), Default.class ) );
+		assertTrue( metaConstraint.isInGroup( new Group( Default.class ).getId(), Default.class ) );
+		assertFalse( metaConstraint.isInGroup( GroupIds.getId( Foo.class ), Foo.class ) );
+		assertFalse( metaConstraint.isInGroup( GroupIds.NO_GROUP, null ) );
+	}
+
+	@Test
+	public void meta_constraint_should_be_in_its_implicit_group_without_group_id() throws Exception {
+		Method bazMethod = Baz.class.getMethod( "getBaz" );
+		ConstraintDescriptorImpl<NotNull> constraintDescriptor = new ConstraintDescriptorImpl<NotNull>(
+				constraintHelper,
+				bazMethod,
+				bazMethod.getAnnotation( NotNull.class ),
+				METHOD,
+				Baz.class,
+				ConstraintOrigin.DEFINED_IN_HIERARCHY,
+				ConstraintType.GENERIC
+		);
+		MetaConstraint<NotNull> metaConstraint = new MetaConstraint<NotNull>(
+				constraintDescriptor,
+				ConstraintLocation.forClass( Baz.class )
+		);
+
+		assertTrue( constraintDescriptor.getGroups().contains( Baz.class ) );
+		assertTrue( metaConstraint.isInGroup( GroupIds.getId( Default.class ), Default.class ) );
+		assertTrue( metaConstraint.isInGroup( GroupIds.NO_GROUP, Baz.class ) );
+		assertFalse( metaConstraint.isInGroup( GroupIds.NO_GROUP, Foo.class ) );
+	}
+
+	@Test
+	public void meta_constraints_for_identical_constraints_should_share_their_descriptor() throws Exception {
+		MetaConstraint<NotNull> metaConstraint1 = new MetaConstraint<NotNull>(
+				new ConstraintDescriptorImpl<NotNull>( constraintHelper, barMethod, constraintAnnotation, METHOD ),
+				ConstraintLocation.forClass( Foo.class )
+		);
+		MetaConstraint<NotNull> metaConstraint2 = new MetaConstraint<NotNull>(
+				new ConstraintDescriptorImpl<NotNull>( constraintHelper, barMethod, constraintAnnotation, METHOD ),
+				ConstraintLocation.forClass( Foo.class )
+		);
+		MetaConstraint<NotNull> metaConstraint3 = new MetaConstraint<NotNull>(
+				new ConstraintDescriptorImpl<NotNull>( constraintHelper, barMethod, constraintAnnotation, FIELD ),
+				ConstraintLocation.forClass( Foo.class )
+		);
+
+		assertSame( metaConstraint1.getDescriptor(), metaConstraint2.getDescriptor() );
+		assertNotSame( metaConstraint1.getDescriptor(), metaConstraint3.getDescriptor() );
+		assertEquals( metaConstraint3.getElementType(), FIELD );
+	}
+
+	public interface Baz {
+		@NotNull
+		String getBaz();
+	}
+
 	public static class Foo {
 		@NotNull
 		public String getBar() {
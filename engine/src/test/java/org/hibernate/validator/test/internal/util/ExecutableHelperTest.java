@@ -348,6 +348,35 @@ public void methodWithWildcard() throws Exception {
 		).isFalse();
 	}
 
+	@Test
+	public void methodWithGenericsUsingResolvedMemberCache() throws Exception {
+		ExecutableHelper cachingExecutableHelper = executableHelper.withResolvedMemberCache();
+
+		Method methodFromBase = GenericServiceBase.class.getDeclaredMethods()[0];
+		Method numberMethodFromImpl = GenericServiceImpl3.class.getDeclaredMethod( "doSomething", Number.class );
+		Method integerMethodFromImpl = GenericServiceImpl3.class.getDeclaredMethod( "doSomething", Integer.class );
+
+		// repeated to check the outcome for resolved members retrieved from the cache
+		for ( int i = 0; i < 2; i++ ) {
+			assertTrue( cachingExecutableHelper.overrides( numberMethodFromImpl, methodFromBase ) );
+			assertFalse( cachingExecutableHelper.overrides( integerMethodFromImpl, methodFromBase ) );
+		}
+
+		Method methodFromInterface = WildcardInterface.class.getDeclaredMethods()[0];
+		assertTrue(
+				cachingExecutableHelper.overrides(
+						WildcardInterfaceImpl.class.getDeclaredMethod( "doSomething", Integer.class ),
+						methodFromInterface
+				)
+		);
+		assertFalse(
+				cachingExecutableHelper.overrides(
+						WildcardInterfaceImpl.class.getDeclaredMethod( "doSomething", Long.class ),
+						methodFromInterface
+				)
+		);
+	}
+
 	@Test
 	public void executableAsStringShouldReturnMethodNameWithBracesForParameterlessMethod() throws Exception {
 		assertEquals( ExecutableElement.getExecutableAsString( "foo" ), "foo()" );
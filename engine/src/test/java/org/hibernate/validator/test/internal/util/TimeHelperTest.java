@@ -0,0 +1,43 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.test.internal.util;
+
+import java.time.Instant;
+
+import org.testng.annotations.Test;
+
+import org.hibernate.validator.internal.util.TimeHelper;
+
+import static org.testng.Assert.assertEquals;
+
+/**
+ * Unit test for {@link TimeHelper}.
+ *
+ * @author agent
+ */
+public class TimeHelperTest {
+
+	@Test
+	public void compareToEpochMilliShouldMatchComparisonOfEpochMillis() {
+		long[] epochMillis = { -2001L, -1001L, -1000L, -999L, -1L, 0L, 1L, 999L, 1000L, 1001L, 1445000000123L };
+		long[] nanoAdjustments = { 0L, 1L, 999999L, 1000000L, 1999999L };
+
+		for ( long epochMilli : epochMillis ) {
+			for ( long nanoAdjustment : nanoAdjustments ) {
+				Instant instant = Instant.ofEpochMilli( epochMilli ).plusNanos( nanoAdjustment );
+
+				for ( long other : epochMillis ) {
+					assertEquals(
+							Integer.signum( TimeHelper.compareToEpochMilli( instant.getEpochSecond(), instant.getNano(), other ) ),
+							Integer.signum( Long.valueOf( instant.toEpochMilli() ).compareTo( other ) ),
+							instant + " compared to " + other
+					);
+				}
+			}
+		}
+	}
+}
@@ -249,6 +249,34 @@ public void testHashCode() {
 		assertThat( proxiedAnnotation.hashCode() ).isEqualTo( realAnnotation.hashCode() );
 	}
 
+	@Test
+	public void testEqualsProxiesCreatedFromEqualDescriptors() {
+		MyAnno proxiedAnnotation = AnnotationFactory.create( descriptor );
+		MyAnno anotherProxiedAnnotation = AnnotationFactory.create( getDescriptorFromAnnotation( realAnnotation ) );
+
+		assertThat( proxiedAnnotation ).isEqualTo( anotherProxiedAnnotation );
+		assertThat( anotherProxiedAnnotation ).isEqualTo( proxiedAnnotation );
+		assertThat( proxiedAnnotation.hashCode() ).isEqualTo( anotherProxiedAnnotation.hashCode() );
+
+		descriptor.setValue( "strings", new String[] { "Foo" } );
+		MyAnno differingProxiedAnnotation = AnnotationFactory.create( descriptor );
+
+		assertThat( proxiedAnnotation ).isNotEqualTo( differingProxiedAnnotation );
+		assertThat( differingProxiedAnnotation ).isNotEqualTo( proxiedAnnotation );
+	}
+
+	@Test
+	public void testMemberValuesAndAnnotationType() {
+		descriptor.setValue( "int_", 42 );
+		MyAnno proxiedAnnotation = AnnotationFactory.create( descriptor );
+
+		assertThat( proxiedAnnotation.int_() ).isEqualTo( 42 );
+		assertThat( proxiedAnnotation.string() ).isEqualTo( "Foo" );
+		assertThat( proxiedAnnotation.myOtherAnno() ).isEqualTo( realAnnotation.myOtherAnno() );
+		assertThat( proxiedAnnotation.annotationType() ).isEqualTo( MyAnno.class );
+		assertThat( proxiedAnnotation.toString() ).startsWith( "@" + MyAnno.class.getName() + "(boolean_=false, booleans=" );
+	}
+
 	/**
 	 * Returns an {@link AnnotationDescriptor} representing the given annotation.
 	 *
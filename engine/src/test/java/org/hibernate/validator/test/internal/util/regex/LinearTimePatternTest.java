@@ -0,0 +1,211 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.test.internal.util.regex;
+
+import java.util.Random;
+import java.util.regex.Pattern;
+
+import org.testng.annotations.Test;
+
+import org.hibernate.validator.internal.util.regex.LinearTimePattern;
+import org.hibernate.validator.internal.util.regex.PatternCache;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Tests for {@link LinearTimePattern}, comparing its results with those of {@link Pattern}.
+ *
+ * @author agent
+ */
+public class LinearTimePatternTest {
+
+	private static final String[] SUPPORTED_EXPRESSIONS = {
+			"abc", "a*b", "(a|b)*c", "^a.c$", "[a-c]+", "[^a-c]+x?", "\\d{2,4}", "\\w+@\\w+\\.com", "(?:ab|cd){1,3}",
+			"a{3}", "a{2,}", "[\\d\\s]*", "[a-]+", "[-a]+", ".*", "(a*)*b", "(a+)+$", "\\x41\\u0042\\x{43}", "\\.\\*",
+			"a|", "()", "[A-Z]+", "[^\\W]+", "\\S\\D\\W", "a+?b*?", "a$", "(x|xy)z"
+	};
+
+	private static final String[] UNSUPPORTED_EXPRESSIONS = {
+			"(a)\\1", "a++", "(?=a)a", "\\bx", "\\p{L}", "(?i)a", "[a[b]]", "[a&&b]", "\\Qa\\E", "(?<name>a)"
+	};
+
+	private static final String ALPHABET = "abcdxyzABC01 _.@-\t\n\r";
+
+	private static final String[] GENERATED_ATOMS = {
+			"a", "b", ".", "\\d", "\\w", "\\s", "[a-c]", "[^a]", "[^A-Z]", "\\n", "\\r", "[\\r\\n]", "^", "$", "A", "0"
+	};
+
+	private static final String[] GENERATED_QUANTIFIERS = { "*", "+", "?", "{2}", "{0,2}", "{1,3}", "{2,}", "*?", "{3}" };
+
+	private static final String GENERATED_ALPHABET = "abcA0_.\r\n \u0085\u2028";
+
+	@Test
+	public void testMatchesLikeJavaUtilRegex() {
+		Random random = new Random( 42 );
+
+		for ( String regexp : SUPPORTED_EXPRESSIONS ) {
+			for ( int flags : new int[] { 0, Pattern.CASE_INSENSITIVE, Pattern.DOTALL } ) {
+				LinearTimePattern linearTimePattern = LinearTimePattern.compile( regexp, flags );
+				Pattern pattern = Pattern.compile( regexp, flags );
+				assertNotNull( linearTimePattern, regexp );
+
+				for ( int i = 0; i < 500; i++ ) {
+					String input = randomString( random );
+					assertEquals(
+							linearTimePattern.matches( input ),
+							pattern.matcher( input ).matches(),
+							"Unexpected result for expression " + regexp + " with flags " + flags + " and input " + input
+					);
+				}
+			}
+		}
+	}
+
+	@Test
+	public void testMatchesLikeJavaUtilRegexForGeneratedExpressions() {
+		Random random = new Random( 42 );
+		int[] flagValues = { 0, Pattern.CASE_INSENSITIVE, Pattern.DOTALL };
+
+		for ( int i = 0; i < 5000; i++ ) {
+			String regexp = randomExpression( random, 4 );
+			int flags = flagValues[random.nextInt( flagValues.length )];
+			LinearTimePattern linearTimePattern = LinearTimePattern.compile( regexp, flags );
+			if ( linearTimePattern == null ) {
+				continue;
+			}
+			Pattern pattern = Pattern.compile( regexp, flags );
+
+			for ( int j = 0; j < 50; j++ ) {
+				String input = randomString( random, GENERATED_ALPHABET );
+				assertEquals(
+						linearTimePattern.matches( input ),
+						pattern.matcher( input ).matches(),
+						"Unexpected result for expression " + regexp + " with flags " + flags + " and input " + input
+				);
+			}
+		}
+	}
+
+	@Test
+	public void testDollarDoesNotMatchBetweenCarriageReturnAndLineFeed() {
+		assertFalse( Pattern.compile( "[^A-Z]+$[^a]" ).matcher( "0_b\r\n" ).matches() );
+		assertFalse( LinearTimePattern.compile( "[^A-Z]+$[^a]", 0 ).matches( "0_b\r\n" ) );
+
+		assertFalse( Pattern.compile( "b.$\\s", Pattern.DOTALL ).matcher( "b\r\n" ).matches() );
+		assertFalse( LinearTimePattern.compile( "b.$\\s", Pattern.DOTALL ).matches( "b\r\n" ) );
+
+		assertTrue( LinearTimePattern.compile( "b$\\s\\s", 0 ).matches( "b\r\n" ) );
+		assertTrue( LinearTimePattern.compile( "b$\\s", 0 ).matches( "b\n" ) );
+	}
+
+	@Test
+	public void testRepetitionOfEmptyMatchingExpressionFallsBack() {
+		assertFalse( Pattern.compile( "(?:^|^[a-c]){2}" ).matcher( "b" ).matches() );
+		assertNull( LinearTimePattern.compile( "(?:^|^[a-c]){2}", 0 ) );
+		assertNull( LinearTimePattern.compile( "(?:a?){3}", 0 ) );
+
+		assertNotNull( LinearTimePattern.compile( "(?:^|^[a-c]){0,2}", 0 ) );
+		assertNotNull( LinearTimePattern.compile( "(?:a?)+", 0 ) );
+	}
+
+	@Test
+	public void testUnsupportedExpressionsAreRejected() {
+		for ( String regexp : UNSUPPORTED_EXPRESSIONS ) {
+			assertNull( LinearTimePattern.compile( regexp, 0 ), regexp );
+		}
+	}
+
+	@Test
+	public void testUnsupportedFlagsAreRejected() {
+		assertNull( LinearTimePattern.compile( "a", Pattern.MULTILINE ) );
+		assertNull( LinearTimePattern.compile( "a", Pattern.CASE_INSENSITIVE | Pattern.UNICODE_CASE ) );
+	}
+
+	@Test
+	public void testNoCatastrophicBacktracking() {
+		StringBuilder input = new StringBuilder();
+		for ( int i = 0; i < 100000; i++ ) {
+			input.append( 'a' );
+		}
+		input.append( '!' );
+
+		assertFalse( LinearTimePattern.compile( "(a+)+$", 0 ).matches( input ) );
+		assertFalse( LinearTimePattern.compile( "(a|aa)*b", 0 ).matches( input ) );
+	}
+
+	@Test
+	public void testMatchesSupplementaryCharacters() {
+		assertTrue( LinearTimePattern.compile( "[\\x{10000}-\\x{1FFFD}]+", 0 ).matches( "\uD800\uDC00\uD800\uDC01" ) );
+		assertTrue( LinearTimePattern.compile( "^.$", 0 ).matches( "\uD800\uDC00" ) );
+	}
+
+	@Test
+	public void testEscapedSurrogatePairDenotesSingleCodePoint() {
+		assertTrue( LinearTimePattern.compile( "\\uD83D\\uDE00", 0 ).matches( "\uD83D\uDE00" ) );
+		assertTrue( LinearTimePattern.compile( "a\\uD83D\\uDE00?b", 0 ).matches( "a\uD83D\uDE00b" ) );
+		assertTrue( LinearTimePattern.compile( "[\\uD83D\\uDE00]", 0 ).matches( "\uD83D\uDE00" ) );
+		assertTrue( LinearTimePattern.compile( "[\\uD83D\\uDE00-\\uD83D\\uDE4F]+", 0 ).matches( "\uD83D\uDE01\uD83D\uDE4F" ) );
+		assertFalse( LinearTimePattern.compile( "[\\uD83D\\uDE00-\\uD83D\\uDE4F]+", 0 ).matches( "\uD83D\uDE50" ) );
+	}
+
+	@Test
+	public void testUnpairedEscapedSurrogatesAreRejected() {
+		assertNull( LinearTimePattern.compile( "\\uD83D", 0 ) );
+		assertNull( LinearTimePattern.compile( "\\uDE00", 0 ) );
+		assertNull( LinearTimePattern.compile( "\\uD83Dx", 0 ) );
+		assertNull( LinearTimePattern.compile( "[\\uD83D]", 0 ) );
+		assertNull( LinearTimePattern.compile( "\\x{D83D}", 0 ) );
+	}
+
+	@Test
+	public void testCachedPatternsAreShared() {
+		assertSame( PatternCache.getPattern( "[a-z]+", 0 ), PatternCache.getPattern( "[a-z]+", 0 ) );
+		assertSame( PatternCache.getLinearTimePattern( "[a-z]+", 0 ), PatternCache.getLinearTimePattern( "[a-z]+", 0 ) );
+		assertNull( PatternCache.getLinearTimePattern( "(a)\\1", 0 ) );
+	}
+
+	private String randomString(Random random) {
+		return randomString( random, ALPHABET );
+	}
+
+	private String randomString(Random random, String alphabet) {
+		int length = random.nextInt( 8 );
+		StringBuilder sb = new StringBuilder( length );
+
+		for ( int i = 0; i < length; i++ ) {
+			sb.append( alphabet.charAt( random.nextInt( alphabet.length() ) ) );
+		}
+
+		return sb.toString();
+	}
+
+	/**
+	 * Creates a random expression out of the supported constructs, nested up to the given depth.
+	 */
+	private String randomExpression(Random random, int depth) {
+		if ( depth == 0 || random.nextInt( 4 ) == 0 ) {
+			return GENERATED_ATOMS[random.nextInt( GENERATED_ATOMS.length )];
+		}
+
+		switch ( random.nextInt( 4 ) ) {
+			case 0:
+				return randomExpression( random, depth - 1 ) + randomExpression( random, depth - 1 );
+			case 1:
+				return "(?:" + randomExpression( random, depth - 1 ) + "|" + randomExpression( random, depth - 1 ) + ")";
+			case 2:
+				return "(?:" + randomExpression( random, depth - 1 ) + ")"
+						+ GENERATED_QUANTIFIERS[random.nextInt( GENERATED_QUANTIFIERS.length )];
+			default:
+				return "(" + randomExpression( random, depth - 1 ) + ")";
+		}
+	}
+}
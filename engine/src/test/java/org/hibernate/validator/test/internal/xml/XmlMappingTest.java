@@ -19,6 +19,7 @@
 import javax.validation.Validator;
 import javax.validation.ValidatorFactory;
 import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Size;
 import javax.validation.executable.ExecutableType;
 import javax.validation.groups.Default;
 import javax.validation.metadata.MethodDescriptor;
@@ -326,4 +327,35 @@ public void testCascadedValidation() {
 		assertEquals( violations.size(), 1 );
 		assertCorrectConstraintTypes( violations, NotNull.class );
 	}
+
+	@Test(
+			expectedExceptions = ValidationException.class,
+			expectedExceptionsMessageRegExp = "HV000115.*"
+	)
+	public void shouldFailToLoadConstraintMappingViolatingSchema() {
+		final Configuration<?> configuration = ValidatorUtil.getConfiguration();
+		configuration.addMapping( XmlMappingTest.class.getResourceAsStream( "schema-violating-mapping.xml" ) );
+
+		configuration.buildValidatorFactory();
+	}
+
+	@Test
+	public void shouldLoadConstraintMappingViolatingSchemaWithSchemaValidationDisabled() {
+		final Configuration<?> configuration = ValidatorUtil.getConfiguration();
+		configuration.addProperty( HibernateValidatorConfiguration.XML_MAPPING_SCHEMA_VALIDATION, "false" );
+		configuration.addMapping( XmlMappingTest.class.getResourceAsStream( "schema-violating-mapping.xml" ) );
+
+		final ValidatorFactory validatorFactory = configuration.buildValidatorFactory();
+		final Validator validator = validatorFactory.getValidator();
+
+		List<String> listOfString = new ArrayList<String>();
+		listOfString.add( "one" );
+
+		final Set<ConstraintViolation<Properties>> violations = validator.validateValue(
+				Properties.class, "listOfString", listOfString
+		);
+
+		assertCorrectConstraintTypes( violations, Size.class );
+		assertCorrectConstraintViolationMessages( violations, "too few entries" );
+	}
 }
@@ -7,7 +7,7 @@
 package org.hibernate.validator.test.internal.xml;
 
 import java.io.InputStream;
-import javax.xml.stream.XMLEventReader;
+import javax.xml.stream.XMLStreamReader;
 
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
@@ -33,11 +33,11 @@ public void setupParserHelper() {
 	@Test
 	public void shouldRetrieveVersionFor11ValidationXml() {
 		InputStream in = XmlParserHelperTest.class.getResourceAsStream( "parameter-name-provider-validation.xml" );
-		XMLEventReader xmlEventReader = xmlParserHelper.createXmlEventReader( "META-INF/validation.xml", in );
+		XMLStreamReader xmlStreamReader = xmlParserHelper.createXmlStreamReader( "META-INF/validation.xml", in );
 
 		String version = xmlParserHelper.getSchemaVersion(
 				"META-INF/validation.xml",
-				xmlEventReader
+				xmlStreamReader
 		);
 
 		assertThat( version ).isEqualTo( "1.1" );
@@ -46,11 +46,11 @@ public void shouldRetrieveVersionFor11ValidationXml() {
 	@Test
 	public void shouldRetrieveVersionFor10ValidationXml() {
 		InputStream in = XmlParserHelperTest.class.getResourceAsStream( "bv-1.0-validation.xml" );
-		XMLEventReader xmlEventReader = xmlParserHelper.createXmlEventReader( "META-INF/validation.xml", in );
+		XMLStreamReader xmlStreamReader = xmlParserHelper.createXmlStreamReader( "META-INF/validation.xml", in );
 
 		String version = xmlParserHelper.getSchemaVersion(
 				"META-INF/validation.xml",
-				xmlEventReader
+				xmlStreamReader
 		);
 
 		assertThat( version ).isEqualTo( "1.0" );
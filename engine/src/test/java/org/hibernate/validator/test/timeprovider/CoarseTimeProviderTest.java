@@ -0,0 +1,49 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.test.timeprovider;
+
+import java.util.concurrent.TimeUnit;
+
+import org.testng.annotations.Test;
+
+import org.hibernate.validator.timeprovider.CoarseTimeProvider;
+
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Tests for {@link CoarseTimeProvider}.
+ *
+ * @author agent
+ */
+public class CoarseTimeProviderTest {
+
+	@Test
+	public void testCurrentTimeIsUpdated() throws Exception {
+		long before = System.currentTimeMillis();
+		CoarseTimeProvider timeProvider = new CoarseTimeProvider( 1, TimeUnit.MILLISECONDS );
+
+		try {
+			long start = timeProvider.getCurrentTime();
+			assertTrue( start >= before );
+
+			long deadline = System.currentTimeMillis() + 5000;
+			while ( timeProvider.getCurrentTime() == start && System.currentTimeMillis() < deadline ) {
+				Thread.sleep( 5 );
+			}
+
+			assertTrue( timeProvider.getCurrentTime() > start );
+		}
+		finally {
+			timeProvider.close();
+		}
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void testGranularityMustBeAtLeastOneMillisecond() {
+		new CoarseTimeProvider( 10, TimeUnit.MICROSECONDS );
+	}
+}
@@ -0,0 +1,139 @@
+/*
+ * Hibernate Validator, declare and validate application constraints
+ *
+ * License: Apache License, Version 2.0
+ * See the license.txt file in the root directory or <http://www.apache.org/licenses/LICENSE-2.0>.
+ */
+package org.hibernate.validator.performance.memory;
+
+import java.util.ArrayList;
+import java.util.List;
+import javax.validation.Validation;
+import javax.validation.Validator;
+import javax.validation.ValidatorFactory;
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Size;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Measures the heap retained by the constraint meta data of a few beans, using many constraints of the same
+ * definition, per validator factory. Guards against regressions in the memory footprint of the meta data.
+ * <p>
+ * The allowed size per factory can be adjusted via the system property {@code maxRetainedBytesPerFactory}.
+ *
+ * @author agent
+ */
+public class MetaDataMemoryTest {
+
+	private static final int FACTORY_COUNT = 50;
+
+	private static final long MAX_RETAINED_BYTES_PER_FACTORY = Long.getLong(
+			"maxRetainedBytesPerFactory",
+			512 * 1024
+	);
+
+	@Test
+	public void testRetainedHeapPerValidatorFactory() {
+		// warm up, so class loading and static caches are not accounted to the factories
+		retainMetaData( Validation.buildDefaultValidatorFactory() );
+
+		long usedBefore = usedHeap();
+
+		List<ValidatorFactory> factories = new ArrayList<ValidatorFactory>( FACTORY_COUNT );
+		for ( int i = 0; i < FACTORY_COUNT; i++ ) {
+			ValidatorFactory factory = Validation.buildDefaultValidatorFactory();
+			retainMetaData( factory );
+			factories.add( factory );
+		}
+
+		long retainedPerFactory = ( usedHeap() - usedBefore ) / factories.size();
+		System.out.println( "Retained heap per validator factory: " + retainedPerFactory + " bytes" );
+
+		assertTrue(
+				"Retained heap per validator factory is " + retainedPerFactory + " bytes, expected at most "
+						+ MAX_RETAINED_BYTES_PER_FACTORY,
+				retainedPerFactory <= MAX_RETAINED_BYTES_PER_FACTORY
+		);
+	}
+
+	private void retainMetaData(ValidatorFactory factory) {
+		Validator validator = factory.getValidator();
+
+		validator.getConstraintsForClass( Customer.class );
+		validator.getConstraintsForClass( Address.class );
+		validator.getConstraintsForClass( Order.class );
+	}
+
+	private long usedHeap() {
+		Runtime runtime = Runtime.getRuntime();
+
+		for ( int i = 0; i < 3; i++ ) {
+			System.gc();
+		}
+
+		return runtime.totalMemory() - runtime.freeMemory();
+	}
+
+	public static class Customer {
+		@NotNull
+		@Size(max = 255)
+		private String firstName;
+
+		@NotNull
+		@Size(max = 255)
+		private String lastName;
+
+		@NotNull
+		@Size(max = 255)
+		private String email;
+
+		@Size(max = 255)
+		private String phone;
+
+		@NotNull
+		private Address address;
+	}
+
+	public static class Address {
+		@NotNull
+		@Size(max = 255)
+		private String street;
+
+		@NotNull
+		@Size(max = 255)
+		private String city;
+
+		@NotNull
+		@Size(max = 255)
+		private String zipCode;
+
+		@NotNull
+		@Size(max = 255)
+		private String country;
+	}
+
+	public static class Order {
+		@NotNull
+		@Size(max = 255)
+		private String number;
+
+		@NotNull
+		private Customer customer;
+
+		@NotNull
+		private Address shippingAddress;
+
+		@Min(1)
+		private int quantity;
+
+		@NotNull
+		@Size(max = 255)
+		public String getComment() {
+			return null;
+		}
+	}
+}